@@ -0,0 +1,111 @@
+package com.morago.backend.benchmark;
+
+import com.morago.backend.config.utils.JWTProperties;
+import com.morago.backend.dto.tokens.CallSignalMessage;
+import com.morago.backend.dto.tokens.NotificationMessage;
+import com.morago.backend.entity.Language;
+import com.morago.backend.entity.Role;
+import com.morago.backend.entity.Theme;
+import com.morago.backend.entity.TranslatorProfile;
+import com.morago.backend.entity.User;
+import com.morago.backend.entity.enumFiles.Roles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Shared, deterministic input data for the benchmarks.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static JWTProperties jwtProperties() {
+        JWTProperties properties = new JWTProperties();
+        properties.setAccessSecret("benchmark-access-secret-0123456789abcdef");
+        properties.setRefreshSecret("benchmark-refresh-secret-0123456789abcdef");
+        properties.setAccessExpirationMs(15 * 60 * 1000L);
+        properties.setRefreshExpirationMs(7 * 24 * 60 * 60 * 1000L);
+        return properties;
+    }
+
+    static User user() {
+        User user = new User();
+        user.setId(42L);
+        user.setUsername("01012345678");
+        user.setPassword("{noop}secret");
+        user.setFirstName("Minji");
+        user.setLastName("Kim");
+        user.setBalance(new BigDecimal("125000.00"));
+        user.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0));
+        user.setRoles(Set.of(
+                Role.builder().id(1L).name(Roles.ROLE_USER).build(),
+                Role.builder().id(3L).name(Roles.ROLE_TRANSLATOR).build()));
+        return user;
+    }
+
+    static TranslatorProfile translatorProfile(int languages, int themes) {
+        Set<Language> languageSet = new HashSet<>();
+        for (long i = 1; i <= languages; i++) {
+            languageSet.add(Language.builder().id(i).name("Language " + i).build());
+        }
+        Set<Theme> themeSet = new HashSet<>();
+        for (long i = 1; i <= themes; i++) {
+            themeSet.add(theme(i));
+        }
+        return TranslatorProfile.builder()
+                .id(7L)
+                .user(user())
+                .email("translator@morago.com")
+                .dateOfBirth(LocalDate.of(1995, 5, 17))
+                .levelOfKorean("TOPIK 6")
+                .isAvailable(true)
+                .isOnline(true)
+                .languages(languageSet)
+                .themes(themeSet)
+                .build();
+    }
+
+    static Theme theme(long id) {
+        return Theme.builder()
+                .id(id)
+                .name("Theme " + id)
+                .koreanTitle("주제 " + id)
+                .price(new BigDecimal("15000.00"))
+                .nightPrice(new BigDecimal("20000.00"))
+                .description("Benchmark theme " + id)
+                .build();
+    }
+
+    static CallSignalMessage callSignalMessage() {
+        return CallSignalMessage.builder()
+                .callId("call-7f3a2c")
+                .callerId("01012345678")
+                .recipientId("01087654321")
+                .translatorId("01055555555")
+                .type("OFFER")
+                .channelName("channel-7f3a2c")
+                .themeId(12L)
+                .data(Map.of("sdp", "v=0\r\no=- 4611731400430051336 2 IN IP4 127.0.0.1\r\ns=-\r\nt=0 0\r\n"))
+                .status("RINGING")
+                .timestamp(LocalDateTime.of(2025, 6, 1, 12, 30))
+                .build();
+    }
+
+    static NotificationMessage notificationMessage() {
+        return NotificationMessage.builder()
+                .id("notification-1")
+                .title("Incoming call")
+                .text("You have an incoming call")
+                .recipientId("01087654321")
+                .sender("System")
+                .type("CALL")
+                .timestamp(LocalDateTime.of(2025, 6, 1, 12, 30))
+                .build();
+    }
+}
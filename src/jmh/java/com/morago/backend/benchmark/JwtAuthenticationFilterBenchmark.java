@@ -0,0 +1,71 @@
+package com.morago.backend.benchmark;
+
+import com.morago.backend.config.JWTAuthenticationFilter;
+import com.morago.backend.config.utils.AccessTokenRevocationList;
+import com.morago.backend.config.utils.JWTUtils;
+import com.morago.backend.config.utils.LocalRevocationChannel;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full pass of an authenticated request through {@link JWTAuthenticationFilter}: header parsing, token
+ * verification, revocation lookup and security context population. The user lookup is served from memory
+ * so the numbers exclude the database round trip.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JWTAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JWTUtils jwtUtils = new JWTUtils(BenchmarkFixtures.jwtProperties());
+        UserDetails user = User.withUsername("01012345678")
+                .password("{noop}secret")
+                .authorities("ROLE_USER")
+                .build();
+
+        filter = new JWTAuthenticationFilter(jwtUtils, username -> user,
+                new AccessTokenRevocationList(new LocalRevocationChannel()));
+
+        request = new MockHttpServletRequest("GET", "/api/translator-profiles");
+        request.addHeader("Authorization", "Bearer " + jwtUtils.generateAccessToken(user));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws ServletException, IOException {
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,56 @@
+package com.morago.backend.benchmark;
+
+import com.morago.backend.config.utils.JWTProperties;
+import com.morago.backend.config.utils.JWTUtils;
+import com.morago.backend.entity.enumFiles.TokenType;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token generation and verification as done on login and on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JwtBenchmark {
+
+    private JWTUtils jwtUtils;
+    private UserDetails user;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JWTUtils(BenchmarkFixtures.jwtProperties());
+        user = User.withUsername("01012345678")
+                .password("{noop}secret")
+                .authorities("ROLE_USER", "ROLE_TRANSLATOR")
+                .build();
+        accessToken = jwtUtils.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtils.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public Claims parseAccessToken() {
+        return jwtUtils.parseClaims(accessToken, TokenType.ACCESS);
+    }
+}
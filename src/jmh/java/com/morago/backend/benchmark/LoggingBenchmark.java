@@ -0,0 +1,117 @@
+package com.morago.backend.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.morago.backend.config.logging.RateLimitingTurboFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request logging overhead on the caller thread for the setups in logback-spring.xml:
+ * <ul>
+ *     <li>SYNC_INFO - the previous behaviour, every request logged at INFO through a synchronous appender</li>
+ *     <li>ASYNC_INFO - INFO through the bounded, non-blocking async appender used in prod</li>
+ *     <li>RATE_LIMITED - async appender behind {@link RateLimitingTurboFilter}, as for signaling loggers</li>
+ *     <li>DEBUG_DISABLED - per-request messages downgraded to DEBUG with INFO as the effective level</li>
+ * </ul>
+ * Output goes to a discarding stream, so the numbers isolate formatting and hand-off cost from disk I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@Threads(4)
+public class LoggingBenchmark {
+
+    @Param({"SYNC_INFO", "ASYNC_INFO", "RATE_LIMITED", "DEBUG_DISABLED"})
+    private String setup;
+
+    private LoggerContext context;
+    private Logger logger;
+    private boolean debugOnly;
+    private int elements = 20;
+    private long total = 1_234L;
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%t] %logger{39} : %m%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(context);
+        sink.setName("SINK");
+        sink.setEncoder(encoder);
+        sink.setOutputStream(OutputStream.nullOutputStream());
+        sink.start();
+
+        logger = context.getLogger("com.morago.backend.controller.TranslatorProfileController");
+        logger.setAdditive(false);
+        logger.setLevel(Level.INFO);
+
+        debugOnly = "DEBUG_DISABLED".equals(setup);
+        if ("SYNC_INFO".equals(setup) || debugOnly) {
+            logger.addAppender(sink);
+            return;
+        }
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setName("ASYNC");
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(1024);
+        async.setNeverBlock(true);
+        async.setIncludeCallerData(false);
+        async.addAppender(sink);
+        async.start();
+        logger.addAppender(async);
+
+        if ("RATE_LIMITED".equals(setup)) {
+            RateLimitingTurboFilter filter = new RateLimitingTurboFilter();
+            filter.setContext(context);
+            filter.setLoggers("com.morago.backend.controller");
+            filter.setMaxEventsPerSecond(50);
+            filter.setSampleRate(100);
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void logPerRequest() {
+        if (debugOnly) {
+            logger.debug("Retrieved {} translator profiles out of {} total", elements, total);
+        } else {
+            logger.info("Retrieved {} translator profiles out of {} total", elements, total);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.morago.backend.benchmark;
+
+import com.morago.backend.dto.ThemeDto;
+import com.morago.backend.dto.response.TranslatorProfileSummaryResponse;
+import com.morago.backend.dto.user.UserResponseDto;
+import com.morago.backend.entity.Theme;
+import com.morago.backend.entity.TranslatorProfile;
+import com.morago.backend.entity.User;
+import com.morago.backend.mapper.ThemeMapper;
+import com.morago.backend.mapper.TranslatorProfileMapper;
+import com.morago.backend.mapper.UserMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct mappers on the listing and profile paths. The generated implementations are wired by a
+ * minimal Spring context, exactly as in the application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class MapperBenchmark {
+
+    @Param({"3"})
+    private int languages;
+
+    @Param({"5"})
+    private int themes;
+
+    @Param({"0", "50"})
+    private int translatorsPerTheme;
+
+    private AnnotationConfigApplicationContext context;
+    private TranslatorProfileMapper translatorProfileMapper;
+    private UserMapper userMapper;
+    private ThemeMapper themeMapper;
+
+    private TranslatorProfile profile;
+    private User user;
+    private Theme theme;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext("com.morago.backend.mapper");
+        translatorProfileMapper = context.getBean(TranslatorProfileMapper.class);
+        userMapper = context.getBean(UserMapper.class);
+        themeMapper = context.getBean(ThemeMapper.class);
+
+        profile = BenchmarkFixtures.translatorProfile(languages, themes);
+        user = BenchmarkFixtures.user();
+        theme = BenchmarkFixtures.theme(1L);
+        for (int i = 0; i < translatorsPerTheme; i++) {
+            TranslatorProfile translator = BenchmarkFixtures.translatorProfile(languages, 0);
+            translator.setId((long) i);
+            translator.setEmail("translator" + i + "@morago.com");
+            theme.getTranslators().add(translator);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TranslatorProfileSummaryResponse translatorProfileToSummary() {
+        return translatorProfileMapper.toSummaryResponse(profile);
+    }
+
+    @Benchmark
+    public UserResponseDto userToResponseDto() {
+        return userMapper.toResponseDto(user);
+    }
+
+    @Benchmark
+    public ThemeDto themeToDto() {
+        return themeMapper.toDto(theme);
+    }
+}
@@ -0,0 +1,140 @@
+package com.morago.backend.benchmark;
+
+import com.morago.backend.entity.Notification;
+import com.morago.backend.entity.User;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists 100k notifications through Hibernate against MySQL 8 (Testcontainers, Docker required).
+ * <p>
+ * {@code before} reproduces the old insert path: one INSERT round trip per row, as IDENTITY ids forced.
+ * {@code after} is the current configuration: pooled ids, {@code hibernate.jdbc.batch_size=50} and
+ * {@code rewriteBatchedStatements}. Throughput is 100k divided by the reported time per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class NotificationInsertBenchmark {
+
+    private static final int NOTIFICATIONS = 100_000;
+    private static final int PER_TRANSACTION = 1_000;
+
+    @Param({"before", "after"})
+    private String mode;
+
+    private MySQLContainer<?> mysql;
+    private HikariDataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        boolean batched = mode.equals("after");
+
+        mysql = new MySQLContainer<>("mysql:8.0");
+        mysql.start();
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(mysql.getJdbcUrl());
+        dataSource.setUsername(mysql.getUsername());
+        dataSource.setPassword(mysql.getPassword());
+        dataSource.addDataSourceProperty("rewriteBatchedStatements", String.valueOf(batched));
+
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.morago.backend.entity");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName(),
+                "hibernate.hbm2ddl.auto", "validate",
+                "hibernate.jdbc.batch_size", batched ? "50" : "1",
+                "hibernate.order_inserts", String.valueOf(batched)));
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO users (phone_number, password, created_at, is_active) VALUES ('01000000000', 'x', NOW(6), 1)",
+                     Statement.RETURN_GENERATED_KEYS)) {
+            insert.executeUpdate();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                keys.next();
+                userId = keys.getLong(1);
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void clearNotifications() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM notifications");
+        }
+    }
+
+    @Benchmark
+    public void insertNotifications() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            for (int start = 0; start < NOTIFICATIONS; start += PER_TRANSACTION) {
+                entityManager.getTransaction().begin();
+                User user = entityManager.getReference(User.class, userId);
+                for (int i = start; i < start + PER_TRANSACTION; i++) {
+                    entityManager.persist(Notification.builder()
+                            .user(user)
+                            .title("Call finished")
+                            .text("Your call #" + i + " has finished")
+                            .dateTime(now)
+                            .build());
+                }
+                entityManager.getTransaction().commit();
+                entityManager.clear();
+            }
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+        dataSource.close();
+        mysql.stop();
+    }
+}
@@ -0,0 +1,67 @@
+package com.morago.backend.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.morago.backend.dto.tokens.CallSignalMessage;
+import com.morago.backend.dto.tokens.NotificationMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson round trips of the STOMP payloads, configured like the application's ObjectMapper
+ * (see the spring.jackson.* properties).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private CallSignalMessage callSignalMessage;
+    private NotificationMessage notificationMessage;
+    private byte[] callSignalJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .timeZone(TimeZone.getTimeZone("Asia/Seoul"))
+                .build();
+        callSignalMessage = BenchmarkFixtures.callSignalMessage();
+        notificationMessage = BenchmarkFixtures.notificationMessage();
+        callSignalJson = objectMapper.writeValueAsBytes(callSignalMessage);
+    }
+
+    @Benchmark
+    public byte[] serializeCallSignalMessage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(callSignalMessage);
+    }
+
+    @Benchmark
+    public CallSignalMessage deserializeCallSignalMessage() throws java.io.IOException {
+        return objectMapper.readValue(callSignalJson, CallSignalMessage.class);
+    }
+
+    @Benchmark
+    public byte[] serializeNotificationMessage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(notificationMessage);
+    }
+}
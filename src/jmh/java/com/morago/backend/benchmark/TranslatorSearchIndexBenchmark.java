@@ -0,0 +1,67 @@
+package com.morago.backend.benchmark;
+
+import com.morago.backend.dto.TranslatorSearchDocument;
+import com.morago.backend.service.TranslatorSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Translator search over a synthetic index; the target is well under 10 ms per query at 100k translators.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorSearchIndexBenchmark {
+
+    private static final String[] FIRST_NAMES = {"john", "jane", "michael", "sarah", "david", "emma", "daniel", "olivia"};
+    private static final String[] LAST_NAMES = {"smith", "johnson", "lee", "park", "kim", "choi", "brown", "jung"};
+    private static final String[] HANGUL_NAMES = {"김민수", "이서연", "박지훈", "최유진", "정하늘", "강도윤", "조은비", "윤서준"};
+    private static final String[] LEVELS = {"Beginner", "Intermediate", "Advanced", "Native"};
+
+    @Param({"100000"})
+    private int translators;
+
+    @Param({"j", "john sm", "민수", "김민수", "nomatch"})
+    private String query;
+
+    private TranslatorSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<TranslatorSearchDocument> documents = new ArrayList<>(translators);
+        for (int i = 0; i < translators; i++) {
+            boolean korean = random.nextInt(3) == 0;
+            String first = korean
+                    ? HANGUL_NAMES[random.nextInt(HANGUL_NAMES.length)]
+                    : FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + (char) ('a' + random.nextInt(26));
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            documents.add(new TranslatorSearchDocument((long) i, (long) i, first, last,
+                    first + "." + last + i + "@example.com", LEVELS[random.nextInt(LEVELS.length)]));
+        }
+        index = new TranslatorSearchIndex(null);
+        index.rebuild(documents);
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        return index.search(query);
+    }
+}
@@ -0,0 +1,53 @@
+package com.morago.backend.controller;
+
+import com.morago.backend.dto.tokens.CallSignalMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Message construction done by every call signaling handler. Lives in the controller package to reach
+ * the package-private {@code buildCallMessage}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class CallSignalingControllerBenchmark {
+
+    private CallSignalingController controller;
+    private CallSignalMessage incoming;
+
+    @Setup
+    public void setUp() {
+        controller = new CallSignalingController(null, null, null);
+        incoming = CallSignalMessage.builder()
+                .callId("call-7f3a2c")
+                .callerId("01012345678")
+                .recipientId("01087654321")
+                .type("OFFER")
+                .channelName("channel-7f3a2c")
+                .themeId(12L)
+                .data(Map.of("candidate", "candidate:842163049 1 udp 1677729535 203.0.113.7 3478 typ srflx"))
+                .timestamp(LocalDateTime.of(2025, 6, 1, 12, 30))
+                .build();
+    }
+
+    @Benchmark
+    public CallSignalMessage buildCallMessage() {
+        return controller.buildCallMessage(incoming, "01012345678", "CALL_ACCEPTED");
+    }
+}
@@ -0,0 +1,140 @@
+package com.morago.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of one load test run and its evaluation against the regression thresholds.
+ */
+final class LoadTestReport {
+
+    private final LoadTestSettings settings;
+    private final int sessions;
+    private final int connectFailures;
+    private final long transportErrors;
+    private final int completedCalls;
+    private final int startedCalls;
+    private final long receivedFrames;
+    private final long droppedFrames;
+    private final double elapsedSeconds;
+    private final double p50SetupMillis;
+    private final double p99SetupMillis;
+    private final double maxSetupMillis;
+    private final List<String> violations = new ArrayList<>();
+
+    LoadTestReport(LoadTestSettings settings, int sessions, int connectFailures, long transportErrors,
+                   List<SimulatedCall> calls, int completedCalls, long elapsedNanos) {
+        this.settings = settings;
+        this.sessions = sessions;
+        this.connectFailures = connectFailures;
+        this.transportErrors = transportErrors;
+        this.startedCalls = calls.size();
+        this.completedCalls = completedCalls;
+        this.elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+
+        long receivedTotal = 0;
+        long droppedTotal = 0;
+        long[] setup = new long[calls.size()];
+        int accepted = 0;
+        for (SimulatedCall call : calls) {
+            receivedTotal += call.receivedFrames();
+            droppedTotal += Math.max(0, call.expectedFrames() - call.receivedFrames());
+            if (call.setupNanos() >= 0) {
+                setup[accepted++] = call.setupNanos();
+            }
+        }
+        this.receivedFrames = receivedTotal;
+        this.droppedFrames = droppedTotal;
+
+        long[] sorted = Arrays.copyOf(setup, accepted);
+        Arrays.sort(sorted);
+        this.p50SetupMillis = percentileMillis(sorted, 0.50);
+        this.p99SetupMillis = percentileMillis(sorted, 0.99);
+        this.maxSetupMillis = sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0;
+
+        evaluate();
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private void evaluate() {
+        if (connectFailures > 0) {
+            violations.add(connectFailures + " STOMP sessions failed to connect");
+        }
+        if (completedCalls < startedCalls) {
+            violations.add((startedCalls - completedCalls) + " calls did not complete within "
+                    + settings.timeoutSeconds() + "s");
+        }
+        if (p99SetupMillis > settings.maxP99SetupMillis()) {
+            violations.add(String.format("p99 setup latency %.1f ms exceeds %.1f ms",
+                    p99SetupMillis, settings.maxP99SetupMillis()));
+        }
+        if (droppedFrames > settings.maxDroppedFrames()) {
+            violations.add(droppedFrames + " dropped frames exceed the budget of " + settings.maxDroppedFrames());
+        }
+        if (framesPerSecond() < settings.minFramesPerSecond()) {
+            violations.add(String.format("throughput %.0f frames/s is below %.0f frames/s",
+                    framesPerSecond(), settings.minFramesPerSecond()));
+        }
+    }
+
+    double framesPerSecond() {
+        return elapsedSeconds > 0 ? receivedFrames / elapsedSeconds : 0;
+    }
+
+    boolean passed() {
+        return violations.isEmpty();
+    }
+
+    String summary() {
+        StringBuilder out = new StringBuilder()
+                .append(String.format("sessions=%d connectFailures=%d transportErrors=%d%n",
+                        sessions, connectFailures, transportErrors))
+                .append(String.format("calls=%d completed=%d elapsed=%.2fs%n", startedCalls, completedCalls, elapsedSeconds))
+                .append(String.format("setup latency p50=%.1fms p99=%.1fms max=%.1fms%n",
+                        p50SetupMillis, p99SetupMillis, maxSetupMillis))
+                .append(String.format("frames received=%d dropped=%d throughput=%.0f frames/s%n",
+                        receivedFrames, droppedFrames, framesPerSecond()));
+        out.append(passed() ? "RESULT: PASS" : "RESULT: FAIL " + violations);
+        return out.toString();
+    }
+
+    void write(ObjectMapper objectMapper) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("settings", settings);
+        json.put("sessions", sessions);
+        json.put("connectFailures", connectFailures);
+        json.put("transportErrors", transportErrors);
+        json.put("calls", startedCalls);
+        json.put("completedCalls", completedCalls);
+        json.put("elapsedSeconds", elapsedSeconds);
+        json.put("setupLatencyP50Ms", p50SetupMillis);
+        json.put("setupLatencyP99Ms", p99SetupMillis);
+        json.put("setupLatencyMaxMs", maxSetupMillis);
+        json.put("receivedFrames", receivedFrames);
+        json.put("droppedFrames", droppedFrames);
+        json.put("framesPerSecond", framesPerSecond());
+        json.put("passed", passed());
+        json.put("violations", violations);
+
+        Path path = Path.of(settings.reportFile());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), json);
+    }
+}
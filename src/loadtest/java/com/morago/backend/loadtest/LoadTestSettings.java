@@ -0,0 +1,32 @@
+package com.morago.backend.loadtest;
+
+import org.springframework.core.env.Environment;
+
+/**
+ * Load profile and regression thresholds, read from {@code loadtest.*} properties
+ * (see application-loadtest.properties; override with {@code --loadtest.calls=...}).
+ */
+record LoadTestSettings(
+        int calls,
+        int iceCandidates,
+        int connectConcurrency,
+        long settleMillis,
+        long timeoutSeconds,
+        double maxP99SetupMillis,
+        long maxDroppedFrames,
+        double minFramesPerSecond,
+        String reportFile) {
+
+    static LoadTestSettings from(Environment env) {
+        return new LoadTestSettings(
+                env.getProperty("loadtest.calls", Integer.class, 1000),
+                env.getProperty("loadtest.ice-candidates", Integer.class, 10),
+                env.getProperty("loadtest.connect-concurrency", Integer.class, 100),
+                env.getProperty("loadtest.settle-millis", Long.class, 2000L),
+                env.getProperty("loadtest.timeout-seconds", Long.class, 120L),
+                env.getProperty("loadtest.max-p99-setup-ms", Double.class, 250.0),
+                env.getProperty("loadtest.max-dropped-frames", Long.class, 0L),
+                env.getProperty("loadtest.min-frames-per-second", Double.class, 0.0),
+                env.getProperty("loadtest.report-file", "target/loadtest-report.json"));
+    }
+}
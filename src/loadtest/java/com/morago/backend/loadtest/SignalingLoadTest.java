@@ -0,0 +1,171 @@
+package com.morago.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morago.backend.BackendApplication;
+import com.morago.backend.config.utils.JWTUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Headless load test for STOMP call signaling. Starts the application on a random port against an
+ * in-memory H2 database, opens two STOMP sessions per simulated call on {@code /ws-native} and drives
+ * every call through initiate, accept, offer/answer with ICE bursts, and end.
+ * <p>
+ * Reports p50/p99 call setup latency, frame throughput and dropped frames, writes a JSON report and
+ * exits with status 1 when a regression threshold is crossed.
+ * <pre>
+ * ./mvnw -Ploadtest verify -Dloadtest.args="--loadtest.calls=2000 --loadtest.max-p99-setup-ms=300"
+ * </pre>
+ */
+@Slf4j
+public final class SignalingLoadTest {
+
+    private SignalingLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("spring.profiles.active", "loadtest");
+        ConfigurableApplicationContext app = new SpringApplicationBuilder(BackendApplication.class).run(args);
+
+        int exitCode;
+        try {
+            LoadTestReport report = run(app, LoadTestSettings.from(app.getEnvironment()));
+            report.write(app.getBean(ObjectMapper.class));
+            log.info("Signaling load test finished:\n{}", report.summary());
+            exitCode = report.passed() ? 0 : 1;
+        } finally {
+            app.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private static LoadTestReport run(ConfigurableApplicationContext app, LoadTestSettings settings) throws Exception {
+        int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        String url = "ws://localhost:" + port + "/ws-native";
+        JWTUtils jwtUtils = app.getBean(JWTUtils.class);
+
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("loadtest-stomp-");
+        scheduler.initialize();
+
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(app.getBean(ObjectMapper.class));
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(converter);
+        stompClient.setTaskScheduler(scheduler);
+        stompClient.setDefaultHeartbeat(new long[]{0, 0});
+
+        LongAdder transportErrors = new LongAdder();
+        CountDownLatch finished = new CountDownLatch(settings.calls());
+        List<SimulatedCall> calls = new ArrayList<>(settings.calls());
+        for (int i = 0; i < settings.calls(); i++) {
+            calls.add(new SimulatedCall("loadtest-call-" + i, "lt-caller-" + i, "lt-recipient-" + i,
+                    settings.iceCandidates(), finished));
+        }
+
+        // Phase 1: open all sessions with bounded handshake concurrency
+        Semaphore handshakes = new Semaphore(settings.connectConcurrency());
+        List<CompletableFuture<StompSession>> callerFutures = new ArrayList<>(calls.size());
+        List<CompletableFuture<StompSession>> recipientFutures = new ArrayList<>(calls.size());
+        for (SimulatedCall call : calls) {
+            callerFutures.add(connect(stompClient, url, jwtUtils, call.callerName(), handshakes, transportErrors));
+            recipientFutures.add(connect(stompClient, url, jwtUtils, call.recipientName(), handshakes, transportErrors));
+        }
+
+        int connectFailures = 0;
+        List<SimulatedCall> started = new ArrayList<>(calls.size());
+        List<StompSession> sessions = new ArrayList<>(calls.size() * 2);
+        for (int i = 0; i < calls.size(); i++) {
+            StompSession caller = await(callerFutures.get(i), settings.timeoutSeconds());
+            StompSession recipient = await(recipientFutures.get(i), settings.timeoutSeconds());
+            connectFailures += (caller == null ? 1 : 0) + (recipient == null ? 1 : 0);
+            if (caller != null) {
+                sessions.add(caller);
+            }
+            if (recipient != null) {
+                sessions.add(recipient);
+            }
+            if (caller != null && recipient != null) {
+                calls.get(i).attach(caller, recipient);
+                started.add(calls.get(i));
+            } else {
+                finished.countDown();
+            }
+        }
+        log.info("Opened {} STOMP sessions ({} failed), settling subscriptions for {} ms",
+                sessions.size(), connectFailures, settings.settleMillis());
+        Thread.sleep(settings.settleMillis());
+
+        // Phase 2: run all calls concurrently
+        long startedAt = System.nanoTime();
+        for (SimulatedCall call : started) {
+            call.initiate();
+        }
+        finished.await(settings.timeoutSeconds(), TimeUnit.SECONDS);
+        long elapsed = System.nanoTime() - startedAt;
+        int completed = (int) (settings.calls() - finished.getCount()) - (calls.size() - started.size());
+
+        for (StompSession session : sessions) {
+            session.disconnect();
+        }
+        stompClient.stop();
+        scheduler.shutdown();
+
+        return new LoadTestReport(settings, sessions.size(), connectFailures, transportErrors.sum(),
+                started, completed, elapsed);
+    }
+
+    private static CompletableFuture<StompSession> connect(WebSocketStompClient stompClient, String url,
+                                                           JWTUtils jwtUtils, String username,
+                                                           Semaphore handshakes, LongAdder transportErrors)
+            throws InterruptedException {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + jwtUtils.generateAccessToken(
+                User.withUsername(username).password("n/a").authorities("ROLE_USER").build()));
+
+        handshakes.acquire();
+        return stompClient.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders,
+                        new StompSessionHandlerAdapter() {
+                            @Override
+                            public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                                        byte[] payload, Throwable exception) {
+                                transportErrors.increment();
+                            }
+
+                            @Override
+                            public void handleTransportError(StompSession session, Throwable exception) {
+                                transportErrors.increment();
+                            }
+                        })
+                .whenComplete((session, error) -> handshakes.release());
+    }
+
+    private static StompSession await(CompletableFuture<StompSession> future, long timeoutSeconds) {
+        try {
+            return future.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("STOMP connect failed: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.morago.backend.loadtest;
+
+import com.morago.backend.dto.tokens.CallSignalMessage;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * One caller/recipient pair driving a complete call through CallSignalingController:
+ * initiate, accept, an offer/answer exchange with ICE candidate bursts from both sides, and end.
+ * Both clients react to incoming frames only, the way a real app does.
+ */
+final class SimulatedCall {
+
+    private static final String CALLS_QUEUE = "/user/queue/calls";
+    private static final String FROM_CALLER = "caller";
+    private static final String FROM_RECIPIENT = "recipient";
+
+    private final String callId;
+    private final String callerName;
+    private final String recipientName;
+    private final int iceCandidates;
+    private final CountDownLatch finished;
+
+    private final AtomicInteger received = new AtomicInteger();
+    private final AtomicInteger remoteSignalsAtCaller = new AtomicInteger();
+    private final AtomicInteger endFrames = new AtomicInteger();
+
+    private StompSession callerSession;
+    private StompSession recipientSession;
+    private volatile long initiatedAt;
+    private volatile long setupNanos = -1;
+
+    SimulatedCall(String callId, String callerName, String recipientName, int iceCandidates, CountDownLatch finished) {
+        this.callId = callId;
+        this.callerName = callerName;
+        this.recipientName = recipientName;
+        this.iceCandidates = iceCandidates;
+        this.finished = finished;
+    }
+
+    void attach(StompSession callerSession, StompSession recipientSession) {
+        this.callerSession = callerSession;
+        this.recipientSession = recipientSession;
+        callerSession.subscribe(CALLS_QUEUE, handler(this::onCallerQueue));
+        recipientSession.subscribe(CALLS_QUEUE, handler(this::onRecipientQueue));
+    }
+
+    void initiate() {
+        initiatedAt = System.nanoTime();
+        send(callerSession, "/app/call.initiate", message("CALL_INITIATE", null));
+    }
+
+    /**
+     * Frames every completed call delivers to its two clients; room broadcasts of CALL_ACCEPTED are
+     * excluded because the caller subscribes to the room only after being notified.
+     */
+    int expectedFrames() {
+        int signalsPerSide = 1 + iceCandidates;
+        return 2 + 2 * (2 * signalsPerSide) + 2;
+    }
+
+    int receivedFrames() {
+        return received.get();
+    }
+
+    long setupNanos() {
+        return setupNanos;
+    }
+
+    String callerName() {
+        return callerName;
+    }
+
+    String recipientName() {
+        return recipientName;
+    }
+
+    private void onRecipientQueue(CallSignalMessage message) {
+        if (!"CALL_INITIATE".equals(message.getType())) {
+            return;
+        }
+        received.incrementAndGet();
+        recipientSession.subscribe(roomDestination(), handler(m -> onRoom(m, false)));
+        send(recipientSession, "/app/call.accept", message("CALL_ACCEPT", null));
+    }
+
+    private void onCallerQueue(CallSignalMessage message) {
+        if (!"CALL_ACCEPTED".equals(message.getType())) {
+            return;
+        }
+        received.incrementAndGet();
+        setupNanos = System.nanoTime() - initiatedAt;
+        callerSession.subscribe(roomDestination(), handler(m -> onRoom(m, true)));
+        sendSignals(callerSession, "OFFER", FROM_CALLER);
+    }
+
+    private void onRoom(CallSignalMessage message, boolean atCaller) {
+        String type = message.getType();
+        if ("CALL_ACCEPTED".equals(type)) {
+            return;
+        }
+        received.incrementAndGet();
+        if ("CALL_ENDED".equals(type)) {
+            if (endFrames.incrementAndGet() == 2) {
+                finished.countDown();
+            }
+            return;
+        }
+
+        String from = message.getData() instanceof Map<?, ?> data ? String.valueOf(data.get("from")) : null;
+        if (!atCaller && "OFFER".equals(type) && FROM_CALLER.equals(from)) {
+            sendSignals(recipientSession, "ANSWER", FROM_RECIPIENT);
+        } else if (atCaller && FROM_RECIPIENT.equals(from)
+                && remoteSignalsAtCaller.incrementAndGet() == 1 + iceCandidates) {
+            send(callerSession, "/app/call.end", message("CALL_END", null));
+        }
+    }
+
+    private void sendSignals(StompSession session, String description, String from) {
+        String destination = "/app/call.signal/" + callId;
+        send(session, destination, message(description,
+                Map.of("from", from, "sdp", "v=0\r\no=- 4611731400430051336 2 IN IP4 127.0.0.1\r\ns=-\r\nt=0 0\r\n")));
+        for (int i = 0; i < iceCandidates; i++) {
+            send(session, destination, message("ICE_CANDIDATE",
+                    Map.of("from", from, "candidate", "candidate:" + i + " 1 udp 2122260223 10.0.0." + i + " 50000 typ host")));
+        }
+    }
+
+    private CallSignalMessage message(String type, Object data) {
+        return CallSignalMessage.builder()
+                .callId(callId)
+                .callerId(callerName)
+                .recipientId(recipientName)
+                .type(type)
+                .data(data)
+                .build();
+    }
+
+    private String roomDestination() {
+        return "/topic/call-room/" + callId;
+    }
+
+    private static void send(StompSession session, String destination, CallSignalMessage message) {
+        synchronized (session) {
+            session.send(destination, message);
+        }
+    }
+
+    private static StompFrameHandler handler(Consumer<CallSignalMessage> consumer) {
+        return new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return CallSignalMessage.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                consumer.accept((CallSignalMessage) payload);
+            }
+        };
+    }
+}
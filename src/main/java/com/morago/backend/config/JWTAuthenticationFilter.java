@@ -1,9 +1,11 @@
 package com.morago.backend.config;
 
+import com.morago.backend.config.utils.AccessTokenRevocationList;
 import com.morago.backend.config.utils.JWTUtils;
 import com.morago.backend.entity.enumFiles.TokenType;
 import com.morago.backend.exception.ExpireJwtTokenException;
 import com.morago.backend.exception.InvalidJwtTokenException;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,7 +24,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -31,6 +32,7 @@ public class JWTAuthenticationFilter extends OncePerRequestFilter {
 
     private final JWTUtils jwtUtils;
     private final UserDetailsService userDetailsService;
+    private final AccessTokenRevocationList revocationList;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -43,14 +45,15 @@ public class JWTAuthenticationFilter extends OncePerRequestFilter {
             String jwt = authHeader.substring(7);
 
             try {
-                jwtUtils.validateToken(jwt, TokenType.ACCESS);
+                Claims claims = jwtUtils.parseClaims(jwt, TokenType.ACCESS);
 
-                String username = jwtUtils.getUsernameFromToken(jwt, TokenType.ACCESS);
-                Set<String> roles = jwtUtils.getRolesFromToken(jwt, TokenType.ACCESS);
+                if (revocationList.isRevoked(claims.getId())) {
+                    throw new InvalidJwtTokenException();
+                }
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
 
-                List<GrantedAuthority> authorities = roles.stream()
+                List<GrantedAuthority> authorities = jwtUtils.getRoles(claims).stream()
                         .map(SimpleGrantedAuthority::new)
                         .collect(Collectors.toList());
 
@@ -56,7 +56,7 @@ public class ProfileConfig {
             log.info("🏭 MORAGO Backend - PRODUCTION MODE");
             log.info("=".repeat(50));
             log.info("🔒 Security optimizations enabled");
-            log.info("📊 Performance monitoring active");
+            log.info("📊 Metrics exported at /actuator/prometheus");
             log.info("🚫 Debug features disabled");
             log.info("=".repeat(50));
         }
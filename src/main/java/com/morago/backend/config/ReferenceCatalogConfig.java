@@ -0,0 +1,21 @@
+package com.morago.backend.config;
+
+import com.morago.backend.config.utils.LocalReferenceInvalidationChannel;
+import com.morago.backend.config.utils.ReferenceInvalidationChannel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Provides the in-process reference data invalidation channel unless a replicating implementation
+ * is registered as a {@link ReferenceInvalidationChannel} bean.
+ */
+@Configuration
+public class ReferenceCatalogConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(ReferenceInvalidationChannel.class)
+    public ReferenceInvalidationChannel localReferenceInvalidationChannel() {
+        return new LocalReferenceInvalidationChannel();
+    }
+}
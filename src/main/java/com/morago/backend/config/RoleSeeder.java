@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -16,7 +17,9 @@ import java.util.List;
 public class RoleSeeder implements CommandLineRunner {
     private final RoleRepository roleRepository;
 
+    // Read-write transaction: the existence checks must see the primary, not a lagging replica.
     @Override
+    @Transactional
     public void run(String... args) {
         seedRole(Roles.ROLE_TRANSLATOR);
         seedRole(Roles.ROLE_USER);
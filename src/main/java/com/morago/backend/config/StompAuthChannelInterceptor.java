@@ -0,0 +1,90 @@
+package com.morago.backend.config;
+
+import com.morago.backend.config.utils.AccessTokenRevocationList;
+import com.morago.backend.config.utils.JWTUtils;
+import com.morago.backend.config.utils.StompPrincipal;
+import com.morago.backend.entity.enumFiles.Roles;
+import com.morago.backend.entity.enumFiles.TokenType;
+import com.morago.backend.exception.ExpireJwtTokenException;
+import com.morago.backend.exception.InvalidJwtTokenException;
+import com.morago.backend.service.CallSessionRegistry;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * Authenticates STOMP sessions and authorizes call-room subscriptions.
+ * The access token is validated once on CONNECT; the resulting principal is cached on the session
+ * by the STOMP handler and attached to every later frame.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String CALL_ROOM_PREFIX = "/topic/call-room/";
+
+    private final JWTUtils jwtUtils;
+    private final AccessTokenRevocationList revocationList;
+    private final CallSessionRegistry callSessionRegistry;
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            accessor.setUser(authenticate(accessor));
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            authorizeSubscription(accessor.getUser(), accessor.getDestination());
+        }
+        return message;
+    }
+
+    private StompPrincipal authenticate(StompHeaderAccessor accessor) {
+        String authHeader = accessor.getFirstNativeHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            throw new AccessDeniedException("Missing bearer token on STOMP CONNECT");
+        }
+
+        try {
+            Claims claims = jwtUtils.parseClaims(authHeader.substring(BEARER_PREFIX.length()), TokenType.ACCESS);
+            if (revocationList.isRevoked(claims.getId())) {
+                throw new InvalidJwtTokenException();
+            }
+            return new StompPrincipal(claims.getSubject(), jwtUtils.getRoles(claims));
+        } catch (ExpireJwtTokenException | InvalidJwtTokenException ex) {
+            log.warn("STOMP CONNECT rejected: {}", ex.getMessage());
+            throw new AccessDeniedException(ex.getMessage());
+        }
+    }
+
+    private void authorizeSubscription(Principal user, String destination) {
+        if (destination == null || !destination.startsWith(CALL_ROOM_PREFIX)) {
+            return;
+        }
+        if (!(user instanceof StompPrincipal principal)) {
+            throw new AccessDeniedException("Unauthenticated subscription to " + destination);
+        }
+
+        String callId = destination.substring(CALL_ROOM_PREFIX.length());
+        if (!principal.hasRole(Roles.ROLE_ADMIN.name())
+                && !callSessionRegistry.isParticipant(callId, principal.getName())) {
+            throw new AccessDeniedException("Not a participant of call " + callId);
+        }
+    }
+}
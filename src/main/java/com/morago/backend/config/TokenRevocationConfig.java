@@ -0,0 +1,21 @@
+package com.morago.backend.config;
+
+import com.morago.backend.config.utils.LocalRevocationChannel;
+import com.morago.backend.config.utils.RevocationChannel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Provides the in-process revocation channel unless a replicating implementation
+ * (message broker, Redis pub/sub, ...) is registered as a {@link RevocationChannel} bean.
+ */
+@Configuration
+public class TokenRevocationConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(RevocationChannel.class)
+    public RevocationChannel localRevocationChannel() {
+        return new LocalRevocationChannel();
+    }
+}
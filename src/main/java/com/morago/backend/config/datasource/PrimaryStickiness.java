@@ -0,0 +1,39 @@
+package com.morago.backend.config.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users committed a write recently, so their read-only work stays on the primary
+ * until the replica has had time to catch up (read-your-writes). The window is node-local.
+ */
+public class PrimaryStickiness {
+
+    private final ConcurrentHashMap<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final long windowMillis;
+
+    public PrimaryStickiness(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    public void markWrite(String username) {
+        if (username != null && windowMillis > 0) {
+            stickyUntil.put(username, System.currentTimeMillis() + windowMillis);
+        }
+    }
+
+    public boolean isSticky(String username) {
+        if (username == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(username);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.sticky-purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        stickyUntil.values().removeIf(until -> until <= now);
+    }
+}
@@ -0,0 +1,103 @@
+package com.morago.backend.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logback turbo filter that caps high-frequency loggers (e.g. call signaling) to a fixed number of
+ * events per second and samples one in {@code sampleRate} events beyond that budget.
+ * Runs before the message is formatted, so dropped events cost only a counter increment.
+ * WARN and ERROR are never filtered.
+ */
+public class RateLimitingTurboFilter extends TurboFilter {
+
+    private static final long WINDOW_MILLIS = 1000L;
+
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+
+    private String[] loggerPrefixes = new String[0];
+    private int maxEventsPerSecond = 50;
+    private int sampleRate = 100;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || level == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        // Disabled levels are rejected by the logger anyway; do not let them consume the budget.
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel()) || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Window window = windows.computeIfAbsent(logger.getName(), name -> new Window());
+        if (window.tryAcquire(System.currentTimeMillis())) {
+            return FilterReply.NEUTRAL;
+        }
+        suppressed.increment();
+        return FilterReply.DENY;
+    }
+
+    private boolean matches(String loggerName) {
+        for (String prefix : loggerPrefixes) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Comma-separated logger name prefixes the limit applies to.
+     */
+    public void setLoggers(String loggers) {
+        this.loggerPrefixes = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    public void setMaxEventsPerSecond(int maxEventsPerSecond) {
+        this.maxEventsPerSecond = maxEventsPerSecond;
+    }
+
+    /**
+     * Keep one in {@code sampleRate} events once the per-second budget is spent; 0 drops them all.
+     */
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Total number of events dropped since startup.
+     */
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    private final class Window {
+        private volatile long startedAt;
+        private final AtomicInteger count = new AtomicInteger();
+
+        boolean tryAcquire(long now) {
+            if (now - startedAt >= WINDOW_MILLIS) {
+                synchronized (this) {
+                    if (now - startedAt >= WINDOW_MILLIS) {
+                        startedAt = now;
+                        count.set(0);
+                    }
+                }
+            }
+            int over = count.incrementAndGet() - maxEventsPerSecond;
+            return over <= 0 || (sampleRate > 0 && over % sampleRate == 0);
+        }
+    }
+}
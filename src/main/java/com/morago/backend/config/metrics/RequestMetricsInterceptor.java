@@ -0,0 +1,50 @@
+package com.morago.backend.config.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Tracks the JDBC statements and DB time of each HTTP request and hands them to the
+ * {@link StatementBudgetMonitor}, tagged with the controller method.
+ * Async handlers (e.g. streaming exports) release the request thread before {@code afterCompletion},
+ * so their scope is closed when concurrent handling starts; the async dispatch opens and closes its own.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private final StatementBudgetMonitor statementBudgetMonitor;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        StatementStats.begin();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request,
+                                               @NonNull HttpServletResponse response, @NonNull Object handler) {
+        record(handler);
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        record(handler);
+    }
+
+    private void record(Object handler) {
+        StatementStats stats = StatementStats.end();
+        if (stats == null) {
+            return;
+        }
+        statementBudgetMonitor.record(StatementBudgetMonitor.SCOPE_HTTP,
+                handler instanceof HandlerMethod handlerMethod ? handlerMethod.getMethod() : null, stats);
+    }
+}
@@ -0,0 +1,27 @@
+package com.morago.backend.config.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the default per-request DB budget ({@code metrics.db.*}) for one controller or
+ * {@code @MessageMapping} method.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+
+    /**
+     * Maximum number of JDBC statements.
+     */
+    int statements();
+
+    /**
+     * Maximum total time spent in JDBC statements, in milliseconds; -1 keeps the default.
+     */
+    long millis() default -1;
+}
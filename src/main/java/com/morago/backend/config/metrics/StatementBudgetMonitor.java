@@ -0,0 +1,67 @@
+package com.morago.backend.config.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records JDBC statement counts and DB time per unit of work, tagged with the handling controller method,
+ * and reports units of work that exceed their budget.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatementBudgetMonitor {
+
+    public static final String SCOPE_HTTP = "http";
+    public static final String SCOPE_STOMP = "stomp";
+
+    private final MeterRegistry meterRegistry;
+    private final StatementBudgetProperties properties;
+
+    /**
+     * @param handlerMethod the controller method that handled the request or message, null if none matched
+     */
+    public void record(String scope, Method handlerMethod, StatementStats stats) {
+        String handler = handlerMethod != null
+                ? handlerMethod.getDeclaringClass().getSimpleName() + "." + handlerMethod.getName()
+                : "none";
+
+        DistributionSummary.builder("db.statements")
+                .description("JDBC statements executed per request or message")
+                .tags("scope", scope, "handler", handler)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatements());
+
+        Timer.builder("db.time")
+                .description("Time spent executing JDBC statements per request or message")
+                .tags("scope", scope, "handler", handler)
+                .register(meterRegistry)
+                .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+
+        StatementBudget budget = handlerMethod != null
+                ? AnnotatedElementUtils.findMergedAnnotation(handlerMethod, StatementBudget.class)
+                : null;
+        int maxStatements = budget != null ? budget.statements() : properties.getStatementBudget();
+        long maxMillis = budget != null && budget.millis() >= 0 ? budget.millis() : properties.getTimeBudgetMs();
+
+        if (stats.getStatements() > maxStatements || stats.getMillis() > maxMillis) {
+            Counter.builder("db.budget.exceeded")
+                    .description("Requests or messages exceeding their DB statement or time budget")
+                    .tags("scope", scope, "handler", handler)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("DB budget exceeded by {} ({}): {} statements (budget {}), {} ms (budget {} ms)",
+                    handler, scope, stats.getStatements(), maxStatements, stats.getMillis(), maxMillis);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.morago.backend.config.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "metrics.db")
+public class StatementBudgetProperties {
+    private int statementBudget = 20;
+    private long timeBudgetMs = 200;
+}
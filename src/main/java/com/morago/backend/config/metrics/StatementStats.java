@@ -0,0 +1,73 @@
+package com.morago.backend.config.metrics;
+
+/**
+ * Per-thread accumulator of JDBC statements executed within one unit of work (an HTTP request or a
+ * STOMP message). Filled by {@link StatementCountingDataSource}, so Hibernate and {@code JdbcTemplate}
+ * statements count alike.
+ * <p>
+ * Scopes nest: a statement is counted in the innermost scope and in all enclosing ones, so a test can
+ * wrap a MockMvc call while the request interceptor tracks its own scope.
+ */
+public final class StatementStats {
+
+    private static final ThreadLocal<StatementStats> CURRENT = new ThreadLocal<>();
+
+    private final StatementStats parent;
+    private int statements;
+    private long nanos;
+
+    private StatementStats(StatementStats parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Opens a new scope on the current thread, nested in the current one if any.
+     */
+    public static StatementStats begin() {
+        StatementStats stats = new StatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Returns the innermost scope of the current thread, or null outside of a tracked unit of work.
+     */
+    public static StatementStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Closes the innermost scope of the current thread, restores its parent and returns it.
+     */
+    public static StatementStats end() {
+        StatementStats stats = CURRENT.get();
+        if (stats == null) {
+            return null;
+        }
+        if (stats.parent != null) {
+            CURRENT.set(stats.parent);
+        } else {
+            CURRENT.remove();
+        }
+        return stats;
+    }
+
+    void statementExecuted(long elapsed) {
+        for (StatementStats scope = this; scope != null; scope = scope.parent) {
+            scope.statements++;
+            scope.nanos += elapsed;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public long getMillis() {
+        return nanos / 1_000_000;
+    }
+}
@@ -0,0 +1,89 @@
+package com.morago.backend.config.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.PathMatcher;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tracks the JDBC statements and DB time of each STOMP message handled by a {@code @MessageMapping}
+ * method. Runs on the inbound channel executor thread, around the annotation handler only.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompStatementInterceptor implements ExecutorChannelInterceptor {
+
+    private final StatementBudgetMonitor statementBudgetMonitor;
+
+    private volatile List<DestinationMapping> mappings;
+
+    @Override
+    public Message<?> beforeHandle(@NonNull Message<?> message, @NonNull MessageChannel channel,
+                                   @NonNull MessageHandler handler) {
+        if (handler instanceof SimpAnnotationMethodMessageHandler) {
+            StatementStats.begin();
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(@NonNull Message<?> message, @NonNull MessageChannel channel,
+                                    @NonNull MessageHandler handler, Exception ex) {
+        if (!(handler instanceof SimpAnnotationMethodMessageHandler annotationHandler)) {
+            return;
+        }
+        StatementStats stats = StatementStats.end();
+        if (stats == null) {
+            return;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        statementBudgetMonitor.record(StatementBudgetMonitor.SCOPE_STOMP,
+                resolveHandlerMethod(annotationHandler, destination), stats);
+    }
+
+    private Method resolveHandlerMethod(SimpAnnotationMethodMessageHandler handler, String destination) {
+        if (destination == null) {
+            return null;
+        }
+        PathMatcher pathMatcher = handler.getPathMatcher();
+        for (DestinationMapping mapping : getMappings(handler)) {
+            if (pathMatcher.match(mapping.pattern(), destination)) {
+                return mapping.method();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Full destination patterns (prefix included) of all {@code @MessageMapping} methods, built on first use.
+     */
+    private List<DestinationMapping> getMappings(SimpAnnotationMethodMessageHandler handler) {
+        List<DestinationMapping> result = mappings;
+        if (result == null) {
+            result = new ArrayList<>();
+            for (var entry : handler.getHandlerMethods().entrySet()) {
+                for (String pattern : entry.getKey().getDestinationConditions().getPatterns()) {
+                    for (String prefix : handler.getDestinationPrefixes()) {
+                        String base = prefix.endsWith("/") ? prefix.substring(0, prefix.length() - 1) : prefix;
+                        result.add(new DestinationMapping(base + pattern, entry.getValue().getMethod()));
+                    }
+                }
+            }
+            mappings = result;
+        }
+        return result;
+    }
+
+    private record DestinationMapping(String pattern, Method method) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.morago.backend.config.metrics;
+
+import com.morago.backend.service.CallSessionRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Live STOMP metrics: connected sessions, client channel queue depths, signaling message rates
+ * per type and call setup time (initiate to accept).
+ */
+@Component
+public class WebSocketMetrics {
+
+    private static final Set<String> MESSAGE_TYPES = Set.of(
+            "CALL_INITIATE", "CALL_ACCEPTED", "CALL_REJECTED", "CALL_ENDED", "TRANSLATOR_JOINED",
+            "OFFER", "ANSWER", "ICE_CANDIDATE");
+    private static final String OTHER = "OTHER";
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor inboundExecutor;
+    private final ThreadPoolTaskExecutor outboundExecutor;
+    private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+    private final Map<String, Counter> messageCounters = new ConcurrentHashMap<>();
+    private final Timer callSetupTimer;
+
+    public WebSocketMetrics(MeterRegistry meterRegistry,
+                            CallSessionRegistry callSessionRegistry,
+                            @Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor inboundExecutor,
+                            @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor outboundExecutor) {
+        this.meterRegistry = meterRegistry;
+        this.inboundExecutor = inboundExecutor;
+        this.outboundExecutor = outboundExecutor;
+
+        Gauge.builder("websocket.sessions", sessions, Set::size)
+                .description("Connected STOMP sessions")
+                .register(meterRegistry);
+        Gauge.builder("websocket.calls.active", callSessionRegistry, CallSessionRegistry::activeCalls)
+                .description("Calls currently registered for signaling")
+                .register(meterRegistry);
+        Gauge.builder("websocket.channel.queued", this, WebSocketMetrics::getInboundQueued)
+                .tag("channel", "inbound")
+                .register(meterRegistry);
+        Gauge.builder("websocket.channel.queued", this, WebSocketMetrics::getOutboundQueued)
+                .tag("channel", "outbound")
+                .register(meterRegistry);
+
+        this.callSetupTimer = Timer.builder("call.setup")
+                .description("Time from call initiation to acceptance")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null) {
+            sessions.add(sessionId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnected(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    /**
+     * Counts one signaling message. Client-supplied types outside the known set are reported as OTHER
+     * to keep the tag cardinality bounded.
+     */
+    public void recordMessage(String type) {
+        String tag = type == null ? OTHER : type.toUpperCase(Locale.ROOT).replace('-', '_');
+        if (!MESSAGE_TYPES.contains(tag)) {
+            tag = OTHER;
+        }
+        messageCounters.computeIfAbsent(tag, t -> Counter.builder("websocket.signaling.messages")
+                        .tag("type", t)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    public void recordCallSetup(long openedAtNanos) {
+        callSetupTimer.record(System.nanoTime() - openedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public int getInboundQueued() {
+        return inboundExecutor.getThreadPoolExecutor().getQueue().size();
+    }
+
+    public int getOutboundQueued() {
+        return outboundExecutor.getThreadPoolExecutor().getQueue().size();
+    }
+
+    public int getInboundActive() {
+        return inboundExecutor.getActiveCount();
+    }
+
+    public int getOutboundActive() {
+        return outboundExecutor.getActiveCount();
+    }
+}
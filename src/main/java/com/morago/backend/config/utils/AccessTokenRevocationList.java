@@ -0,0 +1,57 @@
+package com.morago.backend.config.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory set of revoked access-token ids (jti).
+ * Each entry is kept only until the token itself expires, after which the signature check rejects it anyway.
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationList {
+
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+    private final RevocationChannel channel;
+
+    public AccessTokenRevocationList(RevocationChannel channel) {
+        this.channel = channel;
+        channel.subscribe(this::add);
+    }
+
+    /**
+     * Constant-time lookup used by the authentication filter on every request.
+     */
+    public boolean isRevoked(String jti) {
+        return jti != null && revoked.containsKey(jti);
+    }
+
+    /**
+     * Revokes a token on this node and replicates the revocation to the other nodes.
+     */
+    public void revoke(String jti, long expiresAtMillis) {
+        if (jti == null || expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        add(jti, expiresAtMillis);
+        channel.publish(jti, expiresAtMillis);
+        log.debug("Access token {} revoked until {}", jti, expiresAtMillis);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    private void add(String jti, long expiresAtMillis) {
+        revoked.merge(jti, expiresAtMillis, Math::max);
+    }
+}
@@ -14,4 +14,5 @@ public class JWTProperties {
     private String refreshSecret;
     private long accessExpirationMs;
     private long refreshExpirationMs;
+    private int maxSessionsPerUser = 5;
 }
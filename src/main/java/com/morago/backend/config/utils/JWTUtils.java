@@ -3,6 +3,7 @@ package com.morago.backend.config.utils;
 import com.morago.backend.entity.enumFiles.TokenType;
 import com.morago.backend.exception.ExpireJwtTokenException;
 import com.morago.backend.exception.InvalidJwtTokenException;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
@@ -17,6 +18,7 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
@@ -47,6 +49,7 @@ public class JWTUtils {
                 .collect(Collectors.toSet());
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userDetails.getUsername())
                 .claim("roles", roles)
                 .setIssuedAt(new Date())
@@ -57,6 +60,7 @@ public class JWTUtils {
 
     public String generateRefreshToken(UserDetails userDetails) {
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + jwtProperties.getRefreshExpirationMs()))
@@ -65,42 +69,34 @@ public class JWTUtils {
     }
 
     public String getUsernameFromToken(String token, TokenType type) {
-        try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey(type))
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getSubject();
-        } catch (ExpiredJwtException e) {
-            throw new ExpireJwtTokenException();
-        } catch (JwtException | IllegalArgumentException e) {
-            throw new InvalidJwtTokenException();
-        }
+        return parseClaims(token, type).getSubject();
     }
 
-    @SuppressWarnings("unchecked")
     public Set<String> getRolesFromToken(String token, TokenType type) {
-        try {
-            return new HashSet<>((List<String>) Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey(type))
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .get("roles"));
-        } catch (ExpiredJwtException e) {
-            throw new ExpireJwtTokenException();
-        } catch (JwtException | IllegalArgumentException e) {
-            throw new InvalidJwtTokenException();
-        }
+        return getRoles(parseClaims(token, type));
+    }
+
+    @SuppressWarnings("unchecked")
+    public Set<String> getRoles(Claims claims) {
+        List<String> roles = claims.get("roles", List.class);
+        return roles != null ? new HashSet<>(roles) : new HashSet<>();
     }
 
     public void validateToken(String token, TokenType type) {
+        parseClaims(token, type);
+    }
+
+    /**
+     * Verifies the token signature and expiration once and returns its claims,
+     * so callers needing several claims do not parse the token repeatedly.
+     */
+    public Claims parseClaims(String token, TokenType type) {
         try {
-            Jwts.parserBuilder()
+            return Jwts.parserBuilder()
                     .setSigningKey(getSigningKey(type))
                     .build()
-                    .parseClaimsJws(token);
+                    .parseClaimsJws(token)
+                    .getBody();
         } catch (ExpiredJwtException e) {
             throw new ExpireJwtTokenException();
         } catch (JwtException | IllegalArgumentException e) {
@@ -0,0 +1,25 @@
+package com.morago.backend.config.utils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process invalidation channel used for single-node deployments and tests.
+ * Publishing notifies the listeners of this JVM only, synchronously.
+ */
+public class LocalReferenceInvalidationChannel implements ReferenceInvalidationChannel {
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String section) {
+        for (Listener listener : listeners) {
+            listener.onInvalidated(section);
+        }
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,25 @@
+package com.morago.backend.config.utils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process revocation channel used for single-node deployments and tests.
+ * Publishing delivers the revocation synchronously to the listeners of this JVM only.
+ */
+public class LocalRevocationChannel implements RevocationChannel {
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String jti, long expiresAtMillis) {
+        for (Listener listener : listeners) {
+            listener.onRevoked(jti, expiresAtMillis);
+        }
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,18 @@
+package com.morago.backend.config.utils;
+
+/**
+ * Notifies all application nodes that reference data (themes, categories, languages) changed.
+ * Implementations deliver every published invalidation to the listeners subscribed on each node,
+ * including the publishing one.
+ */
+public interface ReferenceInvalidationChannel {
+
+    void publish(String section);
+
+    void subscribe(Listener listener);
+
+    @FunctionalInterface
+    interface Listener {
+        void onInvalidated(String section);
+    }
+}
@@ -0,0 +1,17 @@
+package com.morago.backend.config.utils;
+
+/**
+ * Replicates access-token revocations between application nodes.
+ * Implementations deliver every published revocation to the listeners subscribed on each node.
+ */
+public interface RevocationChannel {
+
+    void publish(String jti, long expiresAtMillis);
+
+    void subscribe(Listener listener);
+
+    @FunctionalInterface
+    interface Listener {
+        void onRevoked(String jti, long expiresAtMillis);
+    }
+}
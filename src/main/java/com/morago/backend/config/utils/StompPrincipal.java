@@ -0,0 +1,23 @@
+package com.morago.backend.config.utils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.security.Principal;
+import java.util.Set;
+
+/**
+ * Principal bound to a STOMP session on CONNECT. Holds only what was read from the access token,
+ * so later frames of the session are authorized without parsing the token again.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StompPrincipal implements Principal {
+
+    private final String name;
+    private final Set<String> roles;
+
+    public boolean hasRole(String role) {
+        return roles.contains(role);
+    }
+}
@@ -0,0 +1,130 @@
+package com.morago.backend.controller;
+
+import com.morago.backend.entity.enumFiles.CallStatus;
+import com.morago.backend.entity.enumFiles.EStatus;
+import com.morago.backend.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzipped CSV/NDJSON exports streamed straight from a database cursor to the response. Only these responses get the
+ * long {@code export.request-timeout-ms}; every other async request keeps the default timeout.
+ */
+@Tag(name = "Exports", description = "Streaming admin exports of calls, deposits and withdrawals")
+@RestController
+@RequestMapping("/api/admin/exports")
+@SecurityRequirement(name = "bearerAuth")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminExportController {
+
+    private static final int GZIP_BUFFER_BYTES = 64 * 1024;
+
+    private final ExportService exportService;
+    private final long requestTimeoutMs;
+
+    public AdminExportController(ExportService exportService,
+                                 @Value("${export.request-timeout-ms:3600000}") long requestTimeoutMs) {
+        this.exportService = exportService;
+        this.requestTimeoutMs = requestTimeoutMs;
+    }
+
+    @FunctionalInterface
+    private interface Export {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    @Operation(summary = "Export calls", description = "Calls created in [from, to), optionally of one call status, as a gzipped file.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only")
+    })
+    @GetMapping("/calls")
+    public ResponseEntity<StreamingResponseBody> exportCalls(
+            @Parameter(description = "Inclusive lower bound of createdAt")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Exclusive upper bound of createdAt")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) CallStatus callStatus,
+            @RequestParam(defaultValue = "CSV") ExportService.Format format,
+            HttpServletRequest request) {
+        return stream(request, "calls", format, out -> exportService.exportCalls(from, to, callStatus, format, out));
+    }
+
+    @Operation(summary = "Export deposits", description = "Deposits created in [from, to), optionally of one status, as a gzipped file.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only")
+    })
+    @GetMapping("/deposits")
+    public ResponseEntity<StreamingResponseBody> exportDeposits(
+            @Parameter(description = "Inclusive lower bound of createdAt")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Exclusive upper bound of createdAt")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) EStatus status,
+            @RequestParam(defaultValue = "CSV") ExportService.Format format,
+            HttpServletRequest request) {
+        return stream(request, "deposits", format, out -> exportService.exportDeposits(from, to, status, format, out));
+    }
+
+    @Operation(summary = "Export withdrawals", description = "Withdrawals created in [from, to), optionally of one status, as a gzipped file.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only")
+    })
+    @GetMapping("/withdrawals")
+    public ResponseEntity<StreamingResponseBody> exportWithdrawals(
+            @Parameter(description = "Inclusive lower bound of createdAt")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Exclusive upper bound of createdAt")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) EStatus status,
+            @RequestParam(defaultValue = "CSV") ExportService.Format format,
+            HttpServletRequest request) {
+        return stream(request, "withdrawals", format, out -> exportService.exportWithdrawals(from, to, status, format, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(HttpServletRequest request, String name,
+                                                         ExportService.Format format, Export export) {
+        // The streaming body is started as async processing with the timeout of the current AsyncWebRequest.
+        AsyncWebRequest asyncWebRequest = WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest();
+        if (asyncWebRequest != null) {
+            asyncWebRequest.setTimeout(requestTimeoutMs);
+        }
+        String fileName = name + "." + format.name().toLowerCase(Locale.ROOT) + ".gz";
+        StreamingResponseBody body = out -> {
+            GZIPOutputStream gzip = new GZIPOutputStream(out, GZIP_BUFFER_BYTES);
+            export.writeTo(gzip);
+            gzip.finish();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+}
@@ -1,6 +1,11 @@
 package com.morago.backend.controller;
 
+import com.morago.backend.config.metrics.WebSocketMetrics;
+import com.morago.backend.config.utils.StompPrincipal;
 import com.morago.backend.dto.tokens.CallSignalMessage;
+import com.morago.backend.entity.enumFiles.Roles;
+import com.morago.backend.service.CallSessionRegistry;
+import com.morago.backend.service.CallSessionRegistry.CallSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -8,13 +13,17 @@ import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.StringUtils;
 
+import java.security.Principal;
 import java.time.LocalDateTime;
 
 /**
  * WebSocket controller for handling call signaling operations.
  * Manages call initiation, acceptance, rejection, and WebRTC signaling.
+ * Senders are identified by the principal bound on STOMP CONNECT and checked against the call session registry.
  */
 @Slf4j
 @Controller
@@ -22,6 +31,8 @@ import java.time.LocalDateTime;
 public class CallSignalingController {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final CallSessionRegistry callSessionRegistry;
+    private final WebSocketMetrics webSocketMetrics;
 
     /**
      * Handles call initiation requests.
@@ -34,11 +45,19 @@ public class CallSignalingController {
     public void initiateCall(@Payload CallSignalMessage callMessage,
                              SimpMessageHeaderAccessor headerAccessor) {
         
-        String caller = extractUserFromSession(headerAccessor, callMessage.getCallerId());
+        String caller = currentUser(headerAccessor);
+        if (!StringUtils.hasText(callMessage.getCallId()) || !StringUtils.hasText(callMessage.getRecipientId())) {
+            throw new IllegalArgumentException("callId and recipientId are required");
+        }
+        if (callSessionRegistry.open(callMessage.getCallId(), caller, callMessage.getRecipientId(),
+                headerAccessor.getSessionId()) == null) {
+            throw new AccessDeniedException("Call ID already in use: " + callMessage.getCallId());
+        }
         
         CallSignalMessage initiateMessage = buildCallMessage(callMessage, caller, "CALL_INITIATE");
+        webSocketMetrics.recordMessage(initiateMessage.getType());
         
-        log.info("Call initiated from {} to {} for call ID: {}", 
+        log.debug("Call initiated from {} to {} for call ID: {}", 
                 caller, callMessage.getRecipientId(), callMessage.getCallId());
         
         sendToUser(callMessage.getRecipientId(), "/queue/calls", initiateMessage);
@@ -55,13 +74,17 @@ public class CallSignalingController {
     public void acceptCall(@Payload CallSignalMessage callMessage,
                            SimpMessageHeaderAccessor headerAccessor) {
         
-        CallSignalMessage acceptMessage = buildCallMessage(callMessage, null, "CALL_ACCEPTED");
+        CallSession session = requireParticipant(callMessage.getCallId(), headerAccessor);
+        callSessionRegistry.attach(session, headerAccessor.getSessionId());
+        CallSignalMessage acceptMessage = buildCallMessage(callMessage, session.getCallerId(), "CALL_ACCEPTED");
+        webSocketMetrics.recordMessage(acceptMessage.getType());
+        webSocketMetrics.recordCallSetup(session.getOpenedAtNanos());
         
-        log.info("Call accepted for call ID: {} by recipient: {}", 
-                callMessage.getCallId(), callMessage.getRecipientId());
+        log.debug("Call accepted for call ID: {} by recipient: {}", 
+                callMessage.getCallId(), session.getRecipientId());
         
         // Notify the caller
-        sendToUser(callMessage.getCallerId(), "/queue/calls", acceptMessage);
+        sendToUser(session.getCallerId(), "/queue/calls", acceptMessage);
         
         // Broadcast to call room for other participants
         broadcastToCallRoom(callMessage.getCallId(), acceptMessage);
@@ -78,12 +101,15 @@ public class CallSignalingController {
     public void rejectCall(@Payload CallSignalMessage callMessage,
                            SimpMessageHeaderAccessor headerAccessor) {
         
-        CallSignalMessage rejectMessage = buildCallMessage(callMessage, null, "CALL_REJECTED");
+        CallSession session = requireParticipant(callMessage.getCallId(), headerAccessor);
+        CallSignalMessage rejectMessage = buildCallMessage(callMessage, session.getCallerId(), "CALL_REJECTED");
+        webSocketMetrics.recordMessage(rejectMessage.getType());
         
-        log.info("Call rejected for call ID: {} by recipient: {}", 
-                callMessage.getCallId(), callMessage.getRecipientId());
+        log.debug("Call rejected for call ID: {} by recipient: {}", 
+                callMessage.getCallId(), session.getRecipientId());
         
-        sendToUser(callMessage.getCallerId(), "/queue/calls", rejectMessage);
+        sendToUser(session.getCallerId(), "/queue/calls", rejectMessage);
+        callSessionRegistry.close(callMessage.getCallId());
     }
 
     /**
@@ -97,11 +123,14 @@ public class CallSignalingController {
     public void endCall(@Payload CallSignalMessage callMessage,
                         SimpMessageHeaderAccessor headerAccessor) {
         
-        CallSignalMessage endMessage = buildCallMessage(callMessage, null, "CALL_ENDED");
+        CallSession session = requireParticipant(callMessage.getCallId(), headerAccessor);
+        CallSignalMessage endMessage = buildCallMessage(callMessage, session.getCallerId(), "CALL_ENDED");
+        webSocketMetrics.recordMessage(endMessage.getType());
         
-        log.info("Call ended for call ID: {}", callMessage.getCallId());
+        log.debug("Call ended for call ID: {}", callMessage.getCallId());
         
         broadcastToCallRoom(callMessage.getCallId(), endMessage);
+        callSessionRegistry.close(callMessage.getCallId());
     }
 
     /**
@@ -117,6 +146,8 @@ public class CallSignalingController {
                                 @Payload CallSignalMessage signalMessage,
                                 SimpMessageHeaderAccessor headerAccessor) {
         
+        requireParticipant(callId, headerAccessor);
+        webSocketMetrics.recordMessage(signalMessage.getType());
         signalMessage.setCallId(callId);
         signalMessage.setTimestamp(LocalDateTime.now());
         
@@ -128,6 +159,7 @@ public class CallSignalingController {
     /**
      * Handles translator joining a call.
      * Notifies all participants that a translator has joined the call.
+     * Only the translator the call was placed with may join.
      * 
      * @param callMessage the call signal message
      * @param headerAccessor WebSocket session header accessor
@@ -136,28 +168,51 @@ public class CallSignalingController {
     public void translatorJoin(@Payload CallSignalMessage callMessage,
                                SimpMessageHeaderAccessor headerAccessor) {
         
-        String translatorId = extractUserFromSession(headerAccessor, callMessage.getTranslatorId());
+        String translatorId = currentUser(headerAccessor);
+        if (!(headerAccessor.getUser() instanceof StompPrincipal principal)
+                || !principal.hasRole(Roles.ROLE_TRANSLATOR.name())) {
+            throw new AccessDeniedException("Only translators can join calls");
+        }
+        if (!callSessionRegistry.join(callMessage.getCallId(), translatorId, headerAccessor.getSessionId())) {
+            throw new AccessDeniedException("Not the translator of call " + callMessage.getCallId());
+        }
         
         CallSignalMessage joinMessage = buildCallMessage(callMessage, null, "TRANSLATOR_JOINED");
+        webSocketMetrics.recordMessage(joinMessage.getType());
         joinMessage.setTranslatorId(translatorId);
         
-        log.info("Translator {} joined call ID: {}", translatorId, callMessage.getCallId());
+        log.debug("Translator {} joined call ID: {}", translatorId, callMessage.getCallId());
         
         broadcastToCallRoom(callMessage.getCallId(), joinMessage);
     }
     
     /**
-     * Extracts user ID from WebSocket session or falls back to provided ID.
+     * Returns the user bound to the WebSocket session on CONNECT.
      */
-    private String extractUserFromSession(SimpMessageHeaderAccessor headerAccessor, String fallbackId) {
-        return headerAccessor.getUser() != null ? 
-                headerAccessor.getUser().getName() : fallbackId;
+    private String currentUser(SimpMessageHeaderAccessor headerAccessor) {
+        Principal user = headerAccessor.getUser();
+        if (user == null) {
+            throw new AccessDeniedException("Unauthenticated WebSocket session");
+        }
+        return user.getName();
+    }
+    
+    /**
+     * Resolves the live call and verifies that the sender takes part in it.
+     */
+    private CallSession requireParticipant(String callId, SimpMessageHeaderAccessor headerAccessor) {
+        String user = currentUser(headerAccessor);
+        CallSession session = callSessionRegistry.get(callId);
+        if (session == null || !session.getParticipants().contains(user)) {
+            throw new AccessDeniedException("Not a participant of call " + callId);
+        }
+        return session;
     }
     
     /**
      * Builds a standardized call signal message with timestamp and type.
      */
-    private CallSignalMessage buildCallMessage(CallSignalMessage original, String callerId, String type) {
+    CallSignalMessage buildCallMessage(CallSignalMessage original, String callerId, String type) {
         CallSignalMessage message = CallSignalMessage.builder()
                 .callId(original.getCallId())
                 .callerId(callerId != null ? callerId : original.getCallerId())
@@ -0,0 +1,146 @@
+package com.morago.backend.controller;
+
+import com.morago.backend.dto.CategoryDto;
+import com.morago.backend.dto.LanguageDto;
+import com.morago.backend.dto.response.ThemeCatalogResponse;
+import com.morago.backend.dto.response.ThemeTranslatorResponse;
+import com.morago.backend.service.ReferenceCatalog;
+import com.morago.backend.service.ReferenceSnapshot;
+import com.morago.backend.service.ThemeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * REST controller for the read-only catalog shown to clients when starting a call.
+ * Reference lists carry an ETag so clients can revalidate with {@code If-None-Match} and get 304 when unchanged.
+ */
+@Tag(name = "Catalog", description = "Theme catalog endpoints")
+@Slf4j
+@RestController
+@RequestMapping("/api/catalog")
+@SecurityRequirement(name = "bearerAuth")
+public class CatalogController {
+
+    private final ThemeService themeService;
+    private final ReferenceCatalog referenceCatalog;
+    private final CacheControl cacheControl;
+
+    public CatalogController(ThemeService themeService,
+                             ReferenceCatalog referenceCatalog,
+                             @Value("${catalog.max-age-seconds:300}") long maxAgeSeconds) {
+        this.themeService = themeService;
+        this.referenceCatalog = referenceCatalog;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePrivate().mustRevalidate();
+    }
+
+    /**
+     * Returns the flat theme catalog with translator counts.
+     */
+    @Operation(
+            summary = "Get theme catalog",
+            description = "Retrieves all themes with category, icon and translator count. Translators themselves are not included."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Catalog retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Catalog unchanged since the given ETag"),
+            @ApiResponse(responseCode = "401", description = "Authentication required")
+    })
+    @GetMapping("/themes")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<ThemeCatalogResponse>> getThemeCatalog(
+            @Parameter(description = "Only return active themes")
+            @RequestParam(defaultValue = "true") boolean activeOnly) {
+
+        log.debug("Retrieving theme catalog, activeOnly: {}", activeOnly);
+        return cached(referenceCatalog.snapshot().themeCatalog(activeOnly));
+    }
+
+    /**
+     * Returns all categories.
+     */
+    @Operation(
+            summary = "Get categories",
+            description = "Retrieves all theme categories."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Categories unchanged since the given ETag"),
+            @ApiResponse(responseCode = "401", description = "Authentication required")
+    })
+    @GetMapping("/categories")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<CategoryDto>> getCategories() {
+        log.debug("Retrieving category catalog");
+        return cached(referenceCatalog.snapshot().categories());
+    }
+
+    /**
+     * Returns all languages.
+     */
+    @Operation(
+            summary = "Get languages",
+            description = "Retrieves all languages translators can offer."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Languages retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Languages unchanged since the given ETag"),
+            @ApiResponse(responseCode = "401", description = "Authentication required")
+    })
+    @GetMapping("/languages")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<LanguageDto>> getLanguages() {
+        log.debug("Retrieving language catalog");
+        return cached(referenceCatalog.snapshot().languages());
+    }
+
+    /**
+     * Returns the translators offering a theme, one page at a time.
+     */
+    @Operation(
+            summary = "Get translators of a theme",
+            description = "Retrieves a paginated list of translators offering the given theme."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Translators retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Authentication required"),
+            @ApiResponse(responseCode = "404", description = "Theme not found")
+    })
+    @GetMapping("/themes/{themeId}/translators")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Page<ThemeTranslatorResponse>> getThemeTranslators(
+            @Parameter(description = "Theme ID", required = true)
+            @PathVariable Long themeId,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+
+        log.debug("Retrieving translators for theme ID: {}", themeId);
+        return ResponseEntity.ok(themeService.getTranslators(themeId, pageable));
+    }
+
+    // A matching If-None-Match is turned into 304 by Spring MVC when the response carries this ETag.
+    private <T> ResponseEntity<List<T>> cached(ReferenceSnapshot.Section<T> section) {
+        return ResponseEntity.ok()
+                .eTag(section.getETag())
+                .cacheControl(cacheControl)
+                .body(section.getValues());
+    }
+}
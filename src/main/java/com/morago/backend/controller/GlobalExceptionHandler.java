@@ -1,5 +1,10 @@
 package com.morago.backend.controller;
 
+import com.morago.backend.exception.InsufficientBalanceException;
+import com.morago.backend.exception.PaymentAlreadyPostedException;
+import com.morago.backend.exception.PayoutInProgressException;
+import com.morago.backend.exception.StatementGenerationInProgressException;
+import com.morago.backend.exception.StatementTooLargeException;
 import com.morago.backend.exception.SecurityException;
 import com.morago.backend.exception.TranslatorProfileException;
 import com.morago.backend.exception.ResourceNotFoundException;
@@ -54,6 +59,61 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(InsufficientBalanceException.class)
+    public ResponseEntity<ErrorResponse> handleInsufficientBalance(InsufficientBalanceException ex) {
+        log.warn("Insufficient balance: {}", ex.getMessage());
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(PaymentAlreadyPostedException.class)
+    public ResponseEntity<ErrorResponse> handlePaymentAlreadyPosted(PaymentAlreadyPostedException ex) {
+        log.warn("Posted payment conflict: {}", ex.getMessage());
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(PayoutInProgressException.class)
+    public ResponseEntity<ErrorResponse> handlePayoutInProgress(PayoutInProgressException ex) {
+        log.warn("Payout conflict: {}", ex.getMessage());
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(StatementGenerationInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleStatementGenerationInProgress(StatementGenerationInProgressException ex) {
+        log.warn("Statement generation conflict: {}", ex.getMessage());
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(StatementTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleStatementTooLarge(StatementTooLargeException ex) {
+        log.warn("Rejected bank statement: {}", ex.getMessage());
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(response, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
     @ExceptionHandler(TranslatorProfileException.class)
     public ResponseEntity<ErrorResponse> handleTranslatorProfileException(TranslatorProfileException ex) {
         log.warn("Translator profile error: {}", ex.getMessage());
@@ -1,5 +1,6 @@
 package com.morago.backend.controller;
 
+import com.morago.backend.dto.response.SessionResponse;
 import com.morago.backend.dto.tokens.JWTRequest;
 import com.morago.backend.dto.tokens.JWTResponse;
 import com.morago.backend.dto.tokens.RefreshTokenRequest;
@@ -17,14 +18,22 @@ import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * REST controller for handling authentication operations.
  * Provides endpoints for login, token refresh, and logout functionality.
@@ -39,6 +48,8 @@ public class MainController {
     private final AuthService authService;
     private final RefreshTokenService refreshTokenService;
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     /**
      * Authenticates user credentials and returns JWT tokens.
      * 
@@ -91,11 +102,11 @@ public class MainController {
     })
     @PostMapping("/login")
     public ResponseEntity<JWTResponse> login(@Valid @RequestBody JWTRequest authRequest) {
-        log.info("Login attempt for user: {}", authRequest.getUsername());
+        log.debug("Login attempt for user: {}", authRequest.getUsername());
         
         try {
             JWTResponse response = authService.createAuthToken(authRequest);
-            log.info("Login successful for user: {}", authRequest.getUsername());
+            log.debug("Login successful for user: {}", authRequest.getUsername());
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
@@ -148,7 +159,7 @@ public class MainController {
         
         try {
             JWTResponse jwtResponse = refreshTokenService.refreshToken(request.getRefreshToken());
-            log.info("Token refresh successful");
+            log.debug("Token refresh successful");
             return ResponseEntity.ok(jwtResponse);
             
         } catch (RuntimeException e) {
@@ -159,14 +170,15 @@ public class MainController {
     }
 
     /**
-     * Logs out user by invalidating their refresh token.
+     * Logs out user by invalidating their refresh tokens and revoking the access token used for the call.
      * 
      * @param request containing the refresh token to invalidate
+     * @param authorization the bearer header carrying the current access token
      * @return ResponseEntity with success or error message
      */
     @Operation(
             summary = "Logout user",
-            description = "Invalidates the user's refresh token, effectively logging them out. Requires valid authentication.",
+            description = "Invalidates the user's refresh token and revokes the current access token, effectively logging them out. Requires valid authentication.",
             security = @SecurityRequirement(name = "bearerAuth"),
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     required = true,
@@ -203,12 +215,20 @@ public class MainController {
     @PostMapping("/logout")
     @PreAuthorize("isAuthenticated()")
     @Transactional
-    public ResponseEntity<String> logout(@Valid @RequestBody RefreshTokenRequest request) {
+    public ResponseEntity<String> logout(@Valid @RequestBody RefreshTokenRequest request,
+                                         @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
         log.debug("Logout request received");
         
+        // Checked before anything is revoked, so a malformed header never logs out half-way.
+        if (!authorization.startsWith(BEARER_PREFIX) || authorization.length() == BEARER_PREFIX.length()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("Logout failed: Authorization header must carry a Bearer access token");
+        }
+        
         try {
             refreshTokenService.logoutUserByRefreshToken(request.getRefreshToken());
-            log.info("User logout successful");
+            authService.revokeAccessToken(authorization.substring(BEARER_PREFIX.length()));
+            log.debug("User logout successful");
             return ResponseEntity.ok("Logged out successfully");
             
         } catch (RuntimeException e) {
@@ -217,4 +237,53 @@ public class MainController {
                     .body("Logout failed: " + e.getMessage());
         }
     }
+
+    /**
+     * Lists active sessions of the current user.
+     * 
+     * @param authentication the current authentication
+     * @return ResponseEntity with the user's sessions, newest first
+     */
+    @Operation(
+            summary = "List active sessions",
+            description = "Returns the devices the current user is logged in on. Each login or token refresh from a device replaces that device's previous session.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sessions retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing authentication")
+    })
+    @GetMapping("/sessions")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<SessionResponse>> getSessions(Authentication authentication) {
+        log.debug("Session list requested by user: {}", authentication.getName());
+        
+        return ResponseEntity.ok(refreshTokenService.getActiveSessions(authentication.getName()));
+    }
+
+    /**
+     * Revokes one session of the current user.
+     * 
+     * @param sessionId the session to revoke
+     * @param authentication the current authentication
+     * @return ResponseEntity with no content
+     */
+    @Operation(
+            summary = "Revoke session",
+            description = "Invalidates the refresh token of one of the current user's sessions, logging that device out.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Session revoked"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing authentication"),
+            @ApiResponse(responseCode = "404", description = "Session not found")
+    })
+    @DeleteMapping("/sessions/{sessionId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> revokeSession(@PathVariable Long sessionId, Authentication authentication) {
+        log.debug("Revoking session {} for user: {}", sessionId, authentication.getName());
+        
+        refreshTokenService.revokeSession(authentication.getName(), sessionId);
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
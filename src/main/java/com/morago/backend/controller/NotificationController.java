@@ -56,7 +56,7 @@ public class NotificationController {
         NotificationMessage processedNotification = prepareNotificationMessage(notification, "System");
         messagingTemplate.convertAndSendToUser(userId, "/queue/notifications", processedNotification);
         
-        log.info("Notification sent to user: {} with title: {}", userId, notification.getTitle());
+        log.debug("Notification sent to user: {} with title: {}", userId, notification.getTitle());
     }
 
     /**
@@ -71,7 +71,7 @@ public class NotificationController {
         NotificationMessage processedNotification = prepareNotificationMessage(notification, "System");
         messagingTemplate.convertAndSend("/topic/notifications", processedNotification);
         
-        log.info("Notification broadcasted with title: {}", notification.getTitle());
+        log.debug("Notification broadcasted with title: {}", notification.getTitle());
     }
     
     /**
@@ -117,7 +117,7 @@ public class NotificationController {
                 message
         );
         
-        log.info("Targeted notification sent to user: {} with title: {}", 
+        log.debug("Targeted notification sent to user: {} with title: {}", 
                 message.getRecipientId(), message.getTitle());
     }
     
@@ -129,6 +129,6 @@ public class NotificationController {
         
         messagingTemplate.convertAndSend("/topic/notifications", message);
         
-        log.info("Notification broadcasted to all users with title: {}", message.getTitle());
+        log.debug("Notification broadcasted to all users with title: {}", message.getTitle());
     }
 }
\ No newline at end of file
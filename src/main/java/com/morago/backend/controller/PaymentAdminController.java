@@ -0,0 +1,212 @@
+package com.morago.backend.controller;
+
+import com.morago.backend.dto.DepositDto;
+import com.morago.backend.dto.PayoutBatchDto;
+import com.morago.backend.dto.WithdrawalDto;
+import com.morago.backend.dto.request.PaymentBulkActionRequest;
+import com.morago.backend.dto.response.BulkTransitionResponse;
+import com.morago.backend.dto.response.DebtorScanResult;
+import com.morago.backend.dto.response.KeysetPage;
+import com.morago.backend.dto.response.ReconciliationReport;
+import com.morago.backend.service.DebtorScanner;
+import com.morago.backend.service.DepositReconciliationService;
+import com.morago.backend.service.PaymentApprovalService;
+import com.morago.backend.service.PayoutFileService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * Operator endpoints for the pending deposit and withdrawal queues.
+ */
+@Tag(name = "Payment Administration", description = "Pending deposit/withdrawal queues and bulk approval")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/payments")
+@SecurityRequirement(name = "bearerAuth")
+@PreAuthorize("hasRole('ADMIN')")
+public class PaymentAdminController {
+
+    private final PaymentApprovalService paymentApprovalService;
+    private final DepositReconciliationService depositReconciliationService;
+    private final PayoutFileService payoutFileService;
+    private final DebtorScanner debtorScanner;
+
+    @Operation(
+            summary = "Pending deposits",
+            description = "Pending deposits oldest first. Pass nextCreatedAt/nextId of the previous page as afterCreatedAt/afterId to continue."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Queue page retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only")
+    })
+    @GetMapping("/deposits/pending")
+    public ResponseEntity<KeysetPage<DepositDto>> getPendingDeposits(
+            @Parameter(description = "nextCreatedAt of the previous page; omit for the first page")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterCreatedAt,
+            @Parameter(description = "nextId of the previous page; omit for the first page")
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(paymentApprovalService.getPendingDeposits(afterCreatedAt, afterId, size));
+    }
+
+    @Operation(summary = "Approve deposits", description = "Marks pending deposits SUCCESSFUL and credits the wallets in one transaction.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Deposits processed"),
+            @ApiResponse(responseCode = "400", description = "Invalid id list"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only")
+    })
+    @PostMapping("/deposits/approve")
+    public ResponseEntity<BulkTransitionResponse> approveDeposits(@Valid @RequestBody PaymentBulkActionRequest request) {
+        return ResponseEntity.ok(paymentApprovalService.approveDeposits(request.getIds()));
+    }
+
+    @Operation(summary = "Reject deposits", description = "Marks pending deposits FAILED in one transaction.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Deposits processed"),
+            @ApiResponse(responseCode = "400", description = "Invalid id list"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only")
+    })
+    @PostMapping("/deposits/reject")
+    public ResponseEntity<BulkTransitionResponse> rejectDeposits(@Valid @RequestBody PaymentBulkActionRequest request) {
+        return ResponseEntity.ok(paymentApprovalService.rejectDeposits(request.getIds()));
+    }
+
+    @Operation(
+            summary = "Reconcile bank statement",
+            description = "Matches incoming transfers of a CSV bank statement (header with account_holder, bank_name, amount "
+                    + "and optionally reference) to pending deposits by holder, bank and won amount, approves the matches "
+                    + "and reports the lines that matched nothing. The statement is the raw request body, streamed to disk "
+                    + "up to reconciliation.max-statement-bytes."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statement reconciled"),
+            @ApiResponse(responseCode = "400", description = "Empty statement or missing header columns"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only"),
+            @ApiResponse(responseCode = "413", description = "Statement larger than reconciliation.max-statement-bytes")
+    })
+    @PostMapping(value = "/deposits/reconcile", consumes = {"text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ReconciliationReport> reconcileDeposits(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(depositReconciliationService.reconcile(request.getInputStream(),
+                request.getContentLengthLong()));
+    }
+
+    @Operation(
+            summary = "Pending withdrawals",
+            description = "Pending withdrawals oldest first. Pass nextCreatedAt/nextId of the previous page as afterCreatedAt/afterId to continue."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Queue page retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only")
+    })
+    @GetMapping("/withdrawals/pending")
+    public ResponseEntity<KeysetPage<WithdrawalDto>> getPendingWithdrawals(
+            @Parameter(description = "nextCreatedAt of the previous page; omit for the first page")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterCreatedAt,
+            @Parameter(description = "nextId of the previous page; omit for the first page")
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(paymentApprovalService.getPendingWithdrawals(afterCreatedAt, afterId, size));
+    }
+
+    @Operation(
+            summary = "Approve withdrawals",
+            description = "Marks pending withdrawals SUCCESSFUL and debits the wallets in one transaction. "
+                    + "Withdrawals not covered by the user's balance stay pending and are listed in insufficientBalanceIds."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Withdrawals processed"),
+            @ApiResponse(responseCode = "400", description = "Invalid id list"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only")
+    })
+    @PostMapping("/withdrawals/approve")
+    public ResponseEntity<BulkTransitionResponse> approveWithdrawals(@Valid @RequestBody PaymentBulkActionRequest request) {
+        return ResponseEntity.ok(paymentApprovalService.approveWithdrawals(request.getIds()));
+    }
+
+    @Operation(summary = "Reject withdrawals", description = "Marks pending withdrawals FAILED in one transaction.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Withdrawals processed"),
+            @ApiResponse(responseCode = "400", description = "Invalid id list"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only")
+    })
+    @PostMapping("/withdrawals/reject")
+    public ResponseEntity<BulkTransitionResponse> rejectWithdrawals(@Valid @RequestBody PaymentBulkActionRequest request) {
+        return ResponseEntity.ok(paymentApprovalService.rejectWithdrawals(request.getIds()));
+    }
+
+    @Operation(
+            summary = "Generate payout file",
+            description = "Writes approved withdrawals not yet paid out into a bank transfer CSV and marks them as included. "
+                    + "If a previous run stopped part-way, its batch is resumed from the last checkpoint instead."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Payout batch completed"),
+            @ApiResponse(responseCode = "204", description = "No approved withdrawals awaiting payout"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only"),
+            @ApiResponse(responseCode = "409", description = "Another payout run is in progress")
+    })
+    @PostMapping("/withdrawals/payouts")
+    public ResponseEntity<PayoutBatchDto> generatePayout() throws IOException {
+        return payoutFileService.generate()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @Operation(summary = "Download payout file", description = "Payout file of a completed batch.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Payout file"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only"),
+            @ApiResponse(responseCode = "404", description = "No completed batch or file with this id")
+    })
+    @GetMapping(value = "/withdrawals/payouts/{batchId}/file", produces = "text/csv")
+    public ResponseEntity<Resource> downloadPayout(@PathVariable Long batchId) {
+        Path file = payoutFileService.getFile(batchId);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+                .body(new FileSystemResource(file));
+    }
+
+    @Operation(
+            summary = "Backfill debtors",
+            description = "Assesses the callers of all calls completed in [from, to) in parallel time partitions, "
+                    + "opening or refreshing debtor rows for negative balances. The scheduled scan watermark is not moved."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Backfill finished"),
+            @ApiResponse(responseCode = "400", description = "from is not before to"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only")
+    })
+    @PostMapping("/debtors/backfill")
+    public ResponseEntity<DebtorScanResult> backfillDebtors(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(debtorScanner.backfill(from, to));
+    }
+}
@@ -0,0 +1,94 @@
+package com.morago.backend.controller;
+
+import com.morago.backend.dto.response.CallRollupResponse;
+import com.morago.backend.dto.response.PaymentRollupResponse;
+import com.morago.backend.entity.enumFiles.RollupGranularity;
+import com.morago.backend.service.ReportingService;
+import com.morago.backend.service.RollupRebuilder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Revenue and call-volume reports read from the hourly/daily rollup tables.
+ */
+@Tag(name = "Reports", description = "Pre-aggregated revenue and call-volume reports")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/reports")
+@SecurityRequirement(name = "bearerAuth")
+@PreAuthorize("hasRole('ADMIN')")
+public class ReportController {
+
+    private final ReportingService reportingService;
+    private final RollupRebuilder rollupRebuilder;
+
+    @Operation(summary = "Call volume and revenue", description = "Completed calls per hour or day and theme, for buckets starting in [from, to).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rollup rows returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid range or too many buckets"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only")
+    })
+    @GetMapping("/calls")
+    public ResponseEntity<List<CallRollupResponse>> getCallReport(
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @Parameter(description = "Inclusive lower bound of the bucket start")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Exclusive upper bound of the bucket start")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Only this theme; 0 for calls without a theme")
+            @RequestParam(required = false) Long themeId) {
+        return ResponseEntity.ok(reportingService.getCallRollups(granularity, from, to, themeId));
+    }
+
+    @Operation(summary = "Deposit and withdrawal volume", description = "Successful deposits and withdrawals per hour or day, for buckets starting in [from, to).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rollup rows returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid range or too many buckets"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only")
+    })
+    @GetMapping("/payments")
+    public ResponseEntity<List<PaymentRollupResponse>> getPaymentReport(
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @Parameter(description = "Inclusive lower bound of the bucket start")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Exclusive upper bound of the bucket start")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(reportingService.getPaymentRollups(granularity, from, to));
+    }
+
+    @Operation(
+            summary = "Rebuild rollups",
+            description = "Recomputes the hourly and daily rollups of the days in [from, to) from the call, deposit and "
+                    + "withdrawal tables, one transaction per day, and closes them to live deltas. Used to backfill history "
+                    + "or repair a day."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Days rebuilt"),
+            @ApiResponse(responseCode = "400", description = "from is not before to, or the range includes today"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only")
+    })
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildRollups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(Map.of("days", rollupRebuilder.rebuild(from, to)));
+    }
+}
@@ -16,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -60,12 +61,12 @@ public class TranslatorProfileController {
             @Valid @RequestBody TranslatorProfileCreateRequest request,
             Authentication authentication) {
         
-        log.info("Creating translator profile for user ID: {} by user: {}", 
+        log.debug("Creating translator profile for user ID: {} by user: {}", 
                 request.getUserId(), authentication.getName());
         
         TranslatorProfileResponse created = translatorProfileService.create(request);
         
-        log.info("Translator profile created successfully with ID: {}", created.getId());
+        log.debug("Translator profile created successfully with ID: {}", created.getId());
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
@@ -95,7 +96,7 @@ public class TranslatorProfileController {
             @RequestParam(required = false) Long themeId,
             @Parameter(description = "Filter by Korean proficiency level") 
             @RequestParam(required = false) String levelOfKorean,
-            @Parameter(description = "Search by name, email, or Korean level") 
+            @Parameter(description = "Search by name, email, or Korean level (prefix and Hangul n-gram match, ranked by relevance)") 
             @RequestParam(required = false) String search) {
         
         log.debug("Retrieving translator profiles with filters - available: {}, online: {}, language: {}, theme: {}, search: '{}'", 
@@ -104,12 +105,47 @@ public class TranslatorProfileController {
         Page<TranslatorProfileSummaryResponse> profiles = translatorProfileService.getAllWithFilters(
                 pageable, isAvailable, isOnline, languageId, themeId, levelOfKorean, search);
         
-        log.info("Retrieved {} translator profiles out of {} total", 
+        log.debug("Retrieved {} translator profiles out of {} total", 
                 profiles.getNumberOfElements(), profiles.getTotalElements());
         
         return ResponseEntity.ok(profiles);
     }
 
+    /**
+     * Same search as {@link #getAllProfiles} without the total count, for infinite scrolling.
+     */
+    @Operation(
+            summary = "Scroll translator profiles",
+            description = "Same filters as the paginated list, but returns a slice with hasNext instead of total counts. Cheaper for infinite scrolling."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Translator profiles retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Authentication required")
+    })
+    @GetMapping("/slice")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Slice<TranslatorProfileSummaryResponse>> getProfileSlice(
+            @PageableDefault(size = 20, sort = "createdAt") Pageable pageable,
+            @Parameter(description = "Filter by availability status") 
+            @RequestParam(required = false) Boolean isAvailable,
+            @Parameter(description = "Filter by online status") 
+            @RequestParam(required = false) Boolean isOnline,
+            @Parameter(description = "Filter by language ID") 
+            @RequestParam(required = false) Long languageId,
+            @Parameter(description = "Filter by theme ID") 
+            @RequestParam(required = false) Long themeId,
+            @Parameter(description = "Filter by Korean proficiency level") 
+            @RequestParam(required = false) String levelOfKorean,
+            @Parameter(description = "Search by name, email, or Korean level (prefix and Hangul n-gram match, ranked by relevance)") 
+            @RequestParam(required = false) String search) {
+
+        Slice<TranslatorProfileSummaryResponse> profiles = translatorProfileService.sliceWithFilters(
+                pageable, isAvailable, isOnline, languageId, themeId, levelOfKorean, search);
+
+        log.debug("Retrieved {} translator profiles, hasNext: {}", profiles.getNumberOfElements(), profiles.hasNext());
+        return ResponseEntity.ok(profiles);
+    }
+
     /**
      * Retrieves a specific translator profile by ID.
      * Accessible by all authenticated users for viewing translator details.
@@ -179,11 +215,11 @@ public class TranslatorProfileController {
             @Valid @RequestBody TranslatorProfileUpdateRequest request,
             Authentication authentication) {
         
-        log.info("Updating translator profile with ID: {} by user: {}", id, authentication.getName());
+        log.debug("Updating translator profile with ID: {} by user: {}", id, authentication.getName());
         
         TranslatorProfileResponse updated = translatorProfileService.update(id, request);
         
-        log.info("Translator profile updated successfully: {}", updated.getEmail());
+        log.debug("Translator profile updated successfully: {}", updated.getEmail());
         return ResponseEntity.ok(updated);
     }
 
@@ -209,12 +245,12 @@ public class TranslatorProfileController {
             @RequestParam Boolean isAvailable,
             Authentication authentication) {
         
-        log.info("Updating availability for translator profile ID: {} to {} by user: {}", 
+        log.debug("Updating availability for translator profile ID: {} to {} by user: {}", 
                 id, isAvailable, authentication.getName());
         
         TranslatorProfileResponse updated = translatorProfileService.updateAvailability(id, isAvailable);
         
-        log.info("Availability updated successfully for translator: {}", updated.getEmail());
+        log.debug("Availability updated successfully for translator: {}", updated.getEmail());
         return ResponseEntity.ok(updated);
     }
 
@@ -240,12 +276,12 @@ public class TranslatorProfileController {
             @RequestParam Boolean isOnline,
             Authentication authentication) {
         
-        log.info("Updating online status for translator profile ID: {} to {} by user: {}", 
+        log.debug("Updating online status for translator profile ID: {} to {} by user: {}", 
                 id, isOnline, authentication.getName());
         
         TranslatorProfileResponse updated = translatorProfileService.updateOnlineStatus(id, isOnline);
         
-        log.info("Online status updated successfully for translator: {}", updated.getEmail());
+        log.debug("Online status updated successfully for translator: {}", updated.getEmail());
         return ResponseEntity.ok(updated);
     }
 
@@ -268,11 +304,11 @@ public class TranslatorProfileController {
             @PathVariable Long id,
             Authentication authentication) {
         
-        log.info("Deleting translator profile with ID: {} by user: {}", id, authentication.getName());
+        log.debug("Deleting translator profile with ID: {} by user: {}", id, authentication.getName());
         
         translatorProfileService.delete(id);
         
-        log.info("Translator profile deleted successfully with ID: {}", id);
+        log.debug("Translator profile deleted successfully with ID: {}", id);
         return ResponseEntity.noContent().build();
     }
 
@@ -298,7 +334,7 @@ public class TranslatorProfileController {
         
         Page<TranslatorProfileSummaryResponse> translators = translatorProfileService.getAvailableByTheme(themeId, pageable);
         
-        log.info("Found {} available translators for theme ID: {}", translators.getNumberOfElements(), themeId);
+        log.debug("Found {} available translators for theme ID: {}", translators.getNumberOfElements(), themeId);
         return ResponseEntity.ok(translators);
     }
 
@@ -324,7 +360,7 @@ public class TranslatorProfileController {
         statistics.put("onlineTranslators", translatorProfileService.getOnlineTranslators());
         statistics.put("availableTranslators", translatorProfileService.getAvailableTranslators());
         
-        log.info("Translator statistics retrieved successfully");
+        log.debug("Translator statistics retrieved successfully");
         return ResponseEntity.ok(statistics);
     }
 }
\ No newline at end of file
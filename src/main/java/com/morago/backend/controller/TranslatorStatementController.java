@@ -0,0 +1,70 @@
+package com.morago.backend.controller;
+
+import com.morago.backend.dto.response.StatementRunResult;
+import com.morago.backend.dto.response.TranslatorStatementResponse;
+import com.morago.backend.service.TranslatorStatementService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+
+/**
+ * Monthly translator earnings statements, served from the stored result of the last generation run.
+ */
+@Tag(name = "Translator Statements", description = "Monthly translator earnings statements")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/translator-statements")
+@SecurityRequirement(name = "bearerAuth")
+public class TranslatorStatementController {
+
+    private final TranslatorStatementService translatorStatementService;
+
+    @Operation(summary = "Get monthly statement", description = "Calls, minutes, gross, commission and net of one translator for one month.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statement found"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Statements of the month have not been generated yet")
+    })
+    @GetMapping("/user/{userId}")
+    @PreAuthorize("hasRole('ADMIN') or #userId == authentication.principal.id")
+    public ResponseEntity<TranslatorStatementResponse> getStatement(
+            @PathVariable Long userId,
+            @Parameter(description = "Statement month", example = "2025-01")
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        return ResponseEntity.ok(translatorStatementService.getStatement(userId, month));
+    }
+
+    @Operation(
+            summary = "Generate monthly statements",
+            description = "Regenerates the statements of every translator for the month. Also runs nightly for the "
+                    + "month containing yesterday."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statements generated"),
+            @ApiResponse(responseCode = "400", description = "Month is in the future"),
+            @ApiResponse(responseCode = "403", description = "Access denied - admin only"),
+            @ApiResponse(responseCode = "409", description = "A generation run is already in progress on some node")
+    })
+    @PostMapping("/generate")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StatementRunResult> generate(
+            @Parameter(description = "Statement month", example = "2025-01")
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        return ResponseEntity.ok(translatorStatementService.generate(month));
+    }
+}
@@ -51,11 +51,11 @@ public class UserController {
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<UserResponseDto> createUser(@Valid @RequestBody UserRequestDto dto) {
-        log.info("Creating user with username: {}", dto.getUsername());
+        log.debug("Creating user with username: {}", dto.getUsername());
         
         UserResponseDto created = userService.createUser(dto);
         
-        log.info("User created successfully with ID: {}", created.getId());
+        log.debug("User created successfully with ID: {}", created.getId());
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
@@ -80,7 +80,7 @@ public class UserController {
         
         Page<UserResponseDto> users = userService.getAllUsers(pageable);
         
-        log.info("Retrieved {} users out of {} total", 
+        log.debug("Retrieved {} users out of {} total", 
                 users.getNumberOfElements(), users.getTotalElements());
         
         return ResponseEntity.ok(users);
@@ -130,11 +130,11 @@ public class UserController {
             @PathVariable Long id, 
             @Valid @RequestBody UserRequestDto dto) {
         
-        log.info("Updating user with ID: {}", id);
+        log.debug("Updating user with ID: {}", id);
         
         UserResponseDto updated = userService.updateUser(id, dto);
         
-        log.info("User updated successfully: {}", updated.getUsername());
+        log.debug("User updated successfully: {}", updated.getUsername());
         return ResponseEntity.ok(updated);
     }
 
@@ -154,11 +154,11 @@ public class UserController {
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
-        log.info("Deleting user with ID: {}", id);
+        log.debug("Deleting user with ID: {}", id);
         
         userService.deleteUser(id);
         
-        log.info("User deleted successfully with ID: {}", id);
+        log.debug("User deleted successfully with ID: {}", id);
         return ResponseEntity.noContent().build();
     }
 
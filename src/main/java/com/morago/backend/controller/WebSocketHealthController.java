@@ -1,6 +1,10 @@
 package com.morago.backend.controller;
 
 
+import com.morago.backend.config.metrics.WebSocketMetrics;
+import com.morago.backend.service.CallSessionRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.http.ResponseEntity;
@@ -8,25 +12,42 @@ import java.util.HashMap;
 import java.util.Map;
 
 @RestController
+@RequiredArgsConstructor
 public class WebSocketHealthController {
 
+    private final WebSocketMetrics webSocketMetrics;
+    private final CallSessionRegistry callSessionRegistry;
+
+    @Value("${websocket.health.max-queued:1000}")
+    private int maxQueued;
+
     @GetMapping("/ws-health")
     public ResponseEntity<Map<String, Object>> checkWebSocketHealth() {
         Map<String, Object> status = new HashMap<>();
 
         try {
+            int inboundQueued = webSocketMetrics.getInboundQueued();
+            int outboundQueued = webSocketMetrics.getOutboundQueued();
+            boolean backlogged = inboundQueued > maxQueued || outboundQueued > maxQueued;
+
             status.put("websocket_enabled", true);
             status.put("endpoints", new String[]{"/ws", "/ws-native"});
             status.put("message_broker", "SimpleBroker");
             status.put("destinations", new String[]{"/topic", "/queue", "/app"});
-            status.put("status", "HEALTHY");
+            status.put("sessions", webSocketMetrics.getSessionCount());
+            status.put("active_calls", callSessionRegistry.activeCalls());
+            status.put("inbound_queued", inboundQueued);
+            status.put("inbound_active", webSocketMetrics.getInboundActive());
+            status.put("outbound_queued", outboundQueued);
+            status.put("outbound_active", webSocketMetrics.getOutboundActive());
+            status.put("status", backlogged ? "DEGRADED" : "HEALTHY");
             status.put("timestamp", System.currentTimeMillis());
 
-            return ResponseEntity.ok(status);
+            return backlogged ? ResponseEntity.status(503).body(status) : ResponseEntity.ok(status);
         } catch (Exception e) {
             status.put("status", "ERROR");
             status.put("error", e.getMessage());
             return ResponseEntity.status(500).body(status);
         }
     }
-}
\ No newline at end of file
+}
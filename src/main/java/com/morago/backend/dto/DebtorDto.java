@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
@@ -17,6 +18,8 @@ public class DebtorDto {
     private String accountHolder;
     private String nameOfBank;
     private boolean isPaid;
+    private BigDecimal outstandingAmount;
+    private LocalDateTime assessedAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
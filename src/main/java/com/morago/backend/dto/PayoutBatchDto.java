@@ -0,0 +1,24 @@
+package com.morago.backend.dto;
+
+import com.morago.backend.entity.enumFiles.PayoutBatchStatus;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PayoutBatchDto {
+
+    private Long id;
+    private String fileName;
+    private PayoutBatchStatus status;
+    private long rowCount;
+    private BigDecimal totalAmount;
+    private String checksum;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,7 @@
+package com.morago.backend.dto;
+
+/**
+ * Number of translators offering a theme, read as a projection to refresh the theme catalog counts.
+ */
+public record ThemeTranslatorCount(Long themeId, Long translators) {
+}
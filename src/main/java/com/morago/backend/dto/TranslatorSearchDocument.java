@@ -0,0 +1,12 @@
+package com.morago.backend.dto;
+
+/**
+ * Searchable fields of a translator, read as a projection to (re)build the search index.
+ */
+public record TranslatorSearchDocument(Long profileId,
+                                       Long userId,
+                                       String firstName,
+                                       String lastName,
+                                       String email,
+                                       String levelOfKorean) {
+}
@@ -0,0 +1,25 @@
+package com.morago.backend.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Deposits or withdrawals to approve or reject in one transaction")
+public class PaymentBulkActionRequest {
+
+    @NotEmpty(message = "At least one id is required")
+    @Size(max = 1000, message = "At most 1000 ids per request")
+    @Schema(description = "Ids of pending deposits or withdrawals", example = "[101, 102, 103]")
+    private List<@NotNull Long> ids;
+}
@@ -0,0 +1,29 @@
+package com.morago.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Outcome of a bulk deposit or withdrawal transition")
+public class BulkTransitionResponse {
+
+    @Schema(description = "Number of distinct ids requested", example = "3")
+    private int requested;
+
+    @Schema(description = "Number of rows moved out of PENDING", example = "2")
+    private int transitioned;
+
+    @Schema(description = "Ids that do not exist or are no longer pending")
+    private List<Long> notPendingIds;
+
+    @Schema(description = "Withdrawal ids left pending because the user's balance does not cover them")
+    private List<Long> insufficientBalanceIds;
+}
@@ -0,0 +1,40 @@
+package com.morago.backend.dto.response;
+
+import com.morago.backend.entity.enumFiles.RollupGranularity;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Completed calls of one hour or day, per theme")
+public class CallRollupResponse {
+
+    @Schema(description = "Bucket size", example = "HOUR")
+    private RollupGranularity granularity;
+
+    @Schema(description = "Start of the hour or day in which the calls were created", example = "2025-01-15T14:00:00")
+    private LocalDateTime bucketStart;
+
+    @Schema(description = "Theme of the calls; null for calls without a theme", example = "3")
+    private Long themeId;
+
+    @Schema(description = "Completed calls", example = "420")
+    private long calls;
+
+    @Schema(description = "Total call duration in seconds", example = "151200")
+    private long durationSeconds;
+
+    @Schema(description = "Total charged for the calls", example = "2520000.00")
+    private BigDecimal revenue;
+
+    @Schema(description = "Total platform commission", example = "252000.00")
+    private BigDecimal commission;
+}
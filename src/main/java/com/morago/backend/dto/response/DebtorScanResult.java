@@ -0,0 +1,35 @@
+package com.morago.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Outcome of a debtor scan or backfill")
+public class DebtorScanResult {
+
+    @Schema(description = "Completed calls read", example = "1840000")
+    private long calls;
+
+    @Schema(description = "Callers found in the calls read (counted once per chunk)", example = "52000")
+    private long callers;
+
+    @Schema(description = "Sum of the charges of the calls read", example = "912345000.00")
+    private BigDecimal charged;
+
+    @Schema(description = "Debtor rows created", example = "120")
+    private long opened;
+
+    @Schema(description = "Open debtor rows whose outstanding amount was refreshed", example = "40")
+    private long updated;
+
+    @Schema(description = "Open debtor rows marked paid because the balance is no longer negative", example = "15")
+    private long settled;
+}
@@ -0,0 +1,28 @@
+package com.morago.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "One page of a queue ordered by (createdAt, id); pass nextCreatedAt/nextId as afterCreatedAt/afterId to get the next page")
+public class KeysetPage<T> {
+
+    private List<T> content;
+
+    @Schema(description = "createdAt of the last row, null on the last page")
+    private LocalDateTime nextCreatedAt;
+
+    @Schema(description = "id of the last row, null on the last page")
+    private Long nextId;
+
+    private boolean hasNext;
+}
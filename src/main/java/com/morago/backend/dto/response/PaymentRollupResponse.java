@@ -0,0 +1,37 @@
+package com.morago.backend.dto.response;
+
+import com.morago.backend.entity.enumFiles.RollupGranularity;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Successful deposits and withdrawals of one hour or day")
+public class PaymentRollupResponse {
+
+    @Schema(description = "Bucket size", example = "DAY")
+    private RollupGranularity granularity;
+
+    @Schema(description = "Start of the hour or day in which the payments were created", example = "2025-01-15T00:00:00")
+    private LocalDateTime bucketStart;
+
+    @Schema(description = "Successful deposits", example = "310")
+    private long deposits;
+
+    @Schema(description = "Coins credited by those deposits", example = "9300000.00")
+    private BigDecimal depositAmount;
+
+    @Schema(description = "Successful withdrawals", example = "85")
+    private long withdrawals;
+
+    @Schema(description = "Coins paid out by those withdrawals", example = "4250000.00")
+    private BigDecimal withdrawalAmount;
+}
@@ -0,0 +1,38 @@
+package com.morago.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Outcome of matching a bank statement against pending deposits")
+public class ReconciliationReport {
+
+    @Schema(description = "Statement lines read, excluding the header", example = "1250000")
+    private long lines;
+
+    @Schema(description = "Lines that were not incoming transfers (zero or negative amount)", example = "610000")
+    private long skipped;
+
+    @Schema(description = "Deposits approved from matched lines", example = "638000")
+    private long approved;
+
+    @Schema(description = "Incoming transfers that did not settle a deposit", example = "2000")
+    private long unmatched;
+
+    @Schema(description = "Unmatched lines in file order, capped at reconciliation.max-reported-lines")
+    private List<UnmatchedStatementLine> unmatchedLines;
+
+    @Schema(description = "True when more lines were unmatched than are listed")
+    private boolean truncated;
+
+    @Schema(description = "Deposits still pending after the import", example = "150")
+    private long pendingDepositsLeft;
+}
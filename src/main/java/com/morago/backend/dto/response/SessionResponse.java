@@ -0,0 +1,32 @@
+package com.morago.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Active login session backed by a refresh token")
+public class SessionResponse {
+
+    @Schema(description = "Session ID", example = "42")
+    private Long id;
+
+    @Schema(description = "Client device identifier", example = "3f2a9c1e-device")
+    private String deviceId;
+
+    @Schema(description = "Client device name", example = "Galaxy S23")
+    private String deviceName;
+
+    @Schema(description = "Session start (last login or token refresh)")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "Session expiration time")
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,36 @@
+package com.morago.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Outcome of a translator statement generation run")
+public class StatementRunResult {
+
+    @Schema(description = "Statement month", example = "2025-01", type = "string")
+    private YearMonth month;
+
+    @Schema(description = "Translators covered", example = "50000")
+    private int translators;
+
+    @Schema(description = "Statements stored (translators with at least one completed call)", example = "31200")
+    private int statements;
+
+    @Schema(description = "Completed calls aggregated", example = "2400000")
+    private long calls;
+
+    @Schema(description = "Gross of all statements", example = "21600000000.00")
+    private BigDecimal gross;
+
+    @Schema(description = "Wall-clock time of the run in milliseconds", example = "48000")
+    private long elapsedMs;
+}
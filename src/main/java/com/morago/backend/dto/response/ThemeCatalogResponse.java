@@ -0,0 +1,54 @@
+package com.morago.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Flat theme entry for catalog screens. Built directly by a JPQL constructor expression,
+ * so the translators of a theme are counted, never loaded.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Schema(description = "Theme catalog entry")
+public class ThemeCatalogResponse {
+
+    @Schema(description = "Theme ID", example = "1")
+    private Long id;
+
+    @Schema(description = "Theme name", example = "Hospital")
+    private String name;
+
+    @Schema(description = "Korean title", example = "병원")
+    private String koreanTitle;
+
+    @Schema(description = "Price per minute", example = "1000.00")
+    private BigDecimal price;
+
+    @Schema(description = "Night price per minute", example = "1500.00")
+    private BigDecimal nightPrice;
+
+    @Schema(description = "Whether the theme is marked as popular", example = "true")
+    private boolean popular;
+
+    @Schema(description = "Whether the theme is active", example = "true")
+    private boolean active;
+
+    @Schema(description = "Category ID", example = "2")
+    private Long categoryId;
+
+    @Schema(description = "Category name", example = "Medical")
+    private String categoryName;
+
+    @Schema(description = "Icon file path", example = "icons/hospital.png")
+    private String iconPath;
+
+    @Schema(description = "Number of translators offering this theme", example = "37")
+    private Long translatorCount;
+}
@@ -0,0 +1,39 @@
+package com.morago.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Translator row of a theme's translator list, projected without loading profile associations.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Translator offering a theme")
+public class ThemeTranslatorResponse {
+
+    @Schema(description = "Profile ID", example = "1")
+    private Long id;
+
+    @Schema(description = "User ID this profile belongs to", example = "1")
+    private Long userId;
+
+    @Schema(description = "Translator's first name", example = "John")
+    private String firstName;
+
+    @Schema(description = "Translator's last name", example = "Doe")
+    private String lastName;
+
+    @Schema(description = "Level of Korean proficiency", example = "Advanced")
+    private String levelOfKorean;
+
+    @Schema(description = "Whether the translator is available for calls", example = "true")
+    private Boolean isAvailable;
+
+    @Schema(description = "Whether the translator is currently online", example = "false")
+    private Boolean isOnline;
+}
@@ -0,0 +1,43 @@
+package com.morago.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Earnings of one translator in one month")
+public class TranslatorStatementResponse {
+
+    @Schema(description = "User id of the translator", example = "42")
+    private Long translatorId;
+
+    @Schema(description = "Statement month", example = "2025-01", type = "string")
+    private YearMonth month;
+
+    @Schema(description = "Completed calls answered by the translator", example = "86")
+    private int calls;
+
+    @Schema(description = "Total call duration in minutes", example = "1290.50")
+    private BigDecimal minutes;
+
+    @Schema(description = "Total charged for the calls", example = "774300.00")
+    private BigDecimal gross;
+
+    @Schema(description = "Platform commission withheld", example = "77430.00")
+    private BigDecimal commission;
+
+    @Schema(description = "Gross minus commission", example = "696870.00")
+    private BigDecimal net;
+
+    @Schema(description = "When the statements of the month were last generated")
+    private LocalDateTime generatedAt;
+}
@@ -0,0 +1,43 @@
+package com.morago.backend.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Bank statement line that did not settle a pending deposit")
+public class UnmatchedStatementLine {
+
+    public enum Reason {
+        /** Missing field or unparsable amount. */
+        MALFORMED,
+        /** No pending deposit with this holder, bank and amount. */
+        NO_PENDING_DEPOSIT,
+        /** The matched deposit was approved or rejected by someone else during the import. */
+        ALREADY_PROCESSED
+    }
+
+    @Schema(description = "1-based line number in the statement file", example = "1042")
+    private long lineNumber;
+
+    @Schema(description = "Account holder as written on the statement")
+    private String accountHolder;
+
+    @Schema(description = "Bank name as written on the statement")
+    private String bankName;
+
+    @Schema(description = "Transferred amount in won", example = "50000")
+    private BigDecimal amount;
+
+    @Schema(description = "Bank reference of the transfer, if the statement has one")
+    private String reference;
+
+    private Reason reason;
+}
@@ -2,6 +2,7 @@ package com.morago.backend.dto.tokens;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,4 +22,17 @@ public class JWTRequest {
     @Schema(description = "User's password", example = "P@ssw0rd", requiredMode = Schema.RequiredMode.REQUIRED)
     @NotBlank(message = "Password is required")
     private String password;
+
+    @Schema(description = "Stable identifier of the client device; a new login from the same device replaces its previous session", example = "3f2a9c1e-device")
+    @Size(max = 100)
+    private String deviceId;
+
+    @Schema(description = "Human readable device name shown in the session list", example = "Galaxy S23")
+    @Size(max = 200)
+    private String deviceName;
+
+    public JWTRequest(String username, String password) {
+        this.username = username;
+        this.password = password;
+    }
 }
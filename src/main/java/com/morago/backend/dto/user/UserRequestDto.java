@@ -6,7 +6,6 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.Set;
 
 @Data
@@ -26,8 +25,6 @@ public class UserRequestDto {
     @Size(max = 200)
     private String lastName;
 
-    private BigDecimal balance;
-
     private boolean isActive = true;
 
     private Byte onBoardingStatus;
@@ -10,9 +10,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,7 +29,17 @@ import java.time.LocalDateTime;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "calls")
+@Table(
+        name = "calls",
+        indexes = {
+                @Index(name = "idx_calls_recipient_status", columnList = "recipient_id, status"),
+                @Index(name = "idx_calls_recipient_active", columnList = "recipient_id, is_end_call, call_status"),
+                @Index(name = "idx_calls_recipient_created", columnList = "recipient_id, created_at"),
+                @Index(name = "idx_calls_caller_created", columnList = "caller_id, created_at"),
+                @Index(name = "idx_calls_status_updated", columnList = "status, updated_at"),
+                @Index(name = "idx_calls_created", columnList = "created_at")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -37,7 +49,10 @@ import java.math.BigDecimal;
 public class Call {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "calls_id")
+    @TableGenerator(name = "calls_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "calls",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -20,10 +21,14 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "debtors")
+@Table(
+        name = "debtors",
+        indexes = @Index(name = "idx_debtors_user_paid", columnList = "user_id, is_paid")
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -52,6 +57,13 @@ public class Debtor {
     @Builder.Default
     private boolean isPaid = false;
 
+    /** Amount owed (the negated negative balance) when {@code DebtorScanner} last assessed the user. */
+    @Column(name = "outstanding_amount", precision = 21, scale = 2)
+    private BigDecimal outstandingAmount;
+
+    @Column(name = "assessed_at")
+    private LocalDateTime assessedAt;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false, nullable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,19 @@
+package com.morago.backend.entity;
+
+/**
+ * Shared settings of the pooled table generator used by high-volume entities.
+ * <p>
+ * Each entity owns one row in {@value #TABLE} and reserves {@value #ALLOCATION_SIZE} ids per round trip,
+ * so Hibernate knows the ids before flushing and can batch the inserts (IDENTITY columns disable batching).
+ * Rows of these tables must therefore always be inserted with an id taken from the generator.
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequences() {
+    }
+}
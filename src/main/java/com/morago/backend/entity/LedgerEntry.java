@@ -0,0 +1,75 @@
+package com.morago.backend.entity;
+
+import com.morago.backend.entity.enumFiles.LedgerEntryType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One append-only wallet movement. {@code amount} is signed (credits positive, debits negative) and
+ * {@code balanceAfter} is the user's balance right after this entry was applied.
+ */
+@Entity
+@Immutable
+@Table(
+        name = "ledger_entries",
+        indexes = @Index(name = "idx_ledger_entries_user", columnList = "user_id, id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_ledger_entries_idempotency_key", columnNames = "idempotency_key")
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class LedgerEntry {
+
+    // IDENTITY rather than pooled ids: snapshot compaction relies on ids growing in insert order.
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", length = 30, nullable = false)
+    private LedgerEntryType type;
+
+    @Column(name = "amount", precision = 21, scale = 2, nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "balance_after", precision = 21, scale = 2, nullable = false)
+    private BigDecimal balanceAfter;
+
+    @Column(name = "idempotency_key", length = 100, nullable = false)
+    private String idempotencyKey;
+
+    @Column(name = "reference_id")
+    private Long referenceId;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,72 @@
+package com.morago.backend.entity;
+
+import com.morago.backend.entity.enumFiles.PayoutBatchStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One payout file of approved withdrawals. While {@link PayoutBatchStatus#OPEN}, {@code lastWithdrawalId} and
+ * {@code bytesWritten} are the checkpoint a restarted run resumes from.
+ */
+@Entity
+@Table(
+        name = "payout_batches",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payout_batches_file_name", columnNames = "file_name"),
+        indexes = @Index(name = "idx_payout_batches_status", columnList = "status")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PayoutBatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 30, nullable = false)
+    private PayoutBatchStatus status;
+
+    @Column(name = "row_count", nullable = false)
+    private long rowCount;
+
+    @Column(name = "total_amount", precision = 21, scale = 2, nullable = false)
+    private BigDecimal totalAmount;
+
+    @Column(name = "last_withdrawal_id", nullable = false)
+    private long lastWithdrawalId;
+
+    @Column(name = "bytes_written", nullable = false)
+    private long bytesWritten;
+
+    /** SHA-256 (hex) of the file up to its trailer line; set when the batch completes. */
+    @Column(name = "checksum", length = 64)
+    private String checksum;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -18,6 +19,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -27,7 +29,13 @@ import java.time.LocalDateTime;
 import java.util.Set;
 
 @Entity
-@Table(name = "translator_profiles")
+@Table(
+        name = "translator_profiles",
+        indexes = {
+                @Index(name = "idx_translator_profiles_available_online", columnList = "is_available, is_online"),
+                @Index(name = "idx_translator_profiles_online", columnList = "is_online")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -74,8 +82,10 @@ public class TranslatorProfile {
             name = "translator_languages",
             joinColumns = @JoinColumn(name = "translator_profile_id"),
             inverseJoinColumns = @JoinColumn(name = "language_id"),
-            uniqueConstraints = @UniqueConstraint(columnNames = {"translator_profile_id", "language_id"})
+            uniqueConstraints = @UniqueConstraint(columnNames = {"translator_profile_id", "language_id"}),
+            indexes = @Index(name = "idx_translator_languages_language", columnList = "language_id, translator_profile_id")
     )
+    @BatchSize(size = 50)
     @Builder.Default
     private Set<Language> languages = new java.util.HashSet<>();
 
@@ -84,8 +94,10 @@ public class TranslatorProfile {
             name = "translator_themes",
             joinColumns = @JoinColumn(name = "translator_profile_id"),
             inverseJoinColumns = @JoinColumn(name = "theme_id"),
-            uniqueConstraints = @UniqueConstraint(columnNames = {"translator_profile_id", "theme_id"})
+            uniqueConstraints = @UniqueConstraint(columnNames = {"translator_profile_id", "theme_id"}),
+            indexes = @Index(name = "idx_translator_themes_theme", columnList = "theme_id, translator_profile_id")
     )
+    @BatchSize(size = 50)
     @Builder.Default
     private Set<Theme> themes = new java.util.HashSet<>();
 
@@ -58,7 +58,8 @@ public class User implements UserDetails {
     @Column(name = "last_name", length = 200)
     private String lastName;
 
-    @Column(precision = 21, scale = 2)
+    // Written only by LedgerService through an atomic UPDATE; never flushed from the entity.
+    @Column(precision = 21, scale = 2, updatable = false)
     private BigDecimal balance;
 
     @CreatedDate
@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -27,7 +28,14 @@ import java.time.LocalDateTime;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "withdrawals")
+@Table(
+        name = "withdrawals",
+        indexes = {
+                @Index(name = "idx_withdrawals_status_created", columnList = "status, created_at"),
+                @Index(name = "idx_withdrawals_payout", columnList = "payout_batch_id, status"),
+                @Index(name = "idx_withdrawals_created", columnList = "created_at")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -74,4 +82,8 @@ public class Withdrawal {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Set only by the payout file run (WithdrawalRepository.assignPayoutBatch).
+    @Column(name = "payout_batch_id", insertable = false, updatable = false)
+    private Long payoutBatchId;
+
 }
\ No newline at end of file
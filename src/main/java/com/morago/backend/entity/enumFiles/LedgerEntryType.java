@@ -0,0 +1,30 @@
+package com.morago.backend.entity.enumFiles;
+
+/**
+ * Kinds of wallet movements. Credits add to the balance, debits subtract from it; only withdrawals are
+ * refused when the balance is too low, charges for calls that already happened may leave it negative.
+ */
+public enum LedgerEntryType {
+    DEPOSIT(true, false),
+    WITHDRAWAL(false, true),
+    CALL_CHARGE(false, false),
+    CALL_EARNING(true, false),
+    COMMISSION(false, false),
+    REFUND(true, false);
+
+    private final boolean credit;
+    private final boolean requiresFunds;
+
+    LedgerEntryType(boolean credit, boolean requiresFunds) {
+        this.credit = credit;
+        this.requiresFunds = requiresFunds;
+    }
+
+    public boolean isCredit() {
+        return credit;
+    }
+
+    public boolean requiresFunds() {
+        return requiresFunds;
+    }
+}
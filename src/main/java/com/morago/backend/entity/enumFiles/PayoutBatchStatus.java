@@ -0,0 +1,6 @@
+package com.morago.backend.entity.enumFiles;
+
+public enum PayoutBatchStatus {
+    OPEN,
+    COMPLETED
+}
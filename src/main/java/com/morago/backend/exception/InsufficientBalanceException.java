@@ -0,0 +1,10 @@
+package com.morago.backend.exception;
+
+import java.math.BigDecimal;
+
+public class InsufficientBalanceException extends RuntimeException {
+
+    public InsufficientBalanceException(Long userId, BigDecimal amount) {
+        super(String.format("Insufficient balance for user %d to debit %s", userId, amount.toPlainString()));
+    }
+}
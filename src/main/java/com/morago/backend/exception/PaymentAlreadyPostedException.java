@@ -0,0 +1,9 @@
+package com.morago.backend.exception;
+
+public class PaymentAlreadyPostedException extends RuntimeException {
+
+    public PaymentAlreadyPostedException(String payment, Long id) {
+        super(String.format("%s %d is already posted to the wallet; its user, amount and status can no longer change",
+                payment, id));
+    }
+}
@@ -0,0 +1,8 @@
+package com.morago.backend.exception;
+
+public class PayoutInProgressException extends RuntimeException {
+
+    public PayoutInProgressException(String message) {
+        super(message);
+    }
+}
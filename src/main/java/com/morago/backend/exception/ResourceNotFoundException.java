@@ -3,6 +3,8 @@ package com.morago.backend.exception;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.util.Collection;
+
 @ResponseStatus(HttpStatus.NOT_FOUND)
 public class ResourceNotFoundException extends RuntimeException {
 
@@ -17,5 +19,9 @@ public class ResourceNotFoundException extends RuntimeException {
     public ResourceNotFoundException(String resourceName, String fieldValue) {
         super(String.format("%s with value '%s' not found", resourceName, fieldValue));
     }
+
+    public ResourceNotFoundException(String resourceName, Collection<?> missingIds) {
+        super(String.format("%s not found for ids %s", resourceName, missingIds));
+    }
 }
 
@@ -0,0 +1,8 @@
+package com.morago.backend.exception;
+
+public class StatementGenerationInProgressException extends RuntimeException {
+
+    public StatementGenerationInProgressException(String message) {
+        super(message);
+    }
+}
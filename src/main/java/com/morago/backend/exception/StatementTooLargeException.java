@@ -0,0 +1,8 @@
+package com.morago.backend.exception;
+
+public class StatementTooLargeException extends RuntimeException {
+
+    public StatementTooLargeException(long maxBytes) {
+        super(String.format("Bank statement is larger than the limit of %d bytes", maxBytes));
+    }
+}
@@ -0,0 +1,11 @@
+package com.morago.backend.mapper;
+
+import com.morago.backend.dto.PayoutBatchDto;
+import com.morago.backend.entity.PayoutBatch;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface PayoutBatchMapper {
+
+    PayoutBatchDto toDto(PayoutBatch batch);
+}
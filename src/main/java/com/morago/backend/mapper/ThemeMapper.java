@@ -6,15 +6,24 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
-@Mapper(componentModel = "spring", uses = {TranslatorProfileMapper.class})
+/**
+ * Translators are not part of the theme payload; they are served paginated by
+ * {@code GET /api/catalog/themes/{id}/translators}.
+ */
+@Mapper(componentModel = "spring")
 public interface ThemeMapper {
 
     ThemeMapper INSTANCE = Mappers.getMapper(ThemeMapper.class);
 
-    @Mapping(target = "translators", source = "translators")
+    @Mapping(source = "category.id", target = "categoryId")
+    @Mapping(source = "icon.id", target = "iconFileId")
+    @Mapping(target = "translatorProfileIds", ignore = true)
+    @Mapping(target = "translators", ignore = true)
     ThemeDto toDto(Theme theme);
 
-    @Mapping(target = "translators", source = "translators")
+    @Mapping(target = "category", ignore = true)
+    @Mapping(target = "icon", ignore = true)
+    @Mapping(target = "translators", ignore = true)
     Theme toEntity(ThemeDto dto);
 }
 
@@ -15,7 +15,10 @@ import org.mapstruct.Named;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-@Mapper(componentModel = "spring")
+/**
+ * Themes are mapped through {@link ThemeMapper}, so a profile response never walks theme -> translators.
+ */
+@Mapper(componentModel = "spring", uses = ThemeMapper.class)
 public interface TranslatorProfileMapper {
 
     @Mapping(source = "user.id", target = "userId")
@@ -16,6 +16,7 @@ public interface WithdrawalMapper {
     WithdrawalDto toDto(Withdrawal withdrawal);
 
     @Mapping(source = "userId", target = "user")
+    @Mapping(target = "payoutBatchId", ignore = true)
     Withdrawal toEntity(WithdrawalDto withdrawalDto);
 
     // Helper method for mapping userId to User
@@ -1,11 +1,20 @@
 package com.morago.backend.repository;
 
 import com.morago.backend.entity.Call;
+import com.morago.backend.entity.enumFiles.CallStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface CallRepository extends JpaRepository<Call, Long> {
     
@@ -15,4 +24,33 @@ public interface CallRepository extends JpaRepository<Call, Long> {
     @Query("SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END FROM Call c " +
            "WHERE c.recipient.id = :translatorId AND c.callStatus IN ('CONNECT_NOT_SET', 'SUCCESSFUL') AND c.isEndCall = false")
     Boolean existsActiveCallByTranslatorId(@Param("translatorId") Long translatorId);
+
+    /**
+     * {@link #countCompletedCallsByTranslatorId} for a whole result page; translators without completed calls
+     * are absent.
+     */
+    @Query("SELECT c.recipient.id AS translatorId, COUNT(c) AS calls FROM Call c " +
+           "WHERE c.recipient.id IN :translatorIds AND c.status = true GROUP BY c.recipient.id")
+    List<TranslatorCallCount> countCompletedCallsByTranslatorIdIn(@Param("translatorIds") Collection<Long> translatorIds);
+
+    /**
+     * {@link #existsActiveCallByTranslatorId} for a whole result page: the given translators that are in a call.
+     */
+    @Query("SELECT DISTINCT c.recipient.id FROM Call c WHERE c.recipient.id IN :translatorIds " +
+           "AND c.callStatus IN ('CONNECT_NOT_SET', 'SUCCESSFUL') AND c.isEndCall = false")
+    List<Long> findTranslatorIdsInActiveCall(@Param("translatorIds") Collection<Long> translatorIds);
+
+    /**
+     * Calls created in [from, to) for export, oldest first. Null arguments do not filter. MySQL streams the rows
+     * (fetch size {@code Integer.MIN_VALUE}); consume inside a read-only transaction and close the stream.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Call c WHERE (:from IS NULL OR c.createdAt >= :from) AND (:to IS NULL OR c.createdAt < :to) " +
+           "AND (:callStatus IS NULL OR c.callStatus = :callStatus) ORDER BY c.createdAt, c.id")
+    Stream<Call> streamForExport(@Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to,
+                                 @Param("callStatus") CallStatus callStatus);
 }
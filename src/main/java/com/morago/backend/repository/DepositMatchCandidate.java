@@ -0,0 +1,17 @@
+package com.morago.backend.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Pending deposit fields matched against bank statement lines.
+ */
+public interface DepositMatchCandidate {
+
+    Long getId();
+
+    String getAccountHolder();
+
+    String getNameOfBank();
+
+    BigDecimal getWonDecimal();
+}
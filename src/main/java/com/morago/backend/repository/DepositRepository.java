@@ -1,9 +1,73 @@
 package com.morago.backend.repository;
 
 import com.morago.backend.entity.Deposit;
+import com.morago.backend.entity.enumFiles.EStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface DepositRepository extends JpaRepository<Deposit, Long> {
+
+    /**
+     * First page of the queue for {@code status}, oldest first.
+     */
+    @Query("SELECT d FROM Deposit d WHERE d.status = :status ORDER BY d.createdAt, d.id")
+    List<Deposit> findQueue(@Param("status") EStatus status, Pageable limit);
+
+    /**
+     * Next page of the queue after the (createdAt, id) position of the last row already returned.
+     */
+    @Query("SELECT d FROM Deposit d WHERE d.status = :status " +
+            "AND (d.createdAt > :createdAt OR (d.createdAt = :createdAt AND d.id > :id)) " +
+            "ORDER BY d.createdAt, d.id")
+    List<Deposit> findQueueAfter(@Param("status") EStatus status,
+                                @Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id,
+                                Pageable limit);
+
+    /**
+     * All deposits in {@code status}, oldest first, with just the fields bank statement reconciliation matches on.
+     */
+    @Query("SELECT d.id AS id, d.accountHolder AS accountHolder, d.nameOfBank AS nameOfBank, d.wonDecimal AS wonDecimal " +
+            "FROM Deposit d WHERE d.status = :status ORDER BY d.createdAt, d.id")
+    List<DepositMatchCandidate> findMatchCandidates(@Param("status") EStatus status);
+
+    /**
+     * Locks the still pending rows among {@code ids} for a bulk transition.
+     */
+    @Query(value = "SELECT id, user_id AS userId, coin_decimal AS amount, created_at AS createdAt FROM deposits " +
+            "WHERE id IN (:ids) AND status = 'PENDING' ORDER BY id FOR UPDATE",
+            nativeQuery = true)
+    List<PendingPayment> lockPending(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "UPDATE deposits SET status = :status, updated_at = NOW(6) WHERE id IN (:ids) AND status = 'PENDING'",
+            nativeQuery = true)
+    int transitionPending(@Param("ids") Collection<Long> ids, @Param("status") String status);
+
+    /**
+     * Deposits created in [from, to) for export, oldest first. Null arguments do not filter. MySQL streams the rows
+     * (fetch size {@code Integer.MIN_VALUE}); consume inside a read-only transaction and close the stream.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT d FROM Deposit d WHERE (:from IS NULL OR d.createdAt >= :from) AND (:to IS NULL OR d.createdAt < :to) " +
+            "AND (:status IS NULL OR d.status = :status) ORDER BY d.createdAt, d.id")
+    Stream<Deposit> streamForExport(@Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to,
+                                    @Param("status") EStatus status);
 }
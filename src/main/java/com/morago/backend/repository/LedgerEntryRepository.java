@@ -0,0 +1,62 @@
+package com.morago.backend.repository;
+
+import com.morago.backend.entity.LedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    Optional<LedgerEntry> findByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * Locks the compaction watermark row, so only one node compacts at a time.
+     */
+    @Query(value = "SELECT compacted_up_to FROM ledger_compaction WHERE id = 1 FOR UPDATE", nativeQuery = true)
+    long lockCompactedUpTo();
+
+    @Modifying
+    @Query(value = "UPDATE ledger_compaction SET compacted_up_to = :upTo, compacted_at = NOW(6) WHERE id = 1",
+            nativeQuery = true)
+    void updateCompactedUpTo(@Param("upTo") long upTo);
+
+    /**
+     * Highest id among the next {@code limit} entries after {@code after}, or {@code null} if there are none.
+     */
+    @Query(value = "SELECT MAX(id) FROM (SELECT id FROM ledger_entries WHERE id > :after ORDER BY id LIMIT :limit) batch",
+            nativeQuery = true)
+    Long findBatchUpperBound(@Param("after") long after, @Param("limit") int limit);
+
+    /**
+     * Lowest id after {@code after} of an entry created at or after {@code since}, or {@code null} if there are none.
+     */
+    @Query(value = "SELECT MIN(id) FROM ledger_entries WHERE id > :after AND created_at >= :since",
+            nativeQuery = true)
+    Long findFirstIdCreatedSince(@Param("after") long after, @Param("since") LocalDateTime since);
+
+    /**
+     * Folds the entries in {@code (after, upTo]} into the per-user balance snapshots.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO balance_snapshots (user_id, balance, last_entry_id, taken_at) " +
+            "SELECT t.user_id, t.delta, t.last_id, NOW(6) FROM (" +
+            "  SELECT user_id, SUM(amount) AS delta, MAX(id) AS last_id FROM ledger_entries " +
+            "  WHERE id > :after AND id <= :upTo GROUP BY user_id) t " +
+            "ON DUPLICATE KEY UPDATE balance = balance_snapshots.balance + t.delta, " +
+            "last_entry_id = t.last_id, taken_at = NOW(6)",
+            nativeQuery = true)
+    int compact(@Param("after") long after, @Param("upTo") long upTo);
+
+    /**
+     * Users whose stored balance differs from their snapshot plus the entries posted after it.
+     */
+    @Query(value = "SELECT COUNT(*) FROM users u JOIN balance_snapshots s ON s.user_id = u.id " +
+            "WHERE COALESCE(u.balance, 0) <> s.balance + COALESCE((SELECT SUM(e.amount) FROM ledger_entries e " +
+            "WHERE e.user_id = u.id AND e.id > s.last_entry_id), 0)",
+            nativeQuery = true)
+    long countBalancesOutOfSync();
+}
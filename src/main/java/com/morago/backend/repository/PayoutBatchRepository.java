@@ -0,0 +1,14 @@
+package com.morago.backend.repository;
+
+import com.morago.backend.entity.PayoutBatch;
+import com.morago.backend.entity.enumFiles.PayoutBatchStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PayoutBatchRepository extends JpaRepository<PayoutBatch, Long> {
+
+    Optional<PayoutBatch> findFirstByStatusOrderByIdAsc(PayoutBatchStatus status);
+}
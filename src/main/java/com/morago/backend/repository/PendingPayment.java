@@ -0,0 +1,18 @@
+package com.morago.backend.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Pending deposit or withdrawal row locked for a bulk status transition.
+ */
+public interface PendingPayment {
+
+    Long getId();
+
+    Long getUserId();
+
+    BigDecimal getAmount();
+
+    LocalDateTime getCreatedAt();
+}
@@ -6,6 +6,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface RatingRepository extends JpaRepository<Rating, Long> {
     
@@ -14,4 +17,11 @@ public interface RatingRepository extends JpaRepository<Rating, Long> {
     
     @Query("SELECT COUNT(r) FROM Rating r WHERE r.translator.id = :translatorId")
     Long countByTranslatorId(@Param("translatorId") Long translatorId);
+
+    /**
+     * Average score per translator profile for a whole result page; profiles without ratings are absent.
+     */
+    @Query("SELECT r.translator.id AS translatorId, AVG(r.score) AS averageScore FROM Rating r " +
+           "WHERE r.translator.id IN :translatorIds GROUP BY r.translator.id")
+    List<TranslatorAverageRating> findAverageRatingsByTranslatorIdIn(@Param("translatorIds") Collection<Long> translatorIds);
 }
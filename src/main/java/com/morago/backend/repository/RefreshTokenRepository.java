@@ -3,10 +3,38 @@ package com.morago.backend.repository;
 import com.morago.backend.entity.RefreshToken;
 import com.morago.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     Optional<RefreshToken> findByToken(String token);
-    void deleteByUser(User user);
+
+    List<RefreshToken> findAllByUserIdAndExpirationTimeAfterOrderByCreatedAtDesc(Long userId, LocalDateTime now);
+
+    long countByUserId(Long userId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.user = :user")
+    void deleteByUser(@Param("user") User user);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.user.id = :userId AND rt.deviceId = :deviceId")
+    int deleteByUserIdAndDeviceId(@Param("userId") Long userId, @Param("deviceId") String deviceId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.id = :id AND rt.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Evicts the {@code count} oldest sessions of a user in a single ordered delete.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE user_id = :userId ORDER BY created_at ASC, id ASC LIMIT :count",
+            nativeQuery = true)
+    int deleteOldestByUserId(@Param("userId") Long userId, @Param("count") int count);
 }
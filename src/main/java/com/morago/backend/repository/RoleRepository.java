@@ -4,12 +4,14 @@ import com.morago.backend.entity.Role;
 import com.morago.backend.entity.enumFiles.Roles;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface RoleRepository extends JpaRepository<Role, Long> {
     Optional<Role> findByName(Roles name);
     List<Role> findAllByName(Roles name);
+    List<Role> findAllByNameIn(Collection<Roles> names);
 
     default Optional<Role> findByNameEnum(String name) {
         try {
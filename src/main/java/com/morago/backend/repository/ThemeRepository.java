@@ -1,7 +1,40 @@
 package com.morago.backend.repository;
 
+import com.morago.backend.dto.ThemeTranslatorCount;
+import com.morago.backend.dto.response.ThemeCatalogResponse;
+import com.morago.backend.dto.response.ThemeTranslatorResponse;
 import com.morago.backend.entity.Theme;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface ThemeRepository extends JpaRepository<Theme, Long> {
-}
\ No newline at end of file
+
+    @Query("SELECT new com.morago.backend.dto.response.ThemeCatalogResponse(" +
+           "t.id, t.name, t.koreanTitle, t.price, t.nightPrice, t.isPopular, t.isActive, " +
+           "c.id, c.name, i.path, " +
+           "(SELECT COUNT(tp) FROM TranslatorProfile tp JOIN tp.themes th WHERE th.id = t.id)) " +
+           "FROM Theme t " +
+           "LEFT JOIN t.category c " +
+           "LEFT JOIN t.icon i " +
+           "WHERE (:activeOnly = false OR t.isActive = true) " +
+           "ORDER BY t.isPopular DESC, t.name ASC")
+    List<ThemeCatalogResponse> findCatalog(@Param("activeOnly") boolean activeOnly);
+
+    @Query("SELECT new com.morago.backend.dto.ThemeTranslatorCount(th.id, COUNT(tp)) " +
+           "FROM TranslatorProfile tp JOIN tp.themes th GROUP BY th.id")
+    List<ThemeTranslatorCount> countTranslatorsByTheme();
+
+    @Query(value = "SELECT new com.morago.backend.dto.response.ThemeTranslatorResponse(" +
+                   "tp.id, u.id, u.firstName, u.lastName, tp.levelOfKorean, tp.isAvailable, tp.isOnline) " +
+                   "FROM TranslatorProfile tp " +
+                   "JOIN tp.user u " +
+                   "JOIN tp.themes t " +
+                   "WHERE t.id = :themeId",
+           countQuery = "SELECT COUNT(tp) FROM TranslatorProfile tp JOIN tp.themes t WHERE t.id = :themeId")
+    Page<ThemeTranslatorResponse> findTranslatorsByThemeId(@Param("themeId") Long themeId, Pageable pageable);
+}
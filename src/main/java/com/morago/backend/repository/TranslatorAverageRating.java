@@ -0,0 +1,11 @@
+package com.morago.backend.repository;
+
+/**
+ * Average rating score of one translator profile.
+ */
+public interface TranslatorAverageRating {
+
+    Long getTranslatorId();
+
+    Double getAverageScore();
+}
@@ -0,0 +1,11 @@
+package com.morago.backend.repository;
+
+/**
+ * Number of completed calls of one translator.
+ */
+public interface TranslatorCallCount {
+
+    Long getTranslatorId();
+
+    Long getCalls();
+}
@@ -0,0 +1,27 @@
+package com.morago.backend.repository;
+
+import com.morago.backend.entity.TranslatorProfile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface TranslatorProfileSearchRepository {
+
+    /**
+     * Runs the specification without a count query; reads one extra row to tell whether a next page exists.
+     */
+    Slice<TranslatorProfile> findSlice(Specification<TranslatorProfile> spec, Pageable pageable);
+
+    /**
+     * Returns only the ids of the matching profiles, without fetching any association.
+     */
+    List<Long> findIds(Specification<TranslatorProfile> spec);
+
+    /**
+     * Returns the ids among {@code candidates} that match the specification, in candidate order. The candidates
+     * are checked in bounded IN lists, so any number can be passed.
+     */
+    List<Long> findMatchingIds(Specification<TranslatorProfile> spec, List<Long> candidates);
+}
@@ -0,0 +1,76 @@
+package com.morago.backend.repository;
+
+import com.morago.backend.entity.TranslatorProfile;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+class TranslatorProfileSearchRepositoryImpl implements TranslatorProfileSearchRepository {
+
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<TranslatorProfile> findSlice(Specification<TranslatorProfile> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TranslatorProfile> query = cb.createQuery(TranslatorProfile.class);
+        Root<TranslatorProfile> root = query.from(TranslatorProfile.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<TranslatorProfile> typed = entityManager.createQuery(query);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typed.getResultList(), pageable, false);
+        }
+
+        List<TranslatorProfile> rows = typed
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public List<Long> findIds(Specification<TranslatorProfile> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<TranslatorProfile> root = query.from(TranslatorProfile.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root.get("id"));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<Long> findMatchingIds(Specification<TranslatorProfile> spec, List<Long> candidates) {
+        Set<Long> matching = new HashSet<>();
+        for (int from = 0; from < candidates.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = candidates.subList(from, Math.min(from + ID_CHUNK_SIZE, candidates.size()));
+            matching.addAll(findIds(spec.and(TranslatorProfileSpecifications.hasIdIn(chunk))));
+        }
+        return candidates.stream().filter(matching::contains).toList();
+    }
+}
@@ -0,0 +1,96 @@
+package com.morago.backend.repository;
+
+import com.morago.backend.entity.Language;
+import com.morago.backend.entity.Theme;
+import com.morago.backend.entity.TranslatorProfile;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Building blocks for the translator search. Only the filters that are set contribute to the query:
+ * language/theme filters are EXISTS subqueries so they never multiply rows, and {@code user} is
+ * fetched in the same select instead of being loaded per row. Free-text matching is done by
+ * {@link com.morago.backend.service.TranslatorSearchIndex} and arrives here as {@link #hasIdIn}.
+ */
+public final class TranslatorProfileSpecifications {
+
+    private TranslatorProfileSpecifications() {
+    }
+
+    /**
+     * Combines the given filters; null arguments are ignored.
+     */
+    public static Specification<TranslatorProfile> filter(Boolean isAvailable,
+                                                          Boolean isOnline,
+                                                          Long languageId,
+                                                          Long themeId,
+                                                          String levelOfKorean) {
+        List<Specification<TranslatorProfile>> specs = new ArrayList<>();
+        specs.add(fetchUser());
+        if (isAvailable != null) specs.add(isAvailable(isAvailable));
+        if (isOnline != null) specs.add(isOnline(isOnline));
+        if (languageId != null) specs.add(speaksLanguage(languageId));
+        if (themeId != null) specs.add(offersTheme(themeId));
+        if (levelOfKorean != null) specs.add(hasLevelOfKorean(levelOfKorean));
+        return Specification.allOf(specs);
+    }
+
+    /**
+     * Fetch-joins {@code user} for entity queries; count and id-only queries are left without the join.
+     */
+    public static Specification<TranslatorProfile> fetchUser() {
+        return (root, query, cb) -> {
+            if (!isCountQuery(query.getResultType())) {
+                root.fetch("user", JoinType.INNER);
+            }
+            return null;
+        };
+    }
+
+    public static Specification<TranslatorProfile> isAvailable(boolean available) {
+        return (root, query, cb) -> cb.equal(root.get("isAvailable"), available);
+    }
+
+    public static Specification<TranslatorProfile> isOnline(boolean online) {
+        return (root, query, cb) -> cb.equal(root.get("isOnline"), online);
+    }
+
+    public static Specification<TranslatorProfile> hasLevelOfKorean(String levelOfKorean) {
+        return (root, query, cb) -> cb.equal(root.get("levelOfKorean"), levelOfKorean);
+    }
+
+    public static Specification<TranslatorProfile> speaksLanguage(Long languageId) {
+        return (root, query, cb) -> {
+            Subquery<Long> sub = query.subquery(Long.class);
+            Root<TranslatorProfile> profile = sub.correlate(root);
+            Join<TranslatorProfile, Language> language = profile.join("languages");
+            sub.select(language.get("id")).where(cb.equal(language.get("id"), languageId));
+            return cb.exists(sub);
+        };
+    }
+
+    public static Specification<TranslatorProfile> offersTheme(Long themeId) {
+        return (root, query, cb) -> {
+            Subquery<Long> sub = query.subquery(Long.class);
+            Root<TranslatorProfile> profile = sub.correlate(root);
+            Join<TranslatorProfile, Theme> theme = profile.join("themes");
+            sub.select(theme.get("id")).where(cb.equal(theme.get("id"), themeId));
+            return cb.exists(sub);
+        };
+    }
+
+    public static Specification<TranslatorProfile> hasIdIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    private static boolean isCountQuery(Class<?> resultType) {
+        return resultType == Long.class || resultType == long.class;
+    }
+}
@@ -3,11 +3,41 @@ package com.morago.backend.repository;
 import com.morago.backend.entity.User;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     @EntityGraph(attributePaths = "roles")
     Optional<User> findByUsername(String userName);
     boolean existsByUsername(String username);
+
+    /**
+     * Applies a signed balance change in one statement, so concurrent postings never overwrite each other.
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET balance = COALESCE(balance, 0) + :amount WHERE id = :userId",
+            nativeQuery = true)
+    int addToBalance(@Param("userId") Long userId, @Param("amount") BigDecimal amount);
+
+    /**
+     * Like {@link #addToBalance} but only applies when the balance stays non-negative; returns 0 otherwise.
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET balance = COALESCE(balance, 0) + :amount " +
+            "WHERE id = :userId AND COALESCE(balance, 0) + :amount >= 0",
+            nativeQuery = true)
+    int addToBalanceIfSufficient(@Param("userId") Long userId, @Param("amount") BigDecimal amount);
+
+    /**
+     * Locks the user row until the end of the transaction; serializes per-user read-modify-write sequences.
+     */
+    @Query(value = "SELECT id FROM users WHERE id = :userId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("userId") Long userId);
+
+    @Query("SELECT COALESCE(u.balance, 0) FROM User u WHERE u.id = :userId")
+    Optional<BigDecimal> findBalanceById(@Param("userId") Long userId);
 }
@@ -1,9 +1,77 @@
 package com.morago.backend.repository;
 
 import com.morago.backend.entity.Withdrawal;
+import com.morago.backend.entity.enumFiles.EStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface WithdrawalRepository extends JpaRepository<Withdrawal, Long> {
+
+    /**
+     * First page of the queue for {@code status}, oldest first.
+     */
+    @Query("SELECT w FROM Withdrawal w WHERE w.status = :status ORDER BY w.createdAt, w.id")
+    List<Withdrawal> findQueue(@Param("status") EStatus status, Pageable limit);
+
+    /**
+     * Next page of the queue after the (createdAt, id) position of the last row already returned.
+     */
+    @Query("SELECT w FROM Withdrawal w WHERE w.status = :status " +
+            "AND (w.createdAt > :createdAt OR (w.createdAt = :createdAt AND w.id > :id)) " +
+            "ORDER BY w.createdAt, w.id")
+    List<Withdrawal> findQueueAfter(@Param("status") EStatus status,
+                                @Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id,
+                                Pageable limit);
+
+    /**
+     * Locks the still pending rows among {@code ids} for a bulk transition.
+     */
+    @Query(value = "SELECT id, user_id AS userId, sum_decimal AS amount, created_at AS createdAt FROM withdrawals " +
+            "WHERE id IN (:ids) AND status = 'PENDING' ORDER BY id FOR UPDATE",
+            nativeQuery = true)
+    List<PendingPayment> lockPending(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "UPDATE withdrawals SET status = :status, updated_at = NOW(6) WHERE id IN (:ids) AND status = 'PENDING'",
+            nativeQuery = true)
+    int transitionPending(@Param("ids") Collection<Long> ids, @Param("status") String status);
+
+    boolean existsByStatusAndPayoutBatchIdIsNull(EStatus status);
+
+    /**
+     * Marks approved, not yet paid out withdrawals as included in payout batch {@code batchId}.
+     */
+    @Modifying
+    @Query(value = "UPDATE withdrawals SET payout_batch_id = :batchId " +
+            "WHERE id IN (:ids) AND payout_batch_id IS NULL AND status = 'SUCCESSFUL'",
+            nativeQuery = true)
+    int assignPayoutBatch(@Param("ids") Collection<Long> ids, @Param("batchId") Long batchId);
+
+    /**
+     * Withdrawals created in [from, to) for export, oldest first. Null arguments do not filter. MySQL streams the rows
+     * (fetch size {@code Integer.MIN_VALUE}); consume inside a read-only transaction and close the stream.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT w FROM Withdrawal w WHERE (:from IS NULL OR w.createdAt >= :from) AND (:to IS NULL OR w.createdAt < :to) " +
+            "AND (:status IS NULL OR w.status = :status) ORDER BY w.createdAt, w.id")
+    Stream<Withdrawal> streamForExport(@Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to,
+                                       @Param("status") EStatus status);
 }
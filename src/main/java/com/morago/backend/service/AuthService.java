@@ -5,4 +5,5 @@ import com.morago.backend.dto.tokens.JWTResponse;
 
 public interface AuthService {
     JWTResponse createAuthToken(JWTRequest authRequest);
+    void revokeAccessToken(String accessToken);
 }
@@ -1,8 +1,11 @@
 package com.morago.backend.service;
 
+import com.morago.backend.config.utils.AccessTokenRevocationList;
 import com.morago.backend.config.utils.JWTUtils;
 import com.morago.backend.dto.tokens.JWTRequest;
 import com.morago.backend.dto.tokens.JWTResponse;
+import com.morago.backend.entity.enumFiles.TokenType;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -25,6 +28,7 @@ public class AuthServiceImpl implements AuthService {
     private final AuthenticationManager authenticationManager;
     private final JWTUtils jwtUtils;
     private final RefreshTokenService refreshTokenService;
+    private final AccessTokenRevocationList revocationList;
 
     /**
      * Authenticates user credentials and generates JWT tokens.
@@ -44,7 +48,7 @@ public class AuthServiceImpl implements AuthService {
             String accessToken = generateAccessToken(authenticatedUser);
             String refreshToken = generateRefreshToken(authenticatedUser);
             
-            storeRefreshToken(authenticatedUser.getUsername(), refreshToken);
+            storeRefreshToken(authenticatedUser.getUsername(), refreshToken, authRequest);
             
             log.info("Successfully authenticated user: {}", authRequest.getUsername());
             return new JWTResponse(accessToken, refreshToken);
@@ -55,6 +59,19 @@ public class AuthServiceImpl implements AuthService {
         }
     }
     
+    /**
+     * Revokes an access token until it expires, on this node and on every node reached by the revocation channel.
+     * 
+     * @param accessToken the raw access token
+     */
+    @Override
+    public void revokeAccessToken(String accessToken) {
+        Claims claims = jwtUtils.parseClaims(accessToken, TokenType.ACCESS);
+        revocationList.revoke(claims.getId(), claims.getExpiration().getTime());
+        
+        log.debug("Access token revoked for user: {}", claims.getSubject());
+    }
+    
     /**
      * Authenticates user using Spring Security authentication manager.
      */
@@ -82,9 +99,11 @@ public class AuthServiceImpl implements AuthService {
     }
     
     /**
-     * Stores refresh token in database for future token refresh operations.
+     * Stores refresh token in database for future token refresh operations,
+     * bound to the device the login came from.
      */
-    private void storeRefreshToken(String username, String refreshToken) {
-        refreshTokenService.createRefreshToken(username, refreshToken);
+    private void storeRefreshToken(String username, String refreshToken, JWTRequest authRequest) {
+        refreshTokenService.createRefreshToken(username, refreshToken,
+                authRequest.getDeviceId(), authRequest.getDeviceName());
     }
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+package com.morago.backend.service;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streams a UTF-8 CSV bank statement line by line through memory-mapped windows of the file,
+ * so multi-gigabyte statements never sit in the heap. Quoted fields (with {@code ""} escapes) are supported;
+ * line breaks inside quotes are not.
+ */
+public final class BankStatementReader {
+
+    public static final int DEFAULT_WINDOW_BYTES = 64 * 1024 * 1024;
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    @FunctionalInterface
+    public interface LineHandler {
+
+        /**
+         * @param lineNumber 1-based line number in the file
+         * @param fields     the line split into CSV fields
+         */
+        void line(long lineNumber, String[] fields);
+    }
+
+    private BankStatementReader() {
+    }
+
+    /**
+     * Calls {@code handler} for every non-blank line of {@code file}, in file order.
+     *
+     * @param windowBytes size of each mapped window; a single line must fit in one window
+     */
+    public static void read(Path file, int windowBytes, LineHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            long lineNumber = 0;
+            byte[] line = new byte[256];
+
+            while (position < size) {
+                int length = (int) Math.min(windowBytes, size - position);
+                boolean lastWindow = position + length == size;
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+                int lineStart = 0;
+                for (int i = 0; i <= length; i++) {
+                    boolean endOfLine = i < length ? window.get(i) == '\n' : lastWindow && lineStart < length;
+                    if (!endOfLine) {
+                        continue;
+                    }
+                    int lineLength = i - lineStart;
+                    if (lineLength > line.length) {
+                        line = new byte[Math.max(lineLength, line.length * 2)];
+                    }
+                    window.get(lineStart, line, 0, lineLength);
+                    lineNumber++;
+                    emit(line, lineLength, lineNumber, handler);
+                    lineStart = i + 1;
+                }
+
+                if (lastWindow) {
+                    break;
+                }
+                if (lineStart == 0) {
+                    throw new IOException("Line " + (lineNumber + 1) + " is longer than " + windowBytes + " bytes");
+                }
+                // The next window starts at the first byte of the unfinished line.
+                position += lineStart;
+            }
+        }
+    }
+
+    private static void emit(byte[] bytes, int length, long lineNumber, LineHandler handler) {
+        int start = 0;
+        if (lineNumber == 1 && length >= 3 && Arrays.equals(bytes, 0, 3, UTF8_BOM, 0, 3)) {
+            start = 3;
+        }
+        if (length > start && bytes[length - 1] == '\r') {
+            length--;
+        }
+        String text = new String(bytes, start, length - start, StandardCharsets.UTF_8);
+        if (!text.isBlank()) {
+            handler.line(lineNumber, split(text));
+        }
+    }
+
+    static String[] split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,116 @@
+package com.morago.backend.service;
+
+import java.util.Arrays;
+
+/**
+ * Caller id to charged amount in minor units (cents), as an open-addressing table of primitive longs:
+ * aggregating millions of calls neither boxes keys nor allocates an entry per caller.
+ */
+final class CallChargeTotals {
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long callerId, long cents);
+    }
+
+    // User ids are positive, so 0 marks a free slot.
+    private static final long FREE = 0L;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+
+    CallChargeTotals() {
+        this(16);
+    }
+
+    CallChargeTotals(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(8, expectedSize * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new long[capacity];
+    }
+
+    void add(long callerId, long cents) {
+        if (callerId <= 0) {
+            throw new IllegalArgumentException("Caller id must be positive: " + callerId);
+        }
+        int slot = slot(keys, callerId);
+        if (keys[slot] == FREE) {
+            keys[slot] = callerId;
+            values[slot] = cents;
+            if (++size * 2 > keys.length) {
+                grow();
+            }
+        } else {
+            values[slot] += cents;
+        }
+    }
+
+    long get(long callerId) {
+        int slot = slot(keys, callerId);
+        return keys[slot] == callerId ? values[slot] : 0L;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void addAll(CallChargeTotals other) {
+        other.forEach(this::add);
+    }
+
+    void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Caller ids in ascending order.
+     */
+    long[] callerIds() {
+        long[] ids = new long[size];
+        int n = 0;
+        for (long key : keys) {
+            if (key != FREE) {
+                ids[n++] = key;
+            }
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    long total() {
+        long total = 0;
+        for (int i = 0; i < keys.length; i++) {
+            total += values[i];
+        }
+        return total;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new long[oldValues.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int slot = slot(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int slot(long[] keys, long key) {
+        int mask = keys.length - 1;
+        long h = key * 0x9E3779B97F4A7C15L;
+        int slot = (int) (h ^ (h >>> 32)) & mask;
+        while (keys[slot] != FREE && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+}
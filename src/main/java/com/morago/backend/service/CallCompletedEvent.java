@@ -0,0 +1,37 @@
+package com.morago.backend.service;
+
+import com.morago.backend.entity.Call;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Published when a call becomes successful, and as a {@link #reversed() reversal} when a successful call is edited,
+ * reopened or deleted; reporting rollups add it after commit.
+ *
+ * @param themeId  null when the call has no theme
+ * @param calls    1, or -1 for a reversal
+ * @param duration call duration in seconds
+ */
+public record CallCompletedEvent(Long themeId, LocalDateTime createdAt, int calls, int duration, BigDecimal revenue,
+                                 BigDecimal commission) {
+
+    /**
+     * The rollup contribution of a call as it is now, or null if it does not count as completed.
+     */
+    public static CallCompletedEvent of(Call call) {
+        if (!call.isStatus()) {
+            return null;
+        }
+        return new CallCompletedEvent(call.getTheme() != null ? call.getTheme().getId() : null, call.getCreatedAt(),
+                1, call.getDuration(), call.getSumDecimal(), call.getCommission());
+    }
+
+    /**
+     * The event that takes this contribution back out of the rollups.
+     */
+    public CallCompletedEvent reversed() {
+        return new CallCompletedEvent(themeId, createdAt, -calls, -duration,
+                revenue != null ? revenue.negate() : null, commission != null ? commission.negate() : null);
+    }
+}
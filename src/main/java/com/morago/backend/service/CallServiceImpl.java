@@ -6,13 +6,17 @@ import com.morago.backend.mapper.CallMapper;
 import com.morago.backend.repository.CallRepository;
 import com.morago.backend.repository.UserRepository;
 import com.morago.backend.repository.ThemeRepository;
+import com.morago.backend.exception.PaymentAlreadyPostedException;
 import com.morago.backend.exception.ResourceNotFoundException;
 import com.morago.backend.service.CallService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +27,8 @@ public class CallServiceImpl implements CallService {
     private final UserRepository userRepository;
     private final ThemeRepository themeRepository;
     private final CallMapper mapper;
+    private final LedgerService ledgerService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private <T> T findOrThrow(java.util.Optional<T> optional, String entityName, Long id) {
         return optional.orElseThrow(() -> new ResourceNotFoundException(entityName + " not found with id " + id));
@@ -42,7 +48,7 @@ public class CallServiceImpl implements CallService {
             call.setTheme(findOrThrow(themeRepository.findById(dto.getThemeId()), "Theme", dto.getThemeId()));
         }
 
-        return mapper.toDto(callRepository.save(call));
+        return mapper.toDto(save(call, null));
     }
 
     @Override
@@ -58,6 +64,10 @@ public class CallServiceImpl implements CallService {
     @Override
     public CallDto updateCall(Long id, CallDto dto) {
         Call call = findOrThrow(callRepository.findById(id), "Call", id);
+        if (call.isStatus() && changesSettlement(call, dto)) {
+            throw new PaymentAlreadyPostedException("Call", id);
+        }
+        CallCompletedEvent before = CallCompletedEvent.of(call);
 
         call.setDuration(dto.getDuration());
         call.setStatus(dto.isStatus());
@@ -79,14 +89,54 @@ public class CallServiceImpl implements CallService {
             call.setTheme(findOrThrow(themeRepository.findById(dto.getThemeId()), "Theme", dto.getThemeId()));
         }
 
-        return mapper.toDto(callRepository.save(call));
+        return mapper.toDto(save(call, before));
+    }
+
+    /**
+     * Settles a successful call on the ledger once; a settled call cannot change what was posted (see
+     * {@link #changesSettlement}). The reporting rollups follow every change: the previous contribution is
+     * reversed and the new one added.
+     */
+    private Call save(Call call, CallCompletedEvent before) {
+        Call saved = callRepository.save(call);
+        if (saved.isStatus()) {
+            ledgerService.settleCall(saved);
+        }
+        CallCompletedEvent after = CallCompletedEvent.of(saved);
+        if (!Objects.equals(before, after)) {
+            if (before != null) {
+                eventPublisher.publishEvent(before.reversed());
+            }
+            if (after != null) {
+                eventPublisher.publishEvent(after);
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * A settled call is final on the ledger: undoing its charge, earning and commission would need compensating
+     * entries, so its status, amounts, caller and recipient are frozen once it is settled.
+     */
+    private static boolean changesSettlement(Call call, CallDto dto) {
+        return !dto.isStatus()
+                || !sameAmount(dto.getSumDecimal(), call.getSumDecimal())
+                || !sameAmount(dto.getCommission(), call.getCommission())
+                || (dto.getCallerId() != null && !dto.getCallerId().equals(call.getCaller().getId()))
+                || (dto.getRecipientId() != null && !dto.getRecipientId().equals(call.getRecipient().getId()));
+    }
+
+    private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
     }
 
     @Override
     public void deleteCall(Long id) {
-        if (!callRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Call not found with id " + id);
+        Call call = findOrThrow(callRepository.findById(id), "Call", id);
+        if (call.isStatus()) {
+            throw new PaymentAlreadyPostedException("Call", id);
         }
-        callRepository.deleteById(id);
+        // An unsettled call never contributed to the rollups, so there is nothing to reverse.
+        callRepository.delete(call);
     }
 }
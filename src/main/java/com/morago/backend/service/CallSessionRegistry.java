@@ -0,0 +1,146 @@
+package com.morago.backend.service;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory registry of live calls and their participants.
+ * Backs the authorization of call-room subscriptions and signaling frames without touching the database.
+ * Calls are bound to the WebSocket sessions that opened, accepted or joined them and are dropped when one
+ * of those sessions disconnects.
+ */
+@Slf4j
+@Component
+public class CallSessionRegistry {
+
+    private final ConcurrentHashMap<String, CallSession> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> callsByWebSocketSession = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a new call between a caller and a recipient.
+     * Re-sending the same invitation returns the existing call; a call ID that is already taken by
+     * another caller or recipient is never replaced.
+     *
+     * @return the live call, or null if the call ID belongs to a different call
+     */
+    public CallSession open(String callId, String callerId, String recipientId, String webSocketSessionId) {
+        CallSession created = new CallSession(callId, callerId, recipientId);
+        CallSession existing = sessions.putIfAbsent(callId, created);
+        if (existing != null
+                && !(existing.callerId.equals(callerId) && Objects.equals(existing.recipientId, recipientId))) {
+            return null;
+        }
+        CallSession session = existing != null ? existing : created;
+        bind(session, webSocketSessionId);
+        return session;
+    }
+
+    /**
+     * Adds the translator assigned as the call's recipient to an existing call.
+     *
+     * @return false if the call is unknown or the user is not its recipient
+     */
+    public boolean join(String callId, String userId, String webSocketSessionId) {
+        CallSession session = sessions.get(callId);
+        if (session == null || !session.recipientId.equals(userId)) {
+            return false;
+        }
+        session.participants.add(userId);
+        bind(session, webSocketSessionId);
+        return true;
+    }
+
+    /**
+     * Binds a participant's WebSocket session to the call so that the call is dropped on disconnect.
+     */
+    public void attach(CallSession session, String webSocketSessionId) {
+        bind(session, webSocketSessionId);
+    }
+
+    public CallSession get(String callId) {
+        return sessions.get(callId);
+    }
+
+    public boolean isParticipant(String callId, String userId) {
+        CallSession session = sessions.get(callId);
+        return session != null && session.participants.contains(userId);
+    }
+
+    public CallSession close(String callId) {
+        CallSession session = sessions.remove(callId);
+        if (session != null) {
+            for (String webSocketSessionId : session.webSocketSessions) {
+                Set<String> calls = callsByWebSocketSession.get(webSocketSessionId);
+                if (calls != null) {
+                    calls.remove(callId);
+                }
+            }
+        }
+        return session;
+    }
+
+    /**
+     * Closes every call bound to a WebSocket session.
+     *
+     * @return number of calls closed
+     */
+    public int disconnect(String webSocketSessionId) {
+        Set<String> calls = webSocketSessionId != null ? callsByWebSocketSession.remove(webSocketSessionId) : null;
+        if (calls == null) {
+            return 0;
+        }
+        int closed = 0;
+        for (String callId : calls) {
+            if (close(callId) != null) {
+                closed++;
+            }
+        }
+        return closed;
+    }
+
+    @EventListener
+    public void onDisconnected(SessionDisconnectEvent event) {
+        int closed = disconnect(event.getSessionId());
+        if (closed > 0) {
+            log.debug("Dropped {} call(s) of disconnected WebSocket session {}", closed, event.getSessionId());
+        }
+    }
+
+    public int activeCalls() {
+        return sessions.size();
+    }
+
+    private void bind(CallSession session, String webSocketSessionId) {
+        if (webSocketSessionId == null) {
+            return;
+        }
+        session.webSocketSessions.add(webSocketSessionId);
+        callsByWebSocketSession.computeIfAbsent(webSocketSessionId, id -> ConcurrentHashMap.newKeySet())
+                .add(session.callId);
+    }
+
+    @Getter
+    public static class CallSession {
+        private final String callId;
+        private final String callerId;
+        private final String recipientId;
+        private final long openedAtNanos = System.nanoTime();
+        private final Set<String> participants = ConcurrentHashMap.newKeySet();
+        private final Set<String> webSocketSessions = ConcurrentHashMap.newKeySet();
+
+        CallSession(String callId, String callerId, String recipientId) {
+            this.callId = callId;
+            this.callerId = callerId;
+            this.recipientId = recipientId;
+            participants.add(callerId);
+            participants.add(recipientId);
+        }
+    }
+}
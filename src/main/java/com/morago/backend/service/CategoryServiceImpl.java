@@ -7,7 +7,9 @@ import com.morago.backend.mapper.CategoryMapper;
 import com.morago.backend.repository.CategoryRepository;
 import com.morago.backend.service.CategoryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -17,6 +19,8 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final ReferenceCatalog referenceCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     private Category getEntityOrThrow(Long id) {
         return categoryRepository.findById(id)
@@ -26,7 +30,9 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     public CategoryDto create(CategoryDto categoryDto) {
         Category category = categoryMapper.toEntity(categoryDto);
-        return categoryMapper.toDto(categoryRepository.save(category));
+        CategoryDto saved = categoryMapper.toDto(categoryRepository.save(category));
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.CATEGORIES));
+        return saved;
     }
 
     @Override
@@ -34,22 +40,28 @@ public class CategoryServiceImpl implements CategoryService {
         Category existing = getEntityOrThrow(id);
         existing.setName(categoryDto.getName());
         existing.setActive(categoryDto.isActive());
-        return categoryMapper.toDto(categoryRepository.save(existing));
+        CategoryDto saved = categoryMapper.toDto(categoryRepository.save(existing));
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.CATEGORIES));
+        return saved;
     }
 
     @Override
     public void delete(Long id) {
         Category existing = getEntityOrThrow(id);
         categoryRepository.delete(existing);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.CATEGORIES));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public CategoryDto getById(Long id) {
-        return categoryMapper.toDto(getEntityOrThrow(id));
+        CategoryDto cached = referenceCatalog.snapshot().categories().get(id);
+        return cached != null ? cached : categoryMapper.toDto(getEntityOrThrow(id));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CategoryDto> getAll() {
-        return categoryMapper.toDtoList(categoryRepository.findAll());
+        return referenceCatalog.snapshot().categories().getValues();
     }
 }
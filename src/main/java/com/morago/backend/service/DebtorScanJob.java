@@ -0,0 +1,23 @@
+package com.morago.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the incremental {@link DebtorScanner#scan()} on a fixed delay.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "debtors.scan.enabled", matchIfMissing = true)
+public class DebtorScanJob {
+
+    private final DebtorScanner debtorScanner;
+
+    @Scheduled(initialDelayString = "${debtors.scan.interval-ms:600000}",
+            fixedDelayString = "${debtors.scan.interval-ms:600000}")
+    public void scan() {
+        debtorScanner.scan();
+    }
+}
@@ -0,0 +1,310 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.response.DebtorScanResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Turns call charges into debtor rows. Calls are charged to the caller's wallet when they complete and may
+ * overdraw it (see {@link LedgerService#settleCall}); a caller whose balance is negative owes the difference.
+ * <p>
+ * Completed calls are read in {@code (updated_at, id)} keyset chunks and their charges are summed per caller in
+ * a {@link CallChargeTotals}. Every caller found is then assessed against the current balance: an open debtor row is
+ * created or refreshed while the balance is negative, and marked paid once it no longer is. A call updated again later
+ * (e.g. rated) is simply read again, which is harmless because assessment depends only on the balance.
+ * <p>
+ * The scheduled {@link #scan()} advances a watermark chunk by chunk; {@link #backfill} reads a historical range in
+ * parallel time partitions without touching the watermark.
+ */
+@Slf4j
+@Component
+public class DebtorScanner {
+
+    private static final String CHUNK = "SELECT id, caller_id, updated_at, sum_decimal FROM calls " +
+            "WHERE status = 1 AND updated_at < :until " +
+            "AND (updated_at > :afterUpdatedAt OR (updated_at = :afterUpdatedAt AND id > :afterId)) " +
+            "ORDER BY updated_at, id LIMIT :limit";
+
+    private static final String OPEN_DEBT = "INSERT INTO debtors " +
+            "(user_id, account_holder, name_of_bank, is_paid, outstanding_amount, assessed_at, created_at, updated_at) " +
+            "SELECT u.id, " +
+            "COALESCE((SELECT d.account_holder FROM deposits d WHERE d.user_id = u.id ORDER BY d.id DESC LIMIT 1), " +
+            "CONCAT_WS(' ', u.first_name, u.last_name)), " +
+            "(SELECT d.name_of_bank FROM deposits d WHERE d.user_id = u.id ORDER BY d.id DESC LIMIT 1), " +
+            "0, ?, ?, ?, ? FROM users u WHERE u.id = ?";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int assessBatchSize;
+    private final long lagSeconds;
+    private final int parallelism;
+
+    public DebtorScanner(NamedParameterJdbcTemplate jdbc,
+                         TransactionTemplate transactionTemplate,
+                         @Value("${debtors.scan.chunk-size:10000}") int chunkSize,
+                         @Value("${debtors.scan.assess-batch-size:500}") int assessBatchSize,
+                         @Value("${debtors.scan.lag-seconds:60}") long lagSeconds,
+                         @Value("${debtors.backfill.parallelism:4}") int parallelism) {
+        this.jdbc = jdbc;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.assessBatchSize = assessBatchSize;
+        this.lagSeconds = lagSeconds;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Reads calls completed since the watermark, one transaction per chunk (read, assess, advance the watermark),
+     * then re-assesses all open debtors so debts cleared by later deposits are closed.
+     */
+    public DebtorScanResult scan() {
+        LocalDateTime until = LocalDateTime.now().minusSeconds(lagSeconds);
+        Tally tally = new Tally();
+        boolean more = true;
+        while (more) {
+            more = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                Position after = lockWatermark();
+                CallChargeTotals totals = new CallChargeTotals(chunkSize);
+                Chunk chunk = readChunk(after, until, totals);
+                if (chunk.rows() == 0) {
+                    return false;
+                }
+                tally.add(chunk.rows(), totals);
+                assess(totals.callerIds(), tally);
+                jdbc.update("UPDATE debtor_scan SET scanned_updated_at = :updatedAt, scanned_call_id = :id, " +
+                                "scanned_at = NOW(6) WHERE id = 1",
+                        Map.of("updatedAt", Timestamp.valueOf(chunk.last().updatedAt()), "id", chunk.last().id()));
+                return chunk.rows() == chunkSize;
+            }));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            lockWatermark();
+            long[] open = jdbc.getJdbcOperations().queryForList(
+                    "SELECT DISTINCT user_id FROM debtors WHERE COALESCE(is_paid, 0) = 0 AND user_id IS NOT NULL",
+                    Long.class).stream().mapToLong(Long::longValue).sorted().toArray();
+            assess(open, tally);
+        });
+
+        DebtorScanResult result = tally.result();
+        if (result.getCalls() > 0 || result.getOpened() + result.getSettled() > 0) {
+            log.info("Debtor scan: {} calls, {} callers, {} opened, {} updated, {} settled", result.getCalls(),
+                    result.getCallers(), result.getOpened(), result.getUpdated(), result.getSettled());
+        }
+        return result;
+    }
+
+    /**
+     * Reads calls completed in {@code [from, to)} in {@code debtors.backfill.parallelism} threads, each scanning its
+     * own time slice into its own totals, then assesses every caller found. The scan watermark is left as it is.
+     */
+    public DebtorScanResult backfill(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Backfill range must have from before to");
+        }
+        long start = System.nanoTime();
+        List<LocalDateTime> bounds = partitionBounds(from, to, parallelism * 4);
+
+        CallChargeTotals totals = new CallChargeTotals();
+        Tally tally = new Tally();
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            List<Future<Partition>> partitions = new ArrayList<>();
+            for (int i = 0; i + 1 < bounds.size(); i++) {
+                LocalDateTime sliceFrom = bounds.get(i);
+                LocalDateTime sliceTo = bounds.get(i + 1);
+                partitions.add(executor.submit(() -> scanPartition(sliceFrom, sliceTo)));
+            }
+            for (Future<Partition> partition : partitions) {
+                Partition done = partition.get();
+                totals.addAll(done.totals());
+                tally.calls += done.rows();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Debtor backfill interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Debtor backfill partition failed", e.getCause());
+        }
+        tally.add(0, totals);
+
+        long[] callers = totals.callerIds();
+        for (int i = 0; i < callers.length; i += assessBatchSize) {
+            long[] batch = Arrays.copyOfRange(callers, i, Math.min(callers.length, i + assessBatchSize));
+            transactionTemplate.executeWithoutResult(status -> {
+                lockWatermark();
+                assess(batch, tally);
+            });
+        }
+
+        DebtorScanResult result = tally.result();
+        log.info("Debtor backfill {} to {}: {} calls, {} callers, {} opened, {} updated, {} settled in {} ms",
+                from, to, result.getCalls(), result.getCallers(), result.getOpened(), result.getUpdated(),
+                result.getSettled(), (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    private Partition scanPartition(LocalDateTime from, LocalDateTime to) {
+        CallChargeTotals totals = new CallChargeTotals(chunkSize);
+        // id 0 precedes every call, so calls updated exactly at "from" are included.
+        Position after = new Position(from, 0L);
+        long rows = 0;
+        Chunk chunk;
+        do {
+            chunk = readChunk(after, to, totals);
+            rows += chunk.rows();
+            after = chunk.last();
+        } while (chunk.rows() == chunkSize);
+        return new Partition(rows, totals);
+    }
+
+    private Chunk readChunk(Position after, LocalDateTime until, CallChargeTotals totals) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("until", Timestamp.valueOf(until));
+        params.put("afterUpdatedAt", Timestamp.valueOf(after.updatedAt()));
+        params.put("afterId", after.id());
+        params.put("limit", chunkSize);
+
+        Position[] last = {after};
+        int[] rows = {0};
+        jdbc.query(CHUNK, params, (RowCallbackHandler) rs -> {
+            BigDecimal charge = rs.getBigDecimal("sum_decimal");
+            totals.add(rs.getLong("caller_id"), charge == null ? 0L : charge.movePointRight(2).longValue());
+            last[0] = new Position(rs.getTimestamp("updated_at").toLocalDateTime(), rs.getLong("id"));
+            rows[0]++;
+        });
+        return new Chunk(rows[0], last[0]);
+    }
+
+    private Position lockWatermark() {
+        return jdbc.getJdbcOperations().queryForObject(
+                "SELECT scanned_updated_at, scanned_call_id FROM debtor_scan WHERE id = 1 FOR UPDATE",
+                (rs, rowNum) -> new Position(rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2)));
+    }
+
+    /**
+     * Opens, refreshes or settles the debtor rows of {@code userIds} (ascending) from their current balances.
+     * Runs inside the caller's transaction, after the watermark row is locked.
+     */
+    private void assess(long[] userIds, Tally tally) {
+        for (int from = 0; from < userIds.length; from += assessBatchSize) {
+            List<Long> ids = Arrays.stream(userIds, from, Math.min(userIds.length, from + assessBatchSize))
+                    .boxed().toList();
+
+            Map<Long, BigDecimal> balances = new HashMap<>();
+            jdbc.query("SELECT id, COALESCE(balance, 0) AS balance FROM users WHERE id IN (:ids)",
+                    Map.of("ids", ids),
+                    (RowCallbackHandler) rs -> balances.put(rs.getLong("id"), rs.getBigDecimal("balance")));
+            Map<Long, Long> openDebtors = new HashMap<>();
+            jdbc.query("SELECT user_id, MIN(id) AS id FROM debtors " +
+                            "WHERE user_id IN (:ids) AND COALESCE(is_paid, 0) = 0 GROUP BY user_id",
+                    Map.of("ids", ids),
+                    (RowCallbackHandler) rs -> openDebtors.put(rs.getLong("user_id"), rs.getLong("id")));
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> opened = new ArrayList<>();
+            List<Object[]> updated = new ArrayList<>();
+            List<Object[]> settled = new ArrayList<>();
+            for (Long userId : ids) {
+                BigDecimal balance = balances.get(userId);
+                if (balance == null) {
+                    continue;
+                }
+                Long debtorId = openDebtors.get(userId);
+                if (balance.signum() < 0) {
+                    BigDecimal outstanding = balance.negate();
+                    if (debtorId == null) {
+                        opened.add(new Object[]{outstanding, now, now, now, userId});
+                    } else {
+                        updated.add(new Object[]{outstanding, now, now, debtorId});
+                    }
+                } else if (debtorId != null) {
+                    settled.add(new Object[]{now, now, debtorId});
+                }
+            }
+
+            if (!opened.isEmpty()) {
+                jdbc.getJdbcOperations().batchUpdate(OPEN_DEBT, opened);
+            }
+            if (!updated.isEmpty()) {
+                jdbc.getJdbcOperations().batchUpdate(
+                        "UPDATE debtors SET outstanding_amount = ?, assessed_at = ?, updated_at = ? WHERE id = ?", updated);
+            }
+            if (!settled.isEmpty()) {
+                jdbc.getJdbcOperations().batchUpdate(
+                        "UPDATE debtors SET is_paid = 1, outstanding_amount = 0, assessed_at = ?, updated_at = ? WHERE id = ?",
+                        settled);
+            }
+            tally.opened += opened.size();
+            tally.updated += updated.size();
+            tally.settled += settled.size();
+        }
+    }
+
+    private static List<LocalDateTime> partitionBounds(LocalDateTime from, LocalDateTime to, int partitions) {
+        Duration step = Duration.between(from, to).dividedBy(partitions);
+        if (step.isZero()) {
+            return List.of(from, to);
+        }
+        List<LocalDateTime> bounds = new ArrayList<>(partitions + 1);
+        for (int i = 0; i < partitions; i++) {
+            bounds.add(from.plus(step.multipliedBy(i)));
+        }
+        bounds.add(to);
+        return bounds;
+    }
+
+    private record Position(LocalDateTime updatedAt, long id) {
+    }
+
+    private record Chunk(int rows, Position last) {
+    }
+
+    private record Partition(long rows, CallChargeTotals totals) {
+    }
+
+    private static final class Tally {
+
+        private long calls;
+        private long callers;
+        private long chargedCents;
+        private long opened;
+        private long updated;
+        private long settled;
+
+        void add(long rows, CallChargeTotals totals) {
+            calls += rows;
+            callers += totals.size();
+            chargedCents += totals.total();
+        }
+
+        DebtorScanResult result() {
+            return DebtorScanResult.builder()
+                    .calls(calls)
+                    .callers(callers)
+                    .charged(BigDecimal.valueOf(chargedCents, 2))
+                    .opened(opened)
+                    .updated(updated)
+                    .settled(settled)
+                    .build();
+        }
+    }
+}
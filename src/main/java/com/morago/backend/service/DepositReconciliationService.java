@@ -0,0 +1,28 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.response.ReconciliationReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Settles pending deposits from a bank statement: each incoming transfer is matched to the oldest pending
+ * deposit with the same account holder, bank and won amount, and matches are approved in batches.
+ * <p>
+ * The statement is a UTF-8 CSV with a header row naming at least the {@code account_holder}, {@code bank_name}
+ * and {@code amount} columns (any order); an optional {@code reference} column is copied into the report.
+ */
+public interface DepositReconciliationService {
+
+    ReconciliationReport reconcile(Path statement) throws IOException;
+
+    /**
+     * Spools a streamed statement to a temporary file, reconciles it and deletes the file.
+     *
+     * @param contentLength declared length of the stream, or -1 if unknown
+     * @throws com.morago.backend.exception.StatementTooLargeException if the statement exceeds
+     *         {@code reconciliation.max-statement-bytes}
+     */
+    ReconciliationReport reconcile(InputStream statement, long contentLength) throws IOException;
+}
@@ -0,0 +1,301 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.response.BulkTransitionResponse;
+import com.morago.backend.dto.response.ReconciliationReport;
+import com.morago.backend.dto.response.UnmatchedStatementLine;
+import com.morago.backend.entity.enumFiles.EStatus;
+import com.morago.backend.exception.StatementTooLargeException;
+import com.morago.backend.repository.DepositMatchCandidate;
+import com.morago.backend.repository.DepositRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Pending deposits are loaded once into a hash index keyed by normalized holder and amount; the statement is then
+ * read in a single pass. Matches are approved through {@link PaymentApprovalService#approveDeposits} in batches,
+ * each in its own transaction, so a failure part-way keeps the batches already committed and a re-run only sees
+ * what is still pending.
+ */
+@Slf4j
+@Service
+public class DepositReconciliationServiceImpl implements DepositReconciliationService {
+
+    static final String HOLDER_COLUMN = "account_holder";
+    static final String BANK_COLUMN = "bank_name";
+    static final String AMOUNT_COLUMN = "amount";
+    static final String REFERENCE_COLUMN = "reference";
+
+    private final DepositRepository depositRepository;
+    private final PaymentApprovalService paymentApprovalService;
+    private final int batchSize;
+    private final int maxReportedLines;
+    private final int windowBytes;
+    private final long maxStatementBytes;
+
+    public DepositReconciliationServiceImpl(DepositRepository depositRepository,
+                                            PaymentApprovalService paymentApprovalService,
+                                            @Value("${reconciliation.batch-size:1000}") int batchSize,
+                                            @Value("${reconciliation.max-reported-lines:10000}") int maxReportedLines,
+                                            @Value("${reconciliation.window-bytes:" + BankStatementReader.DEFAULT_WINDOW_BYTES + "}") int windowBytes,
+                                            @Value("${reconciliation.max-statement-bytes:1073741824}") long maxStatementBytes) {
+        this.depositRepository = depositRepository;
+        this.paymentApprovalService = paymentApprovalService;
+        this.batchSize = batchSize;
+        this.maxReportedLines = maxReportedLines;
+        this.windowBytes = windowBytes;
+        this.maxStatementBytes = maxStatementBytes;
+    }
+
+    @Override
+    public ReconciliationReport reconcile(InputStream statement, long contentLength) throws IOException {
+        if (contentLength > maxStatementBytes) {
+            throw new StatementTooLargeException(maxStatementBytes);
+        }
+        Path file = Files.createTempFile("bank-statement-", ".csv");
+        try {
+            spool(statement, file);
+            return reconcile(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Copies the stream to {@code file}, failing as soon as it passes the size limit; the declared length alone is
+     * not trusted (chunked uploads have none).
+     */
+    private void spool(InputStream statement, Path file) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        long written = 0;
+        try (OutputStream out = Files.newOutputStream(file)) {
+            for (int read; (read = statement.read(buffer)) != -1; ) {
+                written += read;
+                if (written > maxStatementBytes) {
+                    throw new StatementTooLargeException(maxStatementBytes);
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    @Override
+    public ReconciliationReport reconcile(Path statement) throws IOException {
+        long start = System.nanoTime();
+        Map<MatchKey, ArrayDeque<DepositMatchCandidate>> index = new HashMap<>();
+        int pending = 0;
+        for (DepositMatchCandidate deposit : depositRepository.findMatchCandidates(EStatus.PENDING)) {
+            if (deposit.getWonDecimal() != null) {
+                index.computeIfAbsent(MatchKey.of(deposit.getAccountHolder(), deposit.getWonDecimal()),
+                        key -> new ArrayDeque<>()).add(deposit);
+                pending++;
+            }
+        }
+
+        Run run = new Run(index, pending);
+        BankStatementReader.read(statement, windowBytes, run::line);
+        if (run.columns == null) {
+            throw new IllegalArgumentException("Bank statement is empty");
+        }
+        run.flush();
+
+        ReconciliationReport report = run.report();
+        log.info("Reconciled bank statement: {} lines, {} deposits approved, {} unmatched, {} still pending in {} ms",
+                report.getLines(), report.getApproved(), report.getUnmatched(), report.getPendingDepositsLeft(),
+                (System.nanoTime() - start) / 1_000_000);
+        return report;
+    }
+
+    /**
+     * Holder with whitespace removed and case folded, amount without trailing zeros,
+     * so "홍 길동" / 50000.00 matches "홍길동" / 50000.
+     */
+    private record MatchKey(String holder, BigDecimal amount) {
+
+        static MatchKey of(String holder, BigDecimal amount) {
+            return new MatchKey(normalize(holder), amount.stripTrailingZeros());
+        }
+    }
+
+    private record StatementLine(long lineNumber, String holder, String bank, BigDecimal amount, String reference) {
+    }
+
+    private final class Run {
+
+        private final Map<MatchKey, ArrayDeque<DepositMatchCandidate>> index;
+        private final Map<Long, StatementLine> batch = new LinkedHashMap<>();
+        private final List<UnmatchedStatementLine> unmatchedLines = new ArrayList<>();
+
+        private int[] columns;
+        private long lines;
+        private long skipped;
+        private long approved;
+        private long unmatched;
+        private long pendingLeft;
+
+        Run(Map<MatchKey, ArrayDeque<DepositMatchCandidate>> index, long pending) {
+            this.index = index;
+            this.pendingLeft = pending;
+        }
+
+        void line(long lineNumber, String[] fields) {
+            if (columns == null) {
+                columns = resolveColumns(fields);
+                return;
+            }
+            lines++;
+
+            String holder = field(fields, columns[0]);
+            String bank = field(fields, columns[1]);
+            String reference = columns[3] < 0 ? null : field(fields, columns[3]);
+            BigDecimal amount = parseAmount(field(fields, columns[2]));
+            if (holder == null || bank == null || amount == null) {
+                unmatched(new StatementLine(lineNumber, holder, bank, amount, reference), UnmatchedStatementLine.Reason.MALFORMED);
+                return;
+            }
+            if (amount.signum() <= 0) {
+                skipped++;
+                return;
+            }
+
+            StatementLine line = new StatementLine(lineNumber, holder, bank, amount, reference);
+            DepositMatchCandidate deposit = take(MatchKey.of(holder, amount), normalize(bank));
+            if (deposit == null) {
+                unmatched(line, UnmatchedStatementLine.Reason.NO_PENDING_DEPOSIT);
+                return;
+            }
+            batch.put(deposit.getId(), line);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        /**
+         * Removes and returns the oldest candidate for {@code key} whose bank also matches.
+         */
+        private DepositMatchCandidate take(MatchKey key, String bank) {
+            ArrayDeque<DepositMatchCandidate> candidates = index.get(key);
+            if (candidates == null) {
+                return null;
+            }
+            for (Iterator<DepositMatchCandidate> it = candidates.iterator(); it.hasNext(); ) {
+                DepositMatchCandidate candidate = it.next();
+                if (normalize(candidate.getNameOfBank()).equals(bank)) {
+                    it.remove();
+                    if (candidates.isEmpty()) {
+                        index.remove(key);
+                    }
+                    pendingLeft--;
+                    return candidate;
+                }
+            }
+            return null;
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            BulkTransitionResponse result = paymentApprovalService.approveDeposits(new ArrayList<>(batch.keySet()));
+            approved += result.getTransitioned();
+            for (Long id : result.getNotPendingIds()) {
+                unmatched(batch.get(id), UnmatchedStatementLine.Reason.ALREADY_PROCESSED);
+            }
+            batch.clear();
+        }
+
+        private void unmatched(StatementLine line, UnmatchedStatementLine.Reason reason) {
+            unmatched++;
+            if (unmatchedLines.size() < maxReportedLines) {
+                unmatchedLines.add(UnmatchedStatementLine.builder()
+                        .lineNumber(line.lineNumber())
+                        .accountHolder(line.holder())
+                        .bankName(line.bank())
+                        .amount(line.amount())
+                        .reference(line.reference())
+                        .reason(reason)
+                        .build());
+            }
+        }
+
+        ReconciliationReport report() {
+            unmatchedLines.sort((a, b) -> Long.compare(a.getLineNumber(), b.getLineNumber()));
+            return ReconciliationReport.builder()
+                    .lines(lines)
+                    .skipped(skipped)
+                    .approved(approved)
+                    .unmatched(unmatched)
+                    .unmatchedLines(unmatchedLines)
+                    .truncated(unmatched > unmatchedLines.size())
+                    .pendingDepositsLeft(pendingLeft)
+                    .build();
+        }
+    }
+
+    private static int[] resolveColumns(String[] header) {
+        int[] columns = {-1, -1, -1, -1};
+        for (int i = 0; i < header.length; i++) {
+            switch (header[i].trim().toLowerCase(Locale.ROOT)) {
+                case HOLDER_COLUMN -> columns[0] = i;
+                case BANK_COLUMN -> columns[1] = i;
+                case AMOUNT_COLUMN -> columns[2] = i;
+                case REFERENCE_COLUMN -> columns[3] = i;
+                default -> {
+                }
+            }
+        }
+        if (columns[0] < 0 || columns[1] < 0 || columns[2] < 0) {
+            throw new IllegalArgumentException("Bank statement header must contain " + HOLDER_COLUMN + ", "
+                    + BANK_COLUMN + " and " + AMOUNT_COLUMN + " columns");
+        }
+        return columns;
+    }
+
+    private static String field(String[] fields, int column) {
+        if (column >= fields.length) {
+            return null;
+        }
+        String value = fields[column].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static BigDecimal parseAmount(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.replace(",", ""));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+}
@@ -2,12 +2,15 @@ package com.morago.backend.service;
 
 import com.morago.backend.dto.DepositDto;
 import com.morago.backend.entity.Deposit;
+import com.morago.backend.entity.enumFiles.EStatus;
 import com.morago.backend.mapper.DepositMapper;
 import com.morago.backend.repository.DepositRepository;
 import com.morago.backend.repository.UserRepository;
+import com.morago.backend.exception.PaymentAlreadyPostedException;
 import com.morago.backend.exception.ResourceNotFoundException;
 import com.morago.backend.service.DepositService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +24,8 @@ public class DepositServiceImpl implements DepositService {
     private final DepositRepository depositRepository;
     private final UserRepository userRepository;
     private final DepositMapper mapper;
+    private final LedgerService ledgerService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private <T> T findOrThrow(java.util.Optional<T> optional, String entityName, Long id) {
         return optional.orElseThrow(() -> new ResourceNotFoundException(entityName + " not found with id " + id));
@@ -34,7 +39,7 @@ public class DepositServiceImpl implements DepositService {
             deposit.setUser(findOrThrow(userRepository.findById(dto.getUserId()), "User", dto.getUserId()));
         }
 
-        return mapper.toDto(depositRepository.save(deposit));
+        return mapper.toDto(save(deposit, false));
     }
 
     @Override
@@ -50,6 +55,10 @@ public class DepositServiceImpl implements DepositService {
     @Override
     public DepositDto updateDeposit(Long id, DepositDto dto) {
         Deposit deposit = findOrThrow(depositRepository.findById(id), "Deposit", id);
+        boolean wasSuccessful = deposit.getStatus() == EStatus.SUCCESSFUL;
+        if (wasSuccessful && changesPosting(deposit, dto)) {
+            throw new PaymentAlreadyPostedException("Deposit", id);
+        }
 
         deposit.setAccountHolder(dto.getAccountHolder());
         deposit.setNameOfBank(dto.getNameOfBank());
@@ -61,14 +70,42 @@ public class DepositServiceImpl implements DepositService {
             deposit.setUser(findOrThrow(userRepository.findById(dto.getUserId()), "User", dto.getUserId()));
         }
 
-        return mapper.toDto(depositRepository.save(deposit));
+        return mapper.toDto(save(deposit, wasSuccessful));
+    }
+
+    /**
+     * Credits the user's wallet once the deposit is successful; the ledger ignores repeated postings.
+     */
+    private Deposit save(Deposit deposit, boolean wasSuccessful) {
+        Deposit saved = depositRepository.save(deposit);
+        if (saved.getStatus() == EStatus.SUCCESSFUL) {
+            ledgerService.applyDeposit(saved);
+            if (!wasSuccessful) {
+                eventPublisher.publishEvent(new PaymentSettledEvent(
+                        PaymentSettledEvent.Kind.DEPOSIT, saved.getCreatedAt(), saved.getCoinDecimal()));
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * A posted deposit is final: reversing it would need a compensating ledger entry, so its user,
+     * amount and status are frozen once it is SUCCESSFUL.
+     */
+    private static boolean changesPosting(Deposit deposit, DepositDto dto) {
+        return dto.getStatus() != EStatus.SUCCESSFUL
+                || dto.getCoinDecimal() == null
+                || dto.getCoinDecimal().compareTo(deposit.getCoinDecimal()) != 0
+                || (dto.getUserId() != null
+                        && (deposit.getUser() == null || !dto.getUserId().equals(deposit.getUser().getId())));
     }
 
     @Override
     public void deleteDeposit(Long id) {
-        if (!depositRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Deposit not found with id " + id);
+        Deposit deposit = findOrThrow(depositRepository.findById(id), "Deposit", id);
+        if (deposit.getStatus() == EStatus.SUCCESSFUL) {
+            throw new PaymentAlreadyPostedException("Deposit", id);
         }
-        depositRepository.deleteById(id);
+        depositRepository.delete(deposit);
     }
 }
@@ -0,0 +1,33 @@
+package com.morago.backend.service;
+
+import com.morago.backend.entity.enumFiles.CallStatus;
+import com.morago.backend.entity.enumFiles.EStatus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * Streams calls, deposits and withdrawals created in {@code [from, to)} to an output stream as CSV (with a header row)
+ * or NDJSON (one JSON object per line, same fields as the DTOs). Rows are read through a database cursor and written
+ * as they arrive, so memory use does not grow with the export size. Null filters are not applied.
+ */
+public interface ExportService {
+
+    enum Format {
+        CSV,
+        NDJSON
+    }
+
+    /**
+     * @return number of rows written
+     */
+    long exportCalls(LocalDateTime from, LocalDateTime to, CallStatus callStatus, Format format, OutputStream out)
+            throws IOException;
+
+    long exportDeposits(LocalDateTime from, LocalDateTime to, EStatus status, Format format, OutputStream out)
+            throws IOException;
+
+    long exportWithdrawals(LocalDateTime from, LocalDateTime to, EStatus status, Format format, OutputStream out)
+            throws IOException;
+}
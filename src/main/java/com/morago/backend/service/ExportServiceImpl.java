@@ -0,0 +1,195 @@
+package com.morago.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.morago.backend.dto.CallDto;
+import com.morago.backend.dto.DepositDto;
+import com.morago.backend.dto.WithdrawalDto;
+import com.morago.backend.entity.Call;
+import com.morago.backend.entity.Deposit;
+import com.morago.backend.entity.Withdrawal;
+import com.morago.backend.entity.enumFiles.CallStatus;
+import com.morago.backend.entity.enumFiles.EStatus;
+import com.morago.backend.mapper.CallMapper;
+import com.morago.backend.mapper.DepositMapper;
+import com.morago.backend.mapper.WithdrawalMapper;
+import com.morago.backend.repository.CallRepository;
+import com.morago.backend.repository.DepositRepository;
+import com.morago.backend.repository.WithdrawalRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Each export runs in one read-only transaction around a streaming repository query. Entities are mapped to their
+ * DTO and written immediately; the persistence context is cleared every {@code export.clear-every} rows so loaded
+ * entities do not pile up in it.
+ */
+@Slf4j
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private static final int BUFFER_CHARS = 64 * 1024;
+
+    private static final List<Column<CallDto>> CALL_COLUMNS = List.of(
+            new Column<>("id", CallDto::getId),
+            new Column<>("caller_id", CallDto::getCallerId),
+            new Column<>("recipient_id", CallDto::getRecipientId),
+            new Column<>("theme_id", CallDto::getThemeId),
+            new Column<>("created_at", CallDto::getCreatedAt),
+            new Column<>("duration", CallDto::getDuration),
+            new Column<>("status", CallDto::isStatus),
+            new Column<>("sum_decimal", CallDto::getSumDecimal),
+            new Column<>("commission", CallDto::getCommission),
+            new Column<>("call_status", CallDto::getCallStatus),
+            new Column<>("updated_at", CallDto::getUpdatedAt));
+
+    private static final List<Column<DepositDto>> DEPOSIT_COLUMNS = List.of(
+            new Column<>("id", DepositDto::getId),
+            new Column<>("user_id", DepositDto::getUserId),
+            new Column<>("account_holder", DepositDto::getAccountHolder),
+            new Column<>("name_of_bank", DepositDto::getNameOfBank),
+            new Column<>("coin_decimal", DepositDto::getCoinDecimal),
+            new Column<>("won_decimal", DepositDto::getWonDecimal),
+            new Column<>("status", DepositDto::getStatus),
+            new Column<>("created_at", DepositDto::getCreatedAt),
+            new Column<>("updated_at", DepositDto::getUpdatedAt));
+
+    private static final List<Column<WithdrawalDto>> WITHDRAWAL_COLUMNS = List.of(
+            new Column<>("id", WithdrawalDto::getId),
+            new Column<>("user_id", WithdrawalDto::getUserId),
+            new Column<>("account_number", WithdrawalDto::getAccountNumber),
+            new Column<>("account_holder", WithdrawalDto::getAccountHolder),
+            new Column<>("name_of_bank", WithdrawalDto::getNameOfBank),
+            new Column<>("sum_decimal", WithdrawalDto::getSumDecimal),
+            new Column<>("status", WithdrawalDto::getStatus),
+            new Column<>("created_at", WithdrawalDto::getCreatedAt),
+            new Column<>("updated_at", WithdrawalDto::getUpdatedAt));
+
+    private final CallRepository callRepository;
+    private final DepositRepository depositRepository;
+    private final WithdrawalRepository withdrawalRepository;
+    private final CallMapper callMapper;
+    private final DepositMapper depositMapper;
+    private final WithdrawalMapper withdrawalMapper;
+    private final ObjectMapper objectMapper;
+    private final int clearEvery;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ExportServiceImpl(CallRepository callRepository,
+                             DepositRepository depositRepository,
+                             WithdrawalRepository withdrawalRepository,
+                             CallMapper callMapper,
+                             DepositMapper depositMapper,
+                             WithdrawalMapper withdrawalMapper,
+                             ObjectMapper objectMapper,
+                             @Value("${export.clear-every:1000}") int clearEvery) {
+        this.callRepository = callRepository;
+        this.depositRepository = depositRepository;
+        this.withdrawalRepository = withdrawalRepository;
+        this.callMapper = callMapper;
+        this.depositMapper = depositMapper;
+        this.withdrawalMapper = withdrawalMapper;
+        this.objectMapper = objectMapper;
+        this.clearEvery = clearEvery;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportCalls(LocalDateTime from, LocalDateTime to, CallStatus callStatus, Format format, OutputStream out)
+            throws IOException {
+        try (Stream<Call> calls = callRepository.streamForExport(from, to, callStatus)) {
+            return write("calls", calls, callMapper::toDto, CallDto.class, CALL_COLUMNS, format, out);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportDeposits(LocalDateTime from, LocalDateTime to, EStatus status, Format format, OutputStream out)
+            throws IOException {
+        try (Stream<Deposit> deposits = depositRepository.streamForExport(from, to, status)) {
+            return write("deposits", deposits, depositMapper::toDto, DepositDto.class, DEPOSIT_COLUMNS, format, out);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportWithdrawals(LocalDateTime from, LocalDateTime to, EStatus status, Format format, OutputStream out)
+            throws IOException {
+        try (Stream<Withdrawal> withdrawals = withdrawalRepository.streamForExport(from, to, status)) {
+            return write("withdrawals", withdrawals, withdrawalMapper::toDto, WithdrawalDto.class, WITHDRAWAL_COLUMNS,
+                    format, out);
+        }
+    }
+
+    private <E, D> long write(String name, Stream<E> rows, Function<E, D> toDto, Class<D> type, List<Column<D>> columns,
+                              Format format, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_CHARS);
+        ObjectWriter json = objectMapper.writerFor(type);
+        if (format == Format.CSV) {
+            writer.write(columns.stream().map(Column::header).collect(Collectors.joining(",")));
+            writer.write('\n');
+        }
+
+        long count = 0;
+        for (Iterator<E> it = rows.iterator(); it.hasNext(); ) {
+            D dto = toDto.apply(it.next());
+            if (format == Format.CSV) {
+                writeCsvRow(writer, columns, dto);
+            } else {
+                writer.write(json.writeValueAsString(dto));
+            }
+            writer.write('\n');
+            if (++count % clearEvery == 0) {
+                entityManager.clear();
+            }
+        }
+        writer.flush();
+
+        log.info("Exported {} {} as {} in {} ms", count, name, format, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    private static <D> void writeCsvRow(Writer writer, List<Column<D>> columns, D dto) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csv(columns.get(i).value().apply(dto)));
+        }
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private record Column<D>(String header, Function<D, Object> value) {
+    }
+}
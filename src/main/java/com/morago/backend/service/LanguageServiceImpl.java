@@ -9,10 +9,15 @@ import com.morago.backend.repository.LanguageRepository;
 import com.morago.backend.repository.TranslatorProfileRepository;
 import com.morago.backend.service.LanguageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 
 @Service
 @RequiredArgsConstructor
@@ -22,22 +27,43 @@ public class LanguageServiceImpl implements LanguageService {
     private final LanguageRepository languageRepository;
     private final TranslatorProfileRepository translatorProfileRepository;
     private final LanguageMapper languageMapper;
+    private final ReferenceCatalog referenceCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     private Language getLanguageOrThrow(Long id) {
         return languageRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Language not found with id " + id));
     }
 
+    /**
+     * Loads all profiles in one query and fails with every unknown id instead of silently dropping them.
+     *
+     * @throws IllegalArgumentException if {@code ids} contains null
+     */
+    private Set<TranslatorProfile> resolveProfiles(List<Long> ids) {
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Translator profile ids must not contain null");
+        }
+        Set<TranslatorProfile> profiles = new HashSet<>(translatorProfileRepository.findAllById(ids));
+        Set<Long> missing = new TreeSet<>(ids);
+        profiles.forEach(profile -> missing.remove(profile.getId()));
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException("Translator profile", missing);
+        }
+        return profiles;
+    }
+
     @Override
     public LanguageDto create(LanguageDto dto) {
         Language language = languageMapper.toEntity(dto);
 
         if (dto.getTranslatorProfileIds() != null) {
-            List<TranslatorProfile> profiles = translatorProfileRepository.findAllById(dto.getTranslatorProfileIds());
-            language.setTranslatorProfiles(new java.util.HashSet<>(profiles));
+            language.setTranslatorProfiles(resolveProfiles(dto.getTranslatorProfileIds()));
         }
 
-        return languageMapper.toDto(languageRepository.save(language));
+        LanguageDto saved = languageMapper.toDto(languageRepository.save(language));
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.LANGUAGES));
+        return saved;
     }
 
     @Override
@@ -47,29 +73,33 @@ public class LanguageServiceImpl implements LanguageService {
         existing.setName(dto.getName());
 
         if (dto.getTranslatorProfileIds() != null) {
-            List<TranslatorProfile> profiles = translatorProfileRepository.findAllById(dto.getTranslatorProfileIds());
-            existing.setTranslatorProfiles(new java.util.HashSet<>(profiles));
+            existing.setTranslatorProfiles(resolveProfiles(dto.getTranslatorProfileIds()));
         }
 
-        return languageMapper.toDto(languageRepository.save(existing));
+        LanguageDto saved = languageMapper.toDto(languageRepository.save(existing));
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.LANGUAGES));
+        return saved;
     }
 
     @Override
     public void delete(Long id) {
         Language language = getLanguageOrThrow(id);
         languageRepository.delete(language);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.LANGUAGES));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public LanguageDto getById(Long id) {
         return languageMapper.toDto(getLanguageOrThrow(id));
     }
 
+    /**
+     * Served from the reference catalog; entries omit {@code translatorProfileIds}.
+     */
     @Override
+    @Transactional(readOnly = true)
     public List<LanguageDto> getAll() {
-        return languageRepository.findAll()
-                .stream()
-                .map(languageMapper::toDto)
-                .toList();
+        return referenceCatalog.snapshot().languages().getValues();
     }
 }
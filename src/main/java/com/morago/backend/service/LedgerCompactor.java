@@ -0,0 +1,65 @@
+package com.morago.backend.service;
+
+import com.morago.backend.repository.LedgerEntryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Periodically folds new ledger entries into per-user balance snapshots. A balance can then be rebuilt or
+ * audited as snapshot plus the short tail of later entries instead of summing a user's whole history.
+ * <p>
+ * Entries younger than {@code ledger.compaction.lag-seconds} are left for the next run: an entry id is taken
+ * at insert time but becomes visible only at commit, so the newest ids may still have gaps below them.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ledger.compaction.enabled", matchIfMissing = true)
+public class LedgerCompactor {
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final int batchSize;
+    private final long lagSeconds;
+
+    public LedgerCompactor(LedgerEntryRepository ledgerEntryRepository,
+                           @Value("${ledger.compaction.batch-size:100000}") int batchSize,
+                           @Value("${ledger.compaction.lag-seconds:300}") long lagSeconds) {
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.batchSize = batchSize;
+        this.lagSeconds = lagSeconds;
+    }
+
+    /**
+     * Compacts up to one batch of entries and reports balances that disagree with their snapshot.
+     */
+    @Scheduled(initialDelayString = "${ledger.compaction.interval-ms:300000}",
+            fixedDelayString = "${ledger.compaction.interval-ms:300000}")
+    @Transactional
+    public void compact() {
+        long after = ledgerEntryRepository.lockCompactedUpTo();
+
+        Long upTo = ledgerEntryRepository.findBatchUpperBound(after, batchSize);
+        Long firstRecent = ledgerEntryRepository.findFirstIdCreatedSince(
+                after, LocalDateTime.now().minusSeconds(lagSeconds));
+        if (upTo != null && firstRecent != null) {
+            upTo = Math.min(upTo, firstRecent - 1);
+        }
+        if (upTo == null || upTo <= after) {
+            return;
+        }
+
+        int users = ledgerEntryRepository.compact(after, upTo);
+        ledgerEntryRepository.updateCompactedUpTo(upTo);
+        log.info("Ledger compacted entries ({}, {}] into {} snapshot rows", after, upTo, users);
+
+        long outOfSync = ledgerEntryRepository.countBalancesOutOfSync();
+        if (outOfSync > 0) {
+            log.warn("{} user balances do not match their ledger snapshot", outOfSync);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.morago.backend.service;
+
+import com.morago.backend.entity.enumFiles.LedgerEntryType;
+
+import java.math.BigDecimal;
+
+/**
+ * One entry of a batched ledger posting; {@code amount} is positive, the sign comes from {@code type}.
+ */
+public record LedgerPosting(Long userId, LedgerEntryType type, BigDecimal amount, String idempotencyKey, Long referenceId) {
+}
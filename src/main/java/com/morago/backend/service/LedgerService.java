@@ -0,0 +1,53 @@
+package com.morago.backend.service;
+
+import com.morago.backend.entity.Call;
+import com.morago.backend.entity.Deposit;
+import com.morago.backend.entity.LedgerEntry;
+import com.morago.backend.entity.Withdrawal;
+import com.morago.backend.entity.enumFiles.LedgerEntryType;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The only writer of user balances. Every change is an append-only {@link LedgerEntry} plus an atomic
+ * balance update in the same transaction.
+ */
+public interface LedgerService {
+
+    /**
+     * Appends an entry and applies it to the user's balance. Posting an idempotency key again returns the
+     * original entry without applying it twice.
+     *
+     * @param amount positive amount; the sign comes from {@code type}
+     * @throws com.morago.backend.exception.InsufficientBalanceException if a withdrawal exceeds the balance
+     */
+    LedgerEntry post(Long userId, LedgerEntryType type, BigDecimal amount, String idempotencyKey, Long referenceId);
+
+    /**
+     * Posts many entries with one batched balance update per user and one batched insert.
+     * Postings whose idempotency key already exists are skipped. If a user's postings include a withdrawal
+     * and their combined effect would make the balance negative, none of that user's postings are applied.
+     *
+     * @return ids of the users whose postings were not applied
+     */
+    Set<Long> postAll(List<LedgerPosting> postings);
+
+    /**
+     * Credits a successful deposit once.
+     */
+    void applyDeposit(Deposit deposit);
+
+    /**
+     * Debits a successful withdrawal once.
+     */
+    void applyWithdrawal(Withdrawal withdrawal);
+
+    /**
+     * Charges the caller and pays the translator, minus commission, for a completed call once.
+     */
+    void settleCall(Call call);
+
+    BigDecimal getBalance(Long userId);
+}
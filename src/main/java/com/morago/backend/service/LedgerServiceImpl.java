@@ -0,0 +1,196 @@
+package com.morago.backend.service;
+
+import com.morago.backend.entity.Call;
+import com.morago.backend.entity.Deposit;
+import com.morago.backend.entity.LedgerEntry;
+import com.morago.backend.entity.Withdrawal;
+import com.morago.backend.entity.enumFiles.LedgerEntryType;
+import com.morago.backend.exception.InsufficientBalanceException;
+import com.morago.backend.exception.UserNotFoundException;
+import com.morago.backend.repository.LedgerEntryRepository;
+import com.morago.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The balance update and the entry insert share one transaction. A concurrent post with the same key waits
+ * on the user row lock and then fails on the unique key, which rolls its balance update back.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LedgerServiceImpl implements LedgerService {
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final UserRepository userRepository;
+    private final NamedParameterJdbcTemplate jdbc;
+
+    @Override
+    public LedgerEntry post(Long userId, LedgerEntryType type, BigDecimal amount, String idempotencyKey, Long referenceId) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new IllegalArgumentException("Ledger amount must be positive");
+        }
+
+        Optional<LedgerEntry> existing = ledgerEntryRepository.findByIdempotencyKey(idempotencyKey);
+        if (existing.isPresent()) {
+            log.debug("Ledger entry {} already posted", idempotencyKey);
+            return existing.get();
+        }
+
+        BigDecimal delta = type.isCredit() ? amount : amount.negate();
+        int updated = type.requiresFunds()
+                ? userRepository.addToBalanceIfSufficient(userId, delta)
+                : userRepository.addToBalance(userId, delta);
+        if (updated == 0) {
+            if (!userRepository.existsById(userId)) {
+                throw new UserNotFoundException(String.valueOf(userId));
+            }
+            throw new InsufficientBalanceException(userId, amount);
+        }
+
+        LedgerEntry entry = LedgerEntry.builder()
+                .user(userRepository.getReferenceById(userId))
+                .type(type)
+                .amount(delta)
+                .balanceAfter(userRepository.findBalanceById(userId).orElseThrow())
+                .idempotencyKey(idempotencyKey)
+                .referenceId(referenceId)
+                .build();
+        return ledgerEntryRepository.save(entry);
+    }
+
+    @Override
+    public Set<Long> postAll(List<LedgerPosting> postings) {
+        if (postings.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> posted = new HashSet<>(jdbc.queryForList(
+                "SELECT idempotency_key FROM ledger_entries WHERE idempotency_key IN (:keys)",
+                Map.of("keys", postings.stream().map(LedgerPosting::idempotencyKey).toList()),
+                String.class));
+
+        // Users in id order, so concurrent batches lock user rows in the same order.
+        Map<Long, List<LedgerPosting>> byUser = new TreeMap<>();
+        for (LedgerPosting posting : postings) {
+            if (posting.amount() == null || posting.amount().signum() <= 0) {
+                throw new IllegalArgumentException("Ledger amount must be positive: " + posting.idempotencyKey());
+            }
+            if (posted.add(posting.idempotencyKey())) {
+                byUser.computeIfAbsent(posting.userId(), id -> new ArrayList<>()).add(posting);
+            }
+        }
+        if (byUser.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Long> userIds = new ArrayList<>(byUser.keySet());
+        List<Object[]> balanceUpdates = new ArrayList<>(userIds.size());
+        for (Map.Entry<Long, List<LedgerPosting>> user : byUser.entrySet()) {
+            BigDecimal delta = user.getValue().stream()
+                    .map(LedgerServiceImpl::delta)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            boolean guarded = user.getValue().stream().anyMatch(posting -> posting.type().requiresFunds());
+            balanceUpdates.add(new Object[]{delta, user.getKey(), guarded ? 1 : 0, delta});
+        }
+        int[] updated = jdbc.getJdbcOperations().batchUpdate(
+                "UPDATE users SET balance = COALESCE(balance, 0) + ? WHERE id = ? AND (? = 0 OR COALESCE(balance, 0) + ? >= 0)",
+                balanceUpdates);
+
+        Set<Long> rejected = new HashSet<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                rejected.add(userIds.get(i));
+            }
+        }
+        byUser.keySet().removeAll(rejected);
+        if (byUser.isEmpty()) {
+            return rejected;
+        }
+
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        jdbc.query("SELECT id, COALESCE(balance, 0) AS balance FROM users WHERE id IN (:ids)",
+                Map.of("ids", byUser.keySet()),
+                (RowCallbackHandler) rs -> balances.put(rs.getLong("id"), rs.getBigDecimal("balance")));
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> entries = new ArrayList<>(postings.size());
+        for (Map.Entry<Long, List<LedgerPosting>> user : byUser.entrySet()) {
+            // Walk back from the final balance to get each entry's balance_after.
+            List<LedgerPosting> userPostings = user.getValue();
+            BigDecimal balanceAfter = balances.get(user.getKey());
+            Object[][] rows = new Object[userPostings.size()][];
+            for (int i = userPostings.size() - 1; i >= 0; i--) {
+                LedgerPosting posting = userPostings.get(i);
+                BigDecimal delta = delta(posting);
+                rows[i] = new Object[]{user.getKey(), posting.type().name(), delta, balanceAfter,
+                        posting.idempotencyKey(), posting.referenceId(), now};
+                balanceAfter = balanceAfter.subtract(delta);
+            }
+            entries.addAll(List.of(rows));
+        }
+        jdbc.getJdbcOperations().batchUpdate(
+                "INSERT INTO ledger_entries (user_id, type, amount, balance_after, idempotency_key, reference_id, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                entries);
+
+        log.debug("Posted {} ledger entries for {} users, {} users rejected", entries.size(), byUser.size(), rejected.size());
+        return rejected;
+    }
+
+    @Override
+    public void applyDeposit(Deposit deposit) {
+        post(deposit.getUser().getId(), LedgerEntryType.DEPOSIT, deposit.getCoinDecimal(),
+                "deposit:" + deposit.getId(), deposit.getId());
+    }
+
+    @Override
+    public void applyWithdrawal(Withdrawal withdrawal) {
+        post(withdrawal.getUser().getId(), LedgerEntryType.WITHDRAWAL, withdrawal.getSumDecimal(),
+                "withdrawal:" + withdrawal.getId(), withdrawal.getId());
+    }
+
+    @Override
+    public void settleCall(Call call) {
+        BigDecimal sum = call.getSumDecimal();
+        if (sum == null || sum.signum() <= 0) {
+            return;
+        }
+        Long callId = call.getId();
+        post(call.getCaller().getId(), LedgerEntryType.CALL_CHARGE, sum, "call:" + callId + ":charge", callId);
+        post(call.getRecipient().getId(), LedgerEntryType.CALL_EARNING, sum, "call:" + callId + ":earning", callId);
+
+        BigDecimal commission = call.getCommission();
+        if (commission != null && commission.signum() > 0) {
+            post(call.getRecipient().getId(), LedgerEntryType.COMMISSION, commission,
+                    "call:" + callId + ":commission", callId);
+        }
+    }
+
+    private static BigDecimal delta(LedgerPosting posting) {
+        return posting.type().isCredit() ? posting.amount() : posting.amount().negate();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BigDecimal getBalance(Long userId) {
+        return userRepository.findBalanceById(userId)
+                .orElseThrow(() -> new UserNotFoundException(String.valueOf(userId)));
+    }
+}
@@ -0,0 +1,38 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.DepositDto;
+import com.morago.backend.dto.WithdrawalDto;
+import com.morago.backend.dto.response.BulkTransitionResponse;
+import com.morago.backend.dto.response.KeysetPage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Operator queue for pending deposits and withdrawals. Bulk transitions move all requested rows in one
+ * transaction with set-based updates and post the matching ledger entries as one batch.
+ */
+public interface PaymentApprovalService {
+
+    /**
+     * Pending deposits, oldest first; pass the previous page's last (createdAt, id) to continue.
+     */
+    KeysetPage<DepositDto> getPendingDeposits(LocalDateTime afterCreatedAt, Long afterId, int size);
+
+    KeysetPage<WithdrawalDto> getPendingWithdrawals(LocalDateTime afterCreatedAt, Long afterId, int size);
+
+    /**
+     * Marks pending deposits SUCCESSFUL and credits the users' wallets.
+     */
+    BulkTransitionResponse approveDeposits(List<Long> ids);
+
+    BulkTransitionResponse rejectDeposits(List<Long> ids);
+
+    /**
+     * Marks pending withdrawals SUCCESSFUL and debits the users' wallets. Withdrawals of users whose balance
+     * does not cover all of their requested withdrawals stay pending.
+     */
+    BulkTransitionResponse approveWithdrawals(List<Long> ids);
+
+    BulkTransitionResponse rejectWithdrawals(List<Long> ids);
+}
@@ -0,0 +1,162 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.DepositDto;
+import com.morago.backend.dto.WithdrawalDto;
+import com.morago.backend.dto.response.BulkTransitionResponse;
+import com.morago.backend.dto.response.KeysetPage;
+import com.morago.backend.entity.Deposit;
+import com.morago.backend.entity.Withdrawal;
+import com.morago.backend.entity.enumFiles.EStatus;
+import com.morago.backend.entity.enumFiles.LedgerEntryType;
+import com.morago.backend.mapper.DepositMapper;
+import com.morago.backend.mapper.WithdrawalMapper;
+import com.morago.backend.repository.DepositRepository;
+import com.morago.backend.repository.PendingPayment;
+import com.morago.backend.repository.WithdrawalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PaymentApprovalServiceImpl implements PaymentApprovalService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final DepositRepository depositRepository;
+    private final WithdrawalRepository withdrawalRepository;
+    private final DepositMapper depositMapper;
+    private final WithdrawalMapper withdrawalMapper;
+    private final LedgerService ledgerService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<DepositDto> getPendingDeposits(LocalDateTime afterCreatedAt, Long afterId, int size) {
+        PageRequest limit = PageRequest.of(0, pageSize(size) + 1);
+        List<Deposit> rows = afterCreatedAt == null || afterId == null
+                ? depositRepository.findQueue(EStatus.PENDING, limit)
+                : depositRepository.findQueueAfter(EStatus.PENDING, afterCreatedAt, afterId, limit);
+        return page(rows, pageSize(size), depositMapper::toDto, Deposit::getCreatedAt, Deposit::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<WithdrawalDto> getPendingWithdrawals(LocalDateTime afterCreatedAt, Long afterId, int size) {
+        PageRequest limit = PageRequest.of(0, pageSize(size) + 1);
+        List<Withdrawal> rows = afterCreatedAt == null || afterId == null
+                ? withdrawalRepository.findQueue(EStatus.PENDING, limit)
+                : withdrawalRepository.findQueueAfter(EStatus.PENDING, afterCreatedAt, afterId, limit);
+        return page(rows, pageSize(size), withdrawalMapper::toDto, Withdrawal::getCreatedAt, Withdrawal::getId);
+    }
+
+    @Override
+    public BulkTransitionResponse approveDeposits(List<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        List<PendingPayment> pending = depositRepository.lockPending(requested);
+
+        ledgerService.postAll(pending.stream()
+                .map(deposit -> new LedgerPosting(deposit.getUserId(), LedgerEntryType.DEPOSIT, deposit.getAmount(),
+                        "deposit:" + deposit.getId(), deposit.getId()))
+                .toList());
+        List<Long> approved = pending.stream().map(PendingPayment::getId).toList();
+        int transitioned = transition(approved, batch -> depositRepository.transitionPending(batch, EStatus.SUCCESSFUL.name()));
+        pending.forEach(deposit -> eventPublisher.publishEvent(
+                new PaymentSettledEvent(PaymentSettledEvent.Kind.DEPOSIT, deposit.getCreatedAt(), deposit.getAmount())));
+
+        log.info("Approved {} of {} requested deposits", transitioned, requested.size());
+        return response(requested, approved, transitioned, List.of());
+    }
+
+    @Override
+    public BulkTransitionResponse rejectDeposits(List<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        List<Long> pending = depositRepository.lockPending(requested).stream().map(PendingPayment::getId).toList();
+        int transitioned = transition(pending, batch -> depositRepository.transitionPending(batch, EStatus.FAILED.name()));
+
+        log.info("Rejected {} of {} requested deposits", transitioned, requested.size());
+        return response(requested, pending, transitioned, List.of());
+    }
+
+    @Override
+    public BulkTransitionResponse approveWithdrawals(List<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        List<PendingPayment> pending = withdrawalRepository.lockPending(requested);
+
+        Set<Long> rejectedUsers = ledgerService.postAll(pending.stream()
+                .map(withdrawal -> new LedgerPosting(withdrawal.getUserId(), LedgerEntryType.WITHDRAWAL,
+                        withdrawal.getAmount(), "withdrawal:" + withdrawal.getId(), withdrawal.getId()))
+                .toList());
+
+        List<Long> approved = new ArrayList<>();
+        List<Long> insufficient = new ArrayList<>();
+        for (PendingPayment withdrawal : pending) {
+            if (rejectedUsers.contains(withdrawal.getUserId())) {
+                insufficient.add(withdrawal.getId());
+            } else {
+                approved.add(withdrawal.getId());
+                eventPublisher.publishEvent(new PaymentSettledEvent(
+                        PaymentSettledEvent.Kind.WITHDRAWAL, withdrawal.getCreatedAt(), withdrawal.getAmount()));
+            }
+        }
+        int transitioned = transition(approved, batch -> withdrawalRepository.transitionPending(batch, EStatus.SUCCESSFUL.name()));
+
+        log.info("Approved {} of {} requested withdrawals, {} lack funds", transitioned, requested.size(), insufficient.size());
+        return response(requested, pending.stream().map(PendingPayment::getId).toList(), transitioned, insufficient);
+    }
+
+    @Override
+    public BulkTransitionResponse rejectWithdrawals(List<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        List<Long> pending = withdrawalRepository.lockPending(requested).stream().map(PendingPayment::getId).toList();
+        int transitioned = transition(pending, batch -> withdrawalRepository.transitionPending(batch, EStatus.FAILED.name()));
+
+        log.info("Rejected {} of {} requested withdrawals", transitioned, requested.size());
+        return response(requested, pending, transitioned, List.of());
+    }
+
+    private static int transition(List<Long> ids, Function<List<Long>, Integer> update) {
+        return ids.isEmpty() ? 0 : update.apply(ids);
+    }
+
+    private static BulkTransitionResponse response(Set<Long> requested, List<Long> pending, int transitioned,
+                                                   List<Long> insufficient) {
+        List<Long> notPending = new ArrayList<>(requested);
+        notPending.removeAll(Set.copyOf(pending));
+        return BulkTransitionResponse.builder()
+                .requested(requested.size())
+                .transitioned(transitioned)
+                .notPendingIds(notPending)
+                .insufficientBalanceIds(insufficient)
+                .build();
+    }
+
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private static <E, D> KeysetPage<D> page(List<E> rows, int size, Function<E, D> toDto,
+                                             Function<E, LocalDateTime> createdAt, Function<E, Long> id) {
+        boolean hasNext = rows.size() > size;
+        List<E> content = hasNext ? rows.subList(0, size) : rows;
+        E last = hasNext ? content.get(content.size() - 1) : null;
+        return KeysetPage.<D>builder()
+                .content(content.stream().map(toDto).toList())
+                .nextCreatedAt(last != null ? createdAt.apply(last) : null)
+                .nextId(last != null ? id.apply(last) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.morago.backend.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Published once when a deposit or withdrawal becomes successful; reporting rollups add it after commit.
+ *
+ * @param amount coins credited (deposit) or debited (withdrawal)
+ */
+public record PaymentSettledEvent(Kind kind, LocalDateTime createdAt, BigDecimal amount) {
+
+    public enum Kind {
+        DEPOSIT,
+        WITHDRAWAL
+    }
+}
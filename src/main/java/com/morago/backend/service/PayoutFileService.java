@@ -0,0 +1,29 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.PayoutBatchDto;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Writes approved withdrawals that have not been paid out yet into a bank transfer file.
+ * <p>
+ * The file is UTF-8 CSV: a header, one {@code withdrawal_id,account_number,account_holder,bank_name,amount} row per
+ * withdrawal in id order, and a {@code #TRAILER,<rows>,<total amount>,<sha256>} line whose checksum covers every
+ * byte before it.
+ */
+public interface PayoutFileService {
+
+    /**
+     * Resumes the open batch from its checkpoint if a previous run stopped part-way, otherwise starts a new batch.
+     *
+     * @return the completed batch, or empty when there was nothing to pay out
+     */
+    Optional<PayoutBatchDto> generate() throws IOException;
+
+    /**
+     * Location of a completed batch's payout file.
+     */
+    Path getFile(Long batchId);
+}
@@ -0,0 +1,314 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.PayoutBatchDto;
+import com.morago.backend.entity.PayoutBatch;
+import com.morago.backend.entity.enumFiles.EStatus;
+import com.morago.backend.entity.enumFiles.PayoutBatchStatus;
+import com.morago.backend.exception.PayoutInProgressException;
+import com.morago.backend.exception.ResourceNotFoundException;
+import com.morago.backend.mapper.PayoutBatchMapper;
+import com.morago.backend.repository.PayoutBatchRepository;
+import com.morago.backend.repository.WithdrawalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Approved withdrawals are read through one forward-only, streaming cursor (MySQL sends rows as they are consumed)
+ * and written through a fixed direct buffer, so memory stays bounded by the chunk size whatever the row count.
+ * <p>
+ * Every {@code payout.chunk-size} rows the file is flushed and forced to disk, then the rows are marked with the batch
+ * id and the checkpoint (last withdrawal id, bytes written) is committed in one transaction on a second connection.
+ * A restarted run truncates the file back to the committed checkpoint and continues the cursor after it, so every
+ * marked withdrawal appears in the file exactly once.
+ */
+@Slf4j
+@Service
+public class PayoutFileServiceImpl implements PayoutFileService {
+
+    static final String HEADER = "withdrawal_id,account_number,account_holder,bank_name,amount";
+    static final String TRAILER = "#TRAILER";
+
+    private static final String PAYABLE_WITHDRAWALS =
+            "SELECT id, account_number, account_holder, name_of_bank, sum_decimal FROM withdrawals " +
+                    "WHERE payout_batch_id IS NULL AND status = 'SUCCESSFUL' AND id > ? ORDER BY id";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PayoutBatchRepository payoutBatchRepository;
+    private final WithdrawalRepository withdrawalRepository;
+    private final PayoutBatchMapper payoutBatchMapper;
+    private final Path directory;
+    private final int chunkSize;
+    private final ReentrantLock running = new ReentrantLock();
+
+    public PayoutFileServiceImpl(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 PayoutBatchRepository payoutBatchRepository,
+                                 WithdrawalRepository withdrawalRepository,
+                                 PayoutBatchMapper payoutBatchMapper,
+                                 @Value("${payout.directory:payouts}") Path directory,
+                                 @Value("${payout.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.payoutBatchRepository = payoutBatchRepository;
+        this.withdrawalRepository = withdrawalRepository;
+        this.payoutBatchMapper = payoutBatchMapper;
+        this.directory = directory;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public Optional<PayoutBatchDto> generate() throws IOException {
+        if (!running.tryLock()) {
+            throw new PayoutInProgressException("A payout file is already being generated");
+        }
+        try {
+            Optional<PayoutBatch> open = payoutBatchRepository.findFirstByStatusOrderByIdAsc(PayoutBatchStatus.OPEN);
+            if (open.isEmpty() && !withdrawalRepository.existsByStatusAndPayoutBatchIdIsNull(EStatus.SUCCESSFUL)) {
+                return Optional.empty();
+            }
+            PayoutBatch batch = open.orElseGet(this::openBatch);
+            return Optional.of(payoutBatchMapper.toDto(write(batch)));
+        } finally {
+            running.unlock();
+        }
+    }
+
+    @Override
+    public Path getFile(Long batchId) {
+        PayoutBatch batch = payoutBatchRepository.findById(batchId)
+                .filter(found -> found.getStatus() == PayoutBatchStatus.COMPLETED)
+                .orElseThrow(() -> new ResourceNotFoundException("Completed payout batch", batchId));
+        Path file = directory.resolve(batch.getFileName());
+        if (!Files.isRegularFile(file)) {
+            throw new ResourceNotFoundException("Payout file", batch.getFileName());
+        }
+        return file;
+    }
+
+    private PayoutBatch openBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        return payoutBatchRepository.save(PayoutBatch.builder()
+                .fileName("payout-" + FILE_TIMESTAMP.format(now) + ".csv")
+                .status(PayoutBatchStatus.OPEN)
+                .totalAmount(BigDecimal.ZERO)
+                .createdAt(now)
+                .build());
+    }
+
+    private PayoutBatch write(PayoutBatch batch) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(batch.getFileName());
+        boolean resumed = batch.getBytesWritten() > 0;
+
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() < batch.getBytesWritten()) {
+                throw new IllegalStateException("Payout file " + file + " is shorter than the checkpoint of batch "
+                        + batch.getId() + "; restore the file before resuming");
+            }
+            // Anything after the checkpoint belongs to a chunk that was never committed.
+            channel.truncate(batch.getBytesWritten());
+            MessageDigest digest = sha256();
+            digestPrefix(channel, batch.getBytesWritten(), digest);
+            channel.position(batch.getBytesWritten());
+
+            Writer writer = new Writer(channel, digest);
+            if (!resumed) {
+                writer.line(HEADER);
+            }
+            Chunk chunk = new Chunk();
+
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(PAYABLE_WITHDRAWALS,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(Integer.MIN_VALUE);
+                statement.setLong(1, batch.getLastWithdrawalId());
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                long id = rs.getLong("id");
+                BigDecimal amount = rs.getBigDecimal("sum_decimal");
+                writer.line(id + "," + csv(rs.getString("account_number")) + "," + csv(rs.getString("account_holder"))
+                        + "," + csv(rs.getString("name_of_bank")) + "," + amount.toPlainString());
+                chunk.add(id, amount);
+                if (chunk.ids.size() >= chunkSize) {
+                    checkpoint(batch, writer, chunk);
+                }
+            });
+            checkpoint(batch, writer, chunk);
+
+            String checksum = HexFormat.of().formatHex(writer.digestSoFar());
+            writer.line(TRAILER + "," + batch.getRowCount() + "," + batch.getTotalAmount().toPlainString() + "," + checksum);
+            writer.sync();
+            batch.setStatus(PayoutBatchStatus.COMPLETED);
+            batch.setChecksum(checksum);
+            batch.setBytesWritten(channel.position());
+            batch.setCompletedAt(LocalDateTime.now());
+            PayoutBatch completed = payoutBatchRepository.save(batch);
+
+            log.info("Payout file {} {}: {} withdrawals, total {}", file, resumed ? "resumed and completed" : "completed",
+                    completed.getRowCount(), completed.getTotalAmount().toPlainString());
+            return completed;
+        }
+    }
+
+    private void checkpoint(PayoutBatch batch, Writer writer, Chunk chunk) {
+        if (chunk.ids.isEmpty()) {
+            return;
+        }
+        long bytesWritten = writer.sync();
+        transactionTemplate.executeWithoutResult(status -> {
+            int marked = withdrawalRepository.assignPayoutBatch(chunk.ids, batch.getId());
+            if (marked != chunk.ids.size()) {
+                throw new PayoutInProgressException("Withdrawals of payout batch " + batch.getId()
+                        + " were claimed by another payout run");
+            }
+            batch.setLastWithdrawalId(chunk.ids.get(chunk.ids.size() - 1));
+            batch.setBytesWritten(bytesWritten);
+            batch.setRowCount(batch.getRowCount() + chunk.ids.size());
+            batch.setTotalAmount(batch.getTotalAmount().add(chunk.amount));
+            payoutBatchRepository.save(batch);
+        });
+        chunk.clear();
+    }
+
+    private static void digestPrefix(FileChannel channel, long length, MessageDigest digest) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+        long position = 0;
+        while (position < length) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), length - position));
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of payout file at byte " + position);
+            }
+            digest.update(buffer.flip());
+            position += read;
+        }
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"").replace("\r", " ").replace("\n", " ") + '"';
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Chunk {
+
+        private final List<Long> ids = new ArrayList<>();
+        private BigDecimal amount = BigDecimal.ZERO;
+
+        void add(long id, BigDecimal value) {
+            ids.add(id);
+            amount = amount.add(value);
+        }
+
+        void clear() {
+            ids.clear();
+            amount = BigDecimal.ZERO;
+        }
+    }
+
+    /**
+     * Buffered line writer over the channel that feeds every byte into the running checksum.
+     */
+    private static final class Writer {
+
+        private final FileChannel channel;
+        private final MessageDigest digest;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+
+        Writer(FileChannel channel, MessageDigest digest) {
+            this.channel = channel;
+            this.digest = digest;
+        }
+
+        void line(String text) {
+            byte[] bytes = (text + "\n").getBytes(StandardCharsets.UTF_8);
+            digest.update(bytes);
+            try {
+                if (bytes.length > buffer.remaining()) {
+                    flush();
+                }
+                if (bytes.length > buffer.capacity()) {
+                    write(ByteBuffer.wrap(bytes));
+                } else {
+                    buffer.put(bytes);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Flushes the buffer and forces the file to disk; returns the file length.
+         */
+        long sync() {
+            try {
+                flush();
+                channel.force(false);
+                return channel.position();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        byte[] digestSoFar() {
+            try {
+                return ((MessageDigest) digest.clone()).digest();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            write(buffer);
+            buffer.clear();
+        }
+
+        private void write(ByteBuffer bytes) throws IOException {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.morago.backend.service;
+
+import com.morago.backend.config.datasource.ReadWriteRoutingDataSource;
+import com.morago.backend.config.utils.ReferenceInvalidationChannel;
+import com.morago.backend.dto.CategoryDto;
+import com.morago.backend.dto.LanguageDto;
+import com.morago.backend.dto.ThemeTranslatorCount;
+import com.morago.backend.dto.ThemeDto;
+import com.morago.backend.dto.response.ThemeCatalogResponse;
+import com.morago.backend.mapper.CategoryMapper;
+import com.morago.backend.mapper.ThemeMapper;
+import com.morago.backend.repository.CategoryRepository;
+import com.morago.backend.repository.LanguageRepository;
+import com.morago.backend.repository.ThemeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory catalog of themes, categories and languages. Loaded at startup and replaced as a whole
+ * whenever reference data changes on any node, so readers always see one consistent snapshot without locking.
+ * Translator profile writes only mark the per-theme translator counts stale; those are recounted
+ * periodically with one grouped query instead of reloading the catalog on every profile write.
+ */
+@Slf4j
+@Component
+public class ReferenceCatalog {
+
+    private final ThemeRepository themeRepository;
+    private final CategoryRepository categoryRepository;
+    private final LanguageRepository languageRepository;
+    private final ThemeMapper themeMapper;
+    private final CategoryMapper categoryMapper;
+    private final ReferenceInvalidationChannel channel;
+
+    private final AtomicReference<ReferenceSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean translatorCountsStale = new AtomicBoolean();
+
+    public ReferenceCatalog(ThemeRepository themeRepository,
+                            CategoryRepository categoryRepository,
+                            LanguageRepository languageRepository,
+                            ThemeMapper themeMapper,
+                            CategoryMapper categoryMapper,
+                            ReferenceInvalidationChannel channel) {
+        this.themeRepository = themeRepository;
+        this.categoryRepository = categoryRepository;
+        this.languageRepository = languageRepository;
+        this.themeMapper = themeMapper;
+        this.categoryMapper = categoryMapper;
+        this.channel = channel;
+        channel.subscribe(this::onInvalidated);
+    }
+
+    /**
+     * Current snapshot; loads it on first use if requested before startup completed.
+     */
+    public ReferenceSnapshot snapshot() {
+        ReferenceSnapshot current = snapshot.get();
+        return current != null ? current : reload();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        reload();
+    }
+
+    /**
+     * Broadcasts local changes once their transaction committed; every node, this one included,
+     * reloads when the invalidation arrives.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        channel.publish(event.section());
+    }
+
+    /**
+     * Recounts the translators per theme if a profile write marked them stale since the last refresh.
+     */
+    @Scheduled(initialDelayString = "${catalog.translator-counts.refresh-interval-ms:30000}",
+            fixedDelayString = "${catalog.translator-counts.refresh-interval-ms:30000}")
+    public void refreshTranslatorCountsIfStale() {
+        if (translatorCountsStale.compareAndSet(true, false)) {
+            refreshTranslatorCounts();
+        }
+    }
+
+    /**
+     * Swaps in a copy of the current snapshot with fresh per-theme translator counts, read from the primary.
+     */
+    public synchronized ReferenceSnapshot refreshTranslatorCounts() {
+        return ReadWriteRoutingDataSource.onPrimary(() -> {
+            Map<Long, Long> counts = themeRepository.countTranslatorsByTheme().stream()
+                    .collect(Collectors.toMap(ThemeTranslatorCount::themeId, ThemeTranslatorCount::translators));
+            ReferenceSnapshot recounted = snapshot().withTranslatorCounts(counts);
+            snapshot.set(recounted);
+            return recounted;
+        });
+    }
+
+    private void onInvalidated(String section) {
+        if (ReferenceDataChangedEvent.TRANSLATOR_COUNTS.equals(section)) {
+            translatorCountsStale.set(true);
+        } else {
+            reload();
+        }
+    }
+
+    /**
+     * Reads all reference tables from the primary and atomically swaps in the new snapshot;
+     * a lagging replica would pin stale data until the next change.
+     */
+    public synchronized ReferenceSnapshot reload() {
+        return ReadWriteRoutingDataSource.onPrimary(this::load);
+    }
+
+    private ReferenceSnapshot load() {
+        long start = System.nanoTime();
+        translatorCountsStale.set(false);
+
+        List<ThemeCatalogResponse> themeCatalog = themeRepository.findCatalog(false);
+        List<ThemeDto> themes = themeRepository.findAll().stream()
+                .map(themeMapper::toDto)
+                .toList();
+        List<CategoryDto> categories = categoryMapper.toDtoList(categoryRepository.findAll());
+        List<LanguageDto> languages = languageRepository.findAll().stream()
+                .map(language -> LanguageDto.builder()
+                        .id(language.getId())
+                        .name(language.getName())
+                        .createdAt(language.getCreatedAt())
+                        .updatedAt(language.getUpdatedAt())
+                        .build())
+                .toList();
+
+        ReferenceSnapshot loaded = new ReferenceSnapshot(themeCatalog, themes, categories, languages);
+        snapshot.set(loaded);
+
+        log.info("Reference catalog loaded: {} themes, {} categories, {} languages in {} ms",
+                themes.size(), categories.size(), languages.size(), (System.nanoTime() - start) / 1_000_000);
+        return loaded;
+    }
+}
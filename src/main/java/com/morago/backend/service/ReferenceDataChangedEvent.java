@@ -0,0 +1,14 @@
+package com.morago.backend.service;
+
+/**
+ * Published by services that modify reference data; the {@link ReferenceCatalog} reloads after commit.
+ * {@link #TRANSLATOR_COUNTS} only marks the per-theme translator counts stale; they are recounted on the
+ * next refresh without reloading the catalog.
+ */
+public record ReferenceDataChangedEvent(String section) {
+
+    public static final String THEMES = "THEMES";
+    public static final String CATEGORIES = "CATEGORIES";
+    public static final String LANGUAGES = "LANGUAGES";
+    public static final String TRANSLATOR_COUNTS = "TRANSLATOR_COUNTS";
+}
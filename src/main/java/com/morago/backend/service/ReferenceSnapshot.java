@@ -0,0 +1,170 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.CategoryDto;
+import com.morago.backend.dto.LanguageDto;
+import com.morago.backend.dto.ThemeDto;
+import com.morago.backend.dto.response.ThemeCatalogResponse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Immutable view of the reference data at one point in time. Never modified after construction;
+ * the {@link ReferenceCatalog} replaces it as a whole. Callers get copies of the stored DTOs, so modifying a
+ * returned DTO never changes what other requests see.
+ */
+public final class ReferenceSnapshot {
+
+    private static final UnaryOperator<ThemeCatalogResponse> CATALOG_ENTRY_COPY = entry -> entry.toBuilder().build();
+
+    static final ReferenceSnapshot EMPTY = new ReferenceSnapshot(List.of(), List.of(), List.of(), List.of());
+
+    private final Section<ThemeCatalogResponse> themeCatalog;
+    private final Section<ThemeCatalogResponse> activeThemeCatalog;
+    private final Section<ThemeDto> themes;
+    private final Section<CategoryDto> categories;
+    private final Section<LanguageDto> languages;
+    private final Instant loadedAt = Instant.now();
+
+    ReferenceSnapshot(List<ThemeCatalogResponse> themeCatalog, List<ThemeDto> themes,
+                      List<CategoryDto> categories, List<LanguageDto> languages) {
+        this(themeCatalog, new Section<>(themes, ThemeDto::getId, theme -> theme.toBuilder()
+                        .translatorProfileIds(copyOf(theme.getTranslatorProfileIds()))
+                        .translators(copyOf(theme.getTranslators()))
+                        .build()),
+                new Section<>(categories, CategoryDto::getId, category -> category.toBuilder().build()),
+                new Section<>(languages, LanguageDto::getId, language -> language.toBuilder()
+                        .translatorProfileIds(copyOf(language.getTranslatorProfileIds()))
+                        .build()));
+    }
+
+    private static <E> List<E> copyOf(List<E> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    private ReferenceSnapshot(List<ThemeCatalogResponse> themeCatalog, Section<ThemeDto> themes,
+                              Section<CategoryDto> categories, Section<LanguageDto> languages) {
+        this.themeCatalog = new Section<>(themeCatalog, ThemeCatalogResponse::getId, CATALOG_ENTRY_COPY);
+        this.activeThemeCatalog = new Section<>(themeCatalog.stream().filter(ThemeCatalogResponse::isActive).toList(),
+                ThemeCatalogResponse::getId, CATALOG_ENTRY_COPY);
+        this.themes = themes;
+        this.categories = categories;
+        this.languages = languages;
+    }
+
+    /**
+     * Copy of this snapshot with new translator counts on the theme catalog; themes, categories and
+     * languages are shared. Themes missing from {@code countsByThemeId} have no translators.
+     */
+    ReferenceSnapshot withTranslatorCounts(Map<Long, Long> countsByThemeId) {
+        List<ThemeCatalogResponse> recounted = themeCatalog.getValues().stream()
+                .map(entry -> entry.toBuilder()
+                        .translatorCount(countsByThemeId.getOrDefault(entry.getId(), 0L))
+                        .build())
+                .toList();
+        return new ReferenceSnapshot(recounted, themes, categories, languages);
+    }
+
+    public Section<ThemeCatalogResponse> themeCatalog(boolean activeOnly) {
+        return activeOnly ? activeThemeCatalog : themeCatalog;
+    }
+
+    public Section<ThemeDto> themes() {
+        return themes;
+    }
+
+    public Section<CategoryDto> categories() {
+        return categories;
+    }
+
+    public Section<LanguageDto> languages() {
+        return languages;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * One kind of reference entry. Values keep their load order for listing; lookups binary-search
+     * a sorted {@code long[]} of ids, so no boxing or hashing happens per lookup. Entries are copied on the way
+     * out, and the entity tag is the SHA-256 of the entries' JSON.
+     */
+    public static final class Section<T> {
+
+        private static final ObjectMapper JSON = JsonMapper.builder().findAndAddModules().build();
+
+        private final long[] ids;
+        private final Object[] byId;
+        private final List<T> values;
+        private final UnaryOperator<T> copy;
+        private final String eTag;
+
+        Section(List<T> values, ToLongFunction<T> idOf, UnaryOperator<T> copy) {
+            this.values = values.stream().map(copy).toList();
+            this.copy = copy;
+
+            List<T> sorted = new ArrayList<>(values);
+            sorted.sort(Comparator.comparingLong(idOf));
+            this.ids = new long[sorted.size()];
+            this.byId = new Object[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                ids[i] = idOf.applyAsLong(sorted.get(i));
+                byId[i] = sorted.get(i);
+            }
+            this.eTag = "\"" + digest(this.values) + "\"";
+        }
+
+        private static String digest(List<?> values) {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(JSON.writeValueAsBytes(values)));
+            } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Cannot compute the entity tag of a reference section", e);
+            }
+        }
+
+        /**
+         * Returns the entry with the given id, or null if there is none.
+         */
+        @SuppressWarnings("unchecked")
+        public T get(long id) {
+            int index = Arrays.binarySearch(ids, id);
+            return index >= 0 ? copy.apply((T) byId[index]) : null;
+        }
+
+        public boolean contains(long id) {
+            return Arrays.binarySearch(ids, id) >= 0;
+        }
+
+        /**
+         * Copies of all entries in load order; the list itself is unmodifiable.
+         */
+        public List<T> getValues() {
+            return values.stream().map(copy).toList();
+        }
+
+        /**
+         * Content-derived entity tag; identical data yields the same tag on every node.
+         */
+        public String getETag() {
+            return eTag;
+        }
+
+        public int size() {
+            return ids.length;
+        }
+    }
+}
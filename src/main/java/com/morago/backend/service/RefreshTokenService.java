@@ -1,14 +1,20 @@
 package com.morago.backend.service;
 
+import com.morago.backend.dto.response.SessionResponse;
 import com.morago.backend.dto.tokens.JWTResponse;
 import com.morago.backend.entity.RefreshToken;
 import com.morago.backend.entity.User;
 import com.morago.backend.exception.ExpireJwtTokenException;
 import com.morago.backend.exception.RefreshTokenNotFoundException;
+
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenService {
-    void createRefreshToken(String username, String jwtTokenString);
+    default void createRefreshToken(String username, String jwtTokenString) {
+        createRefreshToken(username, jwtTokenString, null, null);
+    }
+    void createRefreshToken(String username, String jwtTokenString, String deviceId, String deviceName);
     Optional<RefreshToken> findByToken(String token);
     default RefreshToken findByTokenOrThrow(String token) {
         return findByToken(token).orElseThrow(RefreshTokenNotFoundException::new);
@@ -26,4 +32,6 @@ public interface RefreshTokenService {
     void deleteByToken(String token);
     JWTResponse refreshToken(String requestRefreshToken);
     void logoutUserByRefreshToken(String refreshTokenStr);
+    List<SessionResponse> getActiveSessions(String username);
+    void revokeSession(String username, Long sessionId);
 }
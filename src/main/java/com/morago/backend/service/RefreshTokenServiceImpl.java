@@ -2,12 +2,15 @@ package com.morago.backend.service;
 
 import com.morago.backend.config.utils.JWTProperties;
 import com.morago.backend.config.utils.JWTUtils;
+import com.morago.backend.dto.response.SessionResponse;
 import com.morago.backend.dto.tokens.JWTResponse;
 import com.morago.backend.entity.RefreshToken;
 import com.morago.backend.entity.User;
 import com.morago.backend.exception.ExpireJwtTokenException;
 import com.morago.backend.exception.RefreshTokenNotFoundException;
+import com.morago.backend.exception.ResourceNotFoundException;
 import com.morago.backend.repository.RefreshTokenRepository;
+import com.morago.backend.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +18,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -28,25 +32,38 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
     
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserService userService;
+    private final UserRepository userRepository;
     private final JWTProperties jwtProperties;
     private final JWTUtils jwtUtils;
 
     /**
      * Creates and stores a new refresh token for the specified user.
+     * A previous session of the same device is replaced, and when the user already holds
+     * the maximum number of sessions the oldest ones are evicted in the same transaction.
+     * The user row is locked first, so concurrent logins of one user count and evict one after another.
      * 
      * @param username the username to associate with the token
      * @param jwtTokenString the JWT token string to store
+     * @param deviceId optional client device identifier
+     * @param deviceName optional client device name
      */
     @Override
-    public void createRefreshToken(String username, String jwtTokenString) {
+    @Transactional
+    public void createRefreshToken(String username, String jwtTokenString, String deviceId, String deviceName) {
         log.debug("Creating refresh token for user: {}", username);
         
         User user = userService.findByUsernameOrThrow(username);
+        userRepository.lockById(user.getId());
+        
+        if (deviceId != null) {
+            refreshTokenRepository.deleteByUserIdAndDeviceId(user.getId(), deviceId);
+        }
+        evictOverflowSessions(user);
         
-        RefreshToken token = buildRefreshToken(jwtTokenString, user);
+        RefreshToken token = buildRefreshToken(jwtTokenString, user, deviceId, deviceName);
         refreshTokenRepository.save(token);
         
-        log.info("Refresh token created successfully for user: {}", username);
+        log.debug("Refresh token created successfully for user: {}", username);
     }
 
     /**
@@ -123,11 +140,13 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
         String newAccessToken = jwtUtils.generateAccessToken(user);
         String newRefreshToken = jwtUtils.generateRefreshToken(user);
         
-        // Clean up old token and create new one
+        // Clean up old token and create new one for the same device
+        String deviceId = refreshToken.getDeviceId();
+        String deviceName = refreshToken.getDeviceName();
         deleteByToken(requestRefreshToken);
-        createRefreshToken(user.getUsername(), newRefreshToken);
+        createRefreshToken(user.getUsername(), newRefreshToken, deviceId, deviceName);
         
-        log.info("Token refresh successful for user: {}", user.getUsername());
+        log.debug("Token refresh successful for user: {}", user.getUsername());
         return new JWTResponse(newAccessToken, newRefreshToken);
     }
 
@@ -149,18 +168,77 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
         log.info("User logged out successfully: {}", username);
     }
     
+    /**
+     * Lists the active (unexpired) sessions of a user, newest first.
+     * 
+     * @param username the session owner
+     * @return list of sessions
+     */
+    @Override
+    public List<SessionResponse> getActiveSessions(String username) {
+        User user = userService.findByUsernameOrThrow(username);
+        
+        return refreshTokenRepository.findAllByUserIdAndExpirationTimeAfterOrderByCreatedAtDesc(user.getId(), LocalDateTime.now()).stream()
+                .map(this::toSessionResponse)
+                .toList();
+    }
+
+    /**
+     * Revokes a single session of a user.
+     * 
+     * @param username the session owner
+     * @param sessionId the session to revoke
+     * @throws ResourceNotFoundException if the session does not belong to the user
+     */
+    @Override
+    @Transactional
+    public void revokeSession(String username, Long sessionId) {
+        User user = userService.findByUsernameOrThrow(username);
+        
+        if (refreshTokenRepository.deleteByIdAndUserId(sessionId, user.getId()) == 0) {
+            throw new ResourceNotFoundException("Session", sessionId);
+        }
+        
+        log.info("Session {} revoked for user: {}", sessionId, username);
+    }
+    
+    /**
+     * Makes room for one more session by deleting the oldest ones above the configured cap.
+     */
+    private void evictOverflowSessions(User user) {
+        long activeSessions = refreshTokenRepository.countByUserId(user.getId());
+        long overflow = activeSessions - jwtProperties.getMaxSessionsPerUser() + 1;
+        
+        if (overflow > 0) {
+            int evicted = refreshTokenRepository.deleteOldestByUserId(user.getId(), (int) overflow);
+            log.debug("Evicted {} oldest sessions for user: {}", evicted, user.getUsername());
+        }
+    }
+    
     /**
      * Builds a RefreshToken entity with proper expiration time.
      */
-    private RefreshToken buildRefreshToken(String jwtTokenString, User user) {
+    private RefreshToken buildRefreshToken(String jwtTokenString, User user, String deviceId, String deviceName) {
         LocalDateTime now = LocalDateTime.now();
         Duration refreshDuration = Duration.ofMillis(jwtProperties.getRefreshExpirationMs());
         
         return RefreshToken.builder()
                 .token(jwtTokenString)
                 .user(user)
+                .deviceId(deviceId)
+                .deviceName(deviceName)
                 .createdAt(now)
                 .expirationTime(now.plus(refreshDuration))
                 .build();
     }
+    
+    private SessionResponse toSessionResponse(RefreshToken token) {
+        return SessionResponse.builder()
+                .id(token.getId())
+                .deviceId(token.getDeviceId())
+                .deviceName(token.getDeviceName())
+                .createdAt(token.getCreatedAt())
+                .expiresAt(token.getExpirationTime())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.response.CallRollupResponse;
+import com.morago.backend.dto.response.PaymentRollupResponse;
+import com.morago.backend.entity.enumFiles.RollupGranularity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Revenue and call-volume reports served from the pre-aggregated rollup tables only; the call, deposit and
+ * withdrawal tables are never scanned. Buckets starting in {@code [from, to)} are returned in time order.
+ */
+public interface ReportingService {
+
+    /**
+     * @param themeId null for every theme, 0 for calls without a theme
+     */
+    List<CallRollupResponse> getCallRollups(RollupGranularity granularity, LocalDateTime from, LocalDateTime to,
+                                            Long themeId);
+
+    List<PaymentRollupResponse> getPaymentRollups(RollupGranularity granularity, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,82 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.response.CallRollupResponse;
+import com.morago.backend.dto.response.PaymentRollupResponse;
+import com.morago.backend.entity.enumFiles.RollupGranularity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class ReportingServiceImpl implements ReportingService {
+
+    private static final String CALL_ROLLUPS = "SELECT bucket_start, theme_id, calls, duration_seconds, revenue, commission " +
+            "FROM call_rollups WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ? ";
+    private static final String PAYMENT_ROLLUPS = "SELECT bucket_start, deposits, deposit_amount, withdrawals, withdrawal_amount " +
+            "FROM payment_rollups WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ? ORDER BY bucket_start";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxBuckets;
+
+    public ReportingServiceImpl(JdbcTemplate jdbcTemplate,
+                                @Value("${reporting.max-buckets:10000}") long maxBuckets) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxBuckets = maxBuckets;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CallRollupResponse> getCallRollups(RollupGranularity granularity, LocalDateTime from,
+                                                   LocalDateTime to, Long themeId) {
+        checkRange(granularity, from, to);
+        String sql = CALL_ROLLUPS + (themeId != null ? "AND theme_id = ? " : "") + "ORDER BY bucket_start, theme_id";
+        Object[] args = themeId != null
+                ? new Object[]{granularity.name(), Timestamp.valueOf(from), Timestamp.valueOf(to), themeId}
+                : new Object[]{granularity.name(), Timestamp.valueOf(from), Timestamp.valueOf(to)};
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            long theme = rs.getLong("theme_id");
+            return CallRollupResponse.builder()
+                    .granularity(granularity)
+                    .bucketStart(rs.getTimestamp("bucket_start").toLocalDateTime())
+                    .themeId(theme == 0 ? null : theme)
+                    .calls(rs.getLong("calls"))
+                    .durationSeconds(rs.getLong("duration_seconds"))
+                    .revenue(rs.getBigDecimal("revenue"))
+                    .commission(rs.getBigDecimal("commission"))
+                    .build();
+        }, args);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PaymentRollupResponse> getPaymentRollups(RollupGranularity granularity, LocalDateTime from,
+                                                         LocalDateTime to) {
+        checkRange(granularity, from, to);
+        return jdbcTemplate.query(PAYMENT_ROLLUPS, (rs, rowNum) -> PaymentRollupResponse.builder()
+                        .granularity(granularity)
+                        .bucketStart(rs.getTimestamp("bucket_start").toLocalDateTime())
+                        .deposits(rs.getLong("deposits"))
+                        .depositAmount(rs.getBigDecimal("deposit_amount"))
+                        .withdrawals(rs.getLong("withdrawals"))
+                        .withdrawalAmount(rs.getBigDecimal("withdrawal_amount"))
+                        .build(),
+                granularity.name(), Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    private void checkRange(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        if (granularity == null || from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Report range must have from before to");
+        }
+        Duration bucket = granularity == RollupGranularity.HOUR ? Duration.ofHours(1) : Duration.ofDays(1);
+        if (Duration.between(from, to).dividedBy(bucket) > maxBuckets) {
+            throw new IllegalArgumentException("Report range spans more than " + maxBuckets + " "
+                    + granularity.name().toLowerCase() + " buckets; use a coarser granularity or a shorter range");
+        }
+    }
+}
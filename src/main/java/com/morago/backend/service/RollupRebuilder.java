@@ -0,0 +1,132 @@
+package com.morago.backend.service;
+
+import com.morago.backend.entity.enumFiles.RollupGranularity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Recomputes the reporting rollups of whole days from the call, deposit and withdrawal tables.
+ * <p>
+ * Each day is replaced in its own transaction: its hourly and daily rows are deleted and written again by one
+ * grouped {@code INSERT ... SELECT} per granularity over the {@code created_at} indexes, so a backfill of months
+ * never holds locks on more than one day of rollups.
+ * <p>
+ * A rebuilt day is closed: {@code rollup_state.open_from} moves past it under the same {@code FOR UPDATE} lock that
+ * every {@link RollupWriter} flush takes {@code FOR SHARE}, so a delta still buffered on another node when the day is
+ * recomputed is never added on top of it. Such a delta marks the day in {@code rollup_stale_days} instead, and
+ * {@link #repairStaleDays()} recomputes it once more.
+ */
+@Slf4j
+@Component
+public class RollupRebuilder {
+
+    private static final String HOUR_BUCKET = "DATE_FORMAT(created_at, '%Y-%m-%d %H:00:00')";
+    private static final String DAY_BUCKET = "DATE(created_at)";
+
+    private static final String LOCK_STATE = "SELECT open_from FROM rollup_state WHERE id = 1 FOR UPDATE";
+    private static final String SELECT_OPEN_FROM = "SELECT open_from FROM rollup_state WHERE id = 1";
+    private static final String CLOSE_DAY = "UPDATE rollup_state SET open_from = ? WHERE id = 1 AND open_from < ?";
+    private static final String SELECT_STALE_DAYS = "SELECT day FROM rollup_stale_days ORDER BY day";
+    private static final String DELETE_STALE_DAY = "DELETE FROM rollup_stale_days WHERE day = ?";
+
+    private static final String DELETE_CALLS = "DELETE FROM call_rollups WHERE bucket_start >= ? AND bucket_start < ?";
+    private static final String DELETE_PAYMENTS = "DELETE FROM payment_rollups WHERE bucket_start >= ? AND bucket_start < ?";
+
+    private static final String INSERT_CALLS = "INSERT INTO call_rollups " +
+            "(granularity, bucket_start, theme_id, calls, duration_seconds, revenue, commission) " +
+            "SELECT ?, %1$s, COALESCE(theme_id, 0), COUNT(*), COALESCE(SUM(duration), 0), " +
+            "COALESCE(SUM(sum_decimal), 0), COALESCE(SUM(commission), 0) " +
+            "FROM calls WHERE status = 1 AND created_at >= ? AND created_at < ? " +
+            "GROUP BY %1$s, COALESCE(theme_id, 0)";
+
+    private static final String INSERT_PAYMENTS = "INSERT INTO payment_rollups " +
+            "(granularity, bucket_start, deposits, deposit_amount, withdrawals, withdrawal_amount) " +
+            "SELECT ?, bucket, SUM(deposits), SUM(deposit_amount), SUM(withdrawals), SUM(withdrawal_amount) FROM (" +
+            "SELECT %1$s AS bucket, COUNT(*) AS deposits, SUM(coin_decimal) AS deposit_amount, " +
+            "0 AS withdrawals, 0 AS withdrawal_amount " +
+            "FROM deposits WHERE status = 'SUCCESSFUL' AND created_at >= ? AND created_at < ? GROUP BY %1$s " +
+            "UNION ALL " +
+            "SELECT %1$s, 0, 0, COUNT(*), SUM(sum_decimal) " +
+            "FROM withdrawals WHERE status = 'SUCCESSFUL' AND created_at >= ? AND created_at < ? GROUP BY %1$s" +
+            ") totals GROUP BY bucket";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public RollupRebuilder(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Rebuilds and closes every day in {@code [from, to)}; today still receives live deltas and may not be included.
+     *
+     * @return number of days rebuilt
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Rebuild range must have from before to");
+        }
+        if (to.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("Rollups can only be rebuilt for days before today");
+        }
+        long start = System.nanoTime();
+        int days = 0;
+        for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+            rebuildDay(day);
+            days++;
+        }
+        log.info("Rebuilt reporting rollups for {} day(s) from {} in {} ms",
+                days, from, (System.nanoTime() - start) / 1_000_000);
+        return days;
+    }
+
+    /**
+     * Rebuilds and closes every day that is still open before {@code today}; a no-op on the nodes that come second.
+     *
+     * @return number of days rebuilt
+     */
+    public int closeDaysBefore(LocalDate today) {
+        LocalDate openFrom = jdbcTemplate.queryForObject(SELECT_OPEN_FROM, LocalDate.class);
+        return openFrom != null && openFrom.isBefore(today) ? rebuild(openFrom, today) : 0;
+    }
+
+    /**
+     * Recomputes the closed days that received a delta after they were rebuilt.
+     *
+     * @return number of days rebuilt
+     */
+    public int repairStaleDays() {
+        List<LocalDate> days = jdbcTemplate.queryForList(SELECT_STALE_DAYS, LocalDate.class);
+        days.forEach(this::rebuildDay);
+        if (!days.isEmpty()) {
+            log.info("Repaired reporting rollups of {} day(s) changed after they were closed: {}", days.size(), days);
+        }
+        return days.size();
+    }
+
+    private void rebuildDay(LocalDate day) {
+        Timestamp start = Timestamp.valueOf(day.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(day.plusDays(1).atStartOfDay());
+        Date next = Date.valueOf(day.plusDays(1));
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject(LOCK_STATE, LocalDate.class);
+            jdbcTemplate.update(DELETE_STALE_DAY, Date.valueOf(day));
+            jdbcTemplate.update(DELETE_CALLS, start, end);
+            jdbcTemplate.update(DELETE_PAYMENTS, start, end);
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                String bucket = granularity == RollupGranularity.HOUR ? HOUR_BUCKET : DAY_BUCKET;
+                jdbcTemplate.update(INSERT_CALLS.formatted(bucket), granularity.name(), start, end);
+                jdbcTemplate.update(INSERT_PAYMENTS.formatted(bucket), granularity.name(), start, end, start, end);
+            }
+            jdbcTemplate.update(CLOSE_DAY, next, next);
+        });
+    }
+}
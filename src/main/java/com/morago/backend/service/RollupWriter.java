@@ -0,0 +1,273 @@
+package com.morago.backend.service;
+
+import com.morago.backend.entity.enumFiles.RollupGranularity;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Keeps the hourly and daily rollups current from {@link CallCompletedEvent} and {@link PaymentSettledEvent}.
+ * <p>
+ * Committed events are summed in memory and added to the rollup rows every
+ * {@code reporting.rollups.flush-interval-ms} with one batched upsert per table, so a burst of calls does not
+ * contend on the row of the current hour. Deltas are additive, so every node flushes its own. Deltas still
+ * buffered when a node dies are lost; the nightly rebuild of the previous day recomputes it from the source tables.
+ * <p>
+ * Only open days take deltas. A flush reads {@code rollup_state.open_from} {@code FOR SHARE}, and deltas of days
+ * the {@link RollupRebuilder} has already closed just mark the day stale, because the rebuild may have counted the
+ * same rows; the repair job recomputes those days.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reporting.rollups.enabled", matchIfMissing = true)
+public class RollupWriter {
+
+    private static final String ADD_CALLS = "INSERT INTO call_rollups " +
+            "(granularity, bucket_start, theme_id, calls, duration_seconds, revenue, commission) VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE calls = calls + VALUES(calls), " +
+            "duration_seconds = duration_seconds + VALUES(duration_seconds), " +
+            "revenue = revenue + VALUES(revenue), commission = commission + VALUES(commission)";
+
+    private static final String ADD_PAYMENTS = "INSERT INTO payment_rollups " +
+            "(granularity, bucket_start, deposits, deposit_amount, withdrawals, withdrawal_amount) VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE deposits = deposits + VALUES(deposits), " +
+            "deposit_amount = deposit_amount + VALUES(deposit_amount), " +
+            "withdrawals = withdrawals + VALUES(withdrawals), " +
+            "withdrawal_amount = withdrawal_amount + VALUES(withdrawal_amount)";
+
+    private static final String SHARE_STATE = "SELECT open_from FROM rollup_state WHERE id = 1 FOR SHARE";
+    private static final String MARK_STALE = "INSERT IGNORE INTO rollup_stale_days (day) VALUES (?)";
+
+    // Rows are written in primary key order so concurrent flushes from several nodes do not deadlock.
+    private static final Comparator<CallKey> CALL_KEY_ORDER = Comparator.comparing(CallKey::granularity)
+            .thenComparing(CallKey::bucketStart)
+            .thenComparingLong(CallKey::themeId);
+    private static final Comparator<BucketKey> BUCKET_KEY_ORDER = Comparator.comparing(BucketKey::granularity)
+            .thenComparing(BucketKey::bucketStart);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RollupRebuilder rollupRebuilder;
+    private final Object lock = new Object();
+
+    private Map<CallKey, CallTotals> calls = new HashMap<>();
+    private Map<BucketKey, PaymentTotals> payments = new HashMap<>();
+
+    public RollupWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                        RollupRebuilder rollupRebuilder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.rollupRebuilder = rollupRebuilder;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCallCompleted(CallCompletedEvent event) {
+        if (event.createdAt() == null) {
+            return;
+        }
+        long themeId = event.themeId() != null ? event.themeId() : 0L;
+        synchronized (lock) {
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                calls.computeIfAbsent(new CallKey(granularity, granularity.bucketOf(event.createdAt()), themeId),
+                        key -> new CallTotals()).add(event);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentSettled(PaymentSettledEvent event) {
+        if (event.createdAt() == null || event.amount() == null) {
+            return;
+        }
+        synchronized (lock) {
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                payments.computeIfAbsent(new BucketKey(granularity, granularity.bucketOf(event.createdAt())),
+                        key -> new PaymentTotals()).add(event);
+            }
+        }
+    }
+
+    /**
+     * Adds the buffered deltas of open days to the rollup tables and marks closed days stale, in one transaction;
+     * on failure the deltas are kept for the next flush.
+     */
+    @Scheduled(initialDelayString = "${reporting.rollups.flush-interval-ms:10000}",
+            fixedDelayString = "${reporting.rollups.flush-interval-ms:10000}")
+    public void flush() {
+        Map<CallKey, CallTotals> callDeltas;
+        Map<BucketKey, PaymentTotals> paymentDeltas;
+        synchronized (lock) {
+            if (calls.isEmpty() && payments.isEmpty()) {
+                return;
+            }
+            callDeltas = calls;
+            paymentDeltas = payments;
+            calls = new HashMap<>();
+            payments = new HashMap<>();
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDate openFrom = jdbcTemplate.queryForObject(SHARE_STATE, LocalDate.class);
+                Set<LocalDate> staleDays = new TreeSet<>();
+                List<Object[]> callRows = callRows(callDeltas, openFrom, staleDays);
+                List<Object[]> paymentRows = paymentRows(paymentDeltas, openFrom, staleDays);
+                if (!callRows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(ADD_CALLS, callRows);
+                }
+                if (!paymentRows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(ADD_PAYMENTS, paymentRows);
+                }
+                if (!staleDays.isEmpty()) {
+                    jdbcTemplate.batchUpdate(MARK_STALE,
+                            staleDays.stream().map(day -> new Object[]{Date.valueOf(day)}).toList());
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Rollup flush failed, keeping {} call and {} payment deltas for the next attempt: {}",
+                    callDeltas.size(), paymentDeltas.size(), e.getMessage());
+            synchronized (lock) {
+                callDeltas.forEach((key, totals) -> calls.merge(key, totals, CallTotals::plus));
+                paymentDeltas.forEach((key, totals) -> payments.merge(key, totals, PaymentTotals::plus));
+            }
+        }
+    }
+
+    /**
+     * Recomputes the days before today from the source tables, replacing whatever the live deltas produced, and
+     * closes them. Runs on every node; whichever comes first does the work.
+     */
+    @Scheduled(cron = "${reporting.rollups.rebuild-cron:0 15 0 * * *}")
+    public void closeDays() {
+        flush();
+        rollupRebuilder.closeDaysBefore(LocalDate.now());
+    }
+
+    @Scheduled(initialDelayString = "${reporting.rollups.repair-interval-ms:60000}",
+            fixedDelayString = "${reporting.rollups.repair-interval-ms:60000}")
+    public void repairStaleDays() {
+        rollupRebuilder.repairStaleDays();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private static List<Object[]> callRows(Map<CallKey, CallTotals> deltas, LocalDate openFrom, Set<LocalDate> staleDays) {
+        List<CallKey> keys = new ArrayList<>(deltas.keySet());
+        keys.sort(CALL_KEY_ORDER);
+        List<Object[]> rows = new ArrayList<>(keys.size());
+        for (CallKey key : keys) {
+            if (isClosed(key.bucketStart(), openFrom, staleDays)) {
+                continue;
+            }
+            CallTotals totals = deltas.get(key);
+            rows.add(new Object[]{key.granularity().name(), Timestamp.valueOf(key.bucketStart()), key.themeId(),
+                    totals.calls, totals.durationSeconds, totals.revenue, totals.commission});
+        }
+        return rows;
+    }
+
+    private static List<Object[]> paymentRows(Map<BucketKey, PaymentTotals> deltas, LocalDate openFrom,
+                                              Set<LocalDate> staleDays) {
+        List<BucketKey> keys = new ArrayList<>(deltas.keySet());
+        keys.sort(BUCKET_KEY_ORDER);
+        List<Object[]> rows = new ArrayList<>(keys.size());
+        for (BucketKey key : keys) {
+            if (isClosed(key.bucketStart(), openFrom, staleDays)) {
+                continue;
+            }
+            PaymentTotals totals = deltas.get(key);
+            rows.add(new Object[]{key.granularity().name(), Timestamp.valueOf(key.bucketStart()),
+                    totals.deposits, totals.depositAmount, totals.withdrawals, totals.withdrawalAmount});
+        }
+        return rows;
+    }
+
+    private static boolean isClosed(LocalDateTime bucketStart, LocalDate openFrom, Set<LocalDate> staleDays) {
+        LocalDate day = bucketStart.toLocalDate();
+        if (openFrom != null && day.isBefore(openFrom)) {
+            staleDays.add(day);
+            return true;
+        }
+        return false;
+    }
+
+    private record CallKey(RollupGranularity granularity, LocalDateTime bucketStart, long themeId) {
+    }
+
+    private record BucketKey(RollupGranularity granularity, LocalDateTime bucketStart) {
+    }
+
+    private static final class CallTotals {
+
+        private long calls;
+        private long durationSeconds;
+        private BigDecimal revenue = BigDecimal.ZERO;
+        private BigDecimal commission = BigDecimal.ZERO;
+
+        void add(CallCompletedEvent event) {
+            calls += event.calls();
+            durationSeconds += event.duration();
+            if (event.revenue() != null) {
+                revenue = revenue.add(event.revenue());
+            }
+            if (event.commission() != null) {
+                commission = commission.add(event.commission());
+            }
+        }
+
+        CallTotals plus(CallTotals other) {
+            calls += other.calls;
+            durationSeconds += other.durationSeconds;
+            revenue = revenue.add(other.revenue);
+            commission = commission.add(other.commission);
+            return this;
+        }
+    }
+
+    private static final class PaymentTotals {
+
+        private long deposits;
+        private BigDecimal depositAmount = BigDecimal.ZERO;
+        private long withdrawals;
+        private BigDecimal withdrawalAmount = BigDecimal.ZERO;
+
+        void add(PaymentSettledEvent event) {
+            if (event.kind() == PaymentSettledEvent.Kind.DEPOSIT) {
+                deposits++;
+                depositAmount = depositAmount.add(event.amount());
+            } else {
+                withdrawals++;
+                withdrawalAmount = withdrawalAmount.add(event.amount());
+            }
+        }
+
+        PaymentTotals plus(PaymentTotals other) {
+            deposits += other.deposits;
+            depositAmount = depositAmount.add(other.depositAmount);
+            withdrawals += other.withdrawals;
+            withdrawalAmount = withdrawalAmount.add(other.withdrawalAmount);
+            return this;
+        }
+    }
+}
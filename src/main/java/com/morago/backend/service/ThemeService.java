@@ -1,6 +1,10 @@
 package com.morago.backend.service;
 
 import com.morago.backend.dto.ThemeDto;
+import com.morago.backend.dto.response.ThemeCatalogResponse;
+import com.morago.backend.dto.response.ThemeTranslatorResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -10,4 +14,6 @@ public interface ThemeService {
     void delete(Long id);
     ThemeDto getById(Long id);
     List<ThemeDto> getAll();
+    List<ThemeCatalogResponse> getCatalog(boolean activeOnly);
+    Page<ThemeTranslatorResponse> getTranslators(Long themeId, Pageable pageable);
 }
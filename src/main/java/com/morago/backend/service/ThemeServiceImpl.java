@@ -1,12 +1,17 @@
 package com.morago.backend.service;
 
 import com.morago.backend.dto.ThemeDto;
+import com.morago.backend.dto.response.ThemeCatalogResponse;
+import com.morago.backend.dto.response.ThemeTranslatorResponse;
 import com.morago.backend.entity.Theme;
 import com.morago.backend.exception.ResourceNotFoundException;
 import com.morago.backend.mapper.ThemeMapper;
 import com.morago.backend.repository.ThemeRepository;
 import com.morago.backend.service.ThemeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +24,8 @@ public class ThemeServiceImpl implements ThemeService {
 
     private final ThemeRepository themeRepository;
     private final ThemeMapper themeMapper;
+    private final ReferenceCatalog referenceCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     private Theme getThemeOrThrow(Long id) {
@@ -30,6 +37,7 @@ public class ThemeServiceImpl implements ThemeService {
     public ThemeDto create(ThemeDto dto) {
         Theme theme = themeMapper.toEntity(dto);
         Theme saved = themeRepository.save(theme);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.THEMES));
         return themeMapper.toDto(saved);
     }
 
@@ -58,6 +66,7 @@ public class ThemeServiceImpl implements ThemeService {
 //        }
 
         Theme updated = themeRepository.save(existing);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.THEMES));
         return themeMapper.toDto(updated);
     }
 
@@ -65,18 +74,34 @@ public class ThemeServiceImpl implements ThemeService {
     public void delete(Long id) {
         Theme theme = getThemeOrThrow(id);
         themeRepository.delete(theme);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.THEMES));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ThemeDto getById(Long id) {
-        Theme theme = getThemeOrThrow(id);
-        return themeMapper.toDto(theme);
+        ThemeDto cached = referenceCatalog.snapshot().themes().get(id);
+        return cached != null ? cached : themeMapper.toDto(getThemeOrThrow(id));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ThemeDto> getAll() {
-        return themeRepository.findAll().stream()
-                .map(themeMapper::toDto)
-                .toList();
+        return referenceCatalog.snapshot().themes().getValues();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ThemeCatalogResponse> getCatalog(boolean activeOnly) {
+        return referenceCatalog.snapshot().themeCatalog(activeOnly).getValues();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ThemeTranslatorResponse> getTranslators(Long themeId, Pageable pageable) {
+        if (!themeRepository.existsById(themeId)) {
+            throw new ResourceNotFoundException("Theme", themeId);
+        }
+        return themeRepository.findTranslatorsByThemeId(themeId, pageable);
     }
 }
@@ -0,0 +1,8 @@
+package com.morago.backend.service;
+
+/**
+ * Published when a translator profile or the name of its user changes; the search index
+ * re-reads the translator of this user after commit.
+ */
+public record TranslatorProfileChangedEvent(Long userId) {
+}
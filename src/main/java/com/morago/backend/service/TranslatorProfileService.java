@@ -6,6 +6,7 @@ import com.morago.backend.dto.response.TranslatorProfileResponse;
 import com.morago.backend.dto.response.TranslatorProfileSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface TranslatorProfileService {
 
@@ -25,6 +26,19 @@ public interface TranslatorProfileService {
             String search
     );
 
+    /**
+     * Same filters as {@link #getAllWithFilters}, but without the total count query.
+     */
+    Slice<TranslatorProfileSummaryResponse> sliceWithFilters(
+            Pageable pageable,
+            Boolean isAvailable,
+            Boolean isOnline,
+            Long languageId,
+            Long themeId,
+            String levelOfKorean,
+            String search
+    );
+
     Page<TranslatorProfileSummaryResponse> getAvailableByTheme(Long themeId, Pageable pageable);
 
     TranslatorProfileResponse update(Long id, TranslatorProfileUpdateRequest request);
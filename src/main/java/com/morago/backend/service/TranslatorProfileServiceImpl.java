@@ -17,18 +17,32 @@ import com.morago.backend.repository.LanguageRepository;
 import com.morago.backend.repository.RatingRepository;
 import com.morago.backend.repository.CallRepository;
 import com.morago.backend.repository.ThemeRepository;
+import com.morago.backend.repository.TranslatorAverageRating;
+import com.morago.backend.repository.TranslatorCallCount;
 import com.morago.backend.repository.TranslatorProfileRepository;
+import com.morago.backend.repository.TranslatorProfileSpecifications;
 import com.morago.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -44,6 +58,8 @@ public class TranslatorProfileServiceImpl implements TranslatorProfileService {
     private final RatingRepository ratingRepo;
     private final CallRepository callRepo;
     private final TranslatorProfileMapper mapper;
+    private final TranslatorSearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public TranslatorProfileResponse create(TranslatorProfileCreateRequest request) {
@@ -65,17 +81,11 @@ public class TranslatorProfileServiceImpl implements TranslatorProfileService {
         }
 
         Set<Language> languages = (request.getLanguageIds() != null)
-                ? request.getLanguageIds().stream()
-                .map(id -> languageRepo.findById(id)
-                        .orElseThrow(() -> new ResourceNotFoundException("Language not found: " + id)))
-                .collect(Collectors.toSet())
+                ? resolveLanguages(request.getLanguageIds())
                 : Set.of();
 
         Set<Theme> themes = (request.getThemeIds() != null)
-                ? request.getThemeIds().stream()
-                .map(id -> themeRepo.findById(id)
-                        .orElseThrow(() -> new ResourceNotFoundException("Theme not found: " + id)))
-                .collect(Collectors.toSet())
+                ? resolveThemes(request.getThemeIds())
                 : Set.of();
 
         TranslatorProfile profile = TranslatorProfile.builder()
@@ -91,6 +101,10 @@ public class TranslatorProfileServiceImpl implements TranslatorProfileService {
 
         TranslatorProfile saved = profileRepo.save(profile);
         log.info("Translator profile created successfully with ID: {}", saved.getId());
+        eventPublisher.publishEvent(new TranslatorProfileChangedEvent(user.getId()));
+        if (!themes.isEmpty()) {
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.TRANSLATOR_COUNTS));
+        }
         
         TranslatorProfileResponse response = mapper.toResponse(saved);
         enrichWithStatistics(response, saved);
@@ -98,6 +112,7 @@ public class TranslatorProfileServiceImpl implements TranslatorProfileService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TranslatorProfileResponse getById(Long id) {
         TranslatorProfile profile = profileRepo.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Profile not found"));
@@ -108,6 +123,7 @@ public class TranslatorProfileServiceImpl implements TranslatorProfileService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public TranslatorProfileResponse getByUserId(Long userId) {
         TranslatorProfile profile = profileRepo.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Translator profile not found for user ID: " + userId));
@@ -118,6 +134,7 @@ public class TranslatorProfileServiceImpl implements TranslatorProfileService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<TranslatorProfileSummaryResponse> getAllWithFilters(
             Pageable pageable,
             Boolean isAvailable,
@@ -130,26 +147,42 @@ public class TranslatorProfileServiceImpl implements TranslatorProfileService {
         log.debug("Fetching translator profiles with filters - available: {}, online: {}, language: {}, theme: {}, search: {}", 
                 isAvailable, isOnline, languageId, themeId, search);
         
-        Page<TranslatorProfile> profiles = profileRepo.findWithFilters(
-                isAvailable, isOnline, languageId, themeId, levelOfKorean, search, pageable);
+        Specification<TranslatorProfile> filter = TranslatorProfileSpecifications.filter(
+                isAvailable, isOnline, languageId, themeId, levelOfKorean);
+        Page<TranslatorProfile> profiles = hasText(search)
+                ? searchRanked(filter, search, pageable)
+                : profileRepo.findAll(filter, pageable);
         
-        return profiles.map(profile -> {
-            TranslatorProfileSummaryResponse response = mapper.toSummaryResponse(profile);
-            enrichSummaryWithStatistics(response, profile);
-            return response;
-        });
+        return profiles.map(toSummary(profiles));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TranslatorProfileSummaryResponse> sliceWithFilters(
+            Pageable pageable,
+            Boolean isAvailable,
+            Boolean isOnline,
+            Long languageId,
+            Long themeId,
+            String levelOfKorean,
+            String search) {
+
+        Specification<TranslatorProfile> filter = TranslatorProfileSpecifications.filter(
+                isAvailable, isOnline, languageId, themeId, levelOfKorean);
+        Slice<TranslatorProfile> profiles = hasText(search)
+                ? searchRanked(filter, search, pageable)
+                : profileRepo.findSlice(filter, pageable);
+
+        return profiles.map(toSummary(profiles));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<TranslatorProfileSummaryResponse> getAvailableByTheme(Long themeId, Pageable pageable) {
         log.debug("Fetching available translators for theme ID: {}", themeId);
         
         Page<TranslatorProfile> profiles = profileRepo.findAvailableByTheme(themeId, pageable);
-        return profiles.map(profile -> {
-            TranslatorProfileSummaryResponse response = mapper.toSummaryResponse(profile);
-            enrichSummaryWithStatistics(response, profile);
-            return response;
-        });
+        return profiles.map(toSummary(profiles));
     }
     
     @Override
@@ -166,23 +199,17 @@ public class TranslatorProfileServiceImpl implements TranslatorProfileService {
         if (request.getLevelOfKorean() != null) profile.setLevelOfKorean(request.getLevelOfKorean());
 
         if (request.getLanguageIds() != null) {
-            Set<Language> languages = request.getLanguageIds().stream()
-                    .map(idL -> languageRepo.findById(idL)
-                            .orElseThrow(() -> new ResourceNotFoundException("Language not found: " + idL)))
-                    .collect(Collectors.toSet());
-            profile.setLanguages(languages);
+            profile.setLanguages(resolveLanguages(request.getLanguageIds()));
         }
 
         if (request.getThemeIds() != null) {
-            Set<Theme> themes = request.getThemeIds().stream()
-                    .map(idT -> themeRepo.findById(idT)
-                            .orElseThrow(() -> new ResourceNotFoundException("Theme not found: " + idT)))
-                    .collect(Collectors.toSet());
-            profile.setThemes(themes);
+            profile.setThemes(resolveThemes(request.getThemeIds()));
+            eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.TRANSLATOR_COUNTS));
         }
 
         TranslatorProfile updated = profileRepo.save(profile);
         log.info("Translator profile updated successfully with ID: {}", updated.getId());
+        eventPublisher.publishEvent(new TranslatorProfileChangedEvent(updated.getUser().getId()));
         
         TranslatorProfileResponse response = mapper.toResponse(updated);
         enrichWithStatistics(response, updated);
@@ -232,6 +259,7 @@ public class TranslatorProfileServiceImpl implements TranslatorProfileService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean isProfileOwner(Long profileId, String username) {
         return profileRepo.findById(profileId)
                 .map(profile -> profile.getUser().getUsername().equals(username))
@@ -253,25 +281,68 @@ public class TranslatorProfileServiceImpl implements TranslatorProfileService {
         TranslatorProfile profile = profileRepo.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Profile not found"));
         profileRepo.delete(profile);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceDataChangedEvent.TRANSLATOR_COUNTS));
+        eventPublisher.publishEvent(new TranslatorProfileChangedEvent(profile.getUser().getId()));
         
         log.info("Translator profile deleted successfully with ID: {}", id);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Long getTotalTranslators() {
         return profileRepo.count();
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Long getOnlineTranslators() {
         return profileRepo.countByIsOnlineTrue();
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Long getAvailableTranslators() {
         return profileRepo.countByIsAvailableTrue();
     }
     
+    private Set<Language> resolveLanguages(Collection<Long> ids) {
+        return resolveAll("Language", ids, languageRepo, Language::getId);
+    }
+
+    private Set<Theme> resolveThemes(Collection<Long> ids) {
+        return resolveAll("Theme", ids, themeRepo, Theme::getId);
+    }
+
+    /**
+     * Loads all ids with a single findAllById, so the entities are initialized for mapping and an id
+     * deleted in the meantime is reported instead of failing the foreign key at flush.
+     *
+     * @throws ResourceNotFoundException listing every id that does not exist
+     * @throws IllegalArgumentException if {@code ids} contains null
+     */
+    private <T> Set<T> resolveAll(String resourceName, Collection<Long> ids,
+                                  JpaRepository<T, Long> repository, Function<T, Long> idOf) {
+        Set<Long> missing = new HashSet<>(ids);
+        if (missing.contains(null)) {
+            throw new IllegalArgumentException(resourceName + " ids must not contain null");
+        }
+        if (missing.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        Set<T> resolved = new HashSet<>();
+        for (T entity : repository.findAllById(missing)) {
+            resolved.add(entity);
+        }
+        for (T entity : resolved) {
+            missing.remove(idOf.apply(entity));
+        }
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException(resourceName, new TreeSet<>(missing));
+        }
+        return resolved;
+    }
+    
     private void enrichWithStatistics(TranslatorProfileResponse response, TranslatorProfile profile) {
         // Calculate average rating
         Double avgRating = ratingRepo.findAverageRatingByTranslatorId(profile.getId());
@@ -286,18 +357,64 @@ public class TranslatorProfileServiceImpl implements TranslatorProfileService {
         response.setTotalCalls(totalCalls);
     }
     
-    private void enrichSummaryWithStatistics(TranslatorProfileSummaryResponse response, TranslatorProfile profile) {
-        // Calculate average rating
-        Double avgRating = ratingRepo.findAverageRatingByTranslatorId(profile.getId());
-        response.setAverageRating(avgRating != null ? Math.round(avgRating * 10.0) / 10.0 : 0.0);
-        
-        // Count total completed calls
-        Long totalCalls = callRepo.countCompletedCallsByTranslatorId(profile.getId());
-        response.setTotalCalls(totalCalls);
-        
-        // Check if translator is currently in a call
-        Boolean inCall = callRepo.existsActiveCallByTranslatorId(profile.getId());
-        response.setInCall(inCall);
+    /**
+     * Free-text search: candidates come ranked from the search index, the database only applies the
+     * remaining filters to them. Every candidate is filtered before paging, so pages and the total are those
+     * of the filtered matches. Results keep relevance order; the requested sort is not applied.
+     */
+    private Page<TranslatorProfile> searchRanked(Specification<TranslatorProfile> filter, String search, Pageable pageable) {
+        List<Long> ranked = searchIndex.search(search);
+        if (ranked.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<Long> matching = profileRepo.findMatchingIds(filter, ranked);
+
+        int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), matching.size()) : 0;
+        int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), matching.size()) : matching.size();
+        List<Long> pageIds = matching.subList(from, to);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, matching.size());
+        }
+
+        Map<Long, TranslatorProfile> byId = profileRepo.findAll(TranslatorProfileSpecifications.fetchUser()
+                        .and(TranslatorProfileSpecifications.hasIdIn(pageIds))).stream()
+                .collect(Collectors.toMap(TranslatorProfile::getId, Function.identity()));
+        List<TranslatorProfile> content = pageIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, matching.size());
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+    
+    /**
+     * Summary mapping for one result page. Average ratings, completed calls and the in-call flag of all
+     * profiles on the page are loaded with one grouped query each, instead of three queries per row.
+     */
+    private Function<TranslatorProfile, TranslatorProfileSummaryResponse> toSummary(Slice<TranslatorProfile> page) {
+        List<Long> ids = page.getContent().stream().map(TranslatorProfile::getId).toList();
+        if (ids.isEmpty()) {
+            return mapper::toSummaryResponse;
+        }
+
+        Map<Long, Double> averageRatings = ratingRepo.findAverageRatingsByTranslatorIdIn(ids).stream()
+                .collect(Collectors.toMap(TranslatorAverageRating::getTranslatorId, TranslatorAverageRating::getAverageScore));
+        Map<Long, Long> completedCalls = callRepo.countCompletedCallsByTranslatorIdIn(ids).stream()
+                .collect(Collectors.toMap(TranslatorCallCount::getTranslatorId, TranslatorCallCount::getCalls));
+        Set<Long> inCall = new HashSet<>(callRepo.findTranslatorIdsInActiveCall(ids));
+
+        return profile -> {
+            TranslatorProfileSummaryResponse response = mapper.toSummaryResponse(profile);
+            Double avgRating = averageRatings.get(profile.getId());
+            response.setAverageRating(avgRating != null ? Math.round(avgRating * 10.0) / 10.0 : 0.0);
+            response.setTotalCalls(completedCalls.getOrDefault(profile.getId(), 0L));
+            response.setInCall(inCall.contains(profile.getId()));
+            return response;
+        };
     }
 }
 
@@ -0,0 +1,401 @@
+package com.morago.backend.service;
+
+import com.morago.backend.config.datasource.ReadWriteRoutingDataSource;
+import com.morago.backend.dto.TranslatorSearchDocument;
+import com.morago.backend.repository.TranslatorProfileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over translator names, email and Korean level.
+ * <p>
+ * Every token is indexed with all of its prefixes, so each query token matches as a prefix.
+ * Hangul tokens are additionally indexed as syllable unigrams and bigrams; longer Hangul query tokens
+ * must match all of their bigrams, which finds them anywhere inside a name. Results are ranked by
+ * field (name before email/level) and match quality (whole token before prefix before n-gram).
+ * <p>
+ * The index is node-local: local writes are applied after commit via {@link TranslatorProfileChangedEvent},
+ * and a periodic full rebuild picks up writes made on other nodes. Local writes applied while a rebuild
+ * is reading are recorded and replayed onto the new index before it is swapped in.
+ */
+@Slf4j
+@Component
+public class TranslatorSearchIndex {
+
+    private static final int MAX_PREFIX_LENGTH = 20;
+
+    private static final float NAME_EXACT = 3f;
+    private static final float NAME_PREFIX = 2f;
+    private static final float OTHER_EXACT = 1.5f;
+    private static final float OTHER_PREFIX = 1f;
+    private static final float NGRAM = 0.5f;
+
+    private static final Comparator<Hit> BEST_FIRST = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparingLong(Hit::profileId);
+
+    private final TranslatorProfileRepository profileRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private State state = new State();
+    private List<PendingUpdate> pendingUpdates;
+    private volatile boolean loaded;
+
+    public TranslatorSearchIndex(TranslatorProfileRepository profileRepository) {
+        this.profileRepository = profileRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        rebuild();
+    }
+
+    /**
+     * Reloads all translators from the primary and swaps in a freshly built index.
+     */
+    @Scheduled(initialDelayString = "${search.translators.rebuild-interval-ms:600000}",
+            fixedDelayString = "${search.translators.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            List<TranslatorSearchDocument> documents = ReadWriteRoutingDataSource.onPrimary(
+                    profileRepository::findSearchDocuments);
+            rebuild(documents);
+            log.info("Translator search index built: {} translators in {} ms",
+                    documents.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pendingUpdates = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Swaps in an index built from the given documents, replaying updates recorded by a running {@link #rebuild()}.
+     */
+    public void rebuild(Collection<TranslatorSearchDocument> documents) {
+        State fresh = new State();
+        documents.forEach(fresh::add);
+
+        lock.writeLock().lock();
+        try {
+            if (pendingUpdates != null) {
+                pendingUpdates.forEach(update -> update.applyTo(fresh));
+                pendingUpdates = null;
+            }
+            state = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        loaded = true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslatorProfileChanged(TranslatorProfileChangedEvent event) {
+        Optional<TranslatorSearchDocument> document = ReadWriteRoutingDataSource.onPrimary(
+                () -> profileRepository.findSearchDocumentByUserId(event.userId()));
+        PendingUpdate update = new PendingUpdate(event.userId(), document.orElse(null));
+
+        lock.writeLock().lock();
+        try {
+            update.applyTo(state);
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of all matching profiles, best match first. Callers that filter further need every
+     * match, or filtered results and totals would depend on where a cap cut the ranking.
+     */
+    public List<Long> search(String query) {
+        return search(query, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the ids of matching translator profiles, best match first.
+     *
+     * @param query free text; every token must match
+     * @param limit maximum number of ids returned
+     */
+    public List<Long> search(String query, int limit) {
+        String[] tokens = tokenize(query);
+        if (tokens.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        if (!loaded) {
+            rebuild();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>();
+            for (String token : tokens) {
+                for (String term : queryTerms(token)) {
+                    Postings postings = state.postings.get(term);
+                    if (postings == null) {
+                        return List.of();
+                    }
+                    lists.add(postings);
+                }
+            }
+            lists.sort(Comparator.comparingInt(postings -> postings.size));
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(BEST_FIRST.reversed());
+            for (int docNo : intersect(lists)) {
+                Doc doc = state.docs.get(docNo);
+                top.offer(new Hit(doc.profileId(), score(doc, tokens)));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(BEST_FIRST);
+            return hits.stream().map(Hit::profileId).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.docByUser.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int[] intersect(List<Postings> lists) {
+        Postings smallest = lists.get(0);
+        int[] result = Arrays.copyOf(smallest.docs, smallest.size);
+        int length = result.length;
+        for (int i = 1; i < lists.size() && length > 0; i++) {
+            Postings other = lists.get(i);
+            int kept = 0;
+            for (int j = 0; j < length; j++) {
+                if (Arrays.binarySearch(other.docs, 0, other.size, result[j]) >= 0) {
+                    result[kept++] = result[j];
+                }
+            }
+            length = kept;
+        }
+        return length == result.length ? result : Arrays.copyOf(result, length);
+    }
+
+    private static float score(Doc doc, String[] queryTokens) {
+        float score = 0;
+        for (String token : queryTokens) {
+            float best = Math.max(
+                    match(doc.nameTokens(), token, NAME_EXACT, NAME_PREFIX),
+                    match(doc.otherTokens(), token, OTHER_EXACT, OTHER_PREFIX));
+            score += best > 0 ? best : NGRAM;
+        }
+        return score;
+    }
+
+    private static float match(String[] tokens, String query, float exact, float prefix) {
+        float best = 0;
+        for (String token : tokens) {
+            if (token.equals(query)) {
+                return exact;
+            }
+            if (token.startsWith(query)) {
+                best = prefix;
+            }
+        }
+        return best;
+    }
+
+    private static List<String> queryTerms(String token) {
+        if (isHangul(token) && token.length() > 2) {
+            List<String> bigrams = new ArrayList<>(token.length() - 1);
+            for (int i = 0; i + 2 <= token.length(); i++) {
+                bigrams.add(token.substring(i, i + 2));
+            }
+            return bigrams;
+        }
+        return List.of(token.length() > MAX_PREFIX_LENGTH ? token.substring(0, MAX_PREFIX_LENGTH) : token);
+    }
+
+    private static void indexTerms(String token, Set<String> terms) {
+        for (int i = 1; i <= Math.min(token.length(), MAX_PREFIX_LENGTH); i++) {
+            terms.add(token.substring(0, i));
+        }
+        if (isHangul(token)) {
+            for (int i = 0; i < token.length(); i++) {
+                terms.add(token.substring(i, i + 1));
+                if (i + 2 <= token.length()) {
+                    terms.add(token.substring(i, i + 2));
+                }
+            }
+        }
+    }
+
+    private static boolean isHangul(String token) {
+        return Character.UnicodeScript.of(token.codePointAt(0)) == Character.UnicodeScript.HANGUL;
+    }
+
+    static String[] tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < lower.length(); i++) {
+            if (Character.isLetterOrDigit(lower.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(lower.substring(start));
+        }
+        return tokens.toArray(String[]::new);
+    }
+
+    private static String[] tokenize(String first, String second) {
+        String[] a = tokenize(first);
+        String[] b = tokenize(second);
+        String[] all = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, all, a.length, b.length);
+        return all;
+    }
+
+    private record Hit(long profileId, float score) {
+    }
+
+    // A local write: the translator's current document, or null if the profile no longer exists.
+    private record PendingUpdate(Long userId, TranslatorSearchDocument document) {
+
+        void applyTo(State target) {
+            if (document != null) {
+                target.add(document);
+            } else {
+                target.remove(userId);
+            }
+        }
+    }
+
+    // Only tokens are kept per document; the (much larger) term set is derived again when a document is removed.
+    private record Doc(long profileId, String[] nameTokens, String[] otherTokens) {
+
+        static Doc of(TranslatorSearchDocument document) {
+            return new Doc(document.profileId(),
+                    tokenize(document.firstName(), document.lastName()),
+                    tokenize(document.email(), document.levelOfKorean()));
+        }
+
+        Set<String> terms() {
+            Set<String> terms = new HashSet<>();
+            for (String token : nameTokens) {
+                indexTerms(token, terms);
+            }
+            for (String token : otherTokens) {
+                indexTerms(token, terms);
+            }
+            return terms;
+        }
+    }
+
+    /**
+     * Sorted, growable list of internal document numbers. New documents always get the highest number,
+     * so adding is an append.
+     */
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int docNo) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = docNo;
+        }
+
+        void remove(int docNo) {
+            int index = Arrays.binarySearch(docs, 0, size, docNo);
+            if (index >= 0) {
+                System.arraycopy(docs, index + 1, docs, index, size - index - 1);
+                size--;
+            }
+        }
+    }
+
+    /**
+     * Index contents; mutated only under the write lock. Removed documents leave a null slot
+     * until the next full rebuild.
+     */
+    private static final class State {
+
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final List<Doc> docs = new ArrayList<>();
+        private final Map<Long, Integer> docByUser = new HashMap<>();
+
+        void add(TranslatorSearchDocument document) {
+            remove(document.userId());
+            int docNo = docs.size();
+            Doc doc = Doc.of(document);
+            docs.add(doc);
+            docByUser.put(document.userId(), docNo);
+            for (String term : doc.terms()) {
+                postings.computeIfAbsent(term, t -> new Postings()).add(docNo);
+            }
+        }
+
+        void remove(Long userId) {
+            Integer docNo = docByUser.remove(userId);
+            if (docNo == null) {
+                return;
+            }
+            Doc doc = docs.set(docNo, null);
+            for (String term : doc.terms()) {
+                Postings list = postings.get(term);
+                if (list != null) {
+                    list.remove(docNo);
+                    if (list.size == 0) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.morago.backend.service;
+
+import com.morago.backend.exception.StatementGenerationInProgressException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Regenerates the statements of the month containing yesterday every night, so the current month stays up to date
+ * and the run on the 1st finalizes the previous month. The job fires on every node; the nodes that find another
+ * node's run holding the statement lock skip the night.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "statements.enabled", matchIfMissing = true)
+public class TranslatorStatementJob {
+
+    private final TranslatorStatementService translatorStatementService;
+
+    @Scheduled(cron = "${statements.cron:0 30 1 * * *}")
+    public void generate() {
+        try {
+            translatorStatementService.generate(YearMonth.from(LocalDate.now().minusDays(1)));
+        } catch (StatementGenerationInProgressException e) {
+            log.info("Skipping nightly translator statements: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.response.StatementRunResult;
+import com.morago.backend.dto.response.TranslatorStatementResponse;
+
+import java.time.YearMonth;
+
+/**
+ * Monthly earnings statements of translators: completed calls, minutes, gross, commission and net, aggregated from
+ * the calls they answered that were created in the month. Statements are generated in bulk and read back from the
+ * stored result.
+ */
+public interface TranslatorStatementService {
+
+    /**
+     * Generates (or regenerates) the statements of every translator for {@code month}.
+     */
+    StatementRunResult generate(YearMonth month);
+
+    /**
+     * Stored statement of one translator; all zeros when the translator had no completed calls that month.
+     *
+     * @throws com.morago.backend.exception.ResourceNotFoundException if the month has not been generated yet
+     */
+    TranslatorStatementResponse getStatement(Long translatorId, YearMonth month);
+}
@@ -0,0 +1,277 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.response.StatementRunResult;
+import com.morago.backend.dto.response.TranslatorStatementResponse;
+import com.morago.backend.exception.ResourceNotFoundException;
+import com.morago.backend.exception.StatementGenerationInProgressException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Translators are read in user id order and split into a fork-join tree whose leaves cover at most
+ * {@code statements.partition-size} translators. Each leaf aggregates its id range with one grouped query over
+ * {@code idx_calls_recipient_created} and replaces the stored statements of that range in one transaction, so a
+ * run is {@code translators / partition-size} short queries spread over {@code statements.parallelism} connections.
+ * The replaced ranges are contiguous: each reaches from just after the previous leaf's last id, so a rerun also
+ * drops the statements of translators whose profile was deleted since the last run.
+ * <p>
+ * Only translators with calls get a row (calls, duration, gross, commission; net and minutes are derived on read).
+ * The run row of the month is marked completed at the end; until the first run of a month completes, its
+ * statements are not served. A rerun replaces each range as it goes, so readers see either the old or the new range.
+ * <p>
+ * A run holds the MySQL named lock {@code translator_statements} on a connection of its own, so only one run
+ * proceeds across all nodes (the nightly job fires on every node); a run that finds the lock taken fails at once.
+ */
+@Slf4j
+@Service
+public class TranslatorStatementServiceImpl implements TranslatorStatementService {
+
+    private static final String TRANSLATOR_IDS = "SELECT user_id FROM translator_profiles ORDER BY user_id";
+
+    private static final String AGGREGATE = "SELECT recipient_id, COUNT(*) AS calls, " +
+            "COALESCE(SUM(duration), 0) AS duration_seconds, COALESCE(SUM(sum_decimal), 0) AS gross, " +
+            "COALESCE(SUM(commission), 0) AS commission FROM calls " +
+            "WHERE recipient_id BETWEEN ? AND ? AND created_at >= ? AND created_at < ? AND status = 1 " +
+            "GROUP BY recipient_id";
+
+    private static final String DELETE_RANGE =
+            "DELETE FROM translator_statements WHERE period = ? AND translator_id BETWEEN ? AND ?";
+    private static final String INSERT_STATEMENT = "INSERT INTO translator_statements " +
+            "(translator_id, period, calls, duration_seconds, gross, commission) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String START_RUN = "INSERT INTO translator_statement_runs " +
+            "(period, translators, statements, started_at) VALUES (?, ?, 0, ?) " +
+            "ON DUPLICATE KEY UPDATE started_at = VALUES(started_at)";
+    private static final String COMPLETE_RUN = "UPDATE translator_statement_runs " +
+            "SET translators = ?, statements = ?, completed_at = ? WHERE period = ?";
+
+    private static final String COMPLETED_AT =
+            "SELECT completed_at FROM translator_statement_runs WHERE period = ? AND completed_at IS NOT NULL";
+    private static final String STATEMENT = "SELECT calls, duration_seconds, gross, commission " +
+            "FROM translator_statements WHERE period = ? AND translator_id = ?";
+
+    private static final String LOCK_NAME = "translator_statements";
+    private static final String GET_LOCK = "SELECT GET_LOCK(?, 0)";
+    private static final String RELEASE_LOCK = "SELECT RELEASE_LOCK(?)";
+
+    private static final BigDecimal SECONDS_PER_MINUTE = BigDecimal.valueOf(60);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int parallelism;
+    private final int partitionSize;
+
+    public TranslatorStatementServiceImpl(JdbcTemplate jdbcTemplate,
+                                          TransactionTemplate transactionTemplate,
+                                          @Value("${statements.parallelism:4}") int parallelism,
+                                          @Value("${statements.partition-size:500}") int partitionSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.parallelism = parallelism;
+        this.partitionSize = partitionSize;
+    }
+
+    @Override
+    public StatementRunResult generate(YearMonth month) {
+        if (month == null || month.isAfter(YearMonth.now())) {
+            throw new IllegalArgumentException("Statements can only be generated for the current or a past month");
+        }
+        return jdbcTemplate.execute((ConnectionCallback<StatementRunResult>) connection -> {
+            if (!namedLock(connection, GET_LOCK)) {
+                throw new StatementGenerationInProgressException("Translator statements are already being generated");
+            }
+            try {
+                return run(month);
+            } finally {
+                namedLock(connection, RELEASE_LOCK);
+            }
+        });
+    }
+
+    private StatementRunResult run(YearMonth month) {
+        long start = System.nanoTime();
+        Date period = Date.valueOf(month.atDay(1));
+        long[] translatorIds = jdbcTemplate.queryForList(TRANSLATOR_IDS, Long.class).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        jdbcTemplate.update(START_RUN, period, translatorIds.length, Timestamp.valueOf(LocalDateTime.now()));
+
+        Tally tally = new Tally();
+        if (translatorIds.length == 0) {
+            jdbcTemplate.update(DELETE_RANGE, period, Long.MIN_VALUE, Long.MAX_VALUE);
+        } else {
+            Window window = new Window(period, Timestamp.valueOf(month.atDay(1).atStartOfDay()),
+                    Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay()), translatorIds);
+            try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+                tally = pool.invoke(new Partition(window, 0, translatorIds.length));
+            }
+        }
+        jdbcTemplate.update(COMPLETE_RUN, translatorIds.length, tally.statements,
+                Timestamp.valueOf(LocalDateTime.now()), period);
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Generated {} translator statements for {} ({} translators, {} calls) in {} ms",
+                tally.statements, month, translatorIds.length, tally.calls, elapsedMs);
+        return StatementRunResult.builder()
+                .month(month)
+                .translators(translatorIds.length)
+                .statements(tally.statements)
+                .calls(tally.calls)
+                .gross(tally.gross)
+                .elapsedMs(elapsedMs)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TranslatorStatementResponse getStatement(Long translatorId, YearMonth month) {
+        Date period = Date.valueOf(month.atDay(1));
+        List<Timestamp> completedAt = jdbcTemplate.queryForList(COMPLETED_AT, Timestamp.class, period);
+        if (completedAt.isEmpty()) {
+            throw new ResourceNotFoundException("Translator statements", month.toString());
+        }
+
+        TranslatorStatementResponse statement = TranslatorStatementResponse.builder()
+                .translatorId(translatorId)
+                .month(month)
+                .minutes(BigDecimal.ZERO)
+                .gross(BigDecimal.ZERO)
+                .commission(BigDecimal.ZERO)
+                .net(BigDecimal.ZERO)
+                .generatedAt(completedAt.get(0).toLocalDateTime())
+                .build();
+        jdbcTemplate.query(STATEMENT, (RowCallbackHandler) rs -> {
+            BigDecimal gross = rs.getBigDecimal("gross");
+            BigDecimal commission = rs.getBigDecimal("commission");
+            statement.setCalls(rs.getInt("calls"));
+            statement.setMinutes(BigDecimal.valueOf(rs.getLong("duration_seconds"))
+                    .divide(SECONDS_PER_MINUTE, 2, RoundingMode.HALF_UP));
+            statement.setGross(gross);
+            statement.setCommission(commission);
+            statement.setNet(gross.subtract(commission));
+        }, period, translatorId);
+        return statement;
+    }
+
+    /**
+     * Runs {@code GET_LOCK} or {@code RELEASE_LOCK} for the statement lock; the lock belongs to the session of
+     * {@code connection}.
+     */
+    private static boolean namedLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, LOCK_NAME);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    /**
+     * Aggregates and stores the statements of {@code ids[from, to)}; the range must be non-empty. The stored
+     * statements are replaced from just after {@code ids[from - 1]} through {@code ids[to - 1]}, and the first and
+     * last leaf extend to the ends of the id space.
+     */
+    private Tally aggregate(Window window, int from, int to) {
+        long[] ids = window.translatorIds();
+        long lowId = ids[from];
+        long highId = ids[to - 1];
+        long deleteFrom = from == 0 ? Long.MIN_VALUE : ids[from - 1] + 1;
+        long deleteTo = to == ids.length ? Long.MAX_VALUE : highId;
+        List<Object[]> rows = new ArrayList<>();
+        Tally tally = new Tally();
+
+        jdbcTemplate.query(AGGREGATE, (RowCallbackHandler) rs -> {
+            long recipientId = rs.getLong("recipient_id");
+            // Recipients inside the id range without a translator profile get no statement.
+            if (Arrays.binarySearch(ids, from, to, recipientId) < 0) {
+                return;
+            }
+            int calls = rs.getInt("calls");
+            BigDecimal gross = rs.getBigDecimal("gross");
+            rows.add(new Object[]{recipientId, window.period(), calls, rs.getLong("duration_seconds"), gross,
+                    rs.getBigDecimal("commission")});
+            tally.add(calls, gross);
+        }, lowId, highId, window.start(), window.end());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_RANGE, window.period(), deleteFrom, deleteTo);
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_STATEMENT, rows);
+            }
+        });
+        return tally;
+    }
+
+    private record Window(Date period, Timestamp start, Timestamp end, long[] translatorIds) {
+    }
+
+    /**
+     * Splits its slice of translator ids in halves until a slice fits one grouped query.
+     */
+    private final class Partition extends RecursiveTask<Tally> {
+
+        private final Window window;
+        private final int from;
+        private final int to;
+
+        Partition(Window window, int from, int to) {
+            this.window = window;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= partitionSize) {
+                return aggregate(window, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            Partition left = new Partition(window, from, middle);
+            left.fork();
+            Tally right = new Partition(window, middle, to).compute();
+            return right.plus(left.join());
+        }
+    }
+
+    private static final class Tally {
+
+        private int statements;
+        private long calls;
+        private BigDecimal gross = BigDecimal.ZERO;
+
+        void add(int statementCalls, BigDecimal statementGross) {
+            statements++;
+            calls += statementCalls;
+            gross = gross.add(statementGross);
+        }
+
+        Tally plus(Tally other) {
+            statements += other.statements;
+            calls += other.calls;
+            gross = gross.add(other.gross);
+            return this;
+        }
+    }
+}
@@ -14,18 +14,22 @@ import com.morago.backend.repository.RoleRepository;
 import com.morago.backend.repository.UserRepository;
 import com.morago.backend.repository.UserProfileRepository;
 import com.morago.backend.repository.TranslatorProfileRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
@@ -44,6 +48,7 @@ public class UserServiceImpl implements UserService {
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Finds a user by username.
@@ -107,6 +112,7 @@ public class UserServiceImpl implements UserService {
      * @throws UserNotFoundException if user is not found
      */
     @Override
+    @Transactional(readOnly = true)
     public UserResponseDto getUser(Long id) {
         log.debug("Retrieving user with ID: {}", id);
         
@@ -127,11 +133,12 @@ public class UserServiceImpl implements UserService {
      * @return Page of UserResponseDto containing all users
      */
     @Override
+    @Transactional(readOnly = true)
     public Page<UserResponseDto> getAllUsers(Pageable pageable) {
         log.debug("Retrieving all users with pagination");
         
         Page<User> users = userRepository.findAll(pageable);
-        log.info("Found {} users out of {} total", users.getNumberOfElements(), users.getTotalElements());
+        log.debug("Found {} users out of {} total", users.getNumberOfElements(), users.getTotalElements());
         
         return users.map(userMapper::toResponseDto);
     }
@@ -153,6 +160,7 @@ public class UserServiceImpl implements UserService {
         updateUserFields(existingUser, dto);
         
         User updatedUser = userRepository.save(existingUser);
+        eventPublisher.publishEvent(new TranslatorProfileChangedEvent(updatedUser.getId()));
         
         log.info("User updated successfully: {}", updatedUser.getUsername());
         return userMapper.toResponseDto(updatedUser);
@@ -177,6 +185,7 @@ public class UserServiceImpl implements UserService {
         
         // Profiles will be automatically deleted due to cascade settings in User entity
         userRepository.delete(user);
+        eventPublisher.publishEvent(new TranslatorProfileChangedEvent(id));
         
         log.info("User deleted successfully: {}", username);
     }
@@ -209,6 +218,7 @@ public class UserServiceImpl implements UserService {
                     .isOnline(false)
                     .build();
             translatorProfileRepository.save(translatorProfile);
+            eventPublisher.publishEvent(new TranslatorProfileChangedEvent(user.getId()));
             log.info("TranslatorProfile created for user ID: {}", user.getId());
         }
     }
@@ -235,6 +245,7 @@ public class UserServiceImpl implements UserService {
         User user = userMapper.toEntity(dto);
         user.setPassword(passwordEncoder.encode(dto.getPassword()));
         user.setRoles(resolveRoles(dto.getRoles()));
+        user.setBalance(BigDecimal.ZERO);
         return user;
     }
     
@@ -256,7 +267,6 @@ public class UserServiceImpl implements UserService {
         user.setUsername(dto.getUsername());
         user.setFirstName(dto.getFirstName());
         user.setLastName(dto.getLastName());
-        user.setBalance(dto.getBalance());
         user.setActive(dto.isActive());
         user.setOnBoardingStatus(dto.getOnBoardingStatus());
 
@@ -270,23 +280,40 @@ public class UserServiceImpl implements UserService {
     }
 
     /**
-     * Resolves role names to Role entities.
+     * Resolves role names to Role entities with a single query.
      * 
      * @param roleNames set of role name strings
      * @return set of Role entities
-     * @throws IllegalArgumentException if any role is not found
+     * @throws IllegalArgumentException listing every role that is not found, or if a name is null
      */
     private Set<Role> resolveRoles(Set<String> roleNames) {
         if (roleNames == null || roleNames.isEmpty()) {
             return new HashSet<>();
         }
-        
-        return roleNames.stream()
-                .map(name -> roleRepository.findByNameEnum(name)
-                        .orElseThrow(() -> {
-                            log.warn("Role not found: {}", name);
-                            return new IllegalArgumentException("Role not found: " + name);
-                        }))
-                .collect(Collectors.toSet());
+
+        Set<String> missing = new TreeSet<>();
+        Set<Roles> names = EnumSet.noneOf(Roles.class);
+        for (String name : roleNames) {
+            if (name == null) {
+                throw new IllegalArgumentException("Role names must not contain null");
+            }
+            try {
+                names.add(Roles.valueOf(name));
+            } catch (IllegalArgumentException ex) {
+                missing.add(name);
+            }
+        }
+
+        Set<Role> roles = names.isEmpty() ? new HashSet<>() : new HashSet<>(roleRepository.findAllByNameIn(names));
+        Set<Roles> found = roles.stream().map(Role::getName).collect(Collectors.toSet());
+        names.stream()
+                .filter(name -> !found.contains(name))
+                .forEach(name -> missing.add(name.name()));
+
+        if (!missing.isEmpty()) {
+            log.warn("Roles not found: {}", missing);
+            throw new IllegalArgumentException("Roles not found: " + missing);
+        }
+        return roles;
     }
 }
\ No newline at end of file
@@ -2,12 +2,15 @@ package com.morago.backend.service;
 
 import com.morago.backend.dto.WithdrawalDto;
 import com.morago.backend.entity.Withdrawal;
+import com.morago.backend.entity.enumFiles.EStatus;
 import com.morago.backend.mapper.WithdrawalMapper;
 import com.morago.backend.repository.WithdrawalRepository;
 import com.morago.backend.repository.UserRepository;
+import com.morago.backend.exception.PaymentAlreadyPostedException;
 import com.morago.backend.exception.ResourceNotFoundException;
 import com.morago.backend.service.WithdrawalService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +24,8 @@ public class WithdrawalServiceImpl implements WithdrawalService {
     private final WithdrawalRepository withdrawalRepository;
     private final UserRepository userRepository;
     private final WithdrawalMapper mapper;
+    private final LedgerService ledgerService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private <T> T findOrThrow(java.util.Optional<T> optional, String entityName, Long id) {
         return optional.orElseThrow(() -> new ResourceNotFoundException(entityName + " not found with id " + id));
@@ -34,7 +39,7 @@ public class WithdrawalServiceImpl implements WithdrawalService {
             withdrawal.setUser(findOrThrow(userRepository.findById(dto.getUserId()), "User", dto.getUserId()));
         }
 
-        return mapper.toDto(withdrawalRepository.save(withdrawal));
+        return mapper.toDto(save(withdrawal, false));
     }
 
     @Override
@@ -50,6 +55,10 @@ public class WithdrawalServiceImpl implements WithdrawalService {
     @Override
     public WithdrawalDto updateWithdrawal(Long id, WithdrawalDto dto) {
         Withdrawal withdrawal = findOrThrow(withdrawalRepository.findById(id), "Withdrawal", id);
+        boolean wasSuccessful = withdrawal.getStatus() == EStatus.SUCCESSFUL;
+        if (wasSuccessful && changesPosting(withdrawal, dto)) {
+            throw new PaymentAlreadyPostedException("Withdrawal", id);
+        }
 
         withdrawal.setAccountNumber(dto.getAccountNumber());
         withdrawal.setAccountHolder(dto.getAccountHolder());
@@ -61,14 +70,42 @@ public class WithdrawalServiceImpl implements WithdrawalService {
             withdrawal.setUser(findOrThrow(userRepository.findById(dto.getUserId()), "User", dto.getUserId()));
         }
 
-        return mapper.toDto(withdrawalRepository.save(withdrawal));
+        return mapper.toDto(save(withdrawal, wasSuccessful));
+    }
+
+    /**
+     * Debits the user's wallet once the withdrawal is successful; fails if the balance does not cover it.
+     */
+    private Withdrawal save(Withdrawal withdrawal, boolean wasSuccessful) {
+        Withdrawal saved = withdrawalRepository.save(withdrawal);
+        if (saved.getStatus() == EStatus.SUCCESSFUL) {
+            ledgerService.applyWithdrawal(saved);
+            if (!wasSuccessful) {
+                eventPublisher.publishEvent(new PaymentSettledEvent(
+                        PaymentSettledEvent.Kind.WITHDRAWAL, saved.getCreatedAt(), saved.getSumDecimal()));
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * A posted withdrawal is final: reversing it would need a compensating ledger entry, so its user,
+     * amount and status are frozen once it is SUCCESSFUL.
+     */
+    private static boolean changesPosting(Withdrawal withdrawal, WithdrawalDto dto) {
+        return dto.getStatus() != EStatus.SUCCESSFUL
+                || dto.getSumDecimal() == null
+                || dto.getSumDecimal().compareTo(withdrawal.getSumDecimal()) != 0
+                || (dto.getUserId() != null
+                        && (withdrawal.getUser() == null || !dto.getUserId().equals(withdrawal.getUser().getId())));
     }
 
     @Override
     public void deleteWithdrawal(Long id) {
-        if (!withdrawalRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Withdrawal not found with id " + id);
+        Withdrawal withdrawal = findOrThrow(withdrawalRepository.findById(id), "Withdrawal", id);
+        if (withdrawal.getStatus() == EStatus.SUCCESSFUL) {
+            throw new PaymentAlreadyPostedException("Withdrawal", id);
         }
-        withdrawalRepository.deleteById(id);
+        withdrawalRepository.delete(withdrawal);
     }
 }
@@ -0,0 +1,26 @@
+-- Monthly translator earnings statements (see TranslatorStatementServiceImpl). Each generation run aggregates the
+-- completed calls of one month per recipient; only translators with calls get a row, the run row tells readers that
+-- a missing row means an empty statement.
+
+ALTER TABLE calls
+    ADD INDEX idx_calls_recipient_created (recipient_id, created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+CREATE TABLE translator_statement_runs (
+    period       DATE        NOT NULL,
+    translators  INT         NOT NULL,
+    statements   INT         NOT NULL,
+    started_at   DATETIME(6) NOT NULL,
+    completed_at DATETIME(6),
+    PRIMARY KEY (period)
+) ENGINE = InnoDB;
+
+CREATE TABLE translator_statements (
+    translator_id    BIGINT         NOT NULL,
+    period           DATE           NOT NULL,
+    calls            INT            NOT NULL,
+    duration_seconds BIGINT         NOT NULL,
+    gross            DECIMAL(21, 2) NOT NULL,
+    commission       DECIMAL(21, 2) NOT NULL,
+    PRIMARY KEY (period, translator_id)
+) ENGINE = InnoDB;
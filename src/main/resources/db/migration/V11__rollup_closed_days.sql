@@ -0,0 +1,19 @@
+-- Closing of reporting rollup days (see RollupWriter / RollupRebuilder). Live deltas are added only to days on or
+-- after open_from; the nightly rebuild recomputes a day from the source tables and moves open_from past it. A delta
+-- that reaches a closed day later marks it in rollup_stale_days instead, and the repair job recomputes it again.
+
+-- Locked FOR SHARE by every flush and FOR UPDATE by every rebuilt day, so no node adds a delta to a day while it is
+-- being recomputed or after it was closed.
+CREATE TABLE rollup_state (
+    id        TINYINT NOT NULL,
+    open_from DATE    NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE rollup_stale_days (
+    day DATE NOT NULL,
+    PRIMARY KEY (day)
+) ENGINE = InnoDB;
+
+-- Earlier days were already rebuilt by the previous nightly job; the first run closes the days since.
+INSERT INTO rollup_state (id, open_from) VALUES (1, CURRENT_DATE - INTERVAL 1 DAY);
@@ -0,0 +1,6 @@
+-- PayoutFileService resumes the oldest OPEN batch (findFirstByStatusOrderByIdAsc). Without an index on status that
+-- walks the primary key through every COMPLETED batch first; InnoDB appends the id, so this index serves the order too.
+
+ALTER TABLE payout_batches
+    ADD INDEX idx_payout_batches_status (status),
+    ALGORITHM = INPLACE, LOCK = NONE;
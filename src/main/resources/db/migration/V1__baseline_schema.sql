@@ -0,0 +1,245 @@
+-- Baseline: the schema previously created by hibernate.ddl-auto for all 16 entities.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate) and skip it.
+
+CREATE TABLE users (
+    id                 BIGINT        NOT NULL AUTO_INCREMENT,
+    phone_number       VARCHAR(20),
+    password           VARCHAR(255),
+    first_name         VARCHAR(200),
+    last_name          VARCHAR(200),
+    balance            DECIMAL(21, 2),
+    created_at         DATETIME(6)   NOT NULL,
+    updated_at         DATETIME(6),
+    is_active          BIT           NOT NULL,
+    on_boarding_status TINYINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_phone_number UNIQUE (phone_number)
+) ENGINE = InnoDB;
+
+CREATE TABLE roles (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    role_name  ENUM ('ROLE_ADMIN','ROLE_USER','ROLE_TRANSLATOR') NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_roles_role_name UNIQUE (role_name)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL,
+    role_id BIGINT NOT NULL,
+    PRIMARY KEY (user_id, role_id),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_roles_role FOREIGN KEY (role_id) REFERENCES roles (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_profiles (
+    id                BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id           BIGINT      NOT NULL,
+    is_free_call_made BIT         NOT NULL,
+    created_at        DATETIME(6) NOT NULL,
+    updated_at        DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_profiles_user UNIQUE (user_id),
+    CONSTRAINT fk_user_profiles_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE files (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at     DATETIME(6)  NOT NULL,
+    original_title VARCHAR(255),
+    path           VARCHAR(512) NOT NULL,
+    type           VARCHAR(100),
+    updated_at     DATETIME(6)  NOT NULL,
+    user_id        BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_files_path UNIQUE (path),
+    CONSTRAINT fk_files_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE categories (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    name       VARCHAR(255),
+    is_active  BIT         NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_categories_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE themes (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at   DATETIME(6)  NOT NULL,
+    name         VARCHAR(200) NOT NULL,
+    korean_title VARCHAR(200),
+    price        DECIMAL(10, 2),
+    night_price  DECIMAL(10, 2),
+    description  VARCHAR(500),
+    is_popular   BIT,
+    updated_at   DATETIME(6),
+    is_active    BIT,
+    category_id  BIGINT,
+    icon_file_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_themes_name UNIQUE (name),
+    CONSTRAINT uk_themes_icon_file UNIQUE (icon_file_id),
+    CONSTRAINT fk_themes_category FOREIGN KEY (category_id) REFERENCES categories (id),
+    CONSTRAINT fk_themes_icon_file FOREIGN KEY (icon_file_id) REFERENCES files (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE languages (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    name       VARCHAR(200) NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_languages_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE translator_profiles (
+    id              BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at      DATETIME(6) NOT NULL,
+    date_of_birth   DATE,
+    email           VARCHAR(320),
+    is_available    BIT,
+    is_online       BIT,
+    level_of_korean VARCHAR(200),
+    updated_at      DATETIME(6),
+    user_id         BIGINT      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_translator_profiles_email UNIQUE (email),
+    CONSTRAINT uk_translator_profiles_user UNIQUE (user_id),
+    CONSTRAINT fk_translator_profiles_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE translator_languages (
+    translator_profile_id BIGINT NOT NULL,
+    language_id           BIGINT NOT NULL,
+    PRIMARY KEY (translator_profile_id, language_id),
+    CONSTRAINT fk_translator_languages_profile FOREIGN KEY (translator_profile_id) REFERENCES translator_profiles (id),
+    CONSTRAINT fk_translator_languages_language FOREIGN KEY (language_id) REFERENCES languages (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE translator_themes (
+    translator_profile_id BIGINT NOT NULL,
+    theme_id              BIGINT NOT NULL,
+    PRIMARY KEY (translator_profile_id, theme_id),
+    CONSTRAINT fk_translator_themes_profile FOREIGN KEY (translator_profile_id) REFERENCES translator_profiles (id),
+    CONSTRAINT fk_translator_themes_theme FOREIGN KEY (theme_id) REFERENCES themes (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE calls (
+    id                    BIGINT      NOT NULL AUTO_INCREMENT,
+    caller_id             BIGINT      NOT NULL,
+    recipient_id          BIGINT      NOT NULL,
+    theme_id              BIGINT,
+    created_at            DATETIME(6) NOT NULL,
+    duration              INTEGER     NOT NULL,
+    status                BIT         NOT NULL,
+    sum_decimal           DECIMAL(10, 2),
+    commission            DECIMAL(10, 2),
+    translator_has_joined BIT         NOT NULL,
+    user_has_rated        BIT         NOT NULL,
+    updated_at            DATETIME(6) NOT NULL,
+    channel_name          VARCHAR(50),
+    call_status           ENUM ('CONNECT_NOT_SET','SUCCESSFUL','MISSED','ERROR','TRANSLATOR_NOT_ONLINE',
+                                'TRANSLATOR_NOT_AVAILABLE','FCM_AND_APN_TOKEN_NULL','PUSH_NOT_SENT') NOT NULL,
+    is_end_call           BIT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_calls_caller FOREIGN KEY (caller_id) REFERENCES users (id),
+    CONSTRAINT fk_calls_recipient FOREIGN KEY (recipient_id) REFERENCES users (id),
+    CONSTRAINT fk_calls_theme FOREIGN KEY (theme_id) REFERENCES themes (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE ratings (
+    id                    BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id               BIGINT      NOT NULL,
+    translator_profile_id BIGINT      NOT NULL,
+    score                 INTEGER     NOT NULL,
+    comment               VARCHAR(1000),
+    created_at            DATETIME(6) NOT NULL,
+    updated_at            DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_ratings_user_translator UNIQUE (user_id, translator_profile_id),
+    CONSTRAINT fk_ratings_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_ratings_translator_profile FOREIGN KEY (translator_profile_id) REFERENCES translator_profiles (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE refresh_tokens (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    token           VARCHAR(600) NOT NULL,
+    device_id       VARCHAR(100),
+    device_name     VARCHAR(200),
+    expiration_time DATETIME(6)  NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    updated_at      DATETIME(6),
+    user_id         BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token UNIQUE (token),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id),
+    INDEX idx_refresh_tokens_user_created (user_id, created_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE password_resets (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6) NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    token      VARCHAR(255),
+    phone      VARCHAR(100),
+    reset_code INTEGER,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_password_resets_token UNIQUE (token),
+    CONSTRAINT fk_password_resets_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE notifications (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT,
+    title      VARCHAR(200),
+    text       VARCHAR(1000),
+    date_time  DATETIME(6),
+    error_time DATETIME(6),
+    is_read    BIT         NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_notifications_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE debtors (
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id        BIGINT,
+    account_holder VARCHAR(200),
+    name_of_bank   VARCHAR(200),
+    is_paid        BIT,
+    created_at     DATETIME(6) NOT NULL,
+    updated_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_debtors_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE deposits (
+    id             BIGINT         NOT NULL AUTO_INCREMENT,
+    user_id        BIGINT         NOT NULL,
+    account_holder VARCHAR(200)   NOT NULL,
+    name_of_bank   VARCHAR(200)   NOT NULL,
+    coin_decimal   DECIMAL(10, 2) NOT NULL,
+    won_decimal    DECIMAL(10, 2) NOT NULL,
+    status         ENUM ('SUCCESSFUL','FAILED','PENDING','INCOMPLETE') NOT NULL,
+    created_at     DATETIME(6)    NOT NULL,
+    updated_at     DATETIME(6)    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_deposits_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE withdrawals (
+    id             BIGINT         NOT NULL AUTO_INCREMENT,
+    user_id        BIGINT         NOT NULL,
+    account_number VARCHAR(200)   NOT NULL,
+    account_holder VARCHAR(200)   NOT NULL,
+    name_of_bank   VARCHAR(200)   NOT NULL,
+    sum_decimal    DECIMAL(10, 2) NOT NULL,
+    status         ENUM ('SUCCESSFUL','FAILED','PENDING','INCOMPLETE') NOT NULL,
+    created_at     DATETIME(6)    NOT NULL,
+    updated_at     DATETIME(6)    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_withdrawals_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
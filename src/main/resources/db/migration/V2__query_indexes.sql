@@ -0,0 +1,33 @@
+-- Composite indexes for the repository finders (see RepositoryIndexUsageTest).
+--
+-- Online DDL convention: secondary indexes are added with ALGORITHM=INPLACE, LOCK=NONE so reads and writes
+-- continue while InnoDB builds them; the statement fails instead of silently locking the table if MySQL
+-- cannot honour that. Column additions use ALGORITHM=INSTANT. For calls and notifications beyond a few
+-- million rows, run the same change through gh-ost/pt-online-schema-change and mark the version applied.
+
+ALTER TABLE calls
+    ADD INDEX idx_calls_recipient_status (recipient_id, status),
+    ADD INDEX idx_calls_recipient_active (recipient_id, is_end_call, call_status),
+    ADD INDEX idx_calls_caller_created (caller_id, created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE notifications
+    ADD INDEX idx_notifications_user_date (user_id, date_time),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE ratings
+    ADD INDEX idx_ratings_translator_score (translator_profile_id, score),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE translator_profiles
+    ADD INDEX idx_translator_profiles_available_online (is_available, is_online),
+    ADD INDEX idx_translator_profiles_online (is_online),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE translator_languages
+    ADD INDEX idx_translator_languages_language (language_id, translator_profile_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE translator_themes
+    ADD INDEX idx_translator_themes_theme (theme_id, translator_profile_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,23 @@
+-- Pooled id generator for the high-volume tables (see IdSequences). Hibernate reserves blocks of 50 ids per
+-- round trip, which lets it batch inserts; IDENTITY columns forced one INSERT statement per row.
+--
+-- next_val is read as the upper bound of the next block, so each row starts 50 above the current maximum id.
+-- The id columns keep AUTO_INCREMENT (dropping it would rebuild every table), but application inserts
+-- now always supply the id; manual inserts must do the same to avoid colliding with reserved blocks.
+
+CREATE TABLE id_sequences (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT,
+    PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB;
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'calls', COALESCE(MAX(id), 0) + 50 FROM calls
+UNION ALL
+SELECT 'notifications', COALESCE(MAX(id), 0) + 50 FROM notifications
+UNION ALL
+SELECT 'ratings', COALESCE(MAX(id), 0) + 50 FROM ratings
+UNION ALL
+SELECT 'refresh_tokens', COALESCE(MAX(id), 0) + 50 FROM refresh_tokens
+UNION ALL
+SELECT 'deposits', COALESCE(MAX(id), 0) + 50 FROM deposits;
@@ -0,0 +1,41 @@
+-- Append-only wallet ledger (see LedgerService). users.balance stays the live balance and is changed only
+-- through atomic UPDATE ... SET balance = balance + ? statements together with a ledger entry.
+
+CREATE TABLE ledger_entries (
+    id              BIGINT         NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT         NOT NULL,
+    type            ENUM ('DEPOSIT','WITHDRAWAL','CALL_CHARGE','CALL_EARNING','COMMISSION','REFUND') NOT NULL,
+    amount          DECIMAL(21, 2) NOT NULL,
+    balance_after   DECIMAL(21, 2) NOT NULL,
+    idempotency_key VARCHAR(100)   NOT NULL,
+    reference_id    BIGINT,
+    created_at      DATETIME(6)    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_ledger_entries_idempotency_key UNIQUE (idempotency_key),
+    INDEX idx_ledger_entries_user (user_id, id),
+    CONSTRAINT fk_ledger_entries_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+-- Per-user balance as of last_entry_id, maintained by LedgerCompactor. Derived data, so no foreign key:
+-- it must not block deleting users without ledger history.
+CREATE TABLE balance_snapshots (
+    user_id       BIGINT         NOT NULL,
+    balance       DECIMAL(21, 2) NOT NULL,
+    last_entry_id BIGINT         NOT NULL,
+    taken_at      DATETIME(6)    NOT NULL,
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB;
+
+-- Single-row compaction watermark; locked FOR UPDATE so only one node compacts at a time.
+CREATE TABLE ledger_compaction (
+    id              TINYINT     NOT NULL,
+    compacted_up_to BIGINT      NOT NULL,
+    compacted_at    DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+INSERT INTO ledger_compaction (id, compacted_up_to) VALUES (1, 0);
+
+-- Balances that predate the ledger become the opening snapshot.
+INSERT INTO balance_snapshots (user_id, balance, last_entry_id, taken_at)
+SELECT id, COALESCE(balance, 0), 0, NOW(6) FROM users;
@@ -0,0 +1,10 @@
+-- Status-scoped indexes for the pending deposit/withdrawal queues (keyset order: created_at, id).
+-- InnoDB appends the primary key to secondary indexes, so id needs no column of its own.
+
+ALTER TABLE deposits
+    ADD INDEX idx_deposits_status_created (status, created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE withdrawals
+    ADD INDEX idx_withdrawals_status_created (status, created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,42 @@
+-- Payout files of approved withdrawals (see PayoutFileService). A batch stays OPEN while its file is written;
+-- last_withdrawal_id and bytes_written are the restart checkpoint, committed together with the rows they cover.
+
+CREATE TABLE payout_batches (
+    id                 BIGINT         NOT NULL AUTO_INCREMENT,
+    file_name          VARCHAR(255)   NOT NULL,
+    status             ENUM ('OPEN','COMPLETED') NOT NULL,
+    row_count          BIGINT         NOT NULL,
+    total_amount       DECIMAL(21, 2) NOT NULL,
+    last_withdrawal_id BIGINT         NOT NULL,
+    bytes_written      BIGINT         NOT NULL,
+    checksum           VARCHAR(64),
+    created_at         DATETIME(6)    NOT NULL,
+    completed_at       DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_payout_batches_file_name UNIQUE (file_name)
+) ENGINE = InnoDB;
+
+ALTER TABLE withdrawals
+    ADD COLUMN payout_batch_id BIGINT,
+    ALGORITHM = INSTANT;
+
+-- The new column is all NULL, so the foreign key can be added in place without checking rows.
+SET foreign_key_checks = 0;
+
+ALTER TABLE withdrawals
+    ADD INDEX idx_withdrawals_payout (payout_batch_id, status),
+    ADD CONSTRAINT fk_withdrawals_payout_batch FOREIGN KEY (payout_batch_id) REFERENCES payout_batches (id),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+SET foreign_key_checks = 1;
+
+-- Withdrawals approved before payout files existed were paid by hand; park them in a completed batch
+-- so the first payout file does not pay them again.
+INSERT INTO payout_batches (file_name, status, row_count, total_amount, last_withdrawal_id, bytes_written, created_at, completed_at)
+SELECT 'legacy-manual-payouts', 'COMPLETED', COUNT(*), COALESCE(SUM(sum_decimal), 0), COALESCE(MAX(id), 0), 0, NOW(6), NOW(6)
+FROM withdrawals
+WHERE status = 'SUCCESSFUL';
+
+UPDATE withdrawals
+SET payout_batch_id = (SELECT id FROM payout_batches WHERE file_name = 'legacy-manual-payouts')
+WHERE status = 'SUCCESSFUL';
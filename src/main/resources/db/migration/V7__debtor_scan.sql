@@ -0,0 +1,27 @@
+-- Debtor detection (see DebtorScanner): completed calls are scanned in (updated_at, id) keyset order from a
+-- single-row watermark, and callers whose balance went negative get an open debtors row with the amount owed.
+
+ALTER TABLE calls
+    ADD INDEX idx_calls_status_updated (status, updated_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE debtors
+    ADD COLUMN outstanding_amount DECIMAL(21, 2),
+    ADD COLUMN assessed_at        DATETIME(6),
+    ALGORITHM = INSTANT;
+
+ALTER TABLE debtors
+    ADD INDEX idx_debtors_user_paid (user_id, is_paid),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- Locked FOR UPDATE by every assessment, so scans and backfills on any node never open two debts for one user.
+CREATE TABLE debtor_scan (
+    id                 TINYINT     NOT NULL,
+    scanned_updated_at DATETIME(6) NOT NULL,
+    scanned_call_id    BIGINT      NOT NULL,
+    scanned_at         DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- Scheduled scans start from now; older history is assessed with the backfill endpoint.
+INSERT INTO debtor_scan (id, scanned_updated_at, scanned_call_id) VALUES (1, NOW(6), 0);
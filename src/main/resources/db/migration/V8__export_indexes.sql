@@ -0,0 +1,15 @@
+-- Date-range exports (see ExportService) read rows in (created_at, id) order; these indexes let them stream
+-- straight off a range scan instead of sorting the table first. Filtered by status, the
+-- (status, created_at) indexes of V5 are used instead.
+
+ALTER TABLE calls
+    ADD INDEX idx_calls_created (created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE deposits
+    ADD INDEX idx_deposits_created (created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE withdrawals
+    ADD INDEX idx_withdrawals_created (created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,23 @@
+-- Pre-aggregated reporting (see RollupWriter / RollupRebuilder). Rows are keyed by the hour or day in which the call,
+-- deposit or withdrawal was created; completed calls and successful payments only. theme_id 0 means "no theme".
+
+CREATE TABLE call_rollups (
+    granularity      ENUM ('HOUR','DAY') NOT NULL,
+    bucket_start     DATETIME       NOT NULL,
+    theme_id         BIGINT         NOT NULL,
+    calls            BIGINT         NOT NULL,
+    duration_seconds BIGINT         NOT NULL,
+    revenue          DECIMAL(21, 2) NOT NULL,
+    commission       DECIMAL(21, 2) NOT NULL,
+    PRIMARY KEY (granularity, bucket_start, theme_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE payment_rollups (
+    granularity       ENUM ('HOUR','DAY') NOT NULL,
+    bucket_start      DATETIME       NOT NULL,
+    deposits          BIGINT         NOT NULL,
+    deposit_amount    DECIMAL(21, 2) NOT NULL,
+    withdrawals       BIGINT         NOT NULL,
+    withdrawal_amount DECIMAL(21, 2) NOT NULL,
+    PRIMARY KEY (granularity, bucket_start)
+) ENGINE = InnoDB;
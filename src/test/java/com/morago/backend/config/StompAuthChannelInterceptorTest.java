@@ -0,0 +1,70 @@
+package com.morago.backend.config;
+
+import com.morago.backend.config.utils.AccessTokenRevocationList;
+import com.morago.backend.config.utils.JWTUtils;
+import com.morago.backend.config.utils.StompPrincipal;
+import com.morago.backend.entity.enumFiles.Roles;
+import com.morago.backend.service.CallSessionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class StompAuthChannelInterceptorTest {
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private CallSessionRegistry registry;
+    private StompAuthChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new CallSessionRegistry();
+        registry.open("call-1", "caller", "translator", "s1");
+        interceptor = new StompAuthChannelInterceptor(mock(JWTUtils.class), mock(AccessTokenRevocationList.class),
+                registry);
+    }
+
+    @Test
+    void participantsMaySubscribeToTheirCallRoom() {
+        assertThatCode(() -> interceptor.preSend(subscribe("caller", Roles.ROLE_USER), channel))
+                .doesNotThrowAnyException();
+        assertThatCode(() -> interceptor.preSend(subscribe("translator", Roles.ROLE_TRANSLATOR), channel))
+                .doesNotThrowAnyException();
+        assertThatCode(() -> interceptor.preSend(subscribe("admin", Roles.ROLE_ADMIN), channel))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void outsidersCannotSubscribeEvenAfterAttemptingToJoin() {
+        registry.join("call-1", "eavesdropper", "s2");
+
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("eavesdropper", Roles.ROLE_TRANSLATOR), channel))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void closedCallsCannotBeSubscribed() {
+        registry.disconnect("s1");
+
+        assertThatThrownBy(() -> interceptor.preSend(subscribe("caller", Roles.ROLE_USER), channel))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    private static Message<byte[]> subscribe(String user, Roles role) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination("/topic/call-room/call-1");
+        accessor.setUser(new StompPrincipal(user, Set.of(role.name())));
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,138 @@
+package com.morago.backend.config.datasource;
+
+import com.morago.backend.service.UserService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two schemas of one MySQL container stand in for primary ({@code test}) and replica ({@code replica}).
+ * The replica schema is migrated but never receives the primary's rows, so a read served by it behaves
+ * like a read from a replica that has not caught up yet.
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.sticky-primary-ms=60000",
+        "jwt.access-secret=routing-test-access-secret-0123456789abcdef0",
+        "jwt.refresh-secret=routing-test-refresh-secret-0123456789abcdef",
+        "jwt.access-expiration-ms=3600000",
+        "jwt.refresh-expiration-ms=86400000"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class ReadReplicaRoutingTest {
+
+    private static final String PRIMARY_SCHEMA = "test";
+    private static final String REPLICA_SCHEMA = "replica";
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0").withDatabaseName(PRIMARY_SCHEMA);
+
+    @Autowired private JdbcTemplate jdbc;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private UserService userService;
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("datasource.replica.url", ReadReplicaRoutingTest::replicaUrl);
+        registry.add("datasource.replica.username", () -> "root");
+        registry.add("datasource.replica.password", mysql::getPassword);
+    }
+
+    @BeforeAll
+    static void createReplicaSchema() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(mysql.getJdbcUrl(), "root", mysql.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE IF NOT EXISTS " + REPLICA_SCHEMA);
+        }
+        Flyway.configure()
+                .dataSource(replicaUrl(), "root", mysql.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        assertEquals(REPLICA_SCHEMA, schemaIn(readOnly()));
+    }
+
+    @Test
+    void readWriteTransactionsAndAutoCommitUsePrimary() {
+        assertEquals(PRIMARY_SCHEMA, schemaIn(new TransactionTemplate(transactionManager)));
+        assertEquals(PRIMARY_SCHEMA, jdbc.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    @Test
+    void onPrimaryOverridesReadOnly() {
+        assertEquals(PRIMARY_SCHEMA, ReadWriteRoutingDataSource.onPrimary(() -> schemaIn(readOnly())));
+    }
+
+    @Test
+    void readOnlyServiceMethodsDoNotSeeUnreplicatedRows() {
+        Long onPrimary = jdbc.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        assertTrue(onPrimary != null && onPrimary > 0, "seeders should have created users on the primary");
+
+        assertEquals(0, userService.getAllUsers(PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void usersReadTheirOwnWritesFromPrimary() {
+        authenticate("01000000001");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                jdbc.update("UPDATE users SET first_name = first_name WHERE id < 0"));
+
+        assertEquals(PRIMARY_SCHEMA, schemaIn(readOnly()));
+
+        authenticate("01000000002");
+        assertEquals(REPLICA_SCHEMA, schemaIn(readOnly()));
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private String schemaIn(TransactionTemplate template) {
+        return template.execute(status -> jdbc.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    private static String replicaUrl() {
+        return "jdbc:mysql://" + mysql.getHost() + ":" + mysql.getMappedPort(MySQLContainer.MYSQL_PORT) + "/" + REPLICA_SCHEMA
+                + "?useSSL=false&allowPublicKeyRetrieval=true";
+    }
+}
@@ -0,0 +1,154 @@
+package com.morago.backend.config.metrics;
+
+import com.morago.backend.entity.Language;
+import com.morago.backend.entity.Theme;
+import com.morago.backend.entity.TranslatorProfile;
+import com.morago.backend.entity.User;
+import com.morago.backend.repository.LanguageRepository;
+import com.morago.backend.repository.ThemeRepository;
+import com.morago.backend.repository.TranslatorProfileRepository;
+import com.morago.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.morago.backend.support.StatementCountAssertions.assertMaxStatements;
+import static com.morago.backend.support.StatementCountAssertions.assertStatementCount;
+import static com.morago.backend.support.StatementCountAssertions.track;
+import static com.morago.backend.support.StatementCountAssertions.withMaxStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets of HTTP handlers, measured through the same counting DataSource that feeds
+ * {@link StatementBudgetMonitor}, and the request scope bookkeeping of {@link RequestMetricsInterceptor}.
+ */
+@SpringBootTest(properties = {
+        "jwt.access-secret=budget-test-access-secret-0123456789abcdef01",
+        "jwt.refresh-secret=budget-test-refresh-secret-0123456789abcdef0",
+        "jwt.access-expiration-ms=3600000",
+        "jwt.refresh-expiration-ms=86400000"
+})
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatementBudgetIntegrationTest {
+
+    private static final int TRANSLATORS = 40;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ThemeRepository themeRepository;
+    @Autowired private LanguageRepository languageRepository;
+    @Autowired private TranslatorProfileRepository translatorProfileRepository;
+
+    private Long themeId;
+
+    @BeforeAll
+    void seed() {
+        List<Theme> themes = new ArrayList<>();
+        List<Language> languages = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            themes.add(Theme.builder().name("budget-theme-" + i).build());
+            languages.add(Language.builder().name("budget-language-" + i).build());
+        }
+        themeRepository.saveAll(themes);
+        languageRepository.saveAll(languages);
+
+        List<TranslatorProfile> profiles = new ArrayList<>();
+        for (int i = 0; i < TRANSLATORS; i++) {
+            User user = new User();
+            user.setUsername("budget-translator-" + i);
+            user.setPassword("password");
+            user.setRoles(new HashSet<>());
+            profiles.add(TranslatorProfile.builder()
+                    .user(userRepository.save(user))
+                    .email("budget-translator-" + i + "@example.com")
+                    .isAvailable(true)
+                    .isOnline(i % 2 == 0)
+                    .levelOfKorean("Advanced")
+                    .themes(new HashSet<>(Set.of(themes.get(i % 5), themes.get((i + 1) % 5))))
+                    .languages(new HashSet<>(Set.of(languages.get(i % 5))))
+                    .build());
+        }
+        translatorProfileRepository.saveAll(profiles);
+        themeId = themes.get(0).getId();
+    }
+
+    @Test
+    @WithMockUser
+    void themeTranslatorsPageIsIndependentOfPageSize() {
+        String path = "/api/catalog/themes/" + themeId + "/translators";
+
+        StatementStats small = assertMaxStatements(3, () -> mockMvc.perform(get(path).param("size", "2"))
+                .andExpect(status().isOk()));
+        StatementStats large = assertMaxStatements(3, () -> mockMvc.perform(get(path).param("size", "10"))
+                .andExpect(status().isOk()));
+
+        assertEquals(small.getStatements(), large.getStatements(), "theme translators page has an N+1 on its rows");
+    }
+
+    @Test
+    @WithMockUser
+    void translatorSearchPagesLoadTheirStatisticsPerPage() {
+        StatementStats small = assertMaxStatements(7, () -> mockMvc.perform(get("/api/translator-profiles")
+                .param("size", "2")).andExpect(status().isOk()));
+        StatementStats large = assertMaxStatements(7, () -> mockMvc.perform(get("/api/translator-profiles")
+                .param("size", "20")).andExpect(status().isOk()));
+        StatementStats slice = assertMaxStatements(6, () -> mockMvc.perform(get("/api/translator-profiles/slice")
+                .param("size", "20")).andExpect(status().isOk()));
+
+        assertEquals(small.getStatements(), large.getStatements(), "translator search page has an N+1 on its rows");
+        assertEquals(large.getStatements() - 1, slice.getStatements(), "slice should differ only by the count query");
+    }
+
+    @Test
+    @WithMockUser
+    void referenceCatalogIsServedFromTheSnapshot() {
+        MvcResult result = withMaxStatements(0, () -> mockMvc.perform(get("/api/catalog/themes"))
+                .andExpect(status().isOk())
+                .andReturn());
+        assertStatementCount(0, () -> mockMvc.perform(get("/api/catalog/languages")).andExpect(status().isOk()));
+
+        assertEquals(200, result.getResponse().getStatus());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void streamingExportDoesNotLeakItsScopeOntoTheRequestThread() {
+        track(() -> {
+            StatementStats outer = StatementStats.current();
+
+            MvcResult started = mockMvc.perform(get("/api/admin/exports/calls"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            assertSame(outer, StatementStats.current(), "scope leaked after concurrent handling started");
+
+            mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+            assertSame(outer, StatementStats.current(), "scope leaked after the async dispatch");
+        });
+    }
+}
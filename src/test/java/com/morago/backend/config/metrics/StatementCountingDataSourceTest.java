@@ -0,0 +1,66 @@
+package com.morago.backend.config.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatementCountingDataSourceTest {
+
+    @Test
+    void countsExecutedStatementsAndBatchesOfEveryConnectionInTheCurrentScope() throws Exception {
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        Statement plain = mock(Statement.class);
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(prepared);
+        when(connection.createStatement()).thenReturn(plain);
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(connection);
+        DataSource dataSource = new StatementCountingDataSource(target);
+
+        StatementStats outer = StatementStats.begin();
+        StatementStats inner = StatementStats.begin();
+        try (Connection counted = dataSource.getConnection()) {
+            PreparedStatement statement = counted.prepareStatement("UPDATE users SET balance = ? WHERE id = ?");
+            statement.setLong(1, 1L);
+            statement.addBatch();
+            statement.addBatch();
+            statement.executeBatch();
+            statement.executeQuery();
+            StatementStats.end();
+
+            counted.createStatement().execute("SELECT 1");
+        } finally {
+            StatementStats.end();
+        }
+
+        assertThat(inner.getStatements()).isEqualTo(2);
+        assertThat(outer.getStatements()).isEqualTo(3);
+        verify(prepared).executeBatch();
+        verify(plain).execute("SELECT 1");
+        verify(connection).close();
+    }
+
+    @Test
+    void executesWithoutAScopeAndKeepsProxyIdentity() throws Exception {
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(connection);
+
+        Connection counted = new StatementCountingDataSource(target).getConnection();
+        counted.createStatement().executeUpdate("DELETE FROM debtors");
+
+        assertThat(StatementStats.current()).isNull();
+        assertThat(counted).isEqualTo(counted).isNotEqualTo(connection);
+        assertThat(counted.hashCode()).isEqualTo(System.identityHashCode(counted));
+    }
+}
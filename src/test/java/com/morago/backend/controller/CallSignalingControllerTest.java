@@ -0,0 +1,120 @@
+package com.morago.backend.controller;
+
+import com.morago.backend.config.metrics.WebSocketMetrics;
+import com.morago.backend.config.utils.StompPrincipal;
+import com.morago.backend.dto.tokens.CallSignalMessage;
+import com.morago.backend.entity.enumFiles.Roles;
+import com.morago.backend.service.CallSessionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class CallSignalingControllerTest {
+
+    private CallSessionRegistry registry;
+    private CallSignalingController controller;
+
+    @BeforeEach
+    void setUp() {
+        registry = new CallSessionRegistry();
+        controller = new CallSignalingController(mock(SimpMessagingTemplate.class), registry,
+                mock(WebSocketMetrics.class));
+    }
+
+    @Test
+    void rejectsMissingCallId() {
+        assertThatThrownBy(() -> controller.initiateCall(call(" ", "translator"), frame("caller", "s1", Roles.ROLE_USER)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> controller.initiateCall(call(null, "translator"), frame("caller", "s1", Roles.ROLE_USER)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(registry.activeCalls()).isZero();
+    }
+
+    @Test
+    void refusesToTakeOverAnotherCallersCall() {
+        controller.initiateCall(call("call-1", "translator"), frame("caller", "s1", Roles.ROLE_USER));
+
+        assertThatThrownBy(() -> controller.initiateCall(call("call-1", "intruder-translator"),
+                frame("intruder", "s2", Roles.ROLE_USER)))
+                .isInstanceOf(AccessDeniedException.class);
+
+        assertThat(registry.get("call-1").getCallerId()).isEqualTo("caller");
+        assertThat(registry.isParticipant("call-1", "intruder")).isFalse();
+    }
+
+    @Test
+    void callerMayResendTheSameInvitation() {
+        controller.initiateCall(call("call-1", "translator"), frame("caller", "s1", Roles.ROLE_USER));
+        controller.initiateCall(call("call-1", "translator"), frame("caller", "s1", Roles.ROLE_USER));
+
+        assertThat(registry.activeCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void onlyTheAssignedTranslatorMayJoin() {
+        controller.initiateCall(call("call-1", "translator"), frame("caller", "s1", Roles.ROLE_USER));
+
+        assertThatThrownBy(() -> controller.translatorJoin(call("call-1", null), frame("eavesdropper", "s2", Roles.ROLE_USER)))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> controller.translatorJoin(call("call-1", null),
+                frame("other-translator", "s3", Roles.ROLE_TRANSLATOR)))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThat(registry.isParticipant("call-1", "eavesdropper")).isFalse();
+        assertThat(registry.isParticipant("call-1", "other-translator")).isFalse();
+
+        controller.translatorJoin(call("call-1", null), frame("translator", "s4", Roles.ROLE_TRANSLATOR));
+        assertThat(registry.get("call-1").getWebSocketSessions()).contains("s4");
+    }
+
+    @Test
+    void assignedRecipientWithoutTranslatorRoleCannotJoinAsTranslator() {
+        controller.initiateCall(call("call-1", "recipient"), frame("caller", "s1", Roles.ROLE_USER));
+
+        assertThatThrownBy(() -> controller.translatorJoin(call("call-1", null), frame("recipient", "s2", Roles.ROLE_USER)))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void signalingRequiresParticipation() {
+        controller.initiateCall(call("call-1", "translator"), frame("caller", "s1", Roles.ROLE_USER));
+
+        assertThatThrownBy(() -> controller.handleSignaling("call-1", call("call-1", null),
+                frame("outsider", "s2", Roles.ROLE_USER)))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void dropsCallsWhenAParticipantDisconnects() {
+        controller.initiateCall(call("call-1", "translator"), frame("caller", "s1", Roles.ROLE_USER));
+        controller.initiateCall(call("call-2", "translator"), frame("caller", "s1", Roles.ROLE_USER));
+        controller.initiateCall(call("call-3", "translator"), frame("caller", "s9", Roles.ROLE_USER));
+        controller.acceptCall(call("call-3", null), frame("translator", "s2", Roles.ROLE_TRANSLATOR));
+
+        assertThat(registry.disconnect("s1")).isEqualTo(2);
+        assertThat(registry.get("call-1")).isNull();
+        assertThat(registry.get("call-2")).isNull();
+
+        assertThat(registry.disconnect("s2")).isEqualTo(1);
+        assertThat(registry.activeCalls()).isZero();
+        assertThat(registry.disconnect("s9")).isZero();
+    }
+
+    private static CallSignalMessage call(String callId, String recipientId) {
+        return CallSignalMessage.builder().callId(callId).recipientId(recipientId).build();
+    }
+
+    private static SimpMessageHeaderAccessor frame(String user, String sessionId, Roles role) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setUser(new StompPrincipal(user, Set.of(role.name())));
+        accessor.setSessionId(sessionId);
+        return accessor;
+    }
+}
@@ -0,0 +1,366 @@
+package com.morago.backend.repository;
+
+import com.morago.backend.entity.Call;
+import com.morago.backend.entity.Deposit;
+import com.morago.backend.entity.Language;
+import com.morago.backend.entity.LedgerEntry;
+import com.morago.backend.entity.PayoutBatch;
+import com.morago.backend.entity.Rating;
+import com.morago.backend.entity.RefreshToken;
+import com.morago.backend.entity.Theme;
+import com.morago.backend.entity.TranslatorProfile;
+import com.morago.backend.entity.User;
+import com.morago.backend.entity.Withdrawal;
+import com.morago.backend.entity.enumFiles.CallStatus;
+import com.morago.backend.entity.enumFiles.EStatus;
+import com.morago.backend.entity.enumFiles.LedgerEntryType;
+import com.morago.backend.entity.enumFiles.PayoutBatchStatus;
+import com.morago.backend.entity.enumFiles.Roles;
+import com.morago.backend.support.CapturingStatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Runs EXPLAIN on the SQL of every repository finder against MySQL and fails when any table in the plan
+ * is read with a full scan ({@code type = ALL}), i.e. when a query stops using an index.
+ * Whole-table reads by design (findAll, the theme catalog, the search index load, unfiltered exports and
+ * {@code LedgerEntryRepository.countBalancesOutOfSync}) are not listed.
+ * The schema comes from the Flyway migrations, so this also checks that they match the entity mapping.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.morago.backend.support.CapturingStatementInspector",
+        "jwt.access-secret=index-test-access-secret-0123456789abcdef01",
+        "jwt.refresh-secret=index-test-refresh-secret-0123456789abcdef0",
+        "jwt.access-expiration-ms=3600000",
+        "jwt.refresh-expiration-ms=86400000"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RepositoryIndexUsageTest {
+
+    private static final int TRANSLATORS = 200;
+    private static final int CLIENTS = 200;
+
+    /** Bind values of the date-bounded exports: one day long before the seeded rows, no status filter. */
+    private static final String[] EXPORT_DAY = {"'2020-01-01'", "'2020-01-01'", "'2020-01-02'", "'2020-01-02'", "NULL", "NULL"};
+    private static final LocalDateTime EXPORT_FROM = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired private JdbcTemplate jdbc;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private UserRepository userRepository;
+    @Autowired private RoleRepository roleRepository;
+    @Autowired private UserProfileRepository userProfileRepository;
+    @Autowired private TranslatorProfileRepository translatorProfileRepository;
+    @Autowired private ThemeRepository themeRepository;
+    @Autowired private LanguageRepository languageRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private CallRepository callRepository;
+    @Autowired private RatingRepository ratingRepository;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+    @Autowired private DepositRepository depositRepository;
+    @Autowired private WithdrawalRepository withdrawalRepository;
+    @Autowired private LedgerEntryRepository ledgerEntryRepository;
+    @Autowired private PayoutBatchRepository payoutBatchRepository;
+
+    /**
+     * Seeds enough rows with realistic selectivity (10% online/available) that the optimizer
+     * prefers an index whenever one applies.
+     */
+    @BeforeAll
+    void seed() {
+        List<Theme> themes = themeRepository.saveAll(range(20, i -> Theme.builder().name("theme-" + i).build()));
+        List<Language> languages = languageRepository.saveAll(range(20, i -> Language.builder().name("language-" + i).build()));
+
+        List<User> clients = userRepository.saveAll(range(CLIENTS, i -> user("client-" + i)));
+        List<User> translatorUsers = userRepository.saveAll(range(TRANSLATORS, i -> user("translator-" + i)));
+
+        List<TranslatorProfile> translators = translatorProfileRepository.saveAll(range(TRANSLATORS, i -> TranslatorProfile.builder()
+                .user(translatorUsers.get(i))
+                .email("translator-" + i + "@example.com")
+                .isAvailable(i % 10 == 0)
+                .isOnline(i % 10 == 1)
+                .levelOfKorean(i % 2 == 0 ? "Advanced" : "Native")
+                .themes(new HashSet<>(Set.of(themes.get(i % 20), themes.get((i + 7) % 20))))
+                .languages(new HashSet<>(Set.of(languages.get(i % 20))))
+                .build()));
+
+        callRepository.saveAll(range(4000, i -> Call.builder()
+                .caller(clients.get(i % CLIENTS))
+                .recipient(translatorUsers.get((i * 7) % TRANSLATORS))
+                .theme(themes.get(i % 20))
+                .status(i % 3 == 0)
+                .isEndCall(i % 4 != 0)
+                .callStatus(i % 2 == 0 ? CallStatus.SUCCESSFUL : CallStatus.MISSED)
+                .build()));
+
+        List<Rating> ratings = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            for (int k = 0; k < 5; k++) {
+                ratings.add(Rating.builder()
+                        .user(clients.get(c))
+                        .translator(translators.get((c * 7 + k) % TRANSLATORS))
+                        .score(1 + (c + k) % 5)
+                        .build());
+            }
+        }
+        ratingRepository.saveAll(ratings);
+
+        refreshTokenRepository.saveAll(range(CLIENTS * 3, i -> RefreshToken.builder()
+                .user(clients.get(i % CLIENTS))
+                .token("token-" + i)
+                .deviceId("device-" + (i / CLIENTS))
+                .expirationTime(LocalDateTime.now().plusDays(1))
+                .build()));
+
+        depositRepository.saveAll(range(2000, i -> Deposit.builder()
+                .user(clients.get(i % CLIENTS))
+                .accountHolder("holder-" + i)
+                .nameOfBank("bank")
+                .coinDecimal(BigDecimal.TEN)
+                .wonDecimal(BigDecimal.TEN)
+                .status(i % 20 == 0 ? EStatus.PENDING : EStatus.SUCCESSFUL)
+                .build()));
+
+        withdrawalRepository.saveAll(range(2000, i -> Withdrawal.builder()
+                .user(translatorUsers.get(i % TRANSLATORS))
+                .accountNumber("account-" + i)
+                .accountHolder("holder-" + i)
+                .nameOfBank("bank")
+                .sumDecimal(BigDecimal.TEN)
+                .status(i % 20 == 0 ? EStatus.PENDING : EStatus.SUCCESSFUL)
+                .build()));
+
+        ledgerEntryRepository.saveAll(range(2000, i -> LedgerEntry.builder()
+                .user(clients.get(i % CLIENTS))
+                .type(LedgerEntryType.DEPOSIT)
+                .amount(BigDecimal.TEN)
+                .balanceAfter(BigDecimal.TEN)
+                .idempotencyKey("deposit:" + i)
+                .referenceId((long) i)
+                .createdAt(LocalDateTime.now())
+                .build()));
+
+        payoutBatchRepository.saveAll(range(200, i -> PayoutBatch.builder()
+                .fileName("payout-" + i + ".csv")
+                .status(i == 199 ? PayoutBatchStatus.OPEN : PayoutBatchStatus.COMPLETED)
+                .totalAmount(BigDecimal.TEN)
+                .createdAt(LocalDateTime.now())
+                .build()));
+
+        jdbc.execute("ANALYZE TABLE users, user_roles, roles, user_profiles, translator_profiles, translator_themes, "
+                + "translator_languages, themes, languages, categories, calls, ratings, refresh_tokens, "
+                + "deposits, withdrawals, ledger_entries, ledger_compaction, balance_snapshots, payout_batches");
+    }
+
+    Stream<Named<Finder>> finders() {
+        return Stream.of(
+                finder("CallRepository.countCompletedCallsByTranslatorId",
+                        () -> callRepository.countCompletedCallsByTranslatorId(5L)),
+                finder("CallRepository.existsActiveCallByTranslatorId",
+                        () -> callRepository.existsActiveCallByTranslatorId(5L)),
+                finder("CallRepository.countCompletedCallsByTranslatorIdIn",
+                        () -> callRepository.countCompletedCallsByTranslatorIdIn(List.of(5L, 6L, 7L))),
+                finder("CallRepository.findTranslatorIdsInActiveCall",
+                        () -> callRepository.findTranslatorIdsInActiveCall(List.of(5L, 6L, 7L))),
+                finder("RatingRepository.findAverageRatingsByTranslatorIdIn",
+                        () -> ratingRepository.findAverageRatingsByTranslatorIdIn(List.of(5L, 6L, 7L))),
+                finder("RatingRepository.findAverageRatingByTranslatorId",
+                        () -> ratingRepository.findAverageRatingByTranslatorId(5L)),
+                finder("RatingRepository.countByTranslatorId",
+                        () -> ratingRepository.countByTranslatorId(5L)),
+                finder("TranslatorProfileRepository.countByIsOnlineTrue",
+                        () -> translatorProfileRepository.countByIsOnlineTrue()),
+                finder("TranslatorProfileRepository.countByIsAvailableTrue",
+                        () -> translatorProfileRepository.countByIsAvailableTrue()),
+                finder("TranslatorProfileRepository.existsByUserId",
+                        () -> translatorProfileRepository.existsByUserId(5L)),
+                finder("TranslatorProfileRepository.findByUserId",
+                        () -> translatorProfileRepository.findByUserId(5L)),
+                finder("TranslatorProfileRepository.findSearchDocumentByUserId",
+                        () -> translatorProfileRepository.findSearchDocumentByUserId(5L)),
+                finder("TranslatorProfileRepository.findAvailableByTheme",
+                        () -> translatorProfileRepository.findAvailableByTheme(3L, PageRequest.of(0, 20))),
+                finder("TranslatorProfileRepository.findIds (language filter)",
+                        () -> translatorProfileRepository.findIds(
+                                TranslatorProfileSpecifications.filter(true, null, 3L, null, null))),
+                finder("ThemeRepository.findTranslatorsByThemeId",
+                        () -> themeRepository.findTranslatorsByThemeId(3L, PageRequest.of(0, 20))),
+                finder("UserRepository.findByUsername",
+                        () -> userRepository.findByUsername("client-5")),
+                finder("UserRepository.existsByUsername",
+                        () -> userRepository.existsByUsername("client-5")),
+                finder("UserProfileRepository.existsByUserId",
+                        () -> userProfileRepository.existsByUserId(5L)),
+                finder("RoleRepository.findByName",
+                        () -> roleRepository.findByName(Roles.ROLE_ADMIN)),
+                finder("CategoryRepository.existsByName",
+                        () -> categoryRepository.existsByName("category")),
+                finder("RefreshTokenRepository.findByToken",
+                        () -> refreshTokenRepository.findByToken("token-5")),
+                finder("RefreshTokenRepository.findAllByUserIdAndExpirationTimeAfterOrderByCreatedAtDesc",
+                        () -> refreshTokenRepository.findAllByUserIdAndExpirationTimeAfterOrderByCreatedAtDesc(
+                                5L, LocalDateTime.now())),
+                finder("RefreshTokenRepository.countByUserId",
+                        () -> refreshTokenRepository.countByUserId(5L)),
+                finder("RefreshTokenRepository.deleteByUserIdAndDeviceId",
+                        () -> inRolledBackTransaction(() -> refreshTokenRepository.deleteByUserIdAndDeviceId(5L, "device-1"))),
+                finder("RefreshTokenRepository.deleteOldestByUserId",
+                        () -> inRolledBackTransaction(() -> refreshTokenRepository.deleteOldestByUserId(5L, 1))),
+                finder("DepositRepository.findQueueAfter",
+                        () -> depositRepository.findQueueAfter(EStatus.PENDING, LocalDateTime.now().minusDays(1), 5L, PageRequest.of(0, 51))),
+                finder("DepositRepository.lockPending",
+                        () -> inRolledBackTransaction(() -> depositRepository.lockPending(List.of(1L, 2L)))),
+                finder("WithdrawalRepository.findQueueAfter",
+                        () -> withdrawalRepository.findQueueAfter(EStatus.PENDING, LocalDateTime.now().minusDays(1), 5L, PageRequest.of(0, 51))),
+                finder("LedgerEntryRepository.findByIdempotencyKey",
+                        () -> ledgerEntryRepository.findByIdempotencyKey("deposit:1")),
+                finder("LedgerEntryRepository.lockCompactedUpTo",
+                        () -> inRolledBackTransaction(() -> ledgerEntryRepository.lockCompactedUpTo())),
+                finder("LedgerEntryRepository.updateCompactedUpTo",
+                        () -> inRolledBackTransaction(() -> ledgerEntryRepository.updateCompactedUpTo(5L))),
+                finder("LedgerEntryRepository.findBatchUpperBound",
+                        () -> ledgerEntryRepository.findBatchUpperBound(5L, 100)),
+                finder("LedgerEntryRepository.findFirstIdCreatedSince",
+                        () -> ledgerEntryRepository.findFirstIdCreatedSince(5L, LocalDateTime.now())),
+                finder("LedgerEntryRepository.compact",
+                        () -> inRolledBackTransaction(() -> ledgerEntryRepository.compact(5L, 100L))),
+                finder("DepositRepository.findQueue",
+                        () -> depositRepository.findQueue(EStatus.PENDING, PageRequest.of(0, 51))),
+                finder("DepositRepository.findMatchCandidates",
+                        () -> depositRepository.findMatchCandidates(EStatus.PENDING)),
+                finder("WithdrawalRepository.findQueue",
+                        () -> withdrawalRepository.findQueue(EStatus.PENDING, PageRequest.of(0, 51))),
+                finder("WithdrawalRepository.lockPending",
+                        () -> inRolledBackTransaction(() -> withdrawalRepository.lockPending(List.of(1L, 2L)))),
+                finder("WithdrawalRepository.existsByStatusAndPayoutBatchIdIsNull",
+                        () -> withdrawalRepository.existsByStatusAndPayoutBatchIdIsNull(EStatus.SUCCESSFUL)),
+                finder("PayoutBatchRepository.findFirstByStatusOrderByIdAsc",
+                        () -> payoutBatchRepository.findFirstByStatusOrderByIdAsc(PayoutBatchStatus.OPEN)),
+                finder("CallRepository.streamForExport (one day)",
+                        () -> drain(() -> callRepository.streamForExport(EXPORT_FROM, EXPORT_FROM.plusDays(1), null)),
+                        EXPORT_DAY),
+                finder("DepositRepository.streamForExport (one day)",
+                        () -> drain(() -> depositRepository.streamForExport(EXPORT_FROM, EXPORT_FROM.plusDays(1), null)),
+                        EXPORT_DAY),
+                finder("WithdrawalRepository.streamForExport (one day)",
+                        () -> drain(() -> withdrawalRepository.streamForExport(EXPORT_FROM, EXPORT_FROM.plusDays(1), null)),
+                        EXPORT_DAY),
+                finder("RoleRepository.findAllByNameIn",
+                        () -> roleRepository.findAllByNameIn(List.of(Roles.ROLE_ADMIN, Roles.ROLE_USER))),
+                finder("UserRepository.findBalanceById",
+                        () -> userRepository.findBalanceById(5L)),
+                finder("UserRepository.lockById",
+                        () -> inRolledBackTransaction(() -> userRepository.lockById(5L)))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("finders")
+    void finderUsesAnIndex(Finder finder) {
+        List<String> statements = CapturingStatementInspector.capture(finder.action());
+        assertFalse(statements.isEmpty(), "The finder issued no SQL");
+
+        for (String sql : statements) {
+            List<Map<String, Object>> plan = jdbc.queryForList("EXPLAIN " + withSampleParameters(sql, finder.parameters()));
+            for (Map<String, Object> row : plan) {
+                if ("ALL".equals(row.get("type"))) {
+                    fail("Full scan of table '" + row.get("table") + "' (possible keys: " + row.get("possible_keys")
+                            + ")\nSQL: " + sql + "\nPlan: " + plan);
+                }
+            }
+        }
+    }
+
+    /**
+     * EXPLAIN needs literal values; quoted '1' is compared without defeating indexes on numeric
+     * or string columns, LIMIT/OFFSET need plain numbers. {@code parameters}, if given, replace the
+     * remaining placeholders in order instead, e.g. for date ranges that '1' would make unbounded.
+     */
+    private static String withSampleParameters(String sql, String[] parameters) {
+        String limited = sql
+                .replaceAll("(?i)limit \\?, ?\\?", "limit 0, 20")
+                .replaceAll("(?i)limit \\?", "limit 20")
+                .replaceAll("(?i)offset \\?", "offset 0");
+        StringBuilder bound = new StringBuilder();
+        int next = 0;
+        for (char c : limited.toCharArray()) {
+            if (c == '?') {
+                bound.append(next < parameters.length ? parameters[next++] : "'1'");
+            } else {
+                bound.append(c);
+            }
+        }
+        return bound.toString();
+    }
+
+    /**
+     * Runs a streaming finder the way the exports do, inside a transaction with the stream closed.
+     */
+    private void drain(Supplier<? extends Stream<?>> finder) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<?> rows = finder.get()) {
+                rows.forEach(row -> { });
+            }
+        });
+    }
+
+    private void inRolledBackTransaction(Runnable action) {
+        transactionTemplate.executeWithoutResult(status -> {
+            action.run();
+            status.setRollbackOnly();
+        });
+    }
+
+    private static User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("password");
+        user.setRoles(new HashSet<>());
+        return user;
+    }
+
+    private static <T> List<T> range(int size, IntFunction<T> factory) {
+        List<T> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(factory.apply(i));
+        }
+        return items;
+    }
+
+    private static Named<Finder> finder(String name, Runnable action, String... parameters) {
+        return Named.of(name, new Finder(action, parameters));
+    }
+
+    record Finder(Runnable action, String[] parameters) {
+    }
+}
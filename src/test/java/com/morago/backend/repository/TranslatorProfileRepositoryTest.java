@@ -0,0 +1,157 @@
+package com.morago.backend.repository;
+
+import com.morago.backend.entity.Language;
+import com.morago.backend.entity.Theme;
+import com.morago.backend.entity.TranslatorProfile;
+import com.morago.backend.entity.User;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The translator search filters of {@link TranslatorProfileSpecifications} combined, and the count-free
+ * {@link TranslatorProfileSearchRepository#findSlice}, against MySQL.
+ */
+@SpringBootTest(properties = {
+        "jwt.access-secret=profile-repo-test-access-secret-0123456789abcd",
+        "jwt.refresh-secret=profile-repo-test-refresh-secret-0123456789abc",
+        "jwt.access-expiration-ms=3600000",
+        "jwt.refresh-expiration-ms=86400000"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TranslatorProfileRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private ThemeRepository themeRepository;
+    @Autowired private LanguageRepository languageRepository;
+    @Autowired private TranslatorProfileRepository translatorProfileRepository;
+
+    private Theme medical;
+    private Theme legal;
+    private Language english;
+    private Language chinese;
+    private TranslatorProfile match;
+
+    @BeforeAll
+    void seed() {
+        medical = themeRepository.save(Theme.builder().name("repo-medical").build());
+        legal = themeRepository.save(Theme.builder().name("repo-legal").build());
+        english = languageRepository.save(Language.builder().name("repo-english").build());
+        chinese = languageRepository.save(Language.builder().name("repo-chinese").build());
+
+        // Several themes and languages each, so a join instead of EXISTS would return it more than once.
+        match = profile(true, true, "Advanced", Set.of(medical, legal), Set.of(english, chinese));
+        profile(false, true, "Advanced", Set.of(medical), Set.of(english));
+        profile(true, false, "Advanced", Set.of(medical), Set.of(english));
+        profile(true, true, "Native", Set.of(medical), Set.of(english));
+        profile(true, true, "Advanced", Set.of(legal), Set.of(english));
+        profile(true, true, "Advanced", Set.of(medical), Set.of(chinese));
+    }
+
+    @Test
+    void combinedFiltersMatchOnlyProfilesPassingEveryFilter() {
+        Specification<TranslatorProfile> filter = TranslatorProfileSpecifications.filter(
+                true, true, english.getId(), medical.getId(), "Advanced");
+
+        Page<TranslatorProfile> page = translatorProfileRepository.findAll(filter, PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).extracting(TranslatorProfile::getId).containsExactly(match.getId());
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(translatorProfileRepository.findIds(filter)).containsExactly(match.getId());
+    }
+
+    @Test
+    void languageAndThemeFiltersNeverRepeatAProfile() {
+        Specification<TranslatorProfile> filter = TranslatorProfileSpecifications.filter(
+                null, null, english.getId(), medical.getId(), null);
+
+        Page<TranslatorProfile> page = translatorProfileRepository.findAll(filter, PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).extracting(TranslatorProfile::getId).doesNotHaveDuplicates().hasSize(4);
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(translatorProfileRepository.findIds(TranslatorProfileSpecifications.filter(
+                null, null, chinese.getId(), legal.getId(), null))).containsExactly(match.getId());
+    }
+
+    @Test
+    void sliceReadsOneExtraRowToTellWhetherAnotherPageFollows() {
+        Specification<TranslatorProfile> medicalThemes = TranslatorProfileSpecifications.filter(
+                null, null, null, medical.getId(), null);
+        Sort byId = Sort.by("id");
+
+        Slice<TranslatorProfile> first = translatorProfileRepository.findSlice(medicalThemes, PageRequest.of(0, 2, byId));
+        Slice<TranslatorProfile> last = translatorProfileRepository.findSlice(medicalThemes, PageRequest.of(2, 2, byId));
+        Slice<TranslatorProfile> exactFit = translatorProfileRepository.findSlice(medicalThemes, PageRequest.of(0, 5, byId));
+        Slice<TranslatorProfile> beyond = translatorProfileRepository.findSlice(medicalThemes, PageRequest.of(1, 5, byId));
+
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(exactFit.getContent()).hasSize(5);
+        assertThat(exactFit.hasNext()).isFalse();
+        assertThat(beyond.getContent()).isEmpty();
+        assertThat(beyond.hasNext()).isFalse();
+    }
+
+    @Test
+    void matchingIdsAreCheckedInChunksAndKeepCandidateOrder() {
+        Specification<TranslatorProfile> available = TranslatorProfileSpecifications.filter(
+                true, null, null, medical.getId(), null);
+        List<Long> expected = translatorProfileRepository.findIds(available).stream()
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        // Unknown ids around the real ones push the candidates over several IN lists.
+        List<Long> candidates = new ArrayList<>();
+        for (long unknown = 1_000_000; unknown < 1_002_500; unknown++) {
+            candidates.add(unknown);
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            candidates.add(700 + i * 600, expected.get(i));
+        }
+
+        assertThat(translatorProfileRepository.findMatchingIds(available, candidates)).containsExactlyElementsOf(expected);
+    }
+
+    private TranslatorProfile profile(boolean available, boolean online, String levelOfKorean,
+                                      Set<Theme> themes, Set<Language> languages) {
+        User user = new User();
+        user.setUsername("repo-translator-" + UUID.randomUUID());
+        user.setPassword("password");
+        user.setRoles(new HashSet<>());
+        return translatorProfileRepository.save(TranslatorProfile.builder()
+                .user(userRepository.save(user))
+                .email(user.getUsername() + "@example.com")
+                .isAvailable(available)
+                .isOnline(online)
+                .levelOfKorean(levelOfKorean)
+                .themes(new HashSet<>(themes))
+                .languages(new HashSet<>(languages))
+                .build());
+    }
+}
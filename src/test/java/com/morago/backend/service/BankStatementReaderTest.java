@@ -0,0 +1,53 @@
+package com.morago.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BankStatementReaderTest {
+
+    private static final String STATEMENT = "\uFEFFaccount_holder,bank_name,amount\r\n"
+            + "홍길동,KB국민은행,\"50,000\"\r\n"
+            + "\r\n"
+            + "\"Kim \"\"Jay\"\"\",Shinhan,1000.00\n"
+            + "이영희,우리은행,-20000";
+
+    @TempDir
+    Path dir;
+
+    // Small windows force lines (and multi-byte characters) to straddle window boundaries.
+    @ParameterizedTest
+    @ValueSource(ints = {40, 41, 57, 64, BankStatementReader.DEFAULT_WINDOW_BYTES})
+    void readsEveryLineRegardlessOfWindowSize(int windowBytes) throws IOException {
+        Path file = Files.writeString(dir.resolve("statement.csv"), STATEMENT, StandardCharsets.UTF_8);
+        List<String> lines = new ArrayList<>();
+
+        BankStatementReader.read(file, windowBytes, (lineNumber, fields) -> lines.add(lineNumber + ":" + String.join("|", fields)));
+
+        assertThat(lines).containsExactly(
+                "1:account_holder|bank_name|amount",
+                "2:홍길동|KB국민은행|50,000",
+                "4:Kim \"Jay\"|Shinhan|1000.00",
+                "5:이영희|우리은행|-20000");
+    }
+
+    @Test
+    void rejectsLineLongerThanWindow() throws IOException {
+        Path file = Files.writeString(dir.resolve("statement.csv"), STATEMENT, StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> BankStatementReader.read(file, 16, (lineNumber, fields) -> { }))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Line 1");
+    }
+}
@@ -0,0 +1,52 @@
+package com.morago.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CallChargeTotalsTest {
+
+    @Test
+    void sumsPerCallerLikeAHashMapAcrossResizes() {
+        Random random = new Random(42);
+        CallChargeTotals totals = new CallChargeTotals(4);
+        Map<Long, Long> expected = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            long caller = 1 + random.nextInt(20_000);
+            long cents = random.nextInt(100_000);
+            totals.add(caller, cents);
+            expected.merge(caller, cents, Long::sum);
+        }
+
+        assertThat(totals.size()).isEqualTo(expected.size());
+        expected.forEach((caller, cents) -> assertThat(totals.get(caller)).isEqualTo(cents));
+        assertThat(totals.total()).isEqualTo(expected.values().stream().mapToLong(Long::longValue).sum());
+        assertThat(totals.callerIds()).isSorted().hasSize(expected.size());
+        assertThat(totals.get(30_000)).isZero();
+    }
+
+    @Test
+    void mergesPartitions() {
+        CallChargeTotals first = new CallChargeTotals();
+        first.add(7, 100);
+        first.add(9, 50);
+        CallChargeTotals second = new CallChargeTotals();
+        second.add(7, 25);
+        second.add(11, 1);
+
+        first.addAll(second);
+
+        assertThat(first.callerIds()).containsExactly(7, 9, 11);
+        assertThat(first.get(7)).isEqualTo(125);
+    }
+
+    @Test
+    void rejectsNonPositiveCallerIds() {
+        assertThatThrownBy(() -> new CallChargeTotals().add(0, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,39 @@
+package com.morago.backend.service;
+
+import com.morago.backend.exception.StatementTooLargeException;
+import com.morago.backend.repository.DepositRepository;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class DepositReconciliationServiceImplTest {
+
+    private static final byte[] STATEMENT = "account_holder,bank_name,amount\nKim,KB,10000\n"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final DepositRepository depositRepository = mock(DepositRepository.class);
+    private final DepositReconciliationServiceImpl service = new DepositReconciliationServiceImpl(depositRepository,
+            mock(PaymentApprovalService.class), 1000, 100, 4096, STATEMENT.length - 1);
+
+    @Test
+    void rejectsADeclaredLengthOverTheLimitWithoutReadingTheBody() {
+        InputStream body = mock(InputStream.class);
+
+        assertThatThrownBy(() -> service.reconcile(body, STATEMENT.length))
+                .isInstanceOf(StatementTooLargeException.class);
+        verifyNoInteractions(body, depositRepository);
+    }
+
+    @Test
+    void rejectsAChunkedBodyOnceItPassesTheLimit() {
+        assertThatThrownBy(() -> service.reconcile(new ByteArrayInputStream(STATEMENT), -1))
+                .isInstanceOf(StatementTooLargeException.class);
+        verifyNoInteractions(depositRepository);
+    }
+}
@@ -0,0 +1,145 @@
+package com.morago.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.morago.backend.entity.Deposit;
+import com.morago.backend.entity.User;
+import com.morago.backend.entity.Withdrawal;
+import com.morago.backend.entity.enumFiles.EStatus;
+import com.morago.backend.mapper.CallMapperImpl;
+import com.morago.backend.mapper.DepositMapperImpl;
+import com.morago.backend.mapper.WithdrawalMapperImpl;
+import com.morago.backend.repository.CallRepository;
+import com.morago.backend.repository.DepositRepository;
+import com.morago.backend.repository.WithdrawalRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExportServiceImplTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 3, 1, 9, 30);
+
+    private final CallRepository callRepository = mock(CallRepository.class);
+    private final DepositRepository depositRepository = mock(DepositRepository.class);
+    private final WithdrawalRepository withdrawalRepository = mock(WithdrawalRepository.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+
+    @Test
+    void csvQuotesFieldsWithSeparatorsQuotesAndLineBreaks() throws Exception {
+        when(withdrawalRepository.streamForExport(null, null, null)).thenReturn(Stream.of(
+                withdrawal(1L, "Kim, Min-jun", "Bank \"One\"", "12.50"),
+                withdrawal(2L, "Lee\nSeo-yeon", "Plain Bank", "1E+3")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = service(1000).exportWithdrawals(null, null, null, ExportService.Format.CSV, out);
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,user_id,account_number,account_holder,name_of_bank,sum_decimal,status,created_at,updated_at\n"
+                        + "1,7,110-123,\"Kim, Min-jun\",\"Bank \"\"One\"\"\",12.50,PENDING,2024-03-01T09:30,\n"
+                        + "2,7,110-123,\"Lee\nSeo-yeon\",Plain Bank,1000,PENDING,2024-03-01T09:30,\n");
+    }
+
+    @Test
+    void ndjsonWritesOneDtoPerLine() throws Exception {
+        when(depositRepository.streamForExport(CREATED, null, EStatus.SUCCESSFUL)).thenReturn(Stream.of(
+                deposit(1L, "Kim, \"Min-jun\""), deposit(2L, "Lee")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = service(1000).exportDeposits(CREATED, null, EStatus.SUCCESSFUL, ExportService.Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[2]).isEmpty();
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("userId").asLong()).isEqualTo(7L);
+        assertThat(first.get("accountHolder").asText()).isEqualTo("Kim, \"Min-jun\"");
+        assertThat(first.get("wonDecimal").decimalValue()).isEqualByComparingTo("10000");
+        assertThat(first.get("createdAt").asText()).isEqualTo("2024-03-01T09:30:00");
+        assertThat(objectMapper.readTree(lines[1]).get("id").asLong()).isEqualTo(2L);
+    }
+
+    @Test
+    void clearsThePersistenceContextEveryClearEveryRows() throws Exception {
+        when(depositRepository.streamForExport(null, null, null))
+                .thenReturn(LongStream.rangeClosed(1, 7).mapToObj(id -> deposit(id, "Holder")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = service(3).exportDeposits(null, null, null, ExportService.Format.CSV, out);
+
+        assertThat(rows).isEqualTo(7);
+        assertThat(out.toString(StandardCharsets.UTF_8).lines()).hasSize(8);
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void emptyCsvExportStillHasItsHeader() throws Exception {
+        when(callRepository.streamForExport(null, null, null)).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = service(1).exportCalls(null, null, null, ExportService.Format.CSV, out);
+
+        assertThat(rows).isZero();
+        assertThat(out.toString(StandardCharsets.UTF_8)).startsWith("id,caller_id,").endsWith("updated_at\n");
+        verify(entityManager, never()).clear();
+    }
+
+    private ExportServiceImpl service(int clearEvery) {
+        ExportServiceImpl service = new ExportServiceImpl(callRepository, depositRepository, withdrawalRepository,
+                new CallMapperImpl(), new DepositMapperImpl(), new WithdrawalMapperImpl(), objectMapper, clearEvery);
+        ReflectionTestUtils.setField(service, "entityManager", entityManager);
+        return service;
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(7L);
+        return user;
+    }
+
+    private static Deposit deposit(Long id, String accountHolder) {
+        return Deposit.builder()
+                .id(id)
+                .user(user())
+                .accountHolder(accountHolder)
+                .nameOfBank("Bank")
+                .coinDecimal(new BigDecimal("10.00"))
+                .wonDecimal(new BigDecimal("10000"))
+                .status(EStatus.SUCCESSFUL)
+                .createdAt(CREATED)
+                .build();
+    }
+
+    private static Withdrawal withdrawal(Long id, String accountHolder, String bank, String sum) {
+        return Withdrawal.builder()
+                .id(id)
+                .user(user())
+                .accountNumber("110-123")
+                .accountHolder(accountHolder)
+                .nameOfBank(bank)
+                .sumDecimal(new BigDecimal(sum))
+                .createdAt(CREATED)
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.morago.backend.service;
+
+import com.morago.backend.entity.Deposit;
+import com.morago.backend.entity.User;
+import com.morago.backend.entity.Withdrawal;
+import com.morago.backend.entity.enumFiles.EStatus;
+import com.morago.backend.repository.DepositRepository;
+import com.morago.backend.repository.UserRepository;
+import com.morago.backend.repository.WithdrawalRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exports against MySQL: the {@code [from, to)} and status filters applied by the streaming queries, and rows mapped
+ * after the persistence context was cleared mid-export.
+ */
+@SpringBootTest(properties = {
+        "jwt.access-secret=export-test-access-secret-0123456789abcdefgh",
+        "jwt.refresh-secret=export-test-refresh-secret-0123456789abcdefg",
+        "jwt.access-expiration-ms=3600000",
+        "jwt.refresh-expiration-ms=86400000",
+        "export.clear-every=2"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class ExportServiceIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private static final LocalDateTime DAY = LocalDateTime.of(1999, 6, 15, 0, 0);
+
+    @Autowired private ExportService exportService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private DepositRepository depositRepository;
+    @Autowired private WithdrawalRepository withdrawalRepository;
+    @Autowired private JdbcTemplate jdbc;
+
+    @Test
+    void depositExportKeepsRowsCreatedInTheHalfOpenRangeWithTheRequestedStatus() throws Exception {
+        User user = newUser();
+        Long before = deposit(user, EStatus.SUCCESSFUL, DAY.minusSeconds(1));
+        Long atFrom = deposit(user, EStatus.SUCCESSFUL, DAY);
+        Long failed = deposit(user, EStatus.FAILED, DAY.plusHours(1));
+        Long inside = deposit(user, EStatus.SUCCESSFUL, DAY.plusHours(2));
+        Long atTo = deposit(user, EStatus.SUCCESSFUL, DAY.plusDays(1));
+
+        ByteArrayOutputStream filtered = new ByteArrayOutputStream();
+        long rows = exportService.exportDeposits(DAY, DAY.plusDays(1), EStatus.SUCCESSFUL, ExportService.Format.CSV,
+                filtered);
+        ByteArrayOutputStream anyStatus = new ByteArrayOutputStream();
+        exportService.exportDeposits(DAY, DAY.plusDays(1), null, ExportService.Format.CSV, anyStatus);
+        ByteArrayOutputStream unbounded = new ByteArrayOutputStream();
+        exportService.exportDeposits(null, null, null, ExportService.Format.CSV, unbounded);
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(ids(filtered)).containsExactly(atFrom, inside);
+        assertThat(ids(anyStatus)).containsExactly(atFrom, failed, inside);
+        assertThat(ids(unbounded)).containsSubsequence(before, atFrom, failed, inside, atTo);
+    }
+
+    @Test
+    void withdrawalExportMapsEveryRowAcrossPersistenceContextClears() throws Exception {
+        User user = newUser();
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(withdrawal(user, EStatus.PENDING, DAY.plusMinutes(i)));
+        }
+        withdrawal(user, EStatus.SUCCESSFUL, DAY.plusMinutes(30));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.exportWithdrawals(DAY, DAY.plusDays(1), EStatus.PENDING, ExportService.Format.CSV, out);
+
+        assertThat(rows).isEqualTo(5);
+        assertThat(ids(out)).containsExactlyElementsOf(created);
+        assertThat(out.toString(StandardCharsets.UTF_8).lines().skip(1))
+                .allSatisfy(line -> assertThat(line.split(",")[1]).isEqualTo(user.getId().toString()));
+    }
+
+    private static List<Long> ids(ByteArrayOutputStream csv) {
+        return csv.toString(StandardCharsets.UTF_8).lines().skip(1)
+                .map(line -> Long.valueOf(line.substring(0, line.indexOf(','))))
+                .toList();
+    }
+
+    private User newUser() {
+        User user = new User();
+        user.setUsername("export-" + UUID.randomUUID());
+        user.setPassword("password");
+        user.setRoles(new HashSet<>());
+        return userRepository.save(user);
+    }
+
+    private Long deposit(User user, EStatus status, LocalDateTime createdAt) {
+        Long id = depositRepository.save(Deposit.builder()
+                .user(user)
+                .accountHolder("Holder")
+                .nameOfBank("Bank")
+                .coinDecimal(new BigDecimal("1.00"))
+                .wonDecimal(new BigDecimal("1000.00"))
+                .status(status)
+                .build()).getId();
+        jdbc.update("UPDATE deposits SET created_at = ? WHERE id = ?", Timestamp.valueOf(createdAt), id);
+        return id;
+    }
+
+    private Long withdrawal(User user, EStatus status, LocalDateTime createdAt) {
+        Long id = withdrawalRepository.save(Withdrawal.builder()
+                .user(user)
+                .accountNumber("110-123-456789")
+                .accountHolder("Holder")
+                .nameOfBank("Bank")
+                .sumDecimal(new BigDecimal("1.00"))
+                .status(status)
+                .build()).getId();
+        jdbc.update("UPDATE withdrawals SET created_at = ? WHERE id = ?", Timestamp.valueOf(createdAt), id);
+        return id;
+    }
+}
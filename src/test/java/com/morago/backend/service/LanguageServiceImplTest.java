@@ -0,0 +1,51 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.LanguageDto;
+import com.morago.backend.entity.TranslatorProfile;
+import com.morago.backend.exception.ResourceNotFoundException;
+import com.morago.backend.mapper.LanguageMapper;
+import com.morago.backend.repository.LanguageRepository;
+import com.morago.backend.repository.TranslatorProfileRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class LanguageServiceImplTest {
+
+    private final LanguageRepository languageRepository = mock(LanguageRepository.class);
+    private final TranslatorProfileRepository translatorProfileRepository = mock(TranslatorProfileRepository.class);
+    private final LanguageMapper languageMapper = mock(LanguageMapper.class);
+    private final LanguageServiceImpl service = new LanguageServiceImpl(languageRepository,
+            translatorProfileRepository, languageMapper, mock(ReferenceCatalog.class),
+            mock(ApplicationEventPublisher.class));
+
+    @Test
+    void rejectsANullTranslatorProfileIdAsABadRequest() {
+        LanguageDto dto = LanguageDto.builder().name("Korean").translatorProfileIds(Arrays.asList(1L, null)).build();
+
+        assertThatThrownBy(() -> service.create(dto))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must not contain null");
+        verifyNoInteractions(translatorProfileRepository, languageRepository);
+    }
+
+    @Test
+    void reportsEveryUnknownTranslatorProfileId() {
+        TranslatorProfile known = new TranslatorProfile();
+        known.setId(2L);
+        when(translatorProfileRepository.findAllById(any())).thenReturn(List.of(known));
+        LanguageDto dto = LanguageDto.builder().name("Korean").translatorProfileIds(List.of(9L, 2L, 5L)).build();
+
+        assertThatThrownBy(() -> service.create(dto))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("[5, 9]");
+    }
+}
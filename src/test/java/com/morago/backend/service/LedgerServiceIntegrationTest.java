@@ -0,0 +1,330 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.CallDto;
+import com.morago.backend.dto.DepositDto;
+import com.morago.backend.dto.WithdrawalDto;
+import com.morago.backend.entity.User;
+import com.morago.backend.entity.enumFiles.CallStatus;
+import com.morago.backend.entity.enumFiles.EStatus;
+import com.morago.backend.entity.enumFiles.LedgerEntryType;
+import com.morago.backend.exception.InsufficientBalanceException;
+import com.morago.backend.exception.PaymentAlreadyPostedException;
+import com.morago.backend.repository.CallRepository;
+import com.morago.backend.repository.DepositRepository;
+import com.morago.backend.repository.UserRepository;
+import com.morago.backend.repository.WithdrawalRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Money path against MySQL: concurrent postings, idempotency, the guarded withdrawal, the batched postAll and
+ * the freezing of posted deposits and settled calls.
+ */
+@SpringBootTest(properties = {
+        "jwt.access-secret=ledger-test-access-secret-0123456789abcdef01",
+        "jwt.refresh-secret=ledger-test-refresh-secret-0123456789abcdef0",
+        "jwt.access-expiration-ms=3600000",
+        "jwt.refresh-expiration-ms=86400000"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class LedgerServiceIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired private LedgerService ledgerService;
+    @Autowired private DepositService depositService;
+    @Autowired private WithdrawalService withdrawalService;
+    @Autowired private CallService callService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private DepositRepository depositRepository;
+    @Autowired private CallRepository callRepository;
+    @Autowired private WithdrawalRepository withdrawalRepository;
+    @Autowired private JdbcTemplate jdbc;
+
+    @Test
+    void concurrentPostingsOnOneUserKeepBalanceAndEntriesInStep() throws Exception {
+        Long userId = newUser();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger refused = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < 8; thread++) {
+                int t = thread;
+                futures.add(pool.submit((Callable<Void>) () -> {
+                    start.await();
+                    for (int i = 0; i < 25; i++) {
+                        ledgerService.post(userId, LedgerEntryType.DEPOSIT, new BigDecimal("10.00"),
+                                "test:deposit:" + t + ":" + i, null);
+                        try {
+                            ledgerService.post(userId, LedgerEntryType.WITHDRAWAL, new BigDecimal("15.00"),
+                                    "test:withdrawal:" + t + ":" + i, null);
+                        } catch (InsufficientBalanceException ex) {
+                            refused.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        List<Map<String, Object>> entries = entriesOf(userId);
+        int withdrawals = 8 * 25 - refused.get();
+        assertThat(entries).hasSize(8 * 25 + withdrawals);
+
+        BigDecimal running = BigDecimal.ZERO;
+        for (Map<String, Object> entry : entries) {
+            running = running.add((BigDecimal) entry.get("amount"));
+            assertThat((BigDecimal) entry.get("balance_after")).isEqualByComparingTo(running);
+            assertThat(running.signum()).isGreaterThanOrEqualTo(0);
+        }
+        BigDecimal expected = new BigDecimal("2000.00").subtract(new BigDecimal("15.00").multiply(BigDecimal.valueOf(withdrawals)));
+        assertThat(ledgerService.getBalance(userId)).isEqualByComparingTo(expected).isEqualByComparingTo(running);
+    }
+
+    @Test
+    void duplicateIdempotencyKeysApplyOnce() throws Exception {
+        Long userId = newUser();
+        String key = "test:duplicate:" + UUID.randomUUID();
+
+        ledgerService.post(userId, LedgerEntryType.DEPOSIT, new BigDecimal("40.00"), key, 7L);
+        ledgerService.post(userId, LedgerEntryType.DEPOSIT, new BigDecimal("40.00"), key, 7L);
+
+        String racedKey = key + ":raced";
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 4; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        ledgerService.post(userId, LedgerEntryType.DEPOSIT, new BigDecimal("5.00"), racedKey, null);
+                        return true;
+                    } catch (DataIntegrityViolationException ex) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(entriesOf(userId)).hasSize(2);
+        assertThat(ledgerService.getBalance(userId)).isEqualByComparingTo("45.00");
+    }
+
+    @Test
+    void guardedWithdrawalIsRefusedAndRolledBack() {
+        Long userId = newUser();
+        ledgerService.post(userId, LedgerEntryType.DEPOSIT, new BigDecimal("100.00"), "test:guard:" + userId, null);
+        long withdrawalsBefore = withdrawalRepository.count();
+
+        assertThatThrownBy(() -> withdrawalService.createWithdrawal(WithdrawalDto.builder()
+                .userId(userId)
+                .accountNumber("110-123-456789")
+                .accountHolder("Holder")
+                .nameOfBank("Bank")
+                .sumDecimal(new BigDecimal("150.00"))
+                .status(EStatus.SUCCESSFUL)
+                .build()))
+                .isInstanceOf(InsufficientBalanceException.class);
+
+        assertThat(ledgerService.getBalance(userId)).isEqualByComparingTo("100.00");
+        assertThat(entriesOf(userId)).hasSize(1);
+        assertThat(withdrawalRepository.count()).isEqualTo(withdrawalsBefore);
+    }
+
+    @Test
+    void postAllWalksBalanceAfterBackFromTheFinalBalance() {
+        Long userId = newUser();
+        Long overdrawn = newUser();
+        ledgerService.post(userId, LedgerEntryType.DEPOSIT, new BigDecimal("20.00"), "test:opening:" + userId, null);
+        String prefix = "test:batch:" + userId + ":";
+
+        Set<Long> rejected = ledgerService.postAll(List.of(
+                new LedgerPosting(userId, LedgerEntryType.DEPOSIT, new BigDecimal("100.00"), prefix + 1, null),
+                new LedgerPosting(overdrawn, LedgerEntryType.DEPOSIT, new BigDecimal("10.00"), prefix + 2, null),
+                new LedgerPosting(userId, LedgerEntryType.CALL_CHARGE, new BigDecimal("30.00"), prefix + 3, null),
+                new LedgerPosting(overdrawn, LedgerEntryType.WITHDRAWAL, new BigDecimal("50.00"), prefix + 4, null),
+                new LedgerPosting(userId, LedgerEntryType.WITHDRAWAL, new BigDecimal("50.00"), prefix + 5, null)));
+
+        assertThat(rejected).containsExactly(overdrawn);
+        assertThat(entriesOf(userId)).extracting(entry -> ((BigDecimal) entry.get("balance_after")).toPlainString())
+                .containsExactly("20.00", "120.00", "90.00", "40.00");
+        assertThat(ledgerService.getBalance(userId)).isEqualByComparingTo("40.00");
+        assertThat(entriesOf(overdrawn)).isEmpty();
+        assertThat(ledgerService.getBalance(overdrawn)).isEqualByComparingTo("0");
+
+        assertThat(ledgerService.postAll(List.of(
+                new LedgerPosting(userId, LedgerEntryType.DEPOSIT, new BigDecimal("100.00"), prefix + 1, null)))).isEmpty();
+        assertThat(entriesOf(userId)).hasSize(4);
+    }
+
+    @Test
+    void postedDepositCannotBeReversedEditedOrDeleted() {
+        Long userId = newUser();
+        DepositDto deposit = depositService.createDeposit(DepositDto.builder()
+                .userId(userId)
+                .accountHolder("Holder")
+                .nameOfBank("Bank")
+                .coinDecimal(new BigDecimal("70.00"))
+                .wonDecimal(new BigDecimal("70000.00"))
+                .status(EStatus.SUCCESSFUL)
+                .build());
+        Long id = deposit.getId();
+        assertThat(ledgerService.getBalance(userId)).isEqualByComparingTo("70.00");
+
+        assertThatThrownBy(() -> depositService.updateDeposit(id, copy(deposit, EStatus.FAILED, deposit.getCoinDecimal())))
+                .isInstanceOf(PaymentAlreadyPostedException.class);
+        assertThatThrownBy(() -> depositService.updateDeposit(id, copy(deposit, EStatus.SUCCESSFUL, new BigDecimal("700.00"))))
+                .isInstanceOf(PaymentAlreadyPostedException.class);
+        assertThatThrownBy(() -> depositService.deleteDeposit(id))
+                .isInstanceOf(PaymentAlreadyPostedException.class);
+
+        DepositDto renamed = copy(deposit, EStatus.SUCCESSFUL, new BigDecimal("70"));
+        renamed.setAccountHolder("Renamed Holder");
+        assertThat(depositService.updateDeposit(id, renamed).getAccountHolder()).isEqualTo("Renamed Holder");
+
+        assertThat(depositRepository.findById(id)).get()
+                .satisfies(stored -> assertThat(stored.getStatus()).isEqualTo(EStatus.SUCCESSFUL));
+        assertThat(ledgerService.getBalance(userId)).isEqualByComparingTo("70.00");
+        assertThat(entriesOf(userId)).hasSize(1);
+    }
+
+    @Test
+    void settledCallCannotBeReopenedRepricedReassignedOrDeleted() {
+        Long caller = newUser();
+        Long translator = newUser();
+        Long other = newUser();
+        ledgerService.post(caller, LedgerEntryType.DEPOSIT, new BigDecimal("100.00"), "test:call:" + caller, null);
+        CallDto call = callService.createCall(callDto(caller, translator, true, "30.00", "3.00"));
+        Long id = call.getId();
+        assertThat(ledgerService.getBalance(caller)).isEqualByComparingTo("70.00");
+
+        assertThatThrownBy(() -> callService.updateCall(id, callDto(caller, translator, false, "30.00", "3.00")))
+                .isInstanceOf(PaymentAlreadyPostedException.class);
+        assertThatThrownBy(() -> callService.updateCall(id, callDto(caller, translator, true, "45.00", "3.00")))
+                .isInstanceOf(PaymentAlreadyPostedException.class);
+        assertThatThrownBy(() -> callService.updateCall(id, callDto(caller, translator, true, "30.00", "5.00")))
+                .isInstanceOf(PaymentAlreadyPostedException.class);
+        assertThatThrownBy(() -> callService.updateCall(id, callDto(other, translator, true, "30.00", "3.00")))
+                .isInstanceOf(PaymentAlreadyPostedException.class);
+        assertThatThrownBy(() -> callService.updateCall(id, callDto(caller, other, true, "30.00", "3.00")))
+                .isInstanceOf(PaymentAlreadyPostedException.class);
+        assertThatThrownBy(() -> callService.deleteCall(id))
+                .isInstanceOf(PaymentAlreadyPostedException.class);
+
+        CallDto rated = callDto(caller, translator, true, "30.0", "3");
+        rated.setUserHasRated(true);
+        assertThat(callService.updateCall(id, rated).isUserHasRated()).isTrue();
+
+        assertThat(ledgerService.getBalance(caller)).isEqualByComparingTo("70.00");
+        assertThat(ledgerService.getBalance(translator)).isEqualByComparingTo("27.00");
+        assertThat(entriesOf(caller)).hasSize(2);
+        assertThat(entriesOf(other)).isEmpty();
+    }
+
+    @Test
+    void unsettledCallCanStillBeRepricedAndDeleted() {
+        Long caller = newUser();
+        Long translator = newUser();
+        CallDto call = callService.createCall(callDto(caller, translator, false, "30.00", "3.00"));
+
+        callService.updateCall(call.getId(), callDto(caller, translator, false, "45.00", "4.50"));
+        callService.deleteCall(call.getId());
+
+        assertThat(callRepository.existsById(call.getId())).isFalse();
+        assertThat(entriesOf(caller)).isEmpty();
+        assertThat(entriesOf(translator)).isEmpty();
+    }
+
+    @Test
+    void pendingWithdrawalCanStillBeDeleted() {
+        Long userId = newUser();
+        WithdrawalDto withdrawal = withdrawalService.createWithdrawal(WithdrawalDto.builder()
+                .userId(userId)
+                .accountNumber("110-123-456789")
+                .accountHolder("Holder")
+                .nameOfBank("Bank")
+                .sumDecimal(new BigDecimal("10.00"))
+                .status(EStatus.PENDING)
+                .build());
+
+        withdrawalService.deleteWithdrawal(withdrawal.getId());
+
+        assertThat(withdrawalRepository.existsById(withdrawal.getId())).isFalse();
+        assertThat(entriesOf(userId)).isEmpty();
+    }
+
+    private Long newUser() {
+        User user = new User();
+        user.setUsername("ledger-" + UUID.randomUUID());
+        user.setPassword("password");
+        user.setRoles(new HashSet<>());
+        return userRepository.save(user).getId();
+    }
+
+    private List<Map<String, Object>> entriesOf(Long userId) {
+        return jdbc.queryForList("SELECT amount, balance_after FROM ledger_entries WHERE user_id = ? ORDER BY id", userId);
+    }
+
+    private static CallDto callDto(Long caller, Long translator, boolean settled, String sum, String commission) {
+        CallDto dto = new CallDto();
+        dto.setCallerId(caller);
+        dto.setRecipientId(translator);
+        dto.setDuration(120);
+        dto.setStatus(settled);
+        dto.setSumDecimal(new BigDecimal(sum));
+        dto.setCommission(new BigDecimal(commission));
+        dto.setCallStatus(settled ? CallStatus.SUCCESSFUL : CallStatus.MISSED);
+        return dto;
+    }
+
+    private static DepositDto copy(DepositDto deposit, EStatus status, BigDecimal coins) {
+        return DepositDto.builder()
+                .userId(deposit.getUserId())
+                .accountHolder(deposit.getAccountHolder())
+                .nameOfBank(deposit.getNameOfBank())
+                .coinDecimal(coins)
+                .wonDecimal(deposit.getWonDecimal())
+                .status(status)
+                .build();
+    }
+}
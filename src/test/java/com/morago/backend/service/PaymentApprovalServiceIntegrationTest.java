@@ -0,0 +1,202 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.DepositDto;
+import com.morago.backend.dto.response.BulkTransitionResponse;
+import com.morago.backend.dto.response.KeysetPage;
+import com.morago.backend.entity.Deposit;
+import com.morago.backend.entity.User;
+import com.morago.backend.entity.Withdrawal;
+import com.morago.backend.entity.enumFiles.EStatus;
+import com.morago.backend.entity.enumFiles.LedgerEntryType;
+import com.morago.backend.repository.DepositRepository;
+import com.morago.backend.repository.UserRepository;
+import com.morago.backend.repository.WithdrawalRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bulk approval and rejection of the pending payment queues against MySQL: mixed batches, rows that already left
+ * PENDING, the ledger after commit and keyset paging of the queue.
+ */
+@SpringBootTest(properties = {
+        "jwt.access-secret=approval-test-access-secret-0123456789abcdef",
+        "jwt.refresh-secret=approval-test-refresh-secret-0123456789abcde",
+        "jwt.access-expiration-ms=3600000",
+        "jwt.refresh-expiration-ms=86400000"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class PaymentApprovalServiceIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired private PaymentApprovalService paymentApprovalService;
+    @Autowired private LedgerService ledgerService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private DepositRepository depositRepository;
+    @Autowired private WithdrawalRepository withdrawalRepository;
+    @Autowired private JdbcTemplate jdbc;
+
+    @Test
+    void approvingAMixedDepositBatchPostsOnlyThePendingRows() {
+        User first = newUser();
+        User second = newUser();
+        Long pendingA = deposit(first, "30.00", EStatus.PENDING);
+        Long pendingB = deposit(first, "20.00", EStatus.PENDING);
+        Long pendingC = deposit(second, "5.00", EStatus.PENDING);
+        Long failed = deposit(second, "99.00", EStatus.FAILED);
+        Long unknown = Long.MAX_VALUE;
+
+        BulkTransitionResponse response = paymentApprovalService.approveDeposits(
+                List.of(pendingA, failed, pendingB, unknown, pendingC, pendingA));
+
+        assertThat(response.getRequested()).isEqualTo(5);
+        assertThat(response.getTransitioned()).isEqualTo(3);
+        assertThat(response.getNotPendingIds()).containsExactly(failed, unknown);
+        assertThat(response.getInsufficientBalanceIds()).isEmpty();
+        assertThat(statusOf("deposits", pendingA)).isEqualTo("SUCCESSFUL");
+        assertThat(statusOf("deposits", failed)).isEqualTo("FAILED");
+        assertThat(entriesOf(first.getId())).extracting(entry -> entry.get("reference_id"))
+                .containsExactlyInAnyOrder(pendingA, pendingB);
+        assertThat(ledgerService.getBalance(first.getId())).isEqualByComparingTo("50.00");
+        assertThat(ledgerService.getBalance(second.getId())).isEqualByComparingTo("5.00");
+    }
+
+    @Test
+    void rowsThatAlreadyLeftPendingAreSkippedOnTheNextRun() {
+        User user = newUser();
+        Long approved = deposit(user, "40.00", EStatus.PENDING);
+        Long rejected = deposit(user, "60.00", EStatus.PENDING);
+        paymentApprovalService.approveDeposits(List.of(approved));
+        paymentApprovalService.rejectDeposits(List.of(rejected));
+
+        BulkTransitionResponse again = paymentApprovalService.approveDeposits(List.of(approved, rejected));
+        BulkTransitionResponse rejectAgain = paymentApprovalService.rejectDeposits(List.of(approved));
+
+        assertThat(again.getTransitioned()).isZero();
+        assertThat(again.getNotPendingIds()).containsExactly(approved, rejected);
+        assertThat(rejectAgain.getTransitioned()).isZero();
+        assertThat(statusOf("deposits", approved)).isEqualTo("SUCCESSFUL");
+        assertThat(statusOf("deposits", rejected)).isEqualTo("FAILED");
+        assertThat(entriesOf(user.getId())).hasSize(1);
+        assertThat(ledgerService.getBalance(user.getId())).isEqualByComparingTo("40.00");
+    }
+
+    @Test
+    void withdrawalsBeyondTheBalanceStayPendingWhileTheRestAreDebited() {
+        User covered = newUser();
+        User uncovered = newUser();
+        ledgerService.post(covered.getId(), LedgerEntryType.DEPOSIT, new BigDecimal("100.00"), "test:fund:" + covered.getId(), null);
+        ledgerService.post(uncovered.getId(), LedgerEntryType.DEPOSIT, new BigDecimal("10.00"), "test:fund:" + uncovered.getId(), null);
+        Long first = withdrawal(covered, "60.00", EStatus.PENDING);
+        Long second = withdrawal(covered, "30.00", EStatus.PENDING);
+        Long tooLarge = withdrawal(uncovered, "50.00", EStatus.PENDING);
+        Long done = withdrawal(uncovered, "1.00", EStatus.SUCCESSFUL);
+
+        BulkTransitionResponse response = paymentApprovalService.approveWithdrawals(List.of(first, tooLarge, second, done));
+
+        assertThat(response.getTransitioned()).isEqualTo(2);
+        assertThat(response.getInsufficientBalanceIds()).containsExactly(tooLarge);
+        assertThat(response.getNotPendingIds()).containsExactly(done);
+        assertThat(statusOf("withdrawals", first)).isEqualTo("SUCCESSFUL");
+        assertThat(statusOf("withdrawals", tooLarge)).isEqualTo("PENDING");
+        assertThat(ledgerService.getBalance(covered.getId())).isEqualByComparingTo("10.00");
+        assertThat(ledgerService.getBalance(uncovered.getId())).isEqualByComparingTo("10.00");
+        assertThat(entriesOf(covered.getId())).extracting(entry -> ((BigDecimal) entry.get("balance_after")).toPlainString())
+                .containsExactly("100.00", "40.00", "10.00");
+        assertThat(entriesOf(uncovered.getId())).hasSize(1);
+    }
+
+    @Test
+    void keysetPagesWalkThePendingQueueOnceInCreationOrder() {
+        User user = newUser();
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            created.add(deposit(user, "1.00", EStatus.PENDING));
+        }
+        // Rows sharing a createdAt must still be split by id without skipping or repeating any.
+        LocalDateTime sameInstant = LocalDateTime.of(2000, 1, 1, 12, 0);
+        jdbc.update("UPDATE deposits SET created_at = ? WHERE user_id = ?", Timestamp.valueOf(sameInstant), user.getId());
+
+        List<Long> walked = new ArrayList<>();
+        List<LocalDateTime> createdAts = new ArrayList<>();
+        KeysetPage<DepositDto> page = paymentApprovalService.getPendingDeposits(null, null, 3);
+        int pages = 1;
+        while (true) {
+            assertThat(page.getContent()).hasSizeLessThanOrEqualTo(3);
+            page.getContent().forEach(deposit -> {
+                walked.add(deposit.getId());
+                createdAts.add(deposit.getCreatedAt());
+            });
+            if (!page.isHasNext()) {
+                assertThat(page.getNextId()).isNull();
+                break;
+            }
+            page = paymentApprovalService.getPendingDeposits(page.getNextCreatedAt(), page.getNextId(), 3);
+            pages++;
+        }
+
+        assertThat(walked).doesNotHaveDuplicates().containsSubsequence(created);
+        assertThat(walked.subList(0, created.size())).containsExactlyElementsOf(created);
+        assertThat(createdAts).isSorted();
+        assertThat(pages).isGreaterThanOrEqualTo(3);
+        assertThat(paymentApprovalService.getPendingDeposits(null, null, 0).getContent()).hasSize(1);
+    }
+
+    private User newUser() {
+        User user = new User();
+        user.setUsername("approval-" + UUID.randomUUID());
+        user.setPassword("password");
+        user.setRoles(new HashSet<>());
+        return userRepository.save(user);
+    }
+
+    private Long deposit(User user, String coins, EStatus status) {
+        return depositRepository.save(Deposit.builder()
+                .user(user)
+                .accountHolder("Holder")
+                .nameOfBank("Bank")
+                .coinDecimal(new BigDecimal(coins))
+                .wonDecimal(new BigDecimal(coins).multiply(BigDecimal.valueOf(1000)))
+                .status(status)
+                .build()).getId();
+    }
+
+    private Long withdrawal(User user, String sum, EStatus status) {
+        return withdrawalRepository.save(Withdrawal.builder()
+                .user(user)
+                .accountNumber("110-123-456789")
+                .accountHolder("Holder")
+                .nameOfBank("Bank")
+                .sumDecimal(new BigDecimal(sum))
+                .status(status)
+                .build()).getId();
+    }
+
+    private String statusOf(String table, Long id) {
+        return jdbc.queryForObject("SELECT status FROM " + table + " WHERE id = ?", String.class, id);
+    }
+
+    private List<Map<String, Object>> entriesOf(Long userId) {
+        return jdbc.queryForList("SELECT amount, balance_after, reference_id FROM ledger_entries WHERE user_id = ? ORDER BY id",
+                userId);
+    }
+}
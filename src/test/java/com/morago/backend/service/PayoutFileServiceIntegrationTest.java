@@ -0,0 +1,157 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.PayoutBatchDto;
+import com.morago.backend.entity.PayoutBatch;
+import com.morago.backend.entity.User;
+import com.morago.backend.entity.Withdrawal;
+import com.morago.backend.entity.enumFiles.EStatus;
+import com.morago.backend.entity.enumFiles.PayoutBatchStatus;
+import com.morago.backend.mapper.PayoutBatchMapper;
+import com.morago.backend.repository.PayoutBatchRepository;
+import com.morago.backend.repository.UserRepository;
+import com.morago.backend.repository.WithdrawalRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Restart path of the payout file generator: a run dies after a committed checkpoint, the next run truncates
+ * the file back to it, re-hashes the prefix and resumes the cursor.
+ */
+@SpringBootTest(properties = {
+        "jwt.access-secret=payout-test-access-secret-0123456789abcdef01",
+        "jwt.refresh-secret=payout-test-refresh-secret-0123456789abcdef0",
+        "jwt.access-expiration-ms=3600000",
+        "jwt.refresh-expiration-ms=86400000"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class PayoutFileServiceIntegrationTest {
+
+    private static final int WITHDRAWALS = 10;
+    private static final int CHUNK_SIZE = 3;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private PayoutBatchRepository payoutBatchRepository;
+    @Autowired private WithdrawalRepository withdrawalRepository;
+    @Autowired private PayoutBatchMapper payoutBatchMapper;
+    @Autowired private UserRepository userRepository;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void resumedRunWritesEveryWithdrawalExactlyOnceWithAMatchingChecksum() throws Exception {
+        List<Withdrawal> withdrawals = seedWithdrawals();
+
+        // The second checkpoint fails after its rows were already flushed to the file, like a crash mid-chunk.
+        WithdrawalRepository crashing = mock(WithdrawalRepository.class, delegatesTo(withdrawalRepository));
+        AtomicInteger checkpoints = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (checkpoints.incrementAndGet() == 2) {
+                throw new IllegalStateException("simulated crash");
+            }
+            return withdrawalRepository.assignPayoutBatch(invocation.getArgument(0), invocation.getArgument(1));
+        }).when(crashing).assignPayoutBatch(anyCollection(), anyLong());
+
+        assertThatThrownBy(() -> service(crashing).generate()).hasStackTraceContaining("simulated crash");
+
+        PayoutBatch interrupted = payoutBatchRepository.findFirstByStatusOrderByIdAsc(PayoutBatchStatus.OPEN)
+                .orElseThrow();
+        assertThat(interrupted.getRowCount()).isEqualTo(CHUNK_SIZE);
+        Path file = directory.resolve(interrupted.getFileName());
+        assertThat(Files.size(file)).isGreaterThan(interrupted.getBytesWritten());
+
+        PayoutBatchDto completed = service(withdrawalRepository).generate().orElseThrow();
+
+        String content = Files.readString(file, StandardCharsets.UTF_8);
+        int trailerStart = content.lastIndexOf(PayoutFileServiceImpl.TRAILER);
+        List<String> lines = List.of(content.substring(0, trailerStart).split("\n"));
+        assertThat(lines.get(0)).isEqualTo(PayoutFileServiceImpl.HEADER);
+
+        Map<Long, Long> occurrences = lines.subList(1, lines.size()).stream()
+                .map(line -> Long.parseLong(line.substring(0, line.indexOf(','))))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        assertThat(occurrences.keySet()).containsExactlyInAnyOrderElementsOf(
+                withdrawals.stream().map(Withdrawal::getId).toList());
+        assertThat(occurrences.values()).containsOnly(1L);
+
+        String body = content.substring(0, trailerStart);
+        String checksum = HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8)));
+        BigDecimal total = withdrawals.stream().map(Withdrawal::getSumDecimal).reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertThat(content.substring(trailerStart).trim()).isEqualTo(
+                PayoutFileServiceImpl.TRAILER + "," + WITHDRAWALS + "," + total.toPlainString() + "," + checksum);
+        assertThat(content).endsWith("\n");
+
+        PayoutBatch batch = payoutBatchRepository.findById(completed.getId()).orElseThrow();
+        assertThat(batch.getId()).isEqualTo(interrupted.getId());
+        assertThat(batch.getStatus()).isEqualTo(PayoutBatchStatus.COMPLETED);
+        assertThat(batch.getChecksum()).isEqualTo(checksum);
+        assertThat(batch.getRowCount()).isEqualTo(WITHDRAWALS);
+        assertThat(batch.getBytesWritten()).isEqualTo(Files.size(file));
+        assertThat(withdrawalRepository.findAllById(occurrences.keySet()))
+                .allSatisfy(withdrawal -> assertThat(withdrawal.getPayoutBatchId()).isEqualTo(batch.getId()));
+
+        assertThat(service(withdrawalRepository).generate()).isEmpty();
+    }
+
+    private PayoutFileServiceImpl service(WithdrawalRepository repository) {
+        return new PayoutFileServiceImpl(jdbcTemplate, transactionTemplate, payoutBatchRepository, repository,
+                payoutBatchMapper, directory, CHUNK_SIZE);
+    }
+
+    private List<Withdrawal> seedWithdrawals() {
+        User user = new User();
+        user.setUsername("payout-user");
+        user.setPassword("password");
+        user.setRoles(new HashSet<>());
+        User saved = userRepository.save(user);
+
+        List<Withdrawal> withdrawals = new ArrayList<>();
+        for (int i = 0; i < WITHDRAWALS; i++) {
+            withdrawals.add(Withdrawal.builder()
+                    .user(saved)
+                    .accountNumber("110-000-" + i)
+                    .accountHolder(i % 2 == 0 ? "Holder " + i : "Holder, \"Quoted\" " + i)
+                    .nameOfBank("Bank")
+                    .sumDecimal(new BigDecimal(10 + i + ".50"))
+                    .status(EStatus.SUCCESSFUL)
+                    .build());
+        }
+        return withdrawalRepository.saveAll(withdrawals);
+    }
+}
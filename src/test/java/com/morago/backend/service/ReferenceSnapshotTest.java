@@ -0,0 +1,55 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.CategoryDto;
+import com.morago.backend.dto.LanguageDto;
+import com.morago.backend.dto.ThemeDto;
+import com.morago.backend.dto.response.ThemeCatalogResponse;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReferenceSnapshotTest {
+
+    @Test
+    void entityTagIsAContentDigestOfEachSection() {
+        ReferenceSnapshot snapshot = snapshot("Korean", BigDecimal.TEN);
+
+        assertThat(snapshot.languages().getETag())
+                .matches("\"[0-9a-f]{64}\"")
+                .isEqualTo(snapshot("Korean", BigDecimal.ONE).languages().getETag())
+                .isNotEqualTo(snapshot("Korea", BigDecimal.TEN).languages().getETag());
+        assertThat(snapshot.themes().getETag())
+                .isNotEqualTo(snapshot("Korean", BigDecimal.ONE).themes().getETag());
+        assertThat(snapshot.themeCatalog(false).getETag())
+                .isNotEqualTo(snapshot.withTranslatorCounts(Map.of(1L, 3L)).themeCatalog(false).getETag());
+    }
+
+    @Test
+    void modifyingReturnedEntriesLeavesTheSnapshotUntouched() {
+        ReferenceSnapshot snapshot = snapshot("Korean", BigDecimal.TEN);
+        String eTag = snapshot.themes().getETag();
+
+        snapshot.themes().get(1L).setName("changed");
+        snapshot.themes().getValues().get(0).setPrice(BigDecimal.ZERO);
+        snapshot.languages().getValues().get(0).setName("changed");
+        snapshot.themeCatalog(true).get(1L).setName("changed");
+
+        assertThat(snapshot.themes().get(1L).getName()).isEqualTo("Interview");
+        assertThat(snapshot.themes().get(1L).getPrice()).isEqualTo(BigDecimal.TEN);
+        assertThat(snapshot.languages().get(2L).getName()).isEqualTo("Korean");
+        assertThat(snapshot.themeCatalog(true).get(1L).getName()).isEqualTo("Interview");
+        assertThat(snapshot.themes().getETag()).isEqualTo(eTag);
+    }
+
+    private static ReferenceSnapshot snapshot(String language, BigDecimal price) {
+        return new ReferenceSnapshot(
+                List.of(ThemeCatalogResponse.builder().id(1L).name("Interview").active(true).build()),
+                List.of(ThemeDto.builder().id(1L).name("Interview").price(price).build()),
+                List.of(CategoryDto.builder().id(4L).name("Business").build()),
+                List.of(LanguageDto.builder().id(2L).name(language).build()));
+    }
+}
@@ -0,0 +1,174 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.CallDto;
+import com.morago.backend.entity.Theme;
+import com.morago.backend.entity.User;
+import com.morago.backend.entity.enumFiles.CallStatus;
+import com.morago.backend.entity.enumFiles.LedgerEntryType;
+import com.morago.backend.repository.ThemeRepository;
+import com.morago.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Live rollup deltas against the nightly rebuild: a day closed by one node never takes another node's late delta on
+ * top of the recomputed rows, and edits of a completed call are reversed out of the rollups.
+ */
+@SpringBootTest(properties = {
+        "jwt.access-secret=rollup-test-access-secret-0123456789abcdef01",
+        "jwt.refresh-secret=rollup-test-refresh-secret-0123456789abcdef0",
+        "jwt.access-expiration-ms=3600000",
+        "jwt.refresh-expiration-ms=86400000",
+        "reporting.rollups.repair-interval-ms=3600000"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class RollupIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired private JdbcTemplate jdbc;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private RollupRebuilder rollupRebuilder;
+    @Autowired private RollupWriter rollupWriter;
+    @Autowired private CallService callService;
+    @Autowired private LedgerService ledgerService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ThemeRepository themeRepository;
+
+    private final LocalDate today = LocalDate.now();
+    private final LocalDate yesterday = today.minusDays(1);
+
+    @BeforeEach
+    void openYesterday() {
+        jdbc.update("UPDATE rollup_state SET open_from = ? WHERE id = 1", Date.valueOf(yesterday));
+        jdbc.update("DELETE FROM rollup_stale_days");
+    }
+
+    @Test
+    void deltaFlushedByAnotherNodeAfterTheNightlyRebuildIsNotCountedTwice() {
+        Long themeId = newTheme();
+        LocalDateTime createdAt = yesterday.atTime(23, 59);
+        insertCompletedCall(themeId, createdAt, new BigDecimal("12.00"));
+
+        // Still buffered on a second node when the first one closes yesterday.
+        RollupWriter otherNode = new RollupWriter(jdbc, transactionTemplate, rollupRebuilder);
+        otherNode.onCallCompleted(new CallCompletedEvent(themeId, createdAt, 1, 60, new BigDecimal("12.00"),
+                new BigDecimal("1.20")));
+
+        assertThat(rollupRebuilder.closeDaysBefore(today)).isEqualTo(1);
+        assertThat(rollupRebuilder.closeDaysBefore(today)).isZero();
+        otherNode.flush();
+
+        assertThat(dayRollup(themeId, yesterday)).containsEntry("calls", 1L);
+        assertThat(staleDays()).containsExactly(yesterday);
+
+        assertThat(rollupRebuilder.repairStaleDays()).isEqualTo(1);
+        assertThat(dayRollup(themeId, yesterday)).containsEntry("calls", 1L)
+                .satisfies(row -> assertThat((BigDecimal) row.get("revenue")).isEqualByComparingTo("12.00"));
+        assertThat(staleDays()).isEmpty();
+    }
+
+    @Test
+    void liveDeltasOfAnOpenDayMatchTheSourceRowsThroughEditsAndDelete() {
+        Long themeId = newTheme();
+        Long otherThemeId = newTheme();
+        Long caller = newUser();
+        Long translator = newUser();
+        ledgerService.post(caller, LedgerEntryType.DEPOSIT, new BigDecimal("100.00"), "rollup:" + caller, null);
+
+        CallDto settled = callService.createCall(callDto(caller, translator, themeId, true, "30.00"));
+        CallDto pending = callService.createCall(callDto(caller, translator, themeId, false, "45.00"));
+        rollupWriter.flush();
+        assertThat(dayRollup(themeId, today)).containsEntry("calls", 1L);
+
+        callService.updateCall(pending.getId(), callDto(caller, translator, themeId, false, "40.00"));
+        callService.updateCall(pending.getId(), callDto(caller, translator, themeId, true, "45.00"));
+        rollupWriter.flush();
+        assertThat(dayRollup(themeId, today)).containsEntry("calls", 2L)
+                .satisfies(row -> assertThat((BigDecimal) row.get("revenue")).isEqualByComparingTo("75.00"));
+
+        callService.updateCall(settled.getId(), callDto(caller, translator, otherThemeId, true, "30.00"));
+        CallDto abandoned = callService.createCall(callDto(caller, translator, themeId, false, "10.00"));
+        callService.deleteCall(abandoned.getId());
+        rollupWriter.flush();
+        assertThat(dayRollup(themeId, today)).containsEntry("calls", 1L)
+                .satisfies(row -> assertThat((BigDecimal) row.get("revenue")).isEqualByComparingTo("45.00"));
+        assertThat(dayRollup(otherThemeId, today)).containsEntry("calls", 1L)
+                .satisfies(row -> assertThat((BigDecimal) row.get("revenue")).isEqualByComparingTo("30.00"));
+    }
+
+    @Test
+    void todayCannotBeRebuiltWhileItTakesLiveDeltas() {
+        assertThatThrownBy(() -> rollupRebuilder.rebuild(today, today.plusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(rollupRebuilder.rebuild(yesterday, today)).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT open_from FROM rollup_state WHERE id = 1", LocalDate.class))
+                .isEqualTo(today);
+    }
+
+    private Map<String, Object> dayRollup(Long themeId, LocalDate day) {
+        return jdbc.queryForMap("SELECT calls, revenue FROM call_rollups " +
+                "WHERE granularity = 'DAY' AND bucket_start = ? AND theme_id = ?",
+                Timestamp.valueOf(day.atStartOfDay()), themeId);
+    }
+
+    private List<LocalDate> staleDays() {
+        return jdbc.queryForList("SELECT day FROM rollup_stale_days ORDER BY day", LocalDate.class);
+    }
+
+    private void insertCompletedCall(Long themeId, LocalDateTime createdAt, BigDecimal sum) {
+        jdbc.update("INSERT INTO calls (caller_id, recipient_id, theme_id, created_at, duration, status, sum_decimal, " +
+                        "commission, translator_has_joined, user_has_rated, updated_at, call_status) " +
+                        "VALUES (?, ?, ?, ?, 60, 1, ?, ?, 1, 0, ?, 'SUCCESSFUL')",
+                newUser(), newUser(), themeId, Timestamp.valueOf(createdAt), sum,
+                sum.divide(BigDecimal.TEN), Timestamp.valueOf(createdAt));
+    }
+
+    private static CallDto callDto(Long caller, Long translator, Long themeId, boolean completed, String sum) {
+        CallDto dto = new CallDto();
+        dto.setCallerId(caller);
+        dto.setRecipientId(translator);
+        dto.setThemeId(themeId);
+        dto.setDuration(120);
+        dto.setStatus(completed);
+        dto.setSumDecimal(new BigDecimal(sum));
+        dto.setCommission(BigDecimal.ONE);
+        dto.setCallStatus(completed ? CallStatus.SUCCESSFUL : CallStatus.MISSED);
+        return dto;
+    }
+
+    private Long newTheme() {
+        return themeRepository.save(Theme.builder().name("rollup-" + UUID.randomUUID()).build()).getId();
+    }
+
+    private Long newUser() {
+        User user = new User();
+        user.setUsername("rollup-" + UUID.randomUUID());
+        user.setPassword("password");
+        user.setRoles(new HashSet<>());
+        return userRepository.save(user).getId();
+    }
+}
@@ -0,0 +1,108 @@
+package com.morago.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RollupWriterTest {
+
+    private static final LocalDate OPEN_FROM = LocalDate.of(2025, 3, 10);
+
+    private JdbcTemplate jdbcTemplate;
+    private RollupWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(anyString(), eq(LocalDate.class))).thenReturn(OPEN_FROM);
+        writer = new RollupWriter(jdbcTemplate, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                mock(RollupRebuilder.class));
+    }
+
+    @Test
+    void addsDeltasOfOpenDaysAndOnlyMarksClosedDaysStale() {
+        writer.onCallCompleted(call(OPEN_FROM.atTime(9, 30), "12.00"));
+        writer.onCallCompleted(call(OPEN_FROM.minusDays(1).atTime(23, 59), "8.00"));
+        writer.onPaymentSettled(new PaymentSettledEvent(PaymentSettledEvent.Kind.DEPOSIT,
+                OPEN_FROM.minusDays(3).atTime(10, 0), new BigDecimal("50.00")));
+
+        writer.flush();
+
+        List<Object[]> calls = batch("INSERT INTO call_rollups");
+        assertThat(calls).extracting(row -> row[0], row -> row[1], row -> row[3])
+                .containsExactly(
+                        tuple("HOUR", Timestamp.valueOf(OPEN_FROM.atTime(9, 0)), 1L),
+                        tuple("DAY", Timestamp.valueOf(OPEN_FROM.atStartOfDay()), 1L));
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT INTO payment_rollups"), anyList());
+        assertThat(batch("INSERT IGNORE INTO rollup_stale_days")).extracting(row -> row[0])
+                .containsExactly(Date.valueOf(OPEN_FROM.minusDays(3)), Date.valueOf(OPEN_FROM.minusDays(1)));
+    }
+
+    @Test
+    void reversalTakesACompletedCallBackOut() {
+        CallCompletedEvent completed = call(OPEN_FROM.atTime(14, 5), "30.00");
+        writer.onCallCompleted(completed);
+        writer.onCallCompleted(completed.reversed());
+        writer.onCallCompleted(call(OPEN_FROM.atTime(14, 40), "20.00"));
+
+        writer.flush();
+
+        assertThat(batch("INSERT INTO call_rollups")).allSatisfy(row -> {
+            assertThat(row[3]).isEqualTo(1L);
+            assertThat(row[4]).isEqualTo(30L);
+            assertThat((BigDecimal) row[5]).isEqualByComparingTo("20.00");
+            assertThat((BigDecimal) row[6]).isEqualByComparingTo("2.00");
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void failedFlushKeepsTheDeltasForTheNextOne() {
+        writer.onCallCompleted(call(OPEN_FROM.atTime(8, 0), "10.00"));
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO call_rollups"), anyList()))
+                .thenThrow(new IllegalStateException("deadlock"))
+                .thenReturn(new int[0]);
+
+        writer.flush();
+        writer.onCallCompleted(call(OPEN_FROM.atTime(8, 20), "10.00"));
+        writer.flush();
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("INSERT INTO call_rollups"), rows.capture());
+        assertThat(rows.getValue()).allSatisfy(row -> assertThat(row[3]).isEqualTo(2L));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> batch(String statement) {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith(statement), rows.capture());
+        return rows.getValue();
+    }
+
+    private static CallCompletedEvent call(LocalDateTime createdAt, String revenue) {
+        BigDecimal amount = new BigDecimal(revenue);
+        return new CallCompletedEvent(7L, createdAt, 1, 30, amount, amount.divide(BigDecimal.TEN));
+    }
+}
@@ -0,0 +1,85 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.TranslatorSearchDocument;
+import com.morago.backend.dto.response.TranslatorProfileSummaryResponse;
+import com.morago.backend.entity.TranslatorProfile;
+import com.morago.backend.mapper.TranslatorProfileMapper;
+import com.morago.backend.repository.CallRepository;
+import com.morago.backend.repository.LanguageRepository;
+import com.morago.backend.repository.RatingRepository;
+import com.morago.backend.repository.ThemeRepository;
+import com.morago.backend.repository.TranslatorProfileRepository;
+import com.morago.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TranslatorProfileServiceImplTest {
+
+    private static final int MATCHES = 2500;
+
+    private final TranslatorProfileRepository profileRepo = mock(TranslatorProfileRepository.class);
+    private final TranslatorProfileMapper mapper = mock(TranslatorProfileMapper.class);
+    private final TranslatorSearchIndex searchIndex = new TranslatorSearchIndex(profileRepo);
+    private final TranslatorProfileServiceImpl service = new TranslatorProfileServiceImpl(profileRepo,
+            mock(UserRepository.class), mock(LanguageRepository.class), mock(ThemeRepository.class),
+            mock(RatingRepository.class), mock(CallRepository.class), mapper, searchIndex,
+            mock(ApplicationEventPublisher.class));
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void filteredSearchPagesAndCountsEveryMatchNotJustTheTopRanked() {
+        List<TranslatorSearchDocument> documents = new ArrayList<>();
+        for (long id = 1; id <= MATCHES; id++) {
+            documents.add(new TranslatorSearchDocument(id, id, "Kim", null, "kim" + id + "@example.com", "Native"));
+        }
+        searchIndex.rebuild(documents);
+        // The filter keeps only the lowest-ranked tenth of the matches.
+        when(profileRepo.findMatchingIds(any(Specification.class), anyList())).thenAnswer(invocation -> {
+            List<Long> candidates = invocation.getArgument(1);
+            assertThat(candidates).hasSize(MATCHES);
+            return candidates.stream().filter(id -> id > MATCHES - MATCHES / 10).toList();
+        });
+        when(profileRepo.findAll(any(Specification.class))).thenAnswer(invocation -> {
+            List<TranslatorProfile> profiles = new ArrayList<>();
+            for (long id = MATCHES - 29; id <= MATCHES - 10; id++) {
+                TranslatorProfile profile = new TranslatorProfile();
+                profile.setId(id);
+                profiles.add(profile);
+            }
+            return profiles;
+        });
+        when(mapper.toSummaryResponse(any())).thenAnswer(invocation -> {
+            TranslatorProfileSummaryResponse response = new TranslatorProfileSummaryResponse();
+            response.setId(invocation.<TranslatorProfile>getArgument(0).getId());
+            return response;
+        });
+
+        Page<TranslatorProfileSummaryResponse> last = service.getAllWithFilters(
+                PageRequest.of(11, 20), true, null, null, null, null, "kim");
+
+        assertThat(last.getTotalElements()).isEqualTo(MATCHES / 10);
+        assertThat(last.getTotalPages()).isEqualTo(13);
+        assertThat(last.getContent()).extracting(TranslatorProfileSummaryResponse::getId)
+                .containsExactlyElementsOf(ids(MATCHES - 29, MATCHES - 10));
+    }
+
+    private static List<Long> ids(long from, long to) {
+        List<Long> ids = new ArrayList<>();
+        for (long id = from; id <= to; id++) {
+            ids.add(id);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,127 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.TranslatorSearchDocument;
+import com.morago.backend.repository.TranslatorProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TranslatorSearchIndexTest {
+
+    private TranslatorProfileRepository repository;
+    private TranslatorSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(TranslatorProfileRepository.class);
+        index = new TranslatorSearchIndex(repository);
+        index.rebuild(List.of(
+                doc(1, "John", "Smith", "john.smith@example.com", "Advanced"),
+                doc(2, "Johanna", "Lee", "jlee@example.com", "Native"),
+                doc(3, "김서연", null, "seoyeon@example.com", "Native"),
+                doc(4, "이민서연", null, "minseo@example.com", "Advanced")));
+    }
+
+    @Test
+    void tokenizesOnNonAlphanumericsInLowerCase() {
+        assertThat(TranslatorSearchIndex.tokenize("John.Smith@Example.com  김서연"))
+                .containsExactly("john", "smith", "example", "com", "김서연");
+        assertThat(TranslatorSearchIndex.tokenize("  ")).isEmpty();
+        assertThat(TranslatorSearchIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void everyTokenMatchesAsPrefix() {
+        assertThat(index.search("jo")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("joh smi")).containsExactly(1L);
+        assertThat(index.search("NATIV")).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(index.search("john nobody")).isEmpty();
+    }
+
+    @Test
+    void hangulMatchesInsideNamesBySyllableBigrams() {
+        assertThat(index.search("서연")).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(index.search("민서연")).containsExactly(4L);
+        assertThat(index.search("김서")).containsExactly(3L);
+        assertThat(index.search("서민")).isEmpty();
+    }
+
+    @Test
+    void ranksNameMatchesBeforeOtherFieldsAndExactBeforePrefix() {
+        index.rebuild(List.of(
+                doc(1, "Lee", "Park", "kim@example.com", null),
+                doc(2, "Kimberly", "Choi", "kc@example.com", null),
+                doc(3, "Kim", "Han", "kh@example.com", null)));
+
+        assertThat(index.search("kim")).containsExactly(3L, 2L, 1L);
+        assertThat(index.search("kim", 2)).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void appliesAddsUpdatesAndRemovals() {
+        when(repository.findSearchDocumentByUserId(105L))
+                .thenReturn(Optional.of(doc(5, "Ayaan", "Kapoor", "ak@example.com", null)));
+        index.onTranslatorProfileChanged(new TranslatorProfileChangedEvent(105L));
+        assertThat(index.search("ayaan")).containsExactly(5L);
+
+        when(repository.findSearchDocumentByUserId(101L))
+                .thenReturn(Optional.of(doc(1, "Jonathan", "Smith", "john.smith@example.com", "Advanced")));
+        index.onTranslatorProfileChanged(new TranslatorProfileChangedEvent(101L));
+        assertThat(index.search("jonathan")).containsExactly(1L);
+        assertThat(index.search("joh")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("john smith")).containsExactly(1L);
+
+        when(repository.findSearchDocumentByUserId(102L)).thenReturn(Optional.empty());
+        index.onTranslatorProfileChanged(new TranslatorProfileChangedEvent(102L));
+        assertThat(index.search("johanna")).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void replaysUpdatesAppliedWhileARebuildWasReading() {
+        when(repository.findSearchDocumentByUserId(105L))
+                .thenReturn(Optional.of(doc(5, "Ayaan", "Kapoor", "ak@example.com", null)));
+        when(repository.findSearchDocumentByUserId(101L)).thenReturn(Optional.empty());
+        when(repository.findSearchDocuments()).thenAnswer(invocation -> {
+            // The rebuild has read its rows; these commits land before the swap.
+            List<TranslatorSearchDocument> read = List.of(
+                    doc(1, "John", "Smith", "john.smith@example.com", "Advanced"),
+                    doc(2, "Johanna", "Lee", "jlee@example.com", "Native"));
+            index.onTranslatorProfileChanged(new TranslatorProfileChangedEvent(105L));
+            index.onTranslatorProfileChanged(new TranslatorProfileChangedEvent(101L));
+            return read;
+        });
+
+        index.rebuild();
+
+        assertThat(index.search("ayaan")).containsExactly(5L);
+        assertThat(index.search("smith")).isEmpty();
+        assertThat(index.search("johanna")).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void stopsRecordingOnceTheRebuildSwapped() {
+        when(repository.findSearchDocuments()).thenReturn(List.of(doc(1, "John", "Smith", null, null)));
+        index.rebuild();
+
+        when(repository.findSearchDocumentByUserId(105L))
+                .thenReturn(Optional.of(doc(5, "Ayaan", "Kapoor", null, null)));
+        index.onTranslatorProfileChanged(new TranslatorProfileChangedEvent(105L));
+        index.rebuild(List.of(doc(2, "Johanna", "Lee", null, null)));
+
+        assertThat(index.search("ayaan")).isEmpty();
+        assertThat(index.search("johanna")).containsExactly(2L);
+    }
+
+    private static TranslatorSearchDocument doc(long profileId, String firstName, String lastName,
+                                                String email, String levelOfKorean) {
+        return new TranslatorSearchDocument(profileId, 100 + profileId, firstName, lastName, email, levelOfKorean);
+    }
+}
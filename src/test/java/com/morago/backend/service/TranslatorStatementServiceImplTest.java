@@ -0,0 +1,116 @@
+package com.morago.backend.service;
+
+import com.morago.backend.exception.StatementGenerationInProgressException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TranslatorStatementServiceImplTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final Connection lockConnection = mock(Connection.class);
+    private final ResultSet lockResult = mock(ResultSet.class);
+
+    @BeforeEach
+    void runsOnALockConnection() throws SQLException {
+        PreparedStatement lockStatement = mock(PreparedStatement.class);
+        when(lockConnection.prepareStatement(anyString())).thenReturn(lockStatement);
+        when(lockStatement.executeQuery()).thenReturn(lockResult);
+        when(lockResult.next()).thenReturn(true);
+        when(lockResult.getInt(1)).thenReturn(1);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenAnswer(invocation ->
+                invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(lockConnection));
+    }
+
+    @Test
+    void leavesReplaceContiguousRangesCoveringEveryTranslatorId() {
+        List<Long> translatorIds = List.of(3L, 5L, 8L, 13L, 21L, 34L, 55L);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class))).thenReturn(translatorIds);
+
+        service(2).generate(YearMonth.now().minusMonths(1));
+
+        List<long[]> ranges = deletedRanges();
+        assertThat(ranges).hasSize(4);
+        assertThat(ranges.get(0)[0]).isEqualTo(Long.MIN_VALUE);
+        assertThat(ranges.get(ranges.size() - 1)[1]).isEqualTo(Long.MAX_VALUE);
+        for (int i = 1; i < ranges.size(); i++) {
+            assertThat(ranges.get(i)[0]).isEqualTo(ranges.get(i - 1)[1] + 1);
+        }
+        for (long[] range : ranges) {
+            assertThat(translatorIds).anyMatch(id -> id >= range[0] && id <= range[1]);
+        }
+    }
+
+    @Test
+    void runWithoutTranslatorsClearsTheWholePeriod() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class))).thenReturn(List.of());
+
+        service(2).generate(YearMonth.now());
+
+        assertThat(deletedRanges()).containsExactly(new long[]{Long.MIN_VALUE, Long.MAX_VALUE});
+    }
+
+    @Test
+    void runFailsWithoutTouchingStatementsWhileAnotherNodeHoldsTheLock() throws SQLException {
+        when(lockResult.getInt(1)).thenReturn(0);
+
+        assertThatThrownBy(() -> service(2).generate(YearMonth.now()))
+                .isInstanceOf(StatementGenerationInProgressException.class);
+
+        verify(lockConnection).prepareStatement("SELECT GET_LOCK(?, 0)");
+        verify(lockConnection, never()).prepareStatement("SELECT RELEASE_LOCK(?)");
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(Long.class));
+    }
+
+    @Test
+    void lockIsReleasedAfterAFailedRun() throws SQLException {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class))).thenThrow(new IllegalStateException("boom"));
+
+        assertThatThrownBy(() -> service(2).generate(YearMonth.now())).isInstanceOf(IllegalStateException.class);
+
+        verify(lockConnection).prepareStatement("SELECT RELEASE_LOCK(?)");
+    }
+
+    private TranslatorStatementServiceImpl service(int partitionSize) {
+        return new TranslatorStatementServiceImpl(jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 1, partitionSize);
+    }
+
+    private List<long[]> deletedRanges() {
+        ArgumentCaptor<Long> low = ArgumentCaptor.forClass(Long.class);
+        ArgumentCaptor<Long> high = ArgumentCaptor.forClass(Long.class);
+        verify(jdbcTemplate, atLeastOnce()).update(startsWith("DELETE FROM translator_statements"), any(),
+                low.capture(), high.capture());
+        List<long[]> ranges = new ArrayList<>();
+        for (int i = 0; i < low.getAllValues().size(); i++) {
+            ranges.add(new long[]{low.getAllValues().get(i), high.getAllValues().get(i)});
+        }
+        ranges.sort(Comparator.comparingLong(range -> range[0]));
+        return ranges;
+    }
+}
@@ -0,0 +1,151 @@
+package com.morago.backend.service;
+
+import com.morago.backend.dto.response.TranslatorStatementResponse;
+import com.morago.backend.entity.TranslatorProfile;
+import com.morago.backend.entity.User;
+import com.morago.backend.exception.ResourceNotFoundException;
+import com.morago.backend.exception.StatementGenerationInProgressException;
+import com.morago.backend.repository.TranslatorProfileRepository;
+import com.morago.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Statement runs against MySQL with leaves of two translators: what is stored is read back per translator, a
+ * rerun drops the statement of a translator whose profile was deleted between two leaves, and a run is refused
+ * while another session holds the statement lock.
+ */
+@SpringBootTest(properties = {
+        "jwt.access-secret=statement-test-access-secret-0123456789abcdef",
+        "jwt.refresh-secret=statement-test-refresh-secret-0123456789abcde",
+        "jwt.access-expiration-ms=3600000",
+        "jwt.refresh-expiration-ms=86400000"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class TranslatorStatementServiceIntegrationTest {
+
+    private static final int TRANSLATORS = 5;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired private JdbcTemplate jdbc;
+    @Autowired private DataSource dataSource;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private UserRepository userRepository;
+    @Autowired private TranslatorProfileRepository translatorProfileRepository;
+
+    @Test
+    void storedStatementsAreReadBackAndRerunsDropDeletedTranslators() {
+        YearMonth month = YearMonth.now().minusMonths(1);
+        TranslatorStatementServiceImpl service = new TranslatorStatementServiceImpl(jdbc, transactionTemplate, 2, 2);
+        assertThatThrownBy(() -> service.getStatement(1L, month)).isInstanceOf(ResourceNotFoundException.class);
+
+        Long caller = newUser();
+        List<TranslatorProfile> profiles = new ArrayList<>();
+        for (int i = 0; i < TRANSLATORS; i++) {
+            profiles.add(translatorProfileRepository.save(TranslatorProfile.builder()
+                    .user(userRepository.getReferenceById(newUser()))
+                    .email("statement-" + i + "@example.com")
+                    .isAvailable(true)
+                    .isOnline(false)
+                    .levelOfKorean("Advanced")
+                    .build()));
+        }
+        // Translator i answered i completed calls last month, plus one failed call and one call this month.
+        for (int i = 0; i < TRANSLATORS; i++) {
+            Long translator = profiles.get(i).getUser().getId();
+            for (int call = 0; call < i; call++) {
+                insertCall(caller, translator, month.atDay(2 + call).atTime(10, 0), true);
+            }
+            insertCall(caller, translator, month.atDay(1).atTime(9, 0), false);
+            insertCall(caller, translator, month.plusMonths(1).atDay(1).atStartOfDay(), true);
+        }
+        insertCall(profiles.get(0).getUser().getId(), caller, month.atDay(3).atTime(12, 0), true);
+
+        assertThat(service.generate(month).getStatements()).isEqualTo(TRANSLATORS - 1);
+
+        for (int i = 0; i < TRANSLATORS; i++) {
+            TranslatorStatementResponse statement = service.getStatement(profiles.get(i).getUser().getId(), month);
+            assertThat(statement.getCalls()).isEqualTo(i);
+            assertThat(statement.getMinutes()).isEqualByComparingTo(BigDecimal.valueOf(i * 95L)
+                    .divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP));
+            assertThat(statement.getGross()).isEqualByComparingTo(new BigDecimal("12.50").multiply(BigDecimal.valueOf(i)));
+            assertThat(statement.getCommission()).isEqualByComparingTo(new BigDecimal("2.50").multiply(BigDecimal.valueOf(i)));
+            assertThat(statement.getNet()).isEqualByComparingTo(BigDecimal.TEN.multiply(BigDecimal.valueOf(i)));
+            assertThat(statement.getGeneratedAt()).isNotNull();
+        }
+        assertThat(service.getStatement(caller, month).getCalls()).isZero();
+
+        // The middle translator falls between two leaves once its profile is gone.
+        Long removed = profiles.get(2).getUser().getId();
+        translatorProfileRepository.delete(profiles.get(2));
+
+        assertThat(service.generate(month).getStatements()).isEqualTo(TRANSLATORS - 2);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM translator_statements WHERE period = ? AND translator_id = ?",
+                Long.class, Date.valueOf(month.atDay(1)), removed)).isZero();
+        assertThat(service.getStatement(removed, month).getCalls()).isZero();
+        assertThat(service.getStatement(profiles.get(3).getUser().getId(), month).getCalls()).isEqualTo(3);
+    }
+
+    @Test
+    void secondRunIsRefusedWhileAnotherSessionHoldsTheStatementLock() throws SQLException {
+        YearMonth month = YearMonth.now();
+        TranslatorStatementServiceImpl service = new TranslatorStatementServiceImpl(jdbc, transactionTemplate, 2, 2);
+
+        // Stands in for a run on another node.
+        try (Connection otherNode = dataSource.getConnection();
+             Statement statement = otherNode.createStatement()) {
+            statement.execute("SELECT GET_LOCK('translator_statements', 0)");
+
+            assertThatThrownBy(() -> service.generate(month)).isInstanceOf(StatementGenerationInProgressException.class);
+
+            statement.execute("SELECT RELEASE_LOCK('translator_statements')");
+        }
+        service.generate(month);
+        service.generate(month);
+        assertThat(jdbc.queryForObject("SELECT IS_FREE_LOCK('translator_statements')", Integer.class)).isEqualTo(1);
+    }
+
+    private void insertCall(Long caller, Long recipient, LocalDateTime createdAt, boolean completed) {
+        jdbc.update("INSERT INTO calls (caller_id, recipient_id, created_at, duration, status, sum_decimal, commission, " +
+                        "translator_has_joined, user_has_rated, updated_at, call_status) " +
+                        "VALUES (?, ?, ?, 95, ?, 12.50, 2.50, 1, 0, ?, ?)",
+                caller, recipient, Timestamp.valueOf(createdAt), completed, Timestamp.valueOf(createdAt),
+                completed ? "SUCCESSFUL" : "MISSED");
+    }
+
+    private Long newUser() {
+        User user = new User();
+        user.setUsername("statement-" + UUID.randomUUID());
+        user.setPassword("password");
+        user.setRoles(new HashSet<>());
+        return userRepository.save(user).getId();
+    }
+}
@@ -0,0 +1,71 @@
+package com.morago.backend.support;
+
+import com.morago.backend.config.metrics.StatementStats;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Assertions on the number of JDBC statements an action issues, e.g. a MockMvc request:
+ * <pre>
+ * assertMaxStatements(3, () -&gt; mockMvc.perform(get("/api/translator-profiles")).andExpect(status().isOk()));
+ * </pre>
+ * Counts every statement sent through the application DataSource, Hibernate and {@code JdbcTemplate} alike
+ * (see {@code StatementCountingDataSource}); the action must run on the calling thread.
+ */
+public final class StatementCountAssertions {
+
+    private StatementCountAssertions() {
+    }
+
+    /**
+     * Runs the action and fails if it issued more than {@code maxStatements} statements.
+     */
+    public static StatementStats assertMaxStatements(int maxStatements, Executable action) {
+        StatementStats stats = track(action);
+        if (stats.getStatements() > maxStatements) {
+            fail("Expected at most " + maxStatements + " JDBC statements but " + stats.getStatements()
+                    + " were executed (" + stats.getMillis() + " ms)");
+        }
+        return stats;
+    }
+
+    /**
+     * Runs the action and fails unless it issued exactly {@code expectedStatements} statements.
+     */
+    public static StatementStats assertStatementCount(int expectedStatements, Executable action) {
+        StatementStats stats = track(action);
+        if (stats.getStatements() != expectedStatements) {
+            fail("Expected " + expectedStatements + " JDBC statements but " + stats.getStatements()
+                    + " were executed (" + stats.getMillis() + " ms)");
+        }
+        return stats;
+    }
+
+    /**
+     * Runs the action inside its own statement scope and returns what it executed.
+     */
+    public static StatementStats track(Executable action) {
+        StatementStats stats = StatementStats.begin();
+        try {
+            action.execute();
+        } catch (Throwable t) {
+            fail("Action failed while counting statements", t);
+        } finally {
+            StatementStats.end();
+        }
+        return stats;
+    }
+
+    /**
+     * Runs the supplier inside its own statement scope, asserts the budget and returns the supplied value.
+     */
+    public static <T> T withMaxStatements(int maxStatements, ThrowingSupplier<T> supplier) {
+        Object[] result = new Object[1];
+        assertMaxStatements(maxStatements, () -> result[0] = supplier.get());
+        @SuppressWarnings("unchecked")
+        T value = (T) result[0];
+        return value;
+    }
+}